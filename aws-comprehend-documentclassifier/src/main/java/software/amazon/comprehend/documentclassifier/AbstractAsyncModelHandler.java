@@ -0,0 +1,167 @@
+package software.amazon.comprehend.documentclassifier;
+
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.services.comprehend.ComprehendAsyncClient;
+import software.amazon.awssdk.services.comprehend.model.DescribeDocumentClassifierRequest;
+import software.amazon.awssdk.services.comprehend.model.DescribeDocumentClassifierResponse;
+import software.amazon.awssdk.services.comprehend.model.DescribeResourcePolicyRequest;
+import software.amazon.awssdk.services.comprehend.model.DescribeResourcePolicyResponse;
+import software.amazon.awssdk.services.comprehend.model.ListTagsForResourceResponse;
+import software.amazon.awssdk.services.comprehend.model.Tag;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.comprehend.core.ClientBuilder;
+import software.amazon.comprehend.core.CompletableFutures;
+import software.amazon.comprehend.core.ComprehendErrors;
+import software.amazon.comprehend.core.HandlerLogger;
+import software.amazon.comprehend.core.HandlerMetrics;
+import software.amazon.comprehend.core.ResponseCache;
+import software.amazon.comprehend.core.StageTracer;
+import software.amazon.comprehend.core.TagReconciler;
+
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Functionality shared across the non-blocking handlers, which make their Comprehend calls through the
+ * ComprehendAsyncClient. A handler composes its calls into a single future, so independent calls are in flight
+ * together on the shared event loop instead of each holding a thread, and the invocation only waits for that future.
+ * Failures of the calls map to progress events as they do for the blocking handlers.
+ */
+public abstract class AbstractAsyncModelHandler extends BaseHandler<CallbackContext> {
+
+    protected HandlerLogger logger;
+
+    /** Responses fetched while handling the current request, reset for every request the handler receives. */
+    protected ResponseCache responseCache = new ResponseCache();
+
+    /** Traces the handler, as a single stage, in the callback context, with a tracer for every request the handler receives. */
+    protected StageTracer stageTracer = new StageTracer();
+
+    public abstract CompletableFuture<ProgressEvent<ResourceModel, CallbackContext>> handleRequestAsync(
+            final AmazonWebServicesClientProxy proxy,
+            final ResourceHandlerRequest<ResourceModel> request,
+            final CallbackContext callbackContext,
+            final ProxyClient<ComprehendAsyncClient> proxyClient,
+            final Logger logger);
+
+    @Override
+    public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
+            final AmazonWebServicesClientProxy proxy,
+            final ResourceHandlerRequest<ResourceModel> request,
+            final CallbackContext callbackContext,
+            final Logger logger) {
+        this.responseCache = new ResponseCache();
+        this.stageTracer = new StageTracer();
+        final CallbackContext context = callbackContext == null ? CallbackContext.builder().build() : callbackContext;
+        final HandlerMetrics metrics = new HandlerMetrics(ResourceModel.TYPE_NAME, getAction(), context);
+        ProgressEvent<ResourceModel, CallbackContext> event = null;
+        try {
+            event = stageTracer.trace(getStage(), context, () -> join(handleRequestAsync(
+                    proxy,
+                    request,
+                    context,
+                    ClientBuilder.getAsyncProxyClient(proxy, request.getRegion(), metrics),
+                    logger
+            )));
+            return event;
+        } finally {
+            metrics.flush(logger, context);
+            // The operation is over unless CloudFormation calls the handler back
+            if (event == null || !event.isInProgress()) {
+                stageTracer.logTimeline(logger, ResourceModel.TYPE_NAME, getAction(), context);
+            }
+        }
+    }
+
+    /**
+     * Name of the handler action used in metrics and stage timelines, such as Update for the AsyncUpdateHandler.
+     */
+    protected String getAction() {
+        return getClass().getSimpleName().replaceFirst("^Async", "").replaceFirst("Handler$", "");
+    }
+
+    /**
+     * Call graph name the handler is traced under, such as AWS-Comprehend-DocumentClassifier::Update.
+     */
+    protected String getStage() {
+        return "AWS-Comprehend-DocumentClassifier::" + getAction();
+    }
+
+    /**
+     * Wait for the progress event of a handler, mapping the exception of a failed call to a failed progress event. No
+     * proxy retry loop wraps the calls, so throttling and timeouts fail with an error code CloudFormation retries.
+     * Exceptions the handler raised itself, such as CloudFormation handler exceptions, are rethrown as they are.
+     */
+    protected ProgressEvent<ResourceModel, CallbackContext> join(
+            final CompletableFuture<ProgressEvent<ResourceModel, CallbackContext>> future) {
+        try {
+            return CompletableFutures.join(future);
+        } catch (final SdkException e) {
+            return handleError(e);
+        }
+    }
+
+    protected ProgressEvent<ResourceModel, CallbackContext> handleError(final Exception exception) {
+        return ComprehendErrors.handleErrorWithoutRetry(exception);
+    }
+
+    /**
+     * Describe the document classifier via DescribeDocumentClassifier, reusing a fresh response of the request.
+     */
+    protected CompletableFuture<DescribeDocumentClassifierResponse> describeDocumentClassifier(
+            final ProxyClient<ComprehendAsyncClient> proxyClient,
+            final String documentClassifierArn) {
+        final Optional<DescribeDocumentClassifierResponse> cachedResponse =
+                responseCache.getIfFresh(documentClassifierArn, DescribeDocumentClassifierResponse.class);
+        if (cachedResponse.isPresent()) {
+            logger.debug("Reusing DescribeDocumentClassifier response for document classifier [{}].", documentClassifierArn);
+            return CompletableFuture.completedFuture(cachedResponse.get());
+        }
+        final DescribeDocumentClassifierRequest describeDocumentClassifierRequest = DescribeDocumentClassifierRequest.builder()
+                .documentClassifierArn(documentClassifierArn)
+                .build();
+        return proxyClient.injectCredentialsAndInvokeV2Async(describeDocumentClassifierRequest, proxyClient.client()::describeDocumentClassifier)
+                .thenApply(response -> responseCache.put(documentClassifierArn, response));
+    }
+
+    /**
+     * Describe the resource policy of the document classifier via DescribeResourcePolicy, reusing a fresh response of
+     * the request.
+     */
+    protected CompletableFuture<DescribeResourcePolicyResponse> describeResourcePolicy(
+            final ProxyClient<ComprehendAsyncClient> proxyClient,
+            final String documentClassifierArn) {
+        final Optional<DescribeResourcePolicyResponse> cachedResponse =
+                responseCache.getIfFresh(documentClassifierArn, DescribeResourcePolicyResponse.class);
+        if (cachedResponse.isPresent()) {
+            logger.debug("Reusing DescribeResourcePolicy response for document classifier [{}].", documentClassifierArn);
+            return CompletableFuture.completedFuture(cachedResponse.get());
+        }
+        final DescribeResourcePolicyRequest describeResourcePolicyRequest = DescribeResourcePolicyRequest.builder()
+                .resourceArn(documentClassifierArn)
+                .build();
+        return proxyClient.injectCredentialsAndInvokeV2Async(describeResourcePolicyRequest, proxyClient.client()::describeResourcePolicy)
+                .thenApply(response -> responseCache.put(documentClassifierArn, response));
+    }
+
+    /**
+     * Get all tags currently attached to the document classifier via ListTagsForResource, reusing a fresh response of
+     * the request.
+     */
+    protected CompletableFuture<Set<Tag>> getCurrentTags(final ProxyClient<ComprehendAsyncClient> proxyClient,
+                                                         final String documentClassifierArn) {
+        final Optional<ListTagsForResourceResponse> cachedResponse =
+                responseCache.getIfFresh(documentClassifierArn, ListTagsForResourceResponse.class);
+        if (cachedResponse.isPresent()) {
+            logger.debug("Reusing ListTagsForResource response for document classifier [{}].", documentClassifierArn);
+            return CompletableFuture.completedFuture(new HashSet<>(cachedResponse.get().tags()));
+        }
+        return TagReconciler.getCurrentTagsAsync(proxyClient, documentClassifierArn, responseCache);
+    }
+}
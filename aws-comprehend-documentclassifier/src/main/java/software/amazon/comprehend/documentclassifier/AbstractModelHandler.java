@@ -1,41 +1,35 @@
 package software.amazon.comprehend.documentclassifier;
 
 import software.amazon.awssdk.awscore.AwsRequest;
-import software.amazon.awssdk.core.exception.ApiCallAttemptTimeoutException;
-import software.amazon.awssdk.core.exception.ApiCallTimeoutException;
-import software.amazon.awssdk.core.exception.RetryableException;
 import software.amazon.awssdk.services.comprehend.ComprehendClient;
-import software.amazon.awssdk.services.comprehend.model.ComprehendException;
 import software.amazon.awssdk.services.comprehend.model.DescribeDocumentClassifierRequest;
 import software.amazon.awssdk.services.comprehend.model.DescribeResourcePolicyRequest;
 import software.amazon.awssdk.services.comprehend.model.DescribeResourcePolicyResponse;
-import software.amazon.awssdk.services.comprehend.model.InternalServerException;
-import software.amazon.awssdk.services.comprehend.model.InvalidRequestException;
-import software.amazon.awssdk.services.comprehend.model.KmsKeyValidationException;
 import software.amazon.awssdk.services.comprehend.model.ModelStatus;
-import software.amazon.awssdk.services.comprehend.model.ResourceInUseException;
-import software.amazon.awssdk.services.comprehend.model.ResourceLimitExceededException;
-import software.amazon.awssdk.services.comprehend.model.ResourceNotFoundException;
-import software.amazon.awssdk.services.comprehend.model.TooManyTagsException;
-import software.amazon.awssdk.services.comprehend.model.UnsupportedLanguageException;
-import software.amazon.cloudformation.exceptions.BaseHandlerException;
-import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
-import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
-import software.amazon.cloudformation.exceptions.CfnNotFoundException;
-import software.amazon.cloudformation.exceptions.CfnResourceConflictException;
-import software.amazon.cloudformation.exceptions.CfnServiceInternalErrorException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.comprehend.core.ClientBuilder;
+import software.amazon.comprehend.core.ComprehendErrors;
+import software.amazon.comprehend.core.HandlerLogger;
+import software.amazon.comprehend.core.HandlerMetrics;
+import software.amazon.comprehend.core.ResponseCache;
+import software.amazon.comprehend.core.StageTracer;
 
 /**
  * Functionality shared across Create/Read/Update/Delete/List Handlers
  */
 public abstract class AbstractModelHandler extends BaseHandler<CallbackContext> {
 
-    protected Logger logger;
+    protected HandlerLogger logger;
+
+    /** Responses fetched while handling the current request, reset for every request the handler receives. */
+    protected ResponseCache responseCache = new ResponseCache();
+
+    /** Traces the stages of the progress chain in the callback context, with a tracer for every invocation of the handler. */
+    protected StageTracer stageTracer = new StageTracer();
 
     public abstract ProgressEvent<ResourceModel, CallbackContext> handleRequest(
             final AmazonWebServicesClientProxy proxy,
@@ -50,13 +44,45 @@ public abstract class AbstractModelHandler extends BaseHandler<CallbackContext>
             final ResourceHandlerRequest<ResourceModel> request,
             final CallbackContext callbackContext,
             final Logger logger) {
-        return handleRequest(
-                proxy,
-                request,
-                callbackContext == null ? CallbackContext.builder().build() : callbackContext,
-                proxy.newProxy(() -> ComprehendClient.builder().build()),
-                logger
-        );
+        final BaseHandler<CallbackContext> asyncHandler = ClientBuilder.useAsyncHandlers() ? getAsyncHandler() : null;
+        if (asyncHandler != null) {
+            return asyncHandler.handleRequest(proxy, request, callbackContext, logger);
+        }
+        this.responseCache = new ResponseCache();
+        final CallbackContext context = callbackContext == null ? CallbackContext.builder().build() : callbackContext;
+        final HandlerMetrics metrics = new HandlerMetrics(ResourceModel.TYPE_NAME, getAction(), context);
+        ProgressEvent<ResourceModel, CallbackContext> event = null;
+        try {
+            event = handleRequest(
+                    proxy,
+                    request,
+                    context,
+                    ClientBuilder.getProxyClient(proxy, request.getRegion(), metrics),
+                    logger
+            );
+            return event;
+        } finally {
+            metrics.flush(logger, context);
+            // The operation is over unless CloudFormation calls the handler back
+            if (event == null || !event.isInProgress()) {
+                stageTracer.logTimeline(logger, ResourceModel.TYPE_NAME, getAction(), context);
+            }
+        }
+    }
+
+    /**
+     * Non-blocking variant of the handler on the async client, which takes over the requests of the handler when
+     * COMPREHEND_ASYNC_HANDLERS is set to true, or null when the handler has none.
+     */
+    protected BaseHandler<CallbackContext> getAsyncHandler() {
+        return null;
+    }
+
+    /**
+     * Name of the handler action used in metrics and stage timelines, such as Create for the CreateHandler.
+     */
+    protected String getAction() {
+        return getClass().getSimpleName().replaceFirst("Handler$", "");
     }
 
     protected ProgressEvent<ResourceModel, CallbackContext> handleError(
@@ -65,31 +91,7 @@ public abstract class AbstractModelHandler extends BaseHandler<CallbackContext>
             final ProxyClient<ComprehendClient> proxyClient,
             final ResourceModel documentClassifierModel,
             final CallbackContext callbackContext) {
-
-        if (exception instanceof ApiCallAttemptTimeoutException ||
-                exception instanceof ApiCallTimeoutException ||
-                (exception instanceof ComprehendException && ((ComprehendException) exception).isThrottlingException())) {
-            throw RetryableException.builder().cause(exception).build();
-        }
-
-        final BaseHandlerException handlerException;
-        if (exception instanceof InvalidRequestException ||
-                exception instanceof KmsKeyValidationException ||
-                exception instanceof ResourceLimitExceededException ||
-                exception instanceof TooManyTagsException ||
-                exception instanceof UnsupportedLanguageException) {
-            handlerException = new CfnInvalidRequestException(exception);
-        } else if (exception instanceof ResourceNotFoundException) {
-            handlerException = new CfnNotFoundException(exception);
-        } else if (exception instanceof ResourceInUseException) {
-            handlerException = new CfnResourceConflictException(exception);
-        } else if (exception instanceof InternalServerException) {
-            handlerException = new CfnServiceInternalErrorException(exception);
-        } else {
-            handlerException = new CfnGeneralServiceException(exception);
-        }
-
-        return ProgressEvent.defaultFailureHandler(handlerException, handlerException.getErrorCode());
+        return ComprehendErrors.handleError(exception);
     }
 
     /**
@@ -97,18 +99,18 @@ public abstract class AbstractModelHandler extends BaseHandler<CallbackContext>
      */
     protected ModelStatus getDocumentClassifierStatus(final ProxyClient<ComprehendClient> proxyClient,
                                                       final String documentClassifierArn,
-                                                      final Logger logger) {
-        logger.log(String.format("Getting model status for document classifier [%s] via DescribeDocumentClassifier.", documentClassifierArn));
+                                                      final HandlerLogger logger) {
+        logger.debug("Getting model status for document classifier [{}] via DescribeDocumentClassifier.", documentClassifierArn);
         DescribeDocumentClassifierRequest describeDocumentClassifierRequest = DescribeDocumentClassifierRequest.builder()
                 .documentClassifierArn(documentClassifierArn)
                 .build();
 
-        ModelStatus modelStatus = proxyClient
-                .injectCredentialsAndInvokeV2(describeDocumentClassifierRequest, proxyClient.client()::describeDocumentClassifier)
+        ModelStatus modelStatus = responseCache.put(documentClassifierArn, proxyClient
+                .injectCredentialsAndInvokeV2(describeDocumentClassifierRequest, proxyClient.client()::describeDocumentClassifier))
                 .documentClassifierProperties()
                 .status();
 
-        logger.log(String.format("DocumentClassifier [%s] has status %s.", documentClassifierArn, modelStatus));
+        logger.debug("DocumentClassifier [{}] has status {}.", documentClassifierArn, modelStatus);
         return modelStatus;
     }
 
@@ -117,20 +119,20 @@ public abstract class AbstractModelHandler extends BaseHandler<CallbackContext>
      */
     protected String getDocumentClassifierResourcePolicy(final ProxyClient<ComprehendClient> proxyClient,
                                                          final String documentClassifierArn,
-                                                         final Logger logger) {
-        logger.log(String.format("Getting resource policy for document classifier [%s] via DescribeResourcePolicy.", documentClassifierArn));
+                                                         final HandlerLogger logger) {
+        logger.debug("Getting resource policy for document classifier [{}] via DescribeResourcePolicy.", documentClassifierArn);
         DescribeResourcePolicyRequest describeResourcePolicyRequest = DescribeResourcePolicyRequest.builder()
                 .resourceArn(documentClassifierArn)
                 .build();
 
-        DescribeResourcePolicyResponse describeResourcePolicyResponse = proxyClient
-                .injectCredentialsAndInvokeV2(describeResourcePolicyRequest, proxyClient.client()::describeResourcePolicy);
+        DescribeResourcePolicyResponse describeResourcePolicyResponse = responseCache.put(documentClassifierArn, proxyClient
+                .injectCredentialsAndInvokeV2(describeResourcePolicyRequest, proxyClient.client()::describeResourcePolicy));
 
         if (describeResourcePolicyResponse.resourcePolicy() == null) {
-            logger.log(String.format("DocumentClassifier [%s] does not have a resource policy attached.", documentClassifierArn));
+            logger.debug("DocumentClassifier [{}] does not have a resource policy attached.", documentClassifierArn);
         } else {
-            logger.log(String.format("DocumentClassifier [%s] has resource policy revision with id %s.", documentClassifierArn,
-                    describeResourcePolicyResponse.policyRevisionId()));
+            logger.debug("DocumentClassifier [{}] has resource policy revision with id {}.", documentClassifierArn,
+                    describeResourcePolicyResponse.policyRevisionId());
         }
         return describeResourcePolicyResponse.resourcePolicy();
     }
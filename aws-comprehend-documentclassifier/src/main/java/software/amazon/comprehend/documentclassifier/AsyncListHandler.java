@@ -0,0 +1,42 @@
+package software.amazon.comprehend.documentclassifier;
+
+import software.amazon.awssdk.services.comprehend.ComprehendAsyncClient;
+import software.amazon.awssdk.services.comprehend.model.ListDocumentClassifiersRequest;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.comprehend.core.HandlerLogger;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * List handler making the ListDocumentClassifiers call through the async client.
+ */
+public class AsyncListHandler extends AbstractAsyncModelHandler {
+
+    @Override
+    public CompletableFuture<ProgressEvent<ResourceModel, CallbackContext>> handleRequestAsync(
+            final AmazonWebServicesClientProxy proxy,
+            final ResourceHandlerRequest<ResourceModel> request,
+            final CallbackContext callbackContext,
+            final ProxyClient<ComprehendAsyncClient> proxyClient,
+            final Logger logger) {
+
+        this.logger = HandlerLogger.of(logger);
+
+        ListDocumentClassifiersRequest listDocumentClassifiersRequest = Translator.translateToListRequest(request.getNextToken());
+        return proxyClient.injectCredentialsAndInvokeV2Async(listDocumentClassifiersRequest, proxyClient.client()::listDocumentClassifiers)
+                .thenApply(listDocumentClassifiersResponse -> {
+                    this.logger.info("Successfully listed {} document classifiers.",
+                            listDocumentClassifiersResponse.documentClassifierPropertiesList().size());
+                    return ProgressEvent.<ResourceModel, CallbackContext>builder()
+                            .resourceModels(Translator.translateFromListResponse(listDocumentClassifiersResponse))
+                            .nextToken(listDocumentClassifiersResponse.nextToken())
+                            .status(OperationStatus.SUCCESS)
+                            .build();
+                });
+    }
+}
@@ -0,0 +1,73 @@
+package software.amazon.comprehend.documentclassifier;
+
+import software.amazon.awssdk.services.comprehend.ComprehendAsyncClient;
+import software.amazon.awssdk.services.comprehend.model.DescribeDocumentClassifierResponse;
+import software.amazon.awssdk.services.comprehend.model.DescribeResourcePolicyResponse;
+import software.amazon.awssdk.services.comprehend.model.ResourceNotFoundException;
+import software.amazon.awssdk.services.comprehend.model.Tag;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.comprehend.core.CompletableFutures;
+import software.amazon.comprehend.core.HandlerLogger;
+import software.amazon.comprehend.core.ResponseCache;
+
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Read handler issuing the DescribeDocumentClassifier, DescribeResourcePolicy and ListTagsForResource calls together
+ * through the async client, without a thread per call.
+ */
+public class AsyncReadHandler extends AbstractAsyncModelHandler {
+
+    public AsyncReadHandler() {
+    }
+
+    /**
+     * Read handler that reuses fresh responses already fetched by the calling handler for the same request.
+     */
+    public AsyncReadHandler(final ResponseCache responseCache) {
+        this.responseCache = responseCache;
+    }
+
+    @Override
+    public CompletableFuture<ProgressEvent<ResourceModel, CallbackContext>> handleRequestAsync(
+            final AmazonWebServicesClientProxy proxy,
+            final ResourceHandlerRequest<ResourceModel> request,
+            final CallbackContext callbackContext,
+            final ProxyClient<ComprehendAsyncClient> proxyClient,
+            final Logger logger) {
+
+        this.logger = HandlerLogger.of(logger);
+
+        final ResourceModel documentClassifierModel = request.getDesiredResourceState();
+        final String documentClassifierArn = documentClassifierModel.getArn();
+
+        final CompletableFuture<DescribeDocumentClassifierResponse> describeDocumentClassifierFuture =
+                describeDocumentClassifier(proxyClient, documentClassifierArn);
+        final CompletableFuture<DescribeResourcePolicyResponse> describeResourcePolicyFuture =
+                describeResourcePolicy(proxyClient, documentClassifierArn);
+        final CompletableFuture<Set<Tag>> currentTagsFuture = getCurrentTags(proxyClient, documentClassifierArn);
+
+        // Wait for all three calls to settle, then surface failures in the same order as a sequential read
+        return CompletableFuture.allOf(describeDocumentClassifierFuture, describeResourcePolicyFuture, currentTagsFuture)
+                .handle((ignored, exception) -> {
+                    try {
+                        final ResourceModel newModel = Translator.translateFromReadResponse(
+                                CompletableFutures.join(describeDocumentClassifierFuture));
+                        newModel.setModelPolicy(CompletableFutures.join(describeResourcePolicyFuture).resourcePolicy());
+                        newModel.setTags(Translator.fromSdkTags(CompletableFutures.join(currentTagsFuture)));
+                        this.logger.info("Successfully read document classifier [{}].", documentClassifierArn);
+                        return ProgressEvent.success(newModel, callbackContext);
+                    } catch (final ResourceNotFoundException e) {
+                        this.logger.warn("Read operation failed for document classifier [{}] with error: {}",
+                                documentClassifierArn, e);
+                        return ProgressEvent.<ResourceModel, CallbackContext>defaultFailureHandler(e, HandlerErrorCode.NotFound);
+                    }
+                });
+    }
+}
@@ -0,0 +1,168 @@
+package software.amazon.comprehend.documentclassifier;
+
+import software.amazon.awssdk.services.comprehend.ComprehendAsyncClient;
+import software.amazon.awssdk.services.comprehend.model.DeleteResourcePolicyRequest;
+import software.amazon.awssdk.services.comprehend.model.DescribeResourcePolicyResponse;
+import software.amazon.awssdk.services.comprehend.model.ListTagsForResourceResponse;
+import software.amazon.awssdk.services.comprehend.model.PutResourcePolicyRequest;
+import software.amazon.awssdk.services.comprehend.model.Tag;
+import software.amazon.awssdk.services.comprehend.model.TagResourceRequest;
+import software.amazon.awssdk.services.comprehend.model.UntagResourceRequest;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.comprehend.core.HandlerLogger;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+/**
+ * Update handler making its calls through the async client. The live tags and resource policy the plan needs are read
+ * together, and the resource policy change, untagging and tagging of the plan are then applied together, as they touch
+ * disjoint state: the keys to remove never include the keys being tagged.
+ *
+ * The tags read by the closing read verify the update. While they have not converged, the handler asks CloudFormation
+ * to call it back, and the callback applies the planned tags again, which leaves converged tags as they are.
+ */
+public class AsyncUpdateHandler extends AbstractAsyncModelHandler {
+
+    /** Seconds CloudFormation waits before calling back while the tags of the update have not converged. */
+    static final int TAGGING_CALLBACK_DELAY_SECONDS = 5;
+
+    @Override
+    public CompletableFuture<ProgressEvent<ResourceModel, CallbackContext>> handleRequestAsync(
+            final AmazonWebServicesClientProxy proxy,
+            final ResourceHandlerRequest<ResourceModel> request,
+            final CallbackContext callbackContext,
+            final ProxyClient<ComprehendAsyncClient> proxyClient,
+            final Logger logger) {
+
+        this.logger = HandlerLogger.of(logger);
+
+        final ResourceModel documentClassifierModel = request.getDesiredResourceState();
+
+        final Set<Tag> desiredTags = TagHelper.getDesiredTags(request);
+        final CompletableFuture<Void> plan = UpdateHandler.isUpdatePlanned(callbackContext, desiredTags)
+                ? CompletableFuture.completedFuture(null)
+                : planUpdate(request, desiredTags, callbackContext, proxyClient);
+
+        return plan
+                .thenCompose(ignored -> applyUpdate(documentClassifierModel, callbackContext, proxyClient))
+                .thenCompose(ignored -> new AsyncReadHandler(responseCache)
+                        .handleRequestAsync(proxy, request, callbackContext, proxyClient, this.logger))
+                .thenApply(event -> verifyTags(event, documentClassifierModel, callbackContext));
+    }
+
+    /**
+     * Plans the tag and model policy changes of the update like the UpdateHandler does, reading the live tags and
+     * resource policy together when there is no usable previous state.
+     */
+    private CompletableFuture<Void> planUpdate(final ResourceHandlerRequest<ResourceModel> request,
+                                               final Set<Tag> desiredTags,
+                                               final CallbackContext callbackContext,
+                                               final ProxyClient<ComprehendAsyncClient> proxyClient) {
+        final ResourceModel documentClassifierModel = request.getDesiredResourceState();
+        final ResourceModel previousModel = request.getPreviousResourceState();
+
+        if (UpdateHandler.hasCompletePreviousState(request)) {
+            UpdateHandler.recordPlan(documentClassifierModel, desiredTags, TagHelper.getPreviousTags(request),
+                    previousModel.getModelPolicy(), callbackContext, logger);
+            return CompletableFuture.completedFuture(null);
+        }
+
+        logger.info("DocumentClassifier [{}] has no usable previous state, planning update from live tags and resource policy.",
+                documentClassifierModel.getArn());
+        final CompletableFuture<DescribeResourcePolicyResponse> describeResourcePolicyFuture =
+                describeResourcePolicy(proxyClient, documentClassifierModel.getArn());
+        final CompletableFuture<Set<Tag>> currentTagsFuture = getCurrentTags(proxyClient, documentClassifierModel.getArn());
+        return describeResourcePolicyFuture.thenAcceptBoth(currentTagsFuture, (describeResourcePolicyResponse, currentTags) ->
+                UpdateHandler.recordPlan(documentClassifierModel, desiredTags, currentTags,
+                        describeResourcePolicyResponse.resourcePolicy(), callbackContext, logger));
+    }
+
+    /**
+     * Applies the resource policy change, untagging and tagging of the plan together. A resource policy change is done
+     * once, and is dropped from the plan when it succeeds.
+     */
+    private CompletableFuture<Void> applyUpdate(final ResourceModel documentClassifierModel,
+                                                final CallbackContext callbackContext,
+                                                final ProxyClient<ComprehendAsyncClient> proxyClient) {
+        final String documentClassifierArn = documentClassifierModel.getArn();
+
+        final CompletableFuture<Void> resourcePolicyFuture;
+        if (callbackContext.isResourcePolicyToDelete()) {
+            final DeleteResourcePolicyRequest deleteResourcePolicyRequest = Translator.translateToDeleteResourcePolicyRequest(documentClassifierModel);
+            resourcePolicyFuture = proxyClient.injectCredentialsAndInvokeV2Async(deleteResourcePolicyRequest, proxyClient.client()::deleteResourcePolicy)
+                    .thenRun(() -> {
+                        responseCache.invalidate(documentClassifierArn, DescribeResourcePolicyResponse.class);
+                        callbackContext.setResourcePolicyToDelete(false);
+                        logger.info("DocumentClassifier [{}] delete resource policy call successful.", documentClassifierArn);
+                    });
+        } else if (callbackContext.isResourcePolicyToPut()) {
+            final PutResourcePolicyRequest putResourcePolicyRequest = Translator.translateToPutResourcePolicyRequest(documentClassifierModel);
+            resourcePolicyFuture = proxyClient.injectCredentialsAndInvokeV2Async(putResourcePolicyRequest, proxyClient.client()::putResourcePolicy)
+                    .thenRun(() -> {
+                        responseCache.invalidate(documentClassifierArn, DescribeResourcePolicyResponse.class);
+                        callbackContext.setResourcePolicyToPut(false);
+                        logger.info("DocumentClassifier [{}] put resource policy call successful.", documentClassifierArn);
+                    });
+        } else {
+            resourcePolicyFuture = CompletableFuture.completedFuture(null);
+        }
+
+        final CompletableFuture<Void> untagFuture;
+        if (callbackContext.tagKeysToRemoveOrEmpty().isEmpty()) {
+            untagFuture = CompletableFuture.completedFuture(null);
+        } else {
+            final UntagResourceRequest untagResourceRequest =
+                    Translator.translateToUntagResourceRequest(documentClassifierModel, callbackContext.tagKeysToRemoveOrEmpty());
+            untagFuture = proxyClient.injectCredentialsAndInvokeV2Async(untagResourceRequest, proxyClient.client()::untagResource)
+                    .thenRun(() -> responseCache.invalidate(documentClassifierArn, ListTagsForResourceResponse.class))
+                    .thenRun(() -> logger.info("DocumentClassifier [{}] untag call for removing {} tags successful.",
+                            documentClassifierArn, untagResourceRequest.tagKeys().size()));
+        }
+
+        final CompletableFuture<Void> tagFuture;
+        if (callbackContext.tagsToAddOrEmpty().isEmpty()) {
+            tagFuture = CompletableFuture.completedFuture(null);
+        } else {
+            final TagResourceRequest tagResourceRequest =
+                    Translator.translateToTagResourceRequest(documentClassifierModel, callbackContext.tagsToAddOrEmpty());
+            tagFuture = proxyClient.injectCredentialsAndInvokeV2Async(tagResourceRequest, proxyClient.client()::tagResource)
+                    .thenRun(() -> responseCache.invalidate(documentClassifierArn, ListTagsForResourceResponse.class))
+                    .thenRun(() -> logger.info("DocumentClassifier [{}] tag call for adding {} tags successful.",
+                            documentClassifierArn, tagResourceRequest.tags().size()));
+        }
+
+        return CompletableFuture.allOf(resourcePolicyFuture, untagFuture, tagFuture);
+    }
+
+    /**
+     * Returns the event of the closing read once no tag keys to remove are present and all tags to add are present,
+     * and an event calling the handler back otherwise.
+     */
+    private ProgressEvent<ResourceModel, CallbackContext> verifyTags(final ProgressEvent<ResourceModel, CallbackContext> event,
+                                                                     final ResourceModel documentClassifierModel,
+                                                                     final CallbackContext callbackContext) {
+        if (!event.isSuccess()) return event;
+        if (callbackContext.tagKeysToRemoveOrEmpty().isEmpty() && callbackContext.tagsToAddOrEmpty().isEmpty()) return event;
+
+        callbackContext.setTagPollCount(callbackContext.getTagPollCount() + 1);
+        final Set<Tag> currentTags = new HashSet<>(Translator.toSdkTags(event.getResourceModel().getTags()));
+        final Set<String> currentTagKeys = currentTags.stream().map(Tag::key).collect(Collectors.toSet());
+
+        boolean untagStabilized = Collections.disjoint(currentTagKeys, callbackContext.tagKeysToRemoveOrEmpty());
+        boolean tagStabilized = currentTags.containsAll(callbackContext.tagsToAddOrEmpty());
+        logger.sampled(callbackContext.getTagPollCount(), "DocumentClassifier [{}] untagging stabilization status: {}, tagging stabilization status: {}.",
+                documentClassifierModel.getArn(), untagStabilized, tagStabilized);
+
+        callbackContext.setTaggingStabilized(untagStabilized && tagStabilized);
+        if (callbackContext.isTaggingStabilized()) return event;
+        return ProgressEvent.defaultInProgressHandler(callbackContext, TAGGING_CALLBACK_DELAY_SECONDS, documentClassifierModel);
+    }
+}
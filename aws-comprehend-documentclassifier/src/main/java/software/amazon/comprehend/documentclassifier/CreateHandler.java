@@ -3,7 +3,10 @@ package software.amazon.comprehend.documentclassifier;
 import software.amazon.awssdk.awscore.AwsRequest;
 import software.amazon.awssdk.services.comprehend.ComprehendClient;
 import software.amazon.awssdk.services.comprehend.model.CreateDocumentClassifierRequest;
+import software.amazon.awssdk.services.comprehend.model.ClassifierMetadata;
 import software.amazon.awssdk.services.comprehend.model.CreateDocumentClassifierResponse;
+import software.amazon.awssdk.services.comprehend.model.DescribeDocumentClassifierResponse;
+import software.amazon.awssdk.services.comprehend.model.DocumentClassifierProperties;
 import software.amazon.awssdk.services.comprehend.model.ModelStatus;
 import software.amazon.awssdk.services.comprehend.model.ResourceInUseException;
 import software.amazon.awssdk.services.comprehend.model.Tag;
@@ -13,20 +16,52 @@ import software.amazon.cloudformation.exceptions.CfnAlreadyExistsException;
 import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
 import software.amazon.cloudformation.exceptions.CfnNotStabilizedException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Delay;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
-import software.amazon.cloudformation.proxy.delay.Constant;
+import software.amazon.comprehend.core.CallbackStabilizer;
+import software.amazon.comprehend.core.HandlerLogger;
+import software.amazon.comprehend.core.StageTracer;
+import software.amazon.comprehend.core.TagReconciler;
 
 import java.time.Duration;
-import java.util.HashSet;
+import java.util.Collections;
 import java.util.Set;
+import java.util.function.Function;
 
 
 public class CreateHandler extends AbstractModelHandler {
 
-    private static final Constant CREATE_BACKOFF_STRATEGY = Constant.of().delay(Duration.ofSeconds(15)).timeout(Duration.ofDays(2)).build();
+    private static final Duration CREATE_TIMEOUT = Duration.ofDays(2);
+
+    private static final String CREATE_CALL_GRAPH = "AWS-Comprehend-DocumentClassifier::Create";
+    private static final String STABILIZE_CALL_GRAPH = "AWS-Comprehend-DocumentClassifier::Create::Stabilize";
+    private static final String READ_STAGE = "AWS-Comprehend-DocumentClassifier::Create::Read";
+
+    private final Function<CallbackContext, Delay> backoffStrategy;
+
+    private final CallbackStabilizer callbackStabilizer;
+
+    public CreateHandler() {
+        this(callbackContext -> new TrainingAwareDelay(callbackContext, CREATE_TIMEOUT));
+    }
+
+    /**
+     * Create handler with a custom backoff strategy for the create call and training stabilization.
+     */
+    public CreateHandler(final Function<CallbackContext, Delay> backoffStrategy) {
+        this(backoffStrategy, new CallbackStabilizer());
+    }
+
+    /**
+     * Create handler with a custom backoff strategy and a custom policy for waiting locally or calling back.
+     */
+    public CreateHandler(final Function<CallbackContext, Delay> backoffStrategy, final CallbackStabilizer callbackStabilizer) {
+        this.backoffStrategy = backoffStrategy;
+        this.callbackStabilizer = callbackStabilizer;
+    }
 
     @Override
     public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -37,31 +72,42 @@ public class CreateHandler extends AbstractModelHandler {
             final Logger logger
     ) {
 
-        this.logger = logger;
+        this.logger = HandlerLogger.of(logger);
+        this.stageTracer = new StageTracer();
         final ResourceModel documentClassifierModel = request.getDesiredResourceState();
 
+        // Desired tags are recomputed from the request on every invocation, so only their fingerprint is kept. A context
+        // written before the fingerprint carries the tags in full instead, and they are dropped here.
         final Set<Tag> desiredTags = TagHelper.getDesiredTags(request);
-        callbackContext.setTagsToAdd(desiredTags);
+        callbackContext.setDesiredTagsFingerprint(TagReconciler.fingerprint(desiredTags));
+        callbackContext.setTagsToAdd(null);
+
+        final Delay backoffDelay = backoffStrategy.apply(callbackContext);
 
         return ProgressEvent.progress(documentClassifierModel, callbackContext)
-                // Progress chain to create document classifier and stabilize
-                .then(progress -> proxy
-                        .initiate("AWS-Comprehend-DocumentClassifier::Create", proxyClient, documentClassifierModel, callbackContext)
+                // Progress chain to create document classifier
+                .then(progress -> stageTracer.trace(CREATE_CALL_GRAPH, callbackContext, () -> proxy
+                        .initiate(CREATE_CALL_GRAPH, proxyClient, documentClassifierModel, callbackContext)
                         .translateToServiceRequest(resourceModel -> Translator.translateToCreateRequest(
                                 resourceModel,
                                 request.getClientRequestToken(),
                                 desiredTags))
-                        .backoffDelay(CREATE_BACKOFF_STRATEGY)
+                        .backoffDelay(backoffDelay)
                         .makeServiceCall((awsRequest, client) -> createDocumentClassifierAndUpdateResourceModel(awsRequest, client, documentClassifierModel, callbackContext))
-                        .stabilize(this::createStabilize)
                         .handleError(this::handleError)
                         .progress()
-                )
-                // Progress chain to describe document classifier and return result
-                .then(progress -> {
+                ))
+                // Progress chain to wait for training, handing long waits back to CloudFormation
+                .then(progress -> stageTracer.trace(STABILIZE_CALL_GRAPH, callbackContext, () -> {
                     if (documentClassifierModel.getArn() == null) documentClassifierModel.setArn(callbackContext.getArn());
-                    return new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger);
-                });
+                    return callbackStabilizer.stabilize(STABILIZE_CALL_GRAPH, documentClassifierModel, callbackContext, backoffDelay,
+                            () -> createStabilize(proxyClient, documentClassifierModel, callbackContext),
+                            exception -> handleError(null, exception, proxyClient, documentClassifierModel, callbackContext),
+                            this.logger);
+                }))
+                // Progress chain to describe document classifier and return result, reusing responses from stabilization
+                .then(progress -> stageTracer.trace(READ_STAGE, callbackContext,
+                        () -> new ReadHandler(responseCache).handleRequest(proxy, request, callbackContext, proxyClient, this.logger)));
     }
 
     /**
@@ -78,25 +124,29 @@ public class CreateHandler extends AbstractModelHandler {
 
         documentClassifierModel.setArn(createDocumentClassifierResponse.documentClassifierArn());
         callbackContext.setArn(createDocumentClassifierResponse.documentClassifierArn());
-        logger.log(String.format("DocumentClassifier [%s] creation call successful.", documentClassifierModel.getArn()));
+        logger.info("DocumentClassifier [{}] creation call successful.", documentClassifierModel.getArn());
 
         return createDocumentClassifierResponse;
     }
 
     /**
      * Verifies document classifier creation has stabilized by checking if model status is TRAINED and the desired tags
-     * are present.
+     * are present. Tags are only polled once the model is trained, and each aspect is no longer polled once it has
+     * converged.
      */
     private boolean createStabilize(
-            final CreateDocumentClassifierRequest request,
-            final CreateDocumentClassifierResponse response,
             final ProxyClient<ComprehendClient> proxyClient,
             final ResourceModel documentClassifierModel,
             final CallbackContext callbackContext) {
-        if (documentClassifierModel.getArn() == null) documentClassifierModel.setArn(callbackContext.getArn());
-        return (callbackContext.getModelStatus() == ModelStatus.TRAINED ||  callbackContext.getModelStatus() == ModelStatus.TRAINED_WITH_WARNING
-                || isDocumentClassifierTrained(proxyClient, documentClassifierModel, callbackContext))
-                && isTaggingComplete(proxyClient, documentClassifierModel, callbackContext.getTagsToAdd());
+        if (!callbackContext.isStatusStabilized()) {
+            callbackContext.setStatusPollCount(callbackContext.getStatusPollCount() + 1);
+            callbackContext.setStatusStabilized(isDocumentClassifierTrained(proxyClient, documentClassifierModel, callbackContext));
+            if (!callbackContext.isStatusStabilized()) return false;
+        }
+        if (!callbackContext.isTaggingStabilized()) {
+            callbackContext.setTaggingStabilized(isTaggingComplete(proxyClient, documentClassifierModel, callbackContext));
+        }
+        return callbackContext.isTaggingStabilized();
     }
 
     /**
@@ -107,14 +157,17 @@ public class CreateHandler extends AbstractModelHandler {
                                                final CallbackContext callbackContext) {
         final ModelStatus modelStatus = getDocumentClassifierStatus(proxyClient, documentClassifierModel.getArn(), logger);
         callbackContext.setModelStatus(modelStatus);
+        responseCache.getIfFresh(documentClassifierModel.getArn(), DescribeDocumentClassifierResponse.class)
+                .ifPresent(response -> updateTrainingProgress(response.documentClassifierProperties(), callbackContext));
         switch (modelStatus) {
             case TRAINED:
             case TRAINED_WITH_WARNING:
-                logger.log(String.format("DocumentClassifier [%s] has reached TRAINED state.", documentClassifierModel.getPrimaryIdentifier()));
+                logger.info("DocumentClassifier [{}] has reached TRAINED state.", documentClassifierModel.getArn());
                 return true;
             case TRAINING:
             case SUBMITTED:
-                logger.log(String.format("DocumentClassifier [%s] has not reached TRAINED state.", documentClassifierModel.getPrimaryIdentifier()));
+                logger.sampled(callbackContext.getStatusPollCount(), "DocumentClassifier [{}] has not reached TRAINED state, status {}.",
+                        documentClassifierModel.getArn(), modelStatus);
                 return false;
             case IN_ERROR:
                 throw new CfnGeneralServiceException(Action.CREATE.toString(), new Throwable(String.format(
@@ -127,18 +180,38 @@ public class CreateHandler extends AbstractModelHandler {
     }
 
     /**
-     * Returns whether document classifier resource has the desired tags.
+     * Records the training timestamps and document count used to pace the next poll.
+     */
+    private static void updateTrainingProgress(final DocumentClassifierProperties properties,
+                                               final CallbackContext callbackContext) {
+        if (properties.submitTime() != null) {
+            callbackContext.setSubmitTime(properties.submitTime().toEpochMilli());
+        }
+        if (properties.trainingStartTime() != null) {
+            callbackContext.setTrainingStartTime(properties.trainingStartTime().toEpochMilli());
+        }
+        final ClassifierMetadata classifierMetadata = properties.classifierMetadata();
+        if (classifierMetadata != null && classifierMetadata.numberOfTrainedDocuments() != null) {
+            callbackContext.setTrainingDocumentCount(classifierMetadata.numberOfTrainedDocuments()
+                    + (classifierMetadata.numberOfTestDocuments() == null ? 0 : classifierMetadata.numberOfTestDocuments()));
+        }
+    }
+
+    /**
+     * Returns whether document classifier resource has the desired tags, by comparing the fingerprint of its current tags to the
+     * fingerprint of the desired tags.
      */
     private boolean isTaggingComplete(final ProxyClient<ComprehendClient> proxyClient,
                                       final ResourceModel documentClassifierModel,
-                                      final Set<Tag> desiredTags) {
+                                      final CallbackContext callbackContext) {
 
-        if (desiredTags.isEmpty()) return true;
+        if (callbackContext.getDesiredTagsFingerprint() == TagReconciler.fingerprint(Collections.emptySet())) return true;
 
-        final Set<Tag> documentClassifierCurrentTags = new HashSet<>(TagHelper.getCurrentTags(proxyClient, documentClassifierModel));
-        boolean taggingStabilized = desiredTags.equals(documentClassifierCurrentTags);
-        logger.log(String.format("DocumentClassifier [%s] tagging stabilization status: %s.",
-                documentClassifierModel.getPrimaryIdentifier(), taggingStabilized));
+        callbackContext.setTagPollCount(callbackContext.getTagPollCount() + 1);
+        final Set<Tag> documentClassifierCurrentTags = TagHelper.getCurrentTags(proxyClient, documentClassifierModel, responseCache);
+        boolean taggingStabilized = TagReconciler.fingerprint(documentClassifierCurrentTags) == callbackContext.getDesiredTagsFingerprint();
+        logger.sampled(callbackContext.getTagPollCount(), "DocumentClassifier [{}] tagging stabilization status: {}.",
+                documentClassifierModel.getArn(), taggingStabilized);
 
         return taggingStabilized;
     }
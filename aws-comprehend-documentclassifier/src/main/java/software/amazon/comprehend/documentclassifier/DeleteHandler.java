@@ -14,12 +14,16 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.cloudformation.proxy.delay.Constant;
+import software.amazon.comprehend.core.BackoffStrategies;
+import software.amazon.comprehend.core.HandlerLogger;
+import software.amazon.comprehend.core.StageTracer;
 
-import java.time.Duration;
 
 public class DeleteHandler extends AbstractModelHandler {
 
-    protected static final Constant DELETE_BACKOFF_STRATEGY = Constant.of().delay(Duration.ofSeconds(5)).timeout(Duration.ofMinutes(60)).build();
+    private static final String DELETE_CALL_GRAPH = "AWS-Comprehend-DocumentClassifier::Delete";
+
+    protected static final Constant DELETE_BACKOFF_STRATEGY = BackoffStrategies.DELETE;
 
     @Override
     public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -29,19 +33,20 @@ public class DeleteHandler extends AbstractModelHandler {
             final ProxyClient<ComprehendClient> proxyClient,
             final Logger logger) {
 
-        this.logger = logger;
+        this.logger = HandlerLogger.of(logger);
+        this.stageTracer = new StageTracer();
 
         return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
                 // Progress chain to delete document classifier and stabilize
-                .then(progress ->
-                        proxy.initiate("AWS-Comprehend-DocumentClassifier::Delete", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
+                .then(progress -> stageTracer.trace(DELETE_CALL_GRAPH, callbackContext, () ->
+                        proxy.initiate(DELETE_CALL_GRAPH, proxyClient, progress.getResourceModel(), progress.getCallbackContext())
                                 .translateToServiceRequest(Translator::translateToDeleteRequest)
                                 .backoffDelay(DELETE_BACKOFF_STRATEGY)
                                 .makeServiceCall(this::deleteDocumentClassifier)
                                 .stabilize(this::deleteStabilize)
                                 .handleError(this::handleError)
                                 .progress()
-                )
+                ))
                 // Return the successful progress event without resource model
                 .then(progress -> ProgressEvent.defaultSuccessHandler(null));
     }
@@ -57,7 +62,7 @@ public class DeleteHandler extends AbstractModelHandler {
         DeleteDocumentClassifierResponse deleteDocumentClassifierResponse = proxyClient.injectCredentialsAndInvokeV2(
                 deleteDocumentClassifierRequest, proxyClient.client()::deleteDocumentClassifier);
 
-        logger.log(String.format("DocumentClassifier [%s] deletion call successful.", deleteDocumentClassifierRequest.documentClassifierArn()));
+        logger.info("DocumentClassifier [{}] deletion call successful.", deleteDocumentClassifierRequest.documentClassifierArn());
         return deleteDocumentClassifierResponse;
     }
 
@@ -77,7 +82,8 @@ public class DeleteHandler extends AbstractModelHandler {
                 case TRAINED:
                 case TRAINED_WITH_WARNING:
                 case DELETING:
-                    logger.log(String.format("DocumentClassifier [%s] deletion has not stabilized.", documentClassifierModel.getPrimaryIdentifier()));
+                    logger.sampled(callbackContext.attempts(DELETE_CALL_GRAPH), "DocumentClassifier [{}] deletion has not stabilized, status {}.",
+                            documentClassifierModel.getArn(), currentModelStatus);
                     return false;
                 case IN_ERROR:
                     throw new CfnGeneralServiceException(Action.DELETE.toString(), new Throwable(String.format(
@@ -88,7 +94,7 @@ public class DeleteHandler extends AbstractModelHandler {
                     throw new CfnNotStabilizedException(ResourceModel.TYPE_NAME, documentClassifierModel.getDocumentClassifierName());
             }
         } catch (ResourceNotFoundException e) {
-            logger.log(String.format("DocumentClassifier [%s] deletion has stabilized.", documentClassifierModel.getPrimaryIdentifier()));
+            logger.info("DocumentClassifier [{}] deletion has stabilized.", documentClassifierModel.getArn());
             return true;
         }
     }
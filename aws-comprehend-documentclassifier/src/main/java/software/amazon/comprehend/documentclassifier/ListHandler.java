@@ -9,9 +9,15 @@ import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.comprehend.core.HandlerLogger;
 
 public class ListHandler extends AbstractModelHandler {
 
+    @Override
+    protected BaseHandler<CallbackContext> getAsyncHandler() {
+        return new AsyncListHandler();
+    }
+
     @Override
     public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
             final AmazonWebServicesClientProxy proxy,
@@ -20,12 +26,12 @@ public class ListHandler extends AbstractModelHandler {
             final ProxyClient<ComprehendClient> proxyClient,
             final Logger logger) {
 
-        this.logger = logger;
+        this.logger = HandlerLogger.of(logger);
 
         ListDocumentClassifiersRequest listDocumentClassifiersRequest = Translator.translateToListRequest(request.getNextToken());
-        ListDocumentClassifiersResponse listDocumentClassifierResponse = proxy.injectCredentialsAndInvokeV2(listDocumentClassifiersRequest, proxyClient.client()::listDocumentClassifiers);
+        ListDocumentClassifiersResponse listDocumentClassifierResponse = proxyClient.injectCredentialsAndInvokeV2(listDocumentClassifiersRequest, proxyClient.client()::listDocumentClassifiers);
 
-        logger.log(String.format("Successfully listed %d document classifiers.", listDocumentClassifierResponse.documentClassifierPropertiesList().size()));
+        this.logger.info("Successfully listed {} document classifiers.", listDocumentClassifierResponse.documentClassifierPropertiesList().size());
         return ProgressEvent.<ResourceModel, CallbackContext>builder()
                 .resourceModels(Translator.translateFromListResponse(listDocumentClassifierResponse))
                 .nextToken(listDocumentClassifierResponse.nextToken())
@@ -3,9 +3,55 @@ package software.amazon.comprehend.documentclassifier;
 import software.amazon.awssdk.services.comprehend.ComprehendClient;
 import software.amazon.awssdk.services.comprehend.model.*;
 import software.amazon.cloudformation.proxy.*;
+import software.amazon.comprehend.core.CompletableFutures;
+import software.amazon.comprehend.core.HandlerLogger;
+import software.amazon.comprehend.core.ResponseCache;
+import software.amazon.comprehend.core.StageExecutors;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
 
 public class ReadHandler extends AbstractModelHandler {
 
+    /** How the DescribeDocumentClassifier, DescribeResourcePolicy and ListTagsForResource calls are issued. */
+    public enum ReadMode {
+        SEQUENTIAL,
+        CONCURRENT
+    }
+
+    private final ReadMode readMode;
+
+    /** Runs the calls of a concurrent read, virtual threads on Java 21+ runtimes and a bounded pool otherwise. */
+    private final Executor executor;
+
+    public ReadHandler() {
+        this(ReadMode.CONCURRENT);
+    }
+
+    public ReadHandler(final ReadMode readMode) {
+        this(readMode, StageExecutors.shared());
+    }
+
+    public ReadHandler(final ReadMode readMode, final Executor executor) {
+        this.readMode = readMode;
+        this.executor = executor;
+    }
+
+    /**
+     * Read handler that reuses fresh responses already fetched by the calling handler for the same request.
+     */
+    public ReadHandler(final ResponseCache responseCache) {
+        this(ReadMode.CONCURRENT);
+        this.responseCache = responseCache;
+    }
+
+    @Override
+    protected BaseHandler<CallbackContext> getAsyncHandler() {
+        return new AsyncReadHandler();
+    }
+
     @Override
     public ProgressEvent<ResourceModel, CallbackContext> handleRequest(final AmazonWebServicesClientProxy proxy,
                                                                        final ResourceHandlerRequest<ResourceModel> request,
@@ -13,7 +59,7 @@ public class ReadHandler extends AbstractModelHandler {
                                                                        final ProxyClient<ComprehendClient> proxyClient,
                                                                        final Logger logger) {
 
-        this.logger = logger;
+        this.logger = HandlerLogger.of(logger);
 
         final ResourceModel documentClassifierModel = request.getDesiredResourceState();
 
@@ -21,19 +67,69 @@ public class ReadHandler extends AbstractModelHandler {
         ListTagsForResourceRequest listTagsForResourceRequest = Translator.translateToListTagsRequest(documentClassifierModel);
         DescribeResourcePolicyRequest describeResourcePolicyRequest = Translator.translateToDescribeResourcePolicyRequest(documentClassifierModel);
 
-        try {
-            DescribeDocumentClassifierResponse describeDocumentClassifierResponse = proxy.injectCredentialsAndInvokeV2(describeDocumentClassifierRequest,
+        final Supplier<DescribeDocumentClassifierResponse> describeDocumentClassifier = () -> {
+            final Optional<DescribeDocumentClassifierResponse> cachedResponse =
+                    responseCache.getIfFresh(documentClassifierModel.getArn(), DescribeDocumentClassifierResponse.class);
+            if (cachedResponse.isPresent()) {
+                this.logger.debug("Reusing DescribeDocumentClassifier response for document classifier [{}].", documentClassifierModel.getArn());
+                return cachedResponse.get();
+            }
+            DescribeDocumentClassifierResponse describeDocumentClassifierResponse = proxyClient.injectCredentialsAndInvokeV2(describeDocumentClassifierRequest,
                     proxyClient.client()::describeDocumentClassifier);
-            logger.log(String.format("Successfully described document classifier [%s].", documentClassifierModel.getArn()));
-
-            DescribeResourcePolicyResponse describeResourcePolicyResponse = proxy.injectCredentialsAndInvokeV2(describeResourcePolicyRequest,
+            this.logger.info("Successfully described document classifier [{}].", documentClassifierModel.getArn());
+            return describeDocumentClassifierResponse;
+        };
+        final Supplier<DescribeResourcePolicyResponse> describeResourcePolicy = () -> {
+            final Optional<DescribeResourcePolicyResponse> cachedResponse =
+                    responseCache.getIfFresh(documentClassifierModel.getArn(), DescribeResourcePolicyResponse.class);
+            if (cachedResponse.isPresent()) {
+                this.logger.debug("Reusing DescribeResourcePolicy response for document classifier [{}].", documentClassifierModel.getArn());
+                return cachedResponse.get();
+            }
+            DescribeResourcePolicyResponse describeResourcePolicyResponse = proxyClient.injectCredentialsAndInvokeV2(describeResourcePolicyRequest,
                     proxyClient.client()::describeResourcePolicy);
-            logger.log(String.format("Successfully described resource policy for document classifier [%s].", documentClassifierModel.getArn()));
-
-            ListTagsForResourceResponse listTagsForResourceResponse = proxy.injectCredentialsAndInvokeV2(listTagsForResourceRequest,
+            this.logger.info("Successfully described resource policy for document classifier [{}].", documentClassifierModel.getArn());
+            return describeResourcePolicyResponse;
+        };
+        final Supplier<ListTagsForResourceResponse> listTagsForResource = () -> {
+            final Optional<ListTagsForResourceResponse> cachedResponse =
+                    responseCache.getIfFresh(documentClassifierModel.getArn(), ListTagsForResourceResponse.class);
+            if (cachedResponse.isPresent()) {
+                this.logger.debug("Reusing ListTagsForResource response for document classifier [{}].", documentClassifierModel.getArn());
+                return cachedResponse.get();
+            }
+            ListTagsForResourceResponse listTagsForResourceResponse = proxyClient.injectCredentialsAndInvokeV2(listTagsForResourceRequest,
                     proxyClient.client()::listTagsForResource);
-            logger.log(String.format("Successfully listed %d tags for document classifier [%s].",
-                    listTagsForResourceResponse.tags().size(), documentClassifierModel.getArn()));
+            this.logger.info("Successfully listed {} tags for document classifier [{}].",
+                    listTagsForResourceResponse.tags().size(), documentClassifierModel.getArn());
+            return listTagsForResourceResponse;
+        };
+
+        try {
+            final DescribeDocumentClassifierResponse describeDocumentClassifierResponse;
+            final DescribeResourcePolicyResponse describeResourcePolicyResponse;
+            final ListTagsForResourceResponse listTagsForResourceResponse;
+
+            if (readMode == ReadMode.CONCURRENT) {
+                final CompletableFuture<DescribeDocumentClassifierResponse> describeDocumentClassifierFuture =
+                        CompletableFuture.supplyAsync(describeDocumentClassifier, executor);
+                final CompletableFuture<DescribeResourcePolicyResponse> describeResourcePolicyFuture =
+                        CompletableFuture.supplyAsync(describeResourcePolicy, executor);
+                final CompletableFuture<ListTagsForResourceResponse> listTagsForResourceFuture =
+                        CompletableFuture.supplyAsync(listTagsForResource, executor);
+
+                // Wait for all three calls to settle, then surface failures in the same order as a sequential read
+                CompletableFuture.allOf(describeDocumentClassifierFuture, describeResourcePolicyFuture, listTagsForResourceFuture)
+                        .exceptionally(e -> null)
+                        .join();
+                describeDocumentClassifierResponse = CompletableFutures.join(describeDocumentClassifierFuture);
+                describeResourcePolicyResponse = CompletableFutures.join(describeResourcePolicyFuture);
+                listTagsForResourceResponse = CompletableFutures.join(listTagsForResourceFuture);
+            } else {
+                describeDocumentClassifierResponse = describeDocumentClassifier.get();
+                describeResourcePolicyResponse = describeResourcePolicy.get();
+                listTagsForResourceResponse = listTagsForResource.get();
+            }
 
             ResourceModel newModel = Translator.translateFromReadResponse(describeDocumentClassifierResponse);
             newModel.setModelPolicy(describeResourcePolicyResponse.resourcePolicy());
@@ -41,8 +137,8 @@ public class ReadHandler extends AbstractModelHandler {
 
             return ProgressEvent.success(newModel, callbackContext);
         } catch (final ResourceNotFoundException e) {
-            logger.log(String.format("Read operation failed for document classifier [%s] with error: %s",
-                    documentClassifierModel.getArn(), e));
+            this.logger.warn("Read operation failed for document classifier [{}] with error: {}",
+                    documentClassifierModel.getArn(), e);
             return ProgressEvent.defaultFailureHandler(e, HandlerErrorCode.NotFound);
         }
     }
@@ -1,108 +1,48 @@
 package software.amazon.comprehend.documentclassifier;
 
-import org.apache.commons.collections.CollectionUtils;
-import org.apache.commons.collections.MapUtils;
 import software.amazon.awssdk.services.comprehend.ComprehendClient;
 import software.amazon.awssdk.services.comprehend.model.Tag;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.comprehend.core.ResponseCache;
+import software.amazon.comprehend.core.TagReconciler;
 
-import java.util.Collection;
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.HashSet;
-import java.util.Map;
 import java.util.Set;
-import java.util.stream.Collectors;
-
 
+/**
+ * Tag reconciliation of document classifiers, reading the tags of the resource model through the Translator.
+ */
 public class TagHelper {
-    
-    /**
-     * Converts a collection of Tag objects to a tag-name -> tag-value map.
-     *
-     * Note: Tag objects with null tag values will not be included in the output
-     * map.
-     *
-     * @param tags Collection of tags to convert
-     * @return Converted Map of tags
-     */
-    public static Map<String, String> convertSdkTagsToKeyValueMap(final Collection<Tag> tags) {
-        if (CollectionUtils.isEmpty(tags)) {
-            return Collections.emptyMap();
-        }
-        return tags.stream()
-                .filter(tag -> tag.value() != null)
-                .collect(Collectors.toMap(
-                        Tag::key,
-                        Tag::value,
-                        (oldValue, newValue) -> newValue));
-    }
 
     /**
-     * Converts a tag map to a set of Tag objects.
-     *
-     * Note: Like convertSdkTagsToKeyValueMap, convertKeyValueMapToSdkTagSet filters out value-less tag entries.
-     *
-     * @param tagMap Map of tags to convert
-     * @return Set of Tag objects
+     * Get all tags currently attached to some resource.
      */
-    public static Set<Tag> convertKeyValueMapToSdkTagSet(final Map<String, String> tagMap) {
-        if (MapUtils.isEmpty(tagMap)) {
-            return Collections.emptySet();
-        }
-        return tagMap.entrySet().stream()
-                .filter(tag -> tag.getValue() != null)
-                .map(tag -> Tag.builder()
-                        .key(tag.getKey())
-                        .value(tag.getValue())
-                        .build())
-                .collect(Collectors.toSet());
+    public static Set<Tag> getCurrentTags(final ProxyClient<ComprehendClient> proxyClient,
+                                          final ResourceModel documentClassifierModel) {
+        return getCurrentTags(proxyClient, documentClassifierModel, new ResponseCache());
     }
 
     /**
-     * Get all tags currently attached to some resource.
+     * Get all tags currently attached to some resource, keeping the ListTagsForResource response for later reuse.
      */
     public static Set<Tag> getCurrentTags(final ProxyClient<ComprehendClient> proxyClient,
-                                          final ResourceModel documentClassifierModel) {
-        return new HashSet<>(proxyClient.injectCredentialsAndInvokeV2(
-                Translator.translateToListTagsRequest(documentClassifierModel),
-                proxyClient.client()::listTagsForResource).tags());
+                                          final ResourceModel documentClassifierModel,
+                                          final ResponseCache responseCache) {
+        return TagReconciler.getCurrentTags(proxyClient, documentClassifierModel.getArn(), responseCache);
     }
 
     /**
      * Get desired tags by combining desired system tags, stack level tags, and resource tags.
-     *
-     * If stack tags and resource tags are not merged together in Configuration class,
-     * we will get new desired system (with `aws:cloudformation` prefix) and user defined tags from
-     * handlerRequest.getSystemTags() (system tags),
-     * handlerRequest.getDesiredResourceTags() (stack tags),
-     * handlerRequest.getDesiredResourceState().getTags() (resource tags).
-     *
-     * System tags are an optional feature. Merge them to your tags if you have enabled them for your resource.
-     * System tags can change on resource update if the resource is imported to the stack.
      */
     public static Set<Tag> getDesiredTags(final ResourceHandlerRequest<ResourceModel> handlerRequest) {
-        final Map<String, String> desiredTags = new HashMap<>();
-
-        // merge in system tags
-        if (handlerRequest.getSystemTags() != null) {
-            desiredTags.putAll(handlerRequest.getSystemTags());
-        }
-
-        // merge in stack level tags if any
-        if (handlerRequest.getDesiredResourceTags() != null) {
-            desiredTags.putAll(handlerRequest.getDesiredResourceTags());
-        }
-
-        // merge in resource tags if any
-        Map<String, String> resourceTags = convertSdkTagsToKeyValueMap(
-                Translator.toSdkTags(handlerRequest.getDesiredResourceState().getTags()));
-        if (resourceTags != null) {
-            desiredTags.putAll(resourceTags);
-        }
-
-        return convertKeyValueMapToSdkTagSet(desiredTags);
+        return TagReconciler.getDesiredTags(handlerRequest, model -> Translator.toSdkTags(model.getTags()));
     }
 
+    /**
+     * Get the tags CloudFormation last applied, by combining previous system tags, stack level tags, and resource tags
+     * the same way as getDesiredTags.
+     */
+    public static Set<Tag> getPreviousTags(final ResourceHandlerRequest<ResourceModel> handlerRequest) {
+        return TagReconciler.getPreviousTags(handlerRequest, model -> Translator.toSdkTags(model.getTags()));
+    }
 }
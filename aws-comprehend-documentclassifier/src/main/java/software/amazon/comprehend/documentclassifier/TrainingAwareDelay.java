@@ -0,0 +1,87 @@
+package software.amazon.comprehend.documentclassifier;
+
+import software.amazon.awssdk.services.comprehend.model.ModelStatus;
+import software.amazon.cloudformation.proxy.Delay;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Backoff for document classifier training. Polls often while the job is submitted or has just started training,
+ * backs off in the middle of training and tightens again around the expected finish time. Training progress is read
+ * from the callback context, which is refreshed by every DescribeDocumentClassifier poll.
+ */
+public class TrainingAwareDelay implements Delay {
+
+    static final Duration MIN_DELAY = Duration.ofSeconds(15);
+    static final Duration MAX_DELAY = Duration.ofMinutes(10);
+    static final Duration EARLY_TRAINING_TIME = Duration.ofMinutes(5);
+    static final Duration DEFAULT_EXPECTED_TRAINING_TIME = Duration.ofHours(1);
+    static final Duration BASE_TRAINING_TIME = Duration.ofMinutes(20);
+    static final Duration TRAINING_TIME_PER_THOUSAND_DOCUMENTS = Duration.ofMinutes(2);
+    static final Duration MAX_EXPECTED_TRAINING_TIME = Duration.ofHours(24);
+
+    /** Fraction of the distance to the expected finish time to wait before polling again. */
+    private static final int DISTANCE_DIVISOR = 4;
+
+    private final CallbackContext callbackContext;
+    private final Duration timeout;
+    private final Clock clock;
+
+    public TrainingAwareDelay(final CallbackContext callbackContext, final Duration timeout) {
+        this(callbackContext, timeout, Clock.systemUTC());
+    }
+
+    TrainingAwareDelay(final CallbackContext callbackContext, final Duration timeout, final Clock clock) {
+        this.callbackContext = callbackContext;
+        this.timeout = timeout;
+        this.clock = clock;
+    }
+
+    @Override
+    public Duration nextDelay(final int attempt) {
+        final Instant now = clock.instant();
+
+        // Until the first describe has told us the submit time, bound the total wait by the polls made so far
+        final Duration elapsed = callbackContext.getSubmitTime() == null
+                ? MIN_DELAY.multipliedBy(attempt)
+                : Duration.between(Instant.ofEpochMilli(callbackContext.getSubmitTime()), now);
+        if (elapsed.compareTo(timeout) > 0) {
+            return Duration.ZERO;
+        }
+
+        if (callbackContext.getModelStatus() != ModelStatus.TRAINING || callbackContext.getTrainingStartTime() == null) {
+            return MIN_DELAY;
+        }
+
+        final Duration trainingTime = Duration.between(Instant.ofEpochMilli(callbackContext.getTrainingStartTime()), now);
+        if (trainingTime.compareTo(EARLY_TRAINING_TIME) < 0) {
+            return MIN_DELAY;
+        }
+
+        // Far from the expected finish (before or after it) the wait grows, close to it the wait shrinks
+        final Duration distanceToExpectedFinish = getExpectedTrainingTime().minus(trainingTime).abs();
+        return clamp(distanceToExpectedFinish.dividedBy(DISTANCE_DIVISOR));
+    }
+
+    /**
+     * Expected training time, scaled by the number of documents if the service has reported it.
+     */
+    Duration getExpectedTrainingTime() {
+        final Integer documentCount = callbackContext.getTrainingDocumentCount();
+        if (documentCount == null || documentCount <= 0) {
+            return DEFAULT_EXPECTED_TRAINING_TIME;
+        }
+        final Duration expectedTrainingTime = BASE_TRAINING_TIME.plus(
+                TRAINING_TIME_PER_THOUSAND_DOCUMENTS.multipliedBy(documentCount).dividedBy(1000));
+        return expectedTrainingTime.compareTo(MAX_EXPECTED_TRAINING_TIME) > 0 ? MAX_EXPECTED_TRAINING_TIME : expectedTrainingTime;
+    }
+
+    private static Duration clamp(final Duration delay) {
+        if (delay.compareTo(MIN_DELAY) < 0) {
+            return MIN_DELAY;
+        }
+        return delay.compareTo(MAX_DELAY) > 0 ? MAX_DELAY : delay;
+    }
+}
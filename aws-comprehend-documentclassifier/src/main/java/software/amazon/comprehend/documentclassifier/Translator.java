@@ -1,8 +1,6 @@
 package software.amazon.comprehend.documentclassifier;
 
-import com.google.common.collect.Sets;
 import com.google.gson.Gson;
-import org.apache.commons.lang3.StringUtils;
 import software.amazon.awssdk.services.comprehend.model.AugmentedManifestsListItem;
 import software.amazon.awssdk.services.comprehend.model.CreateDocumentClassifierRequest;
 import software.amazon.awssdk.services.comprehend.model.DeleteDocumentClassifierRequest;
@@ -24,19 +22,23 @@ import software.amazon.awssdk.services.comprehend.model.Tag;
 import software.amazon.awssdk.services.comprehend.model.TagResourceRequest;
 import software.amazon.awssdk.services.comprehend.model.UntagResourceRequest;
 import software.amazon.awssdk.services.comprehend.model.VpcConfig;
+import software.amazon.comprehend.core.ComprehendArn;
+import software.amazon.comprehend.core.TagDiff;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
-import java.util.Optional;
 import java.util.Set;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 public class Translator {
 
     private static final Gson GSON = new Gson();
+    private static final String OUTPUT_S3_URI_SUFFIX = "/output/output.tar.gz";
+    private static final String CLASSIFIER_JOB_MARKER = "-CLR-";
+    private static final int ACCOUNT_ID_LENGTH = 12;
+    private static final int JOB_ID_LENGTH = 32;
     
 
     /* * * * * * * * * * * * *
@@ -56,13 +58,7 @@ public class Translator {
                 .s3Uri(inputDataConfig.getS3Uri())
                 .testS3Uri(inputDataConfig.getTestS3Uri())
                 .labelDelimiter(inputDataConfig.getLabelDelimiter())
-                .augmentedManifests(inputDataConfig.getAugmentedManifests() == null ? null: inputDataConfig.getAugmentedManifests().stream()
-                        .map(manifest -> AugmentedManifestsListItem.builder()
-                                .attributeNames(manifest.getAttributeNames())
-                                .s3Uri(manifest.getS3Uri())
-                                .split(manifest.getSplit())
-                                .build())
-                        .collect(Collectors.toList()))
+                .augmentedManifests(inputDataConfig.getAugmentedManifests() == null ? null : toSdkAugmentedManifests(inputDataConfig.getAugmentedManifests()))
                 .documentType(inputDataConfig.getDocumentType())
                 .documents(inputDataConfig.getDocuments() == null ? null : DocumentClassifierDocuments.builder()
                         .s3Uri(inputDataConfig.getDocuments().getS3Uri())
@@ -71,9 +67,7 @@ public class Translator {
                 .documentReaderConfig(inputDataConfig.getDocumentReaderConfig() == null ? null : DocumentReaderConfig.builder()
                         .documentReadAction(inputDataConfig.getDocumentReaderConfig().getDocumentReadAction())
                         .documentReadMode(inputDataConfig.getDocumentReaderConfig().getDocumentReadMode())
-                        .featureTypes(streamOfOrEmpty(inputDataConfig.getDocumentReaderConfig().getFeatureTypes())
-                                .map(DocumentReadFeatureTypes::fromValue)
-                                .collect(Collectors.toList()))
+                        .featureTypes(toSdkFeatureTypes(inputDataConfig.getDocumentReaderConfig().getFeatureTypes()))
                         .build())
                 .build();
     }
@@ -86,12 +80,41 @@ public class Translator {
     }
 
     public static Collection<Tag> toSdkTags(Set<software.amazon.comprehend.documentclassifier.Tag> tags) {
-        return streamOfOrEmpty(tags).map(t ->
-                        Tag.builder()
-                                .key(t.getKey())
-                                .value(t.getValue())
-                                .build())
-                .collect(Collectors.toList());
+        if (tags == null || tags.isEmpty()) {
+            return Collections.emptyList();
+        }
+        final List<Tag> sdkTags = new ArrayList<>(tags.size());
+        for (final software.amazon.comprehend.documentclassifier.Tag tag : tags) {
+            sdkTags.add(Tag.builder()
+                    .key(tag.getKey())
+                    .value(tag.getValue())
+                    .build());
+        }
+        return sdkTags;
+    }
+
+    private static List<AugmentedManifestsListItem> toSdkAugmentedManifests(
+            final Collection<software.amazon.comprehend.documentclassifier.AugmentedManifestsListItem> augmentedManifests) {
+        final List<AugmentedManifestsListItem> sdkAugmentedManifests = new ArrayList<>(augmentedManifests.size());
+        for (final software.amazon.comprehend.documentclassifier.AugmentedManifestsListItem manifest : augmentedManifests) {
+            sdkAugmentedManifests.add(AugmentedManifestsListItem.builder()
+                    .attributeNames(manifest.getAttributeNames())
+                    .s3Uri(manifest.getS3Uri())
+                    .split(manifest.getSplit())
+                    .build());
+        }
+        return sdkAugmentedManifests;
+    }
+
+    private static List<DocumentReadFeatureTypes> toSdkFeatureTypes(final Collection<String> featureTypes) {
+        if (featureTypes == null || featureTypes.isEmpty()) {
+            return Collections.emptyList();
+        }
+        final List<DocumentReadFeatureTypes> sdkFeatureTypes = new ArrayList<>(featureTypes.size());
+        for (final String featureType : featureTypes) {
+            sdkFeatureTypes.add(DocumentReadFeatureTypes.fromValue(featureType));
+        }
+        return sdkFeatureTypes;
     }
 
     /* * * * * * * * * * * * *
@@ -100,8 +123,8 @@ public class Translator {
 
     public static software.amazon.comprehend.documentclassifier.VpcConfig fromSdkVpcConfig(VpcConfig vpcConfig) {
         return vpcConfig == null ? null: software.amazon.comprehend.documentclassifier.VpcConfig.builder()
-                .securityGroupIds(streamOfOrEmpty(vpcConfig.securityGroupIds()).collect(Collectors.toSet()))
-                .subnets(streamOfOrEmpty(vpcConfig.subnets()).collect(Collectors.toSet()))
+                .securityGroupIds(toSet(vpcConfig.securityGroupIds()))
+                .subnets(toSet(vpcConfig.subnets()))
                 .build();
     }
 
@@ -111,13 +134,7 @@ public class Translator {
                 .s3Uri(inputDataConfig.s3Uri())
                 .testS3Uri(inputDataConfig.testS3Uri())
                 .labelDelimiter(inputDataConfig.labelDelimiter())
-                .augmentedManifests(streamOfOrEmpty(inputDataConfig.augmentedManifests())
-                        .map(manifest -> software.amazon.comprehend.documentclassifier.AugmentedManifestsListItem.builder()
-                                .attributeNames(new HashSet<>(manifest.attributeNames()))
-                                .s3Uri(manifest.s3Uri())
-                                .split(manifest.splitAsString())
-                                .build())
-                        .collect(Collectors.toSet()))
+                .augmentedManifests(fromSdkAugmentedManifests(inputDataConfig.augmentedManifests()))
                 .documentType(inputDataConfig.documentTypeAsString())
                 .documents(inputDataConfig.documents() == null ? null : software.amazon.comprehend.documentclassifier.DocumentClassifierDocuments.builder()
                         .s3Uri(inputDataConfig.documents().s3Uri())
@@ -126,8 +143,7 @@ public class Translator {
                 .documentReaderConfig(inputDataConfig.documentReaderConfig() == null ? null : software.amazon.comprehend.documentclassifier.DocumentReaderConfig.builder()
                         .documentReadAction(inputDataConfig.documentReaderConfig().documentReadActionAsString())
                         .documentReadMode(inputDataConfig.documentReaderConfig().documentReadModeAsString())
-                        .featureTypes(streamOfOrEmpty(inputDataConfig.documentReaderConfig().featureTypesAsStrings())
-                                .collect(Collectors.toSet()))
+                        .featureTypes(toSet(inputDataConfig.documentReaderConfig().featureTypesAsStrings()))
                         .build())
                 .build();
     }
@@ -140,12 +156,34 @@ public class Translator {
     }
 
     public static Set<software.amazon.comprehend.documentclassifier.Tag> fromSdkTags(Collection<Tag> tags) {
-        return streamOfOrEmpty(tags).map(t ->
-                        software.amazon.comprehend.documentclassifier.Tag.builder()
-                                .key(t.key())
-                                .value(t.value())
-                                .build())
-                .collect(Collectors.toSet());
+        if (tags == null || tags.isEmpty()) {
+            return Collections.emptySet();
+        }
+        final Set<software.amazon.comprehend.documentclassifier.Tag> modelTags = newHashSet(tags.size());
+        for (final Tag tag : tags) {
+            modelTags.add(software.amazon.comprehend.documentclassifier.Tag.builder()
+                    .key(tag.key())
+                    .value(tag.value())
+                    .build());
+        }
+        return modelTags;
+    }
+
+    private static Set<software.amazon.comprehend.documentclassifier.AugmentedManifestsListItem> fromSdkAugmentedManifests(
+            final Collection<AugmentedManifestsListItem> augmentedManifests) {
+        if (augmentedManifests == null || augmentedManifests.isEmpty()) {
+            return Collections.emptySet();
+        }
+        final Set<software.amazon.comprehend.documentclassifier.AugmentedManifestsListItem> modelAugmentedManifests =
+                newHashSet(augmentedManifests.size());
+        for (final AugmentedManifestsListItem manifest : augmentedManifests) {
+            modelAugmentedManifests.add(software.amazon.comprehend.documentclassifier.AugmentedManifestsListItem.builder()
+                    .attributeNames(new HashSet<>(manifest.attributeNames()))
+                    .s3Uri(manifest.s3Uri())
+                    .split(manifest.splitAsString())
+                    .build());
+        }
+        return modelAugmentedManifests;
     }
 
     
@@ -248,15 +286,12 @@ public class Translator {
     }
     
     /**
-     * Request to add tags to a resource
+     * Request to add already planned tags to a resource
      * @param model resource model
+     * @param tagsToAdd tags to add
      * @return awsRequest the aws service request to tag a resource
      */
-    static TagResourceRequest translateToTagResourceRequest(final ResourceModel model, Set<Tag> currentTags, Set<Tag> desiredTags) {
-        Set<Tag> setOfCurrentTags = Sets.newHashSet(currentTags);
-        Set<Tag> setOfDesiredTags = Sets.newHashSet(desiredTags);
-        List<Tag> tagsToAdd = new ArrayList<>(Sets.difference(setOfDesiredTags, setOfCurrentTags));
-
+    static TagResourceRequest translateToTagResourceRequest(final ResourceModel model, final Set<Tag> tagsToAdd) {
         return TagResourceRequest.builder()
                 .resourceArn(model.getArn())
                 .tags(tagsToAdd)
@@ -264,20 +299,37 @@ public class Translator {
     }
 
     /**
-     * Request to add tags to a resource
+     * Request to remove already planned tags from a resource
      * @param model resource model
-     * @return awsRequest the aws service request to create a resource
+     * @param tagKeysToRemove keys of the tags to remove
+     * @return awsRequest the aws service request to untag a resource
      */
-    static UntagResourceRequest translateToUntagResourceRequest(final ResourceModel model, Set<Tag> currentTags, Set<Tag> desiredTags) {
-        Set<String> setOfCurrentTagKeys = streamOfOrEmpty(currentTags).map(Tag::key).collect(Collectors.toSet());
-        Set<String> setOfDesiredTagKeys = streamOfOrEmpty(desiredTags).map(Tag::key).collect(Collectors.toSet());
-        List<String> tagKeysToRemove = new ArrayList<>(Sets.difference(setOfCurrentTagKeys, setOfDesiredTagKeys));
-
+    static UntagResourceRequest translateToUntagResourceRequest(final ResourceModel model, final Set<String> tagKeysToRemove) {
         return UntagResourceRequest.builder()
                 .resourceArn(model.getArn())
                 .tagKeys(tagKeysToRemove)
                 .build();
     }
+
+    /**
+     * Request to add tags to a resource
+     * @param model resource model
+     * @param tagDiff difference between the current and the desired tags of the resource
+     * @return awsRequest the aws service request to tag a resource
+     */
+    static TagResourceRequest translateToTagResourceRequest(final ResourceModel model, final TagDiff tagDiff) {
+        return tagDiff.toTagResourceRequest(model.getArn());
+    }
+
+    /**
+     * Request to remove tags from a resource
+     * @param model resource model
+     * @param tagDiff difference between the current and the desired tags of the resource
+     * @return awsRequest the aws service request to untag a resource
+     */
+    static UntagResourceRequest translateToUntagResourceRequest(final ResourceModel model, final TagDiff tagDiff) {
+        return tagDiff.toUntagResourceRequest(model.getArn());
+    }
     
     /**
      * Request to list tags for a resource
@@ -323,11 +375,16 @@ public class Translator {
      * @return list of resource models
      */
     static List<ResourceModel> translateFromListResponse(final ListDocumentClassifiersResponse awsResponse) {
-        return streamOfOrEmpty(awsResponse.documentClassifierPropertiesList())
-                .map(documentClassifierProperty -> ResourceModel.builder()
+        final List<DocumentClassifierProperties> propertiesList = awsResponse.documentClassifierPropertiesList();
+        final List<ResourceModel> models = new ArrayList<>(propertiesList == null ? 0 : propertiesList.size());
+        if (propertiesList != null) {
+            for (final DocumentClassifierProperties documentClassifierProperty : propertiesList) {
+                models.add(ResourceModel.builder()
                         .arn(documentClassifierProperty.documentClassifierArn())
-                        .build())
-                .collect(Collectors.toList());
+                        .build());
+            }
+        }
+        return models;
     }
 
     
@@ -336,12 +393,42 @@ public class Translator {
      * * * * * * * * * * */
 
     /**
-     * For output S3 uri to match the original output s3 uri that was in the input, need to trim the exact path suffix.
+     * For output S3 uri to match the original output s3 uri that was in the input, need to trim the exact path suffix,
+     * {account id}-CLR-{job id}/output/output.tar.gz. The suffix has a fixed length, so it is checked in place.
      * @param outputS3Uri the output S3 uri returned by DescribeDocumentClassifier
      * @return trimmed output S3 uri matching what the user passed in originally in CreateDocumentClassifier
      */
-    private static String trimOutputS3Uri(final String outputS3Uri) {
-        return outputS3Uri.replaceAll("\\d{12}-CLR-[0-9a-f]{32}\\/output\\/output.tar.gz$", "");
+    static String trimOutputS3Uri(final String outputS3Uri) {
+        final int suffixStart = outputS3Uri.length() - OUTPUT_S3_URI_SUFFIX.length();
+        final int jobStart = suffixStart - ACCOUNT_ID_LENGTH - CLASSIFIER_JOB_MARKER.length() - JOB_ID_LENGTH;
+        if (jobStart < 0
+                || !outputS3Uri.startsWith(OUTPUT_S3_URI_SUFFIX, suffixStart)
+                || !outputS3Uri.startsWith(CLASSIFIER_JOB_MARKER, jobStart + ACCOUNT_ID_LENGTH)
+                || !isDigits(outputS3Uri, jobStart, ACCOUNT_ID_LENGTH)
+                || !isLowercaseHex(outputS3Uri, suffixStart - JOB_ID_LENGTH, JOB_ID_LENGTH)) {
+            return outputS3Uri;
+        }
+        return outputS3Uri.substring(0, jobStart);
+    }
+
+    private static boolean isDigits(final String string, final int start, final int length) {
+        for (int i = start; i < start + length; i++) {
+            final char c = string.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isLowercaseHex(final String string, final int start, final int length) {
+        for (int i = start; i < start + length; i++) {
+            final char c = string.charAt(i);
+            if ((c < '0' || c > '9') && (c < 'a' || c > 'f')) {
+                return false;
+            }
+        }
+        return true;
     }
 
     /**
@@ -350,13 +437,20 @@ public class Translator {
      * @return document classifier name without version name
      */
     private static String getDocumentClassifierNameFromArn(final String documentClassifierArn) {
-        String documentClassifierName = StringUtils.substringAfter(documentClassifierArn, "/");
-        return StringUtils.substringBefore(documentClassifierName, "/version/");
+        return ComprehendArn.resourceName(documentClassifierArn);
+    }
+
+    /**
+     * Copy a collection into a set, sharing one immutable empty set for null or empty input.
+     */
+    private static <T> Set<T> toSet(final Collection<T> collection) {
+        return collection == null || collection.isEmpty() ? Collections.emptySet() : new HashSet<>(collection);
     }
 
-    private static <T> Stream<T> streamOfOrEmpty(final Collection<T> collection) {
-        return Optional.ofNullable(collection)
-                .map(Collection::stream)
-                .orElseGet(Stream::empty);
+    /**
+     * Hash set that holds the expected number of elements without rehashing.
+     */
+    private static <T> Set<T> newHashSet(final int expectedSize) {
+        return new HashSet<>((int) (expectedSize / 0.75f) + 1);
     }
 }
@@ -3,6 +3,7 @@ package software.amazon.comprehend.documentclassifier;
 import software.amazon.awssdk.services.comprehend.ComprehendClient;
 import software.amazon.awssdk.services.comprehend.model.DeleteResourcePolicyRequest;
 import software.amazon.awssdk.services.comprehend.model.DeleteResourcePolicyResponse;
+import software.amazon.awssdk.services.comprehend.model.DescribeResourcePolicyResponse;
 import software.amazon.awssdk.services.comprehend.model.PutResourcePolicyRequest;
 import software.amazon.awssdk.services.comprehend.model.PutResourcePolicyResponse;
 import software.amazon.awssdk.services.comprehend.model.Tag;
@@ -15,68 +16,155 @@ import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.comprehend.core.HandlerLogger;
+import software.amazon.comprehend.core.StageTracer;
+import software.amazon.comprehend.core.TagDiff;
+import software.amazon.comprehend.core.TagReconciler;
 
 import java.util.Collections;
-import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
 public class UpdateHandler extends AbstractModelHandler {
 
+    private static final String DELETE_RESOURCE_POLICY_CALL_GRAPH = "AWS-Comprehend-DocumentClassifier::Update::DeleteResourcePolicy";
+    private static final String PUT_RESOURCE_POLICY_CALL_GRAPH = "AWS-Comprehend-DocumentClassifier::Update::PutResourcePolicy";
+    private static final String UNTAG_CALL_GRAPH = "AWS-Comprehend-DocumentClassifier::Update::Untag";
+    private static final String TAG_CALL_GRAPH = "AWS-Comprehend-DocumentClassifier::Update::Tag";
+    private static final String READ_STAGE = "AWS-Comprehend-DocumentClassifier::Update::Read";
+
+    @Override
+    protected BaseHandler<CallbackContext> getAsyncHandler() {
+        return new AsyncUpdateHandler();
+    }
+
     @Override
     public ProgressEvent<ResourceModel, CallbackContext> handleRequest(final AmazonWebServicesClientProxy proxy,
                                                                        final ResourceHandlerRequest<ResourceModel> request,
                                                                        final CallbackContext callbackContext,
                                                                        final ProxyClient<ComprehendClient> proxyClient,
                                                                        final Logger logger) {
-        this.logger = logger;
+        this.logger = HandlerLogger.of(logger);
+        this.stageTracer = new StageTracer();
 
         final ResourceModel documentClassifierModel = request.getDesiredResourceState();
 
-        final String currentResourcePolicy = getDocumentClassifierResourcePolicy(
-                proxyClient, documentClassifierModel.getArn(), logger);
-        
-        final Set<Tag> currentTags = TagHelper.getCurrentTags(proxyClient, request.getDesiredResourceState());
         final Set<Tag> desiredTags = TagHelper.getDesiredTags(request);
-        UntagResourceRequest untagResourceRequest = Translator.translateToUntagResourceRequest(documentClassifierModel, currentTags, desiredTags);
-        TagResourceRequest tagResourceRequest = Translator.translateToTagResourceRequest(documentClassifierModel, currentTags, desiredTags);
-
-        callbackContext.setTagKeysToRemove(new HashSet<>(untagResourceRequest.tagKeys()));
-        callbackContext.setTagsToAdd(new HashSet<>(tagResourceRequest.tags()));
+        if (!isUpdatePlanned(callbackContext, desiredTags)) {
+            planUpdate(request, desiredTags, callbackContext, proxyClient);
+        }
 
         return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
                 // Progress chain to delete model policy if necessary
-                .then(progress ->
-                        proxy.initiate("AWS-Comprehend-DocumentClassifier::Update::DeleteResourcePolicy", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
+                .then(progress -> stageTracer.trace(DELETE_RESOURCE_POLICY_CALL_GRAPH, callbackContext, () ->
+                        proxy.initiate(DELETE_RESOURCE_POLICY_CALL_GRAPH, proxyClient, progress.getResourceModel(), progress.getCallbackContext())
                                 .translateToServiceRequest(Translator::translateToDeleteResourcePolicyRequest)
-                                .makeServiceCall((awsRequest, client) -> deleteResourcePolicy(awsRequest, client, documentClassifierModel, currentResourcePolicy))
+                                .makeServiceCall((awsRequest, client) -> deleteResourcePolicy(awsRequest, client, callbackContext))
                                 .handleError(this::handleError)
-                                .progress())
+                                .progress()))
                 // Progress chain to update model policy if necessary
-                .then(progress ->
-                        proxy.initiate("AWS-Comprehend-DocumentClassifier::Update::PutResourcePolicy", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
+                .then(progress -> stageTracer.trace(PUT_RESOURCE_POLICY_CALL_GRAPH, callbackContext, () ->
+                        proxy.initiate(PUT_RESOURCE_POLICY_CALL_GRAPH, proxyClient, progress.getResourceModel(), progress.getCallbackContext())
                                 .translateToServiceRequest(Translator::translateToPutResourcePolicyRequest)
-                                .makeServiceCall((awsRequest, client) -> putResourcePolicy(awsRequest, client, documentClassifierModel, currentResourcePolicy))
+                                .makeServiceCall((awsRequest, client) -> putResourcePolicy(awsRequest, client, callbackContext))
                                 .handleError(this::handleError)
-                                .progress())
-                // Progress chain to untag if necessary and stabilize
-                .then(progress ->
-                        proxy.initiate("AWS-Comprehend-DocumentClassifier::Update::Untag", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
-                                .translateToServiceRequest(resourceModel -> untagResourceRequest)
+                                .progress()))
+                // Progress chain to untag if necessary, stabilized together with tagging below
+                .then(progress -> stageTracer.trace(UNTAG_CALL_GRAPH, callbackContext, () ->
+                        proxy.initiate(UNTAG_CALL_GRAPH, proxyClient, progress.getResourceModel(), progress.getCallbackContext())
+                                .translateToServiceRequest(resourceModel -> Translator.translateToUntagResourceRequest(resourceModel, callbackContext.tagKeysToRemoveOrEmpty()))
                                 .makeServiceCall(this::untagDocumentClassifier)
-                                .stabilize(this::untagStabilize)
                                 .handleError(this::handleError)
-                                .progress())
-                // Progress chain to tag if necessary and stabilize
-                .then(progress ->
-                        proxy.initiate("AWS-Comprehend-DocumentClassifier::Update::Tag", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
-                                .translateToServiceRequest(resourceModel -> tagResourceRequest)
+                                .progress()))
+                // Progress chain to tag if necessary and stabilize both untagging and tagging
+                .then(progress -> stageTracer.trace(TAG_CALL_GRAPH, callbackContext, () ->
+                        proxy.initiate(TAG_CALL_GRAPH, proxyClient, progress.getResourceModel(), progress.getCallbackContext())
+                                .translateToServiceRequest(resourceModel -> Translator.translateToTagResourceRequest(resourceModel, callbackContext.tagsToAddOrEmpty()))
                                 .makeServiceCall(this::tagDocumentClassifier)
-                                .stabilize(this::tagStabilize)
+                                .stabilize(this::tagReconciliationStabilize)
                                 .handleError(this::handleError)
-                                .progress())
-                // Progress chain to describe document classifier and return the resource model
-                .then(progress -> new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger));
+                                .progress()))
+                // Progress chain to describe document classifier and return the resource model, reusing responses from stabilization
+                .then(progress -> stageTracer.trace(READ_STAGE, callbackContext,
+                        () -> new ReadHandler(responseCache).handleRequest(proxy, request, callbackContext, proxyClient, this.logger)));
+    }
+
+    /**
+     * Returns whether the callback context holds a plan for the desired tags of this request. A context written before
+     * the desired tags were fingerprinted has no fingerprint, and its plan is trusted as it was before.
+     */
+    static boolean isUpdatePlanned(final CallbackContext callbackContext, final Set<Tag> desiredTags) {
+        return callbackContext.isUpdatePlanned() && (callbackContext.getDesiredTagsFingerprint() == null
+                || callbackContext.getDesiredTagsFingerprint() == TagReconciler.fingerprint(desiredTags));
+    }
+
+    /**
+     * Plans the tag and model policy changes of the update. The previous resource state and tags sent by CloudFormation
+     * are diffed against the desired ones, and the live tags and resource policy are only read when the previous state
+     * is not complete enough to plan from.
+     */
+    private void planUpdate(final ResourceHandlerRequest<ResourceModel> request,
+                            final Set<Tag> desiredTags,
+                            final CallbackContext callbackContext,
+                            final ProxyClient<ComprehendClient> proxyClient) {
+        final ResourceModel documentClassifierModel = request.getDesiredResourceState();
+        final ResourceModel previousModel = request.getPreviousResourceState();
+
+        final Set<Tag> currentTags;
+        final String currentResourcePolicy;
+        if (!hasCompletePreviousState(request)) {
+            logger.info("DocumentClassifier [{}] has no usable previous state, planning update from live tags and resource policy.",
+                    documentClassifierModel.getArn());
+            currentResourcePolicy = getDocumentClassifierResourcePolicy(proxyClient, documentClassifierModel.getArn(), logger);
+            currentTags = TagHelper.getCurrentTags(proxyClient, documentClassifierModel, responseCache);
+        } else {
+            currentResourcePolicy = previousModel.getModelPolicy();
+            currentTags = TagHelper.getPreviousTags(request);
+        }
+
+        recordPlan(documentClassifierModel, desiredTags, currentTags, currentResourcePolicy, callbackContext, logger);
+    }
+
+    /**
+     * Returns whether the previous resource state and tags sent by CloudFormation describe the document classifier well
+     * enough to plan the update from. They do not when there is no previous state, when it has no or another ARN, or
+     * when system tags are desired without previous system tags, as the system tags would then be planned as new tags.
+     */
+    static boolean hasCompletePreviousState(final ResourceHandlerRequest<ResourceModel> request) {
+        final ResourceModel previousModel = request.getPreviousResourceState();
+        if (previousModel == null || previousModel.getArn() == null
+                || !previousModel.getArn().equals(request.getDesiredResourceState().getArn())) {
+            return false;
+        }
+        final Map<String, String> systemTags = request.getSystemTags();
+        return request.getPreviousSystemTags() != null || systemTags == null || systemTags.isEmpty();
+    }
+
+    /**
+     * Keeps the plan of an update in the callback context, from the current tags and resource policy of the document
+     * classifier, with the tag diff only when it is non-empty.
+     */
+    static void recordPlan(final ResourceModel documentClassifierModel,
+                           final Set<Tag> desiredTags,
+                           final Set<Tag> currentTags,
+                           final String currentResourcePolicy,
+                           final CallbackContext callbackContext,
+                           final HandlerLogger logger) {
+        final TagDiff tagDiff = TagDiff.between(currentTags, desiredTags);
+        callbackContext.setDesiredTagsFingerprint(TagReconciler.fingerprint(desiredTags));
+        callbackContext.planTags(tagDiff);
+
+        final String desiredResourcePolicy = documentClassifierModel.getModelPolicy();
+        callbackContext.setResourcePolicyToDelete(desiredResourcePolicy == null && currentResourcePolicy != null);
+        callbackContext.setResourcePolicyToPut(desiredResourcePolicy != null && !desiredResourcePolicy.equals(currentResourcePolicy));
+        callbackContext.setUpdatePlanned(true);
+
+        if (logger.isEnabled(HandlerLogger.Level.INFO)) {
+            logger.log(String.format("DocumentClassifier [%s] update plan: %d tags to add, %d tags to remove, delete resource policy: %s, put resource policy: %s.",
+                    documentClassifierModel.getArn(), tagDiff.getTagsToAdd().size(), tagDiff.getTagKeysToRemove().size(),
+                    callbackContext.isResourcePolicyToDelete(), callbackContext.isResourcePolicyToPut()));
+        }
     }
 
     /**
@@ -85,15 +173,15 @@ public class UpdateHandler extends AbstractModelHandler {
     private DeleteResourcePolicyResponse deleteResourcePolicy(
             DeleteResourcePolicyRequest deleteResourcePolicyRequest,
             final ProxyClient<ComprehendClient> proxyClient,
-            ResourceModel documentClassifierModel,
-            String currentResourcePolicy
+            final CallbackContext callbackContext
     ) {
-        if (documentClassifierModel.getModelPolicy() != null || currentResourcePolicy == null) return null;
+        if (!callbackContext.isResourcePolicyToDelete()) return null;
         
         DeleteResourcePolicyResponse deleteResourcePolicyResponse = proxyClient.injectCredentialsAndInvokeV2(
                 deleteResourcePolicyRequest, proxyClient.client()::deleteResourcePolicy);
+        responseCache.invalidate(deleteResourcePolicyRequest.resourceArn(), DescribeResourcePolicyResponse.class);
 
-        logger.log(String.format("DDocumentClassifier [%s] delete resource policy call successful.", deleteResourcePolicyRequest.resourceArn()));
+        logger.info("DocumentClassifier [{}] delete resource policy call successful.", deleteResourcePolicyRequest.resourceArn());
         return deleteResourcePolicyResponse;
     }
 
@@ -103,16 +191,15 @@ public class UpdateHandler extends AbstractModelHandler {
     private PutResourcePolicyResponse putResourcePolicy(
             PutResourcePolicyRequest putResourcePolicyRequest,
             final ProxyClient<ComprehendClient> proxyClient,
-            ResourceModel documentClassifierModel,
-            String currentResourcePolicy
+            final CallbackContext callbackContext
     ) {
-        if (documentClassifierModel.getModelPolicy() == null ||
-                documentClassifierModel.getModelPolicy().equals(currentResourcePolicy)) return null;
+        if (!callbackContext.isResourcePolicyToPut()) return null;
 
         PutResourcePolicyResponse putResourcePolicyResponse = proxyClient.injectCredentialsAndInvokeV2(
                 putResourcePolicyRequest, proxyClient.client()::putResourcePolicy);
+        responseCache.invalidate(putResourcePolicyRequest.resourceArn(), DescribeResourcePolicyResponse.class);
 
-        logger.log(String.format("DocumentClassifier [%s] put resource policy call successful.", putResourcePolicyRequest.resourceArn()));
+        logger.info("DocumentClassifier [{}] put resource policy call successful.", putResourcePolicyRequest.resourceArn());
         return putResourcePolicyResponse;
     }
 
@@ -128,8 +215,8 @@ public class UpdateHandler extends AbstractModelHandler {
         UntagResourceResponse untagResourceResponse = proxyClient.injectCredentialsAndInvokeV2(
                 untagResourceRequest, proxyClient.client()::untagResource);
 
-        logger.log(String.format("DocumentClassifier [%s] untag call for removing %d tags successful.",
-                untagResourceRequest.resourceArn(), untagResourceRequest.tagKeys().size()));
+        logger.info("DocumentClassifier [{}] untag call for removing {} tags successful.",
+                untagResourceRequest.resourceArn(), untagResourceRequest.tagKeys().size());
 
         return untagResourceResponse;
     }
@@ -146,54 +233,36 @@ public class UpdateHandler extends AbstractModelHandler {
         TagResourceResponse tagResourceResponse = proxyClient.injectCredentialsAndInvokeV2(
                 tagResourceRequest, proxyClient.client()::tagResource);
 
-        logger.log(String.format("DocumentClassifier [%s] tag call for adding %d tags successful.",
-                tagResourceRequest.resourceArn(), tagResourceRequest.tags().size()));
+        logger.info("DocumentClassifier [{}] tag call for adding {} tags successful.",
+                tagResourceRequest.resourceArn(), tagResourceRequest.tags().size());
 
         return tagResourceResponse;
     }
 
     /**
-     * Verifies document classifier untagging has stabilized by checking no tag keys to remove is present in current document classifier tag keys.
-     */
-    private boolean untagStabilize(
-            final UntagResourceRequest request,
-            final UntagResourceResponse response,
-            final ProxyClient<ComprehendClient> proxyClient,
-            final ResourceModel documentClassifierModel,
-            final CallbackContext callbackContext) {
-
-        if (callbackContext.getTagKeysToRemove().isEmpty()) return true;
-        if (documentClassifierModel.getArn() == null) documentClassifierModel.setArn(callbackContext.getArn());
-
-        final Set<String> currentTagKeys = TagHelper.getCurrentTags(proxyClient, documentClassifierModel)
-                .stream().map(Tag::key).collect(Collectors.toSet());
-
-        boolean untagStabilized = Collections.disjoint(currentTagKeys, callbackContext.getTagKeysToRemove());
-
-        logger.log(String.format("DocumentClassifier [%s] untagging stabilization status: %s.",
-                documentClassifierModel.getPrimaryIdentifier(), untagStabilized));
-
-        return untagStabilized;
-    }
-
-    /**
-     * Verifies document classifier tagging has stabilized by checking current document classifier tags contain all tags to add.
+     * Verifies document classifier untagging and tagging have stabilized by checking, with a single ListTagsForResource
+     * call, that no tag keys to remove are present and that all tags to add are present.
      */
-    private boolean tagStabilize(
+    private boolean tagReconciliationStabilize(
             final TagResourceRequest request,
             final TagResourceResponse response,
             final ProxyClient<ComprehendClient> proxyClient,
             final ResourceModel documentClassifierModel,
             final CallbackContext callbackContext) {
 
-        if (callbackContext.getTagsToAdd().isEmpty()) return true;
+        if (callbackContext.tagKeysToRemoveOrEmpty().isEmpty() && callbackContext.tagsToAddOrEmpty().isEmpty()) return true;
         if (documentClassifierModel.getArn() == null) documentClassifierModel.setArn(callbackContext.getArn());
 
-        final Set<Tag> currentTags = new HashSet<>(TagHelper.getCurrentTags(proxyClient, documentClassifierModel));
-        boolean tagStabilized = currentTags.containsAll(callbackContext.getTagsToAdd());
-        logger.log(String.format("DocumentClassifier [%s] untagging stabilization status: %s.",
-                documentClassifierModel.getPrimaryIdentifier(), tagStabilized));
+        callbackContext.setTagPollCount(callbackContext.getTagPollCount() + 1);
+        final Set<Tag> currentTags = TagHelper.getCurrentTags(proxyClient, documentClassifierModel, responseCache);
+        final Set<String> currentTagKeys = currentTags.stream().map(Tag::key).collect(Collectors.toSet());
+
+        boolean untagStabilized = Collections.disjoint(currentTagKeys, callbackContext.tagKeysToRemoveOrEmpty());
+        boolean tagStabilized = currentTags.containsAll(callbackContext.tagsToAddOrEmpty());
+        logger.sampled(callbackContext.getTagPollCount(), "DocumentClassifier [{}] untagging stabilization status: {}, tagging stabilization status: {}.",
+                documentClassifierModel.getArn(), untagStabilized, tagStabilized);
 
-        return tagStabilized;
+        callbackContext.setTaggingStabilized(untagStabilized && tagStabilized);
+        return callbackContext.isTaggingStabilized();
     }
 }
@@ -9,6 +9,7 @@ import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
 import software.amazon.awssdk.core.ResponseBytes;
 import software.amazon.awssdk.core.ResponseInputStream;
 import software.amazon.awssdk.core.pagination.sync.SdkIterable;
+import software.amazon.awssdk.services.comprehend.ComprehendAsyncClient;
 import software.amazon.awssdk.services.comprehend.ComprehendClient;
 import software.amazon.awssdk.services.comprehend.model.CreateDocumentClassifierRequest;
 import software.amazon.awssdk.services.comprehend.model.DeleteDocumentClassifierRequest;
@@ -38,6 +39,7 @@ import software.amazon.cloudformation.proxy.LoggerProxy;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.comprehend.core.TagReconciler;
 
 import java.util.Arrays;
 import java.util.Collection;
@@ -233,9 +235,9 @@ public class AbstractModelTestBase {
             Stream.of(RESOURCE_TAGS_UPDATED, STACK_LEVEL_TAGS, SYSTEM_TAGS_UPDATED)
                     .flatMap(Collection::stream)
                     .collect(Collectors.toList());
-    protected static Map<String, String> SYSTEM_TAGS_MAP = TagHelper.convertSdkTagsToKeyValueMap(SYSTEM_TAGS);
-    protected static Map<String, String> SYSTEM_TAGS_UPDATED_MAP = TagHelper.convertSdkTagsToKeyValueMap(SYSTEM_TAGS_UPDATED);
-    protected static Map<String, String> STACK_TAGS_MAP = TagHelper.convertSdkTagsToKeyValueMap(STACK_LEVEL_TAGS);
+    protected static Map<String, String> SYSTEM_TAGS_MAP = TagReconciler.convertSdkTagsToKeyValueMap(SYSTEM_TAGS);
+    protected static Map<String, String> SYSTEM_TAGS_UPDATED_MAP = TagReconciler.convertSdkTagsToKeyValueMap(SYSTEM_TAGS_UPDATED);
+    protected static Map<String, String> STACK_TAGS_MAP = TagReconciler.convertSdkTagsToKeyValueMap(STACK_LEVEL_TAGS);
 
     /* CFN RESOURCE MODELS */
     protected static ResourceModel TEST_RESOURCE_MODEL = buildResourceModel(RESOURCE_TAGS, TEST_MODEL_POLICY);
@@ -355,6 +357,32 @@ public class AbstractModelTestBase {
         return progressResponse;
     }
 
+    /**
+     * Invokes the handler through the CallbackReplay until it completes, handing the callback delays back and
+     * round-tripping the model and callback context between invocations as CloudFormation does.
+     */
+    protected ProgressEvent<ResourceModel, CallbackContext> replayHandleRequestAndReturnFinalProgressEvent(
+            final AmazonWebServicesClientProxy proxy,
+            final ResourceHandlerRequest<ResourceModel> request,
+            final CallbackContext callbackContext,
+            final ProxyClient<ComprehendClient> proxyClient,
+            final LoggerProxy logger,
+            final AbstractModelHandler handler
+    ) {
+        return CallbackReplay.replay(proxy, request, callbackContext, proxyClient, logger, handler, callbackDelay -> { })
+                .getFinalProgressEvent();
+    }
+
+    protected ProgressEvent<ResourceModel, CallbackContext> invokeAsyncHandleRequest(
+            final AmazonWebServicesClientProxy proxy,
+            final ResourceHandlerRequest<ResourceModel> request,
+            final CallbackContext callbackContext,
+            final ProxyClient<ComprehendAsyncClient> proxyClient,
+            final AbstractAsyncModelHandler handler
+    ) {
+        return handler.join(handler.handleRequestAsync(proxy, request, callbackContext, proxyClient, LOGGER));
+    }
+
     protected static ResourceModel buildResourceModelNoArn(List<Tag> sdkTags) {
         return ResourceModel.builder()
                 .dataAccessRoleArn(TEST_DATA_ACCESS_ROLE_ARN)
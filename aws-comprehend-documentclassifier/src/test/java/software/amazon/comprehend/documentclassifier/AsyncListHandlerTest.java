@@ -0,0 +1,89 @@
+package software.amazon.comprehend.documentclassifier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.services.comprehend.ComprehendAsyncClient;
+import software.amazon.awssdk.services.comprehend.model.ListDocumentClassifiersRequest;
+import software.amazon.awssdk.services.comprehend.model.ListDocumentClassifiersResponse;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class AsyncListHandlerTest extends AbstractModelTestBase {
+
+    @Mock
+    private ComprehendAsyncClient comprehendAsyncClient;
+
+    @Captor
+    ArgumentCaptor<ListDocumentClassifiersRequest> listDocumentClassifiersRequestArgumentCaptor;
+
+    private AmazonWebServicesClientProxy proxy;
+
+    private ProxyClient<ComprehendAsyncClient> proxyClient;
+
+    @BeforeEach
+    public void setup() {
+        proxy = new AmazonWebServicesClientProxy(LOGGER, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
+        proxyClient = proxy.newProxy(() -> comprehendAsyncClient);
+    }
+
+    @Test
+    public void handleRequest_SimpleSuccess_WithNextToken() {
+        // Set up mock behavior
+        when(comprehendAsyncClient.listDocumentClassifiers(listDocumentClassifiersRequestArgumentCaptor.capture()))
+                .thenReturn(CompletableFuture.completedFuture(ListDocumentClassifiersResponse.builder()
+                        .documentClassifierPropertiesList(TEST_DOCUMENT_CLASSIFIER_PROPERTIES_LIST)
+                        .nextToken(TEST_NEXT_TOKEN)
+                        .build()));
+
+        // Invoke Handler
+        final ProgressEvent<ResourceModel, CallbackContext> response = invokeAsyncHandleRequest(
+                proxy, TEST_RESOURCE_HANDLER_REQUEST_WITH_NEXT_TOKEN, new CallbackContext(), proxyClient, new AsyncListHandler());
+
+        // Validate handler behavior
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel()).isNull();
+        assertThat(response.getNextToken()).isEqualTo(TEST_NEXT_TOKEN);
+        assertThat(response.getResourceModels()).hasSize(TEST_DOCUMENT_CLASSIFIER_PROPERTIES_LIST.size());
+        for (int i = 0; i < TEST_DOCUMENT_CLASSIFIER_PROPERTIES_LIST.size(); i++) {
+            assertThat(response.getResourceModels().get(i).getArn()).isEqualTo(TEST_DOCUMENT_CLASSIFIER_PROPERTIES_LIST.get(i).documentClassifierArn());
+        }
+
+        verify(comprehendAsyncClient, times(1)).listDocumentClassifiers(any(ListDocumentClassifiersRequest.class));
+        assertThat(listDocumentClassifiersRequestArgumentCaptor.getValue().nextToken()).isEqualTo(TEST_NEXT_TOKEN);
+    }
+
+    @Test
+    public void handleRequest_Success_WhenNoDocumentClassifiersReturned() {
+        // Set up mock behavior
+        when(comprehendAsyncClient.listDocumentClassifiers(listDocumentClassifiersRequestArgumentCaptor.capture()))
+                .thenReturn(CompletableFuture.completedFuture(ListDocumentClassifiersResponse.builder()
+                        .documentClassifierPropertiesList(TEST_EMPTY_DOCUMENT_CLASSIFIER_PROPERTIES_LIST)
+                        .build()));
+
+        // Invoke Handler
+        final ProgressEvent<ResourceModel, CallbackContext> response = invokeAsyncHandleRequest(
+                proxy, TEST_RESOURCE_HANDLER_REQUEST, new CallbackContext(), proxyClient, new AsyncListHandler());
+
+        // Validate handler behavior
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModels()).isEmpty();
+        assertThat(response.getNextToken()).isNull();
+    }
+}
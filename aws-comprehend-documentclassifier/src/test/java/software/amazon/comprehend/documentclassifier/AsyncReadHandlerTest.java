@@ -0,0 +1,170 @@
+package software.amazon.comprehend.documentclassifier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.services.comprehend.ComprehendAsyncClient;
+import software.amazon.awssdk.services.comprehend.model.DescribeDocumentClassifierRequest;
+import software.amazon.awssdk.services.comprehend.model.DescribeDocumentClassifierResponse;
+import software.amazon.awssdk.services.comprehend.model.DescribeResourcePolicyRequest;
+import software.amazon.awssdk.services.comprehend.model.DescribeResourcePolicyResponse;
+import software.amazon.awssdk.services.comprehend.model.ListTagsForResourceRequest;
+import software.amazon.awssdk.services.comprehend.model.ListTagsForResourceResponse;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.comprehend.core.ResponseCache;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class AsyncReadHandlerTest extends AbstractModelTestBase {
+
+    @Mock
+    private ComprehendAsyncClient comprehendAsyncClient;
+
+    private AmazonWebServicesClientProxy proxy;
+
+    private ProxyClient<ComprehendAsyncClient> proxyClient;
+
+    @BeforeEach
+    public void setup() {
+        proxy = new AmazonWebServicesClientProxy(LOGGER, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
+        proxyClient = proxy.newProxy(() -> comprehendAsyncClient);
+    }
+
+    @Test
+    public void handleRequest_SimpleSuccess() {
+        // Set up mock behavior
+        when(comprehendAsyncClient.describeDocumentClassifier(any(DescribeDocumentClassifierRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(DescribeDocumentClassifierResponse.builder()
+                        .documentClassifierProperties(TEST_DOCUMENT_CLASSIFIER_PROPERTIES_TRAINED)
+                        .build()));
+        when(comprehendAsyncClient.describeResourcePolicy(any(DescribeResourcePolicyRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(DescribeResourcePolicyResponse.builder()
+                        .resourcePolicy(TEST_MODEL_POLICY)
+                        .build()));
+        when(comprehendAsyncClient.listTagsForResource(any(ListTagsForResourceRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(ListTagsForResourceResponse.builder()
+                        .tags(RESOURCE_TAGS)
+                        .build()));
+
+        // Invoke Handler
+        final ProgressEvent<ResourceModel, CallbackContext> response = invokeAsyncHandleRequest(
+                proxy, TEST_RESOURCE_HANDLER_REQUEST, new CallbackContext(), proxyClient, new AsyncReadHandler());
+
+        // Validate handler behavior
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getCallbackDelaySeconds()).isEqualTo(0);
+        assertThat(response.getResourceModel()).isEqualTo(TEST_RESOURCE_HANDLER_REQUEST.getDesiredResourceState());
+        assertThat(response.getErrorCode()).isNull();
+
+        verify(comprehendAsyncClient, times(1)).describeDocumentClassifier(any(DescribeDocumentClassifierRequest.class));
+        verify(comprehendAsyncClient, times(1)).describeResourcePolicy(any(DescribeResourcePolicyRequest.class));
+        verify(comprehendAsyncClient, times(1)).listTagsForResource(any(ListTagsForResourceRequest.class));
+    }
+
+    @Test
+    public void handleRequest_ReusesFreshResponses() {
+        final String documentClassifierArn = TEST_RESOURCE_HANDLER_REQUEST.getDesiredResourceState().getArn();
+        final ResponseCache responseCache = new ResponseCache();
+        responseCache.put(documentClassifierArn, DescribeDocumentClassifierResponse.builder()
+                .documentClassifierProperties(TEST_DOCUMENT_CLASSIFIER_PROPERTIES_TRAINED)
+                .build());
+        responseCache.put(documentClassifierArn, ListTagsForResourceResponse.builder()
+                .tags(RESOURCE_TAGS)
+                .build());
+        when(comprehendAsyncClient.describeResourcePolicy(any(DescribeResourcePolicyRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(DescribeResourcePolicyResponse.builder()
+                        .resourcePolicy(TEST_MODEL_POLICY)
+                        .build()));
+
+        // Invoke Handler
+        final ProgressEvent<ResourceModel, CallbackContext> response = invokeAsyncHandleRequest(
+                proxy, TEST_RESOURCE_HANDLER_REQUEST, new CallbackContext(), proxyClient, new AsyncReadHandler(responseCache));
+
+        // Validate handler behavior
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel()).isEqualTo(TEST_RESOURCE_HANDLER_REQUEST.getDesiredResourceState());
+
+        verify(comprehendAsyncClient, never()).describeDocumentClassifier(any(DescribeDocumentClassifierRequest.class));
+        verify(comprehendAsyncClient, never()).listTagsForResource(any(ListTagsForResourceRequest.class));
+    }
+
+    @Test
+    public void handleRequest_Fails_WhenResourceNotFound() {
+        // Set up mock behavior, failing only one of the calls in flight
+        final CompletableFuture<DescribeDocumentClassifierResponse> notFound = new CompletableFuture<>();
+        notFound.completeExceptionally(RESOURCE_NOT_FOUND_EXCEPTION);
+        when(comprehendAsyncClient.describeDocumentClassifier(any(DescribeDocumentClassifierRequest.class)))
+                .thenReturn(notFound);
+        when(comprehendAsyncClient.describeResourcePolicy(any(DescribeResourcePolicyRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(DescribeResourcePolicyResponse.builder().build()));
+        when(comprehendAsyncClient.listTagsForResource(any(ListTagsForResourceRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(ListTagsForResourceResponse.builder().build()));
+
+        // Invoke Handler
+        final ProgressEvent<ResourceModel, CallbackContext> response = invokeAsyncHandleRequest(
+                proxy, TEST_RESOURCE_HANDLER_REQUEST, new CallbackContext(), proxyClient, new AsyncReadHandler());
+
+        // Validate handler behavior
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.NotFound);
+    }
+
+    @Test
+    public void handleRequest_Fails_WhenInternalServerException() {
+        // Set up mock behavior
+        final CompletableFuture<ListTagsForResourceResponse> internalServerError = new CompletableFuture<>();
+        internalServerError.completeExceptionally(INTERNAL_SERVER_EXCEPTION);
+        when(comprehendAsyncClient.describeDocumentClassifier(any(DescribeDocumentClassifierRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(DescribeDocumentClassifierResponse.builder()
+                        .documentClassifierProperties(TEST_DOCUMENT_CLASSIFIER_PROPERTIES_TRAINED)
+                        .build()));
+        when(comprehendAsyncClient.describeResourcePolicy(any(DescribeResourcePolicyRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(DescribeResourcePolicyResponse.builder().build()));
+        when(comprehendAsyncClient.listTagsForResource(any(ListTagsForResourceRequest.class)))
+                .thenReturn(internalServerError);
+
+        // Invoke Handler
+        final ProgressEvent<ResourceModel, CallbackContext> response = invokeAsyncHandleRequest(
+                proxy, TEST_RESOURCE_HANDLER_REQUEST, new CallbackContext(), proxyClient, new AsyncReadHandler());
+
+        // Validate handler behavior
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.ServiceInternalError);
+    }
+
+    @Test
+    public void handleRequest_FailsWithThrottling_WhenThrottled() {
+        // Set up mock behavior
+        final CompletableFuture<DescribeDocumentClassifierResponse> throttled = new CompletableFuture<>();
+        throttled.completeExceptionally(TOO_MANY_REQUESTS_EXCEPTION);
+        when(comprehendAsyncClient.describeDocumentClassifier(any(DescribeDocumentClassifierRequest.class)))
+                .thenReturn(throttled);
+        when(comprehendAsyncClient.describeResourcePolicy(any(DescribeResourcePolicyRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(DescribeResourcePolicyResponse.builder().build()));
+        when(comprehendAsyncClient.listTagsForResource(any(ListTagsForResourceRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(ListTagsForResourceResponse.builder().build()));
+
+        // Invoke Handler
+        final ProgressEvent<ResourceModel, CallbackContext> response = invokeAsyncHandleRequest(
+                proxy, TEST_RESOURCE_HANDLER_REQUEST, new CallbackContext(), proxyClient, new AsyncReadHandler());
+
+        // Validate handler behavior, with an error code CloudFormation retries rather than a RetryableException
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.Throttling);
+    }
+}
@@ -0,0 +1,227 @@
+package software.amazon.comprehend.documentclassifier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.services.comprehend.ComprehendAsyncClient;
+import software.amazon.awssdk.services.comprehend.model.DeleteResourcePolicyRequest;
+import software.amazon.awssdk.services.comprehend.model.DeleteResourcePolicyResponse;
+import software.amazon.awssdk.services.comprehend.model.DescribeDocumentClassifierRequest;
+import software.amazon.awssdk.services.comprehend.model.DescribeDocumentClassifierResponse;
+import software.amazon.awssdk.services.comprehend.model.DescribeResourcePolicyRequest;
+import software.amazon.awssdk.services.comprehend.model.DescribeResourcePolicyResponse;
+import software.amazon.awssdk.services.comprehend.model.ListTagsForResourceRequest;
+import software.amazon.awssdk.services.comprehend.model.ListTagsForResourceResponse;
+import software.amazon.awssdk.services.comprehend.model.PutResourcePolicyRequest;
+import software.amazon.awssdk.services.comprehend.model.PutResourcePolicyResponse;
+import software.amazon.awssdk.services.comprehend.model.Tag;
+import software.amazon.awssdk.services.comprehend.model.TagResourceRequest;
+import software.amazon.awssdk.services.comprehend.model.TagResourceResponse;
+import software.amazon.awssdk.services.comprehend.model.UntagResourceRequest;
+import software.amazon.awssdk.services.comprehend.model.UntagResourceResponse;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class AsyncUpdateHandlerTest extends AbstractModelTestBase {
+
+    private static final ResourceHandlerRequest<ResourceModel> TEST_RESOURCE_HANDLER_REQUEST_WITH_PREVIOUS_STATE =
+            ResourceHandlerRequest.<ResourceModel>builder()
+                    .clientRequestToken(TEST_CLIENT_REQUEST_TOKEN)
+                    .desiredResourceState(TEST_RESOURCE_MODEL_UPDATED)
+                    .previousResourceState(TEST_RESOURCE_MODEL)
+                    .awsPartition(TEST_PARTITION)
+                    .awsAccountId(TEST_ACCOUNT_ID)
+                    .region(TEST_REGION)
+                    .logicalResourceIdentifier(TEST_LOGICAL_RESOURCE_IDENTIFIER)
+                    .build();
+
+    private static final ResourceHandlerRequest<ResourceModel> TEST_RESOURCE_HANDLER_REQUEST_NO_MODEL_POLICY =
+            ResourceHandlerRequest.<ResourceModel>builder()
+                    .clientRequestToken(TEST_CLIENT_REQUEST_TOKEN)
+                    .desiredResourceState(TEST_RESOURCE_MODEL_NO_POLICY)
+                    .awsPartition(TEST_PARTITION)
+                    .awsAccountId(TEST_ACCOUNT_ID)
+                    .region(TEST_REGION)
+                    .logicalResourceIdentifier(TEST_LOGICAL_RESOURCE_IDENTIFIER)
+                    .build();
+
+    @Mock
+    private ComprehendAsyncClient comprehendAsyncClient;
+
+    @Captor
+    ArgumentCaptor<UntagResourceRequest> untagResourceRequestArgumentCaptor;
+
+    @Captor
+    ArgumentCaptor<TagResourceRequest> tagResourceRequestArgumentCaptor;
+
+    private AmazonWebServicesClientProxy proxy;
+
+    private ProxyClient<ComprehendAsyncClient> proxyClient;
+
+    private AsyncUpdateHandler handler;
+
+    @BeforeEach
+    public void setup() {
+        proxy = new AmazonWebServicesClientProxy(LOGGER, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
+        proxyClient = proxy.newProxy(() -> comprehendAsyncClient);
+        handler = new AsyncUpdateHandler();
+    }
+
+    @Test
+    public void handleRequest_PlansFromPreviousState_AndAppliesChangesTogether() {
+        // Set up mock behavior
+        when(comprehendAsyncClient.putResourcePolicy(any(PutResourcePolicyRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(PutResourcePolicyResponse.builder().build()));
+        when(comprehendAsyncClient.untagResource(untagResourceRequestArgumentCaptor.capture()))
+                .thenReturn(CompletableFuture.completedFuture(UntagResourceResponse.builder().build()));
+        when(comprehendAsyncClient.tagResource(tagResourceRequestArgumentCaptor.capture()))
+                .thenReturn(CompletableFuture.completedFuture(TagResourceResponse.builder().build()));
+        mockRead(TEST_MODEL_POLICY_UPDATED, Translator.toSdkTags(TEST_RESOURCE_MODEL_UPDATED.getTags()));
+
+        // Invoke Handler
+        final ProgressEvent<ResourceModel, CallbackContext> response = invokeAsyncHandleRequest(
+                proxy, TEST_RESOURCE_HANDLER_REQUEST_WITH_PREVIOUS_STATE, new CallbackContext(), proxyClient, handler);
+
+        // Validate handler behavior
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel()).isEqualTo(TEST_RESOURCE_MODEL_UPDATED);
+        assertThat(response.getCallbackContext().isUpdatePlanned()).isTrue();
+        assertThat(response.getCallbackContext().isResourcePolicyToPut()).isFalse();
+        assertThat(response.getCallbackContext().isTaggingStabilized()).isTrue();
+        assertThat(untagResourceRequestArgumentCaptor.getValue().tagKeys()).containsExactly("key3");
+        assertThat(new HashSet<>(tagResourceRequestArgumentCaptor.getValue().tags())).isEqualTo(new HashSet<>(Arrays.asList(
+                Tag.builder().key("key1").value("newValue1").build(),
+                Tag.builder().key("key4").value("value4").build()
+        )));
+
+        // The only reads are those of the closing read
+        verify(comprehendAsyncClient, times(1)).describeResourcePolicy(any(DescribeResourcePolicyRequest.class));
+        verify(comprehendAsyncClient, times(1)).listTagsForResource(any(ListTagsForResourceRequest.class));
+        verify(comprehendAsyncClient, times(1)).describeDocumentClassifier(any(DescribeDocumentClassifierRequest.class));
+        verify(comprehendAsyncClient, times(1)).putResourcePolicy(any(PutResourcePolicyRequest.class));
+        verify(comprehendAsyncClient, never()).deleteResourcePolicy(any(DeleteResourcePolicyRequest.class));
+    }
+
+    @Test
+    public void handleRequest_PlansFromLiveState_AndDeletesResourcePolicy() {
+        // Set up mock behavior, the live state only differing by its resource policy
+        when(comprehendAsyncClient.deleteResourcePolicy(any(DeleteResourcePolicyRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(DeleteResourcePolicyResponse.builder().build()));
+        when(comprehendAsyncClient.describeResourcePolicy(any(DescribeResourcePolicyRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(DescribeResourcePolicyResponse.builder()
+                        .resourcePolicy(TEST_MODEL_POLICY)
+                        .build()))
+                .thenReturn(CompletableFuture.completedFuture(DescribeResourcePolicyResponse.builder().build()));
+        when(comprehendAsyncClient.listTagsForResource(any(ListTagsForResourceRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(ListTagsForResourceResponse.builder()
+                        .tags(RESOURCE_TAGS)
+                        .build()));
+        when(comprehendAsyncClient.describeDocumentClassifier(any(DescribeDocumentClassifierRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(DescribeDocumentClassifierResponse.builder()
+                        .documentClassifierProperties(TEST_DOCUMENT_CLASSIFIER_PROPERTIES_TRAINED)
+                        .build()));
+
+        // Invoke Handler
+        final ProgressEvent<ResourceModel, CallbackContext> response = invokeAsyncHandleRequest(
+                proxy, TEST_RESOURCE_HANDLER_REQUEST_NO_MODEL_POLICY, new CallbackContext(), proxyClient, handler);
+
+        // Validate handler behavior
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel()).isEqualTo(TEST_RESOURCE_MODEL_NO_POLICY);
+        assertThat(response.getCallbackContext().isResourcePolicyToDelete()).isFalse();
+        assertThat(response.getCallbackContext().getTagsToAdd()).isNull();
+        assertThat(response.getCallbackContext().getTagKeysToRemove()).isNull();
+
+        // The resource policy read for the plan is not reused once the policy is deleted, while the tags read are
+        verify(comprehendAsyncClient, times(2)).describeResourcePolicy(any(DescribeResourcePolicyRequest.class));
+        verify(comprehendAsyncClient, times(1)).listTagsForResource(any(ListTagsForResourceRequest.class));
+        verify(comprehendAsyncClient, times(1)).deleteResourcePolicy(any(DeleteResourcePolicyRequest.class));
+        verify(comprehendAsyncClient, never()).untagResource(any(UntagResourceRequest.class));
+        verify(comprehendAsyncClient, never()).tagResource(any(TagResourceRequest.class));
+    }
+
+    @Test
+    public void handleRequest_CallsBack_WhenTagsHaveNotConverged() {
+        // Set up mock behavior, the closing read still listing the tags from before the update
+        when(comprehendAsyncClient.putResourcePolicy(any(PutResourcePolicyRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(PutResourcePolicyResponse.builder().build()));
+        when(comprehendAsyncClient.untagResource(any(UntagResourceRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(UntagResourceResponse.builder().build()));
+        when(comprehendAsyncClient.tagResource(any(TagResourceRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(TagResourceResponse.builder().build()));
+        mockRead(TEST_MODEL_POLICY_UPDATED, RESOURCE_TAGS);
+
+        // Invoke Handler
+        final ProgressEvent<ResourceModel, CallbackContext> response = invokeAsyncHandleRequest(
+                proxy, TEST_RESOURCE_HANDLER_REQUEST_WITH_PREVIOUS_STATE, new CallbackContext(), proxyClient, handler);
+
+        // Validate handler behavior, the plan being kept for the callback without the applied resource policy change
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(response.getCallbackDelaySeconds()).isEqualTo(AsyncUpdateHandler.TAGGING_CALLBACK_DELAY_SECONDS);
+        assertThat(response.getCallbackContext().isUpdatePlanned()).isTrue();
+        assertThat(response.getCallbackContext().isResourcePolicyToPut()).isFalse();
+        assertThat(response.getCallbackContext().isTaggingStabilized()).isFalse();
+        assertThat(response.getCallbackContext().getTagKeysToRemove()).isEqualTo(Collections.singleton("key3"));
+        assertThat(response.getCallbackContext().getTagPollCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void handleRequest_Fails_WhenInternalServerException() {
+        // Set up mock behavior
+        final CompletableFuture<TagResourceResponse> internalServerError = new CompletableFuture<>();
+        internalServerError.completeExceptionally(INTERNAL_SERVER_EXCEPTION);
+        when(comprehendAsyncClient.putResourcePolicy(any(PutResourcePolicyRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(PutResourcePolicyResponse.builder().build()));
+        when(comprehendAsyncClient.untagResource(any(UntagResourceRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(UntagResourceResponse.builder().build()));
+        when(comprehendAsyncClient.tagResource(any(TagResourceRequest.class)))
+                .thenReturn(internalServerError);
+
+        // Invoke Handler
+        final ProgressEvent<ResourceModel, CallbackContext> response = invokeAsyncHandleRequest(
+                proxy, TEST_RESOURCE_HANDLER_REQUEST_WITH_PREVIOUS_STATE, new CallbackContext(), proxyClient, handler);
+
+        // Validate handler behavior
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.ServiceInternalError);
+        verify(comprehendAsyncClient, never()).describeDocumentClassifier(any(DescribeDocumentClassifierRequest.class));
+    }
+
+    private void mockRead(final String resourcePolicy, final Collection<Tag> tags) {
+        when(comprehendAsyncClient.describeResourcePolicy(any(DescribeResourcePolicyRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(DescribeResourcePolicyResponse.builder()
+                        .resourcePolicy(resourcePolicy)
+                        .build()));
+        when(comprehendAsyncClient.listTagsForResource(any(ListTagsForResourceRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(ListTagsForResourceResponse.builder()
+                        .tags(tags)
+                        .build()));
+        when(comprehendAsyncClient.describeDocumentClassifier(any(DescribeDocumentClassifierRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(DescribeDocumentClassifierResponse.builder()
+                        .documentClassifierProperties(TEST_DOCUMENT_CLASSIFIER_PROPERTIES_TRAINED)
+                        .build()));
+    }
+}
@@ -0,0 +1,133 @@
+package software.amazon.comprehend.documentclassifier;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.services.comprehend.model.ModelStatus;
+import software.amazon.awssdk.services.comprehend.model.Tag;
+import software.amazon.cloudformation.resource.Serializer;
+import software.amazon.comprehend.core.TagReconciler;
+
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Size and serialization cost of the callback context sent with every progress event, in the format carrying the full
+ * tag sets and in the compact format carrying a fingerprint of the desired tags. The serialized size of each context is
+ * printed once per trial. Run with {@code mvn -Pbenchmark test -Dbenchmark.includes=CallbackContextBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CallbackContextBenchmark {
+
+    private static final Serializer SERIALIZER = new Serializer();
+    private static final TypeReference<CallbackContext> CALLBACK_CONTEXT_TYPE = new TypeReference<CallbackContext>() {};
+
+    /** Point of the handler lifecycle the context is serialized at. */
+    public enum Stage {
+        // A create polling training, with all desired tags to verify once trained
+        CREATE_TRAINING,
+        // An update whose tags are unchanged
+        UPDATE_UNCHANGED_TAGS,
+        // An update replacing a fifth of the tags
+        UPDATE_CHANGED_TAGS
+    }
+
+    /** How the tags are carried in the context. */
+    public enum Format {
+        FULL_SETS,
+        FINGERPRINT
+    }
+
+    @Param
+    public Stage stage;
+
+    @Param
+    public Format format;
+
+    @Param({"10", "50"})
+    public int tagCount;
+
+    private CallbackContext callbackContext;
+    private String json;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        final Set<Tag> desiredTags = tags(tagCount);
+        final Set<Tag> tagsToAdd = new LinkedHashSet<>();
+        final Set<String> tagKeysToRemove = new LinkedHashSet<>();
+        if (stage == Stage.UPDATE_CHANGED_TAGS) {
+            for (final Tag tag : desiredTags) {
+                if (tagsToAdd.size() == tagCount / 5) break;
+                tagsToAdd.add(tag);
+                tagKeysToRemove.add("removed-" + tag.key());
+            }
+        }
+
+        final CallbackContext.CallbackContextBuilder builder = CallbackContext.builder()
+                .arn("arn:aws:comprehend:us-west-2:123456789012:document-classifier/benchmarkClassifier/version/v1")
+                .modelStatus(ModelStatus.TRAINING)
+                .submitTime(1672531200000L)
+                .trainingStartTime(1672531500000L)
+                .statusPollCount(42);
+        if (stage != Stage.CREATE_TRAINING) {
+            builder.updatePlanned(true);
+        }
+        if (format == Format.FULL_SETS) {
+            if (stage == Stage.CREATE_TRAINING) {
+                builder.tagsToAdd(desiredTags);
+            } else {
+                builder.tagsToAdd(tagsToAdd).tagKeysToRemove(tagKeysToRemove);
+            }
+        } else {
+            builder.desiredTagsFingerprint(TagReconciler.fingerprint(desiredTags));
+            if (!tagsToAdd.isEmpty()) {
+                builder.tagsToAdd(tagsToAdd).tagKeysToRemove(tagKeysToRemove);
+            }
+        }
+        callbackContext = builder.build();
+        json = SERIALIZER.serialize(callbackContext);
+
+        System.out.printf("%n%s %s %d tags: %d bytes%n", stage, format, tagCount, json.getBytes(StandardCharsets.UTF_8).length);
+    }
+
+    @Benchmark
+    public String serialize() throws Exception {
+        return SERIALIZER.serialize(callbackContext);
+    }
+
+    @Benchmark
+    public CallbackContext deserialize() throws Exception {
+        return SERIALIZER.deserialize(json, CALLBACK_CONTEXT_TYPE);
+    }
+
+    /** Stack and system tags as CloudFormation sets them, then user tags up to the count. */
+    private static Set<Tag> tags(final int count) {
+        final Set<Tag> tags = new LinkedHashSet<>();
+        tags.add(Tag.builder().key("aws:cloudformation:logical-id").value("BenchmarkClassifier").build());
+        tags.add(Tag.builder().key("aws:cloudformation:stack-name").value("benchmark-stack").build());
+        tags.add(Tag.builder().key("aws:cloudformation:stack-id")
+                .value("arn:aws:cloudformation:us-west-2:123456789012:stack/benchmark-stack/0123abcd-4567-89ef-0123-456789abcdef")
+                .build());
+        for (int i = tags.size(); i < count; i++) {
+            tags.add(Tag.builder().key("team:cost-center-" + i).value(String.format("cost-center-value-%04d", i)).build());
+        }
+        return tags;
+    }
+}
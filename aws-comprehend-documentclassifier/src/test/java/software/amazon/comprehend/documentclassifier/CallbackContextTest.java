@@ -0,0 +1,63 @@
+package software.amazon.comprehend.documentclassifier;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.comprehend.model.ModelStatus;
+import software.amazon.awssdk.services.comprehend.model.Tag;
+import software.amazon.cloudformation.resource.Serializer;
+import software.amazon.comprehend.core.TagReconciler;
+
+import java.util.Arrays;
+import java.util.HashSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CallbackContextTest extends AbstractModelTestBase {
+
+    private static final Serializer SERIALIZER = new Serializer();
+
+    @Test
+    public void testSerialize_CompactContext_CarriesFingerprintOnly() throws Exception {
+        final CallbackContext callbackContext = CallbackContext.builder()
+                .arn(TEST_DOCUMENT_CLASSIFIER_ARN)
+                .modelStatus(ModelStatus.TRAINING)
+                .desiredTagsFingerprint(TagReconciler.fingerprint(USER_TAGS_WITH_SYSTEM_TAGS))
+                .build();
+
+        final String json = SERIALIZER.serialize(callbackContext);
+
+        assertThat(json).contains("\"desiredTagsFingerprint\"").doesNotContain("tagsToAdd").doesNotContain("tagKeysToRemove");
+        assertThat(deserialize(json)).isEqualTo(callbackContext);
+    }
+
+    @Test
+    public void testDeserialize_ContextWrittenBeforeFingerprint() throws Exception {
+        // A context of an update planned before the desired tags were fingerprinted, with empty sets for no changes
+        final String json = "{\"arn\":\"" + TEST_DOCUMENT_CLASSIFIER_ARN + "\","
+                + "\"tagsToAdd\":[{\"Key\":\"key1\",\"Value\":\"value1\"}],\"tagKeysToRemove\":[],"
+                + "\"updatePlanned\":true,\"resourcePolicyToDelete\":false,\"resourcePolicyToPut\":false,"
+                + "\"statusStabilized\":false,\"taggingStabilized\":false,\"statusPollCount\":0,\"tagPollCount\":1,"
+                + "\"callGraphs\":{}}";
+
+        final CallbackContext callbackContext = deserialize(json);
+
+        assertThat(callbackContext.getDesiredTagsFingerprint()).isNull();
+        assertThat(callbackContext.isUpdatePlanned()).isTrue();
+        assertThat(callbackContext.getTagPollCount()).isEqualTo(1);
+        assertThat(callbackContext.tagsToAddOrEmpty()).isEqualTo(new HashSet<>(Arrays.asList(
+                Tag.builder().key("key1").value("value1").build())));
+        assertThat(callbackContext.tagKeysToRemoveOrEmpty()).isEmpty();
+    }
+
+    @Test
+    public void testTagSetsOrEmpty_AbsentSets() {
+        final CallbackContext callbackContext = new CallbackContext();
+
+        assertThat(callbackContext.tagsToAddOrEmpty()).isEmpty();
+        assertThat(callbackContext.tagKeysToRemoveOrEmpty()).isEmpty();
+    }
+
+    private static CallbackContext deserialize(final String json) throws Exception {
+        return SERIALIZER.deserialize(json, new TypeReference<CallbackContext>() {});
+    }
+}
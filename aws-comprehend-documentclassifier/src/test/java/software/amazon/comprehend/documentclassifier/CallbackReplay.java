@@ -0,0 +1,99 @@
+package software.amazon.comprehend.documentclassifier;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import software.amazon.awssdk.services.comprehend.ComprehendClient;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.cloudformation.resource.Serializer;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.function.Consumer;
+
+/**
+ * Replays the callback loop of CloudFormation for tests. The handler is invoked again for as long as it returns
+ * IN_PROGRESS, with the returned model as the desired state and the callback context after a serialization round trip,
+ * as it would be after a real callback. Callback delays are handed to a consumer instead of being slept.
+ */
+class CallbackReplay {
+    private static final Serializer SERIALIZER = new Serializer();
+    private static final TypeReference<ResourceModel> RESOURCE_MODEL_TYPE = new TypeReference<ResourceModel>() {};
+    private static final TypeReference<CallbackContext> CALLBACK_CONTEXT_TYPE = new TypeReference<CallbackContext>() {};
+
+    private int invocations;
+    private Duration billedTime = Duration.ZERO;
+    private Duration callbackDelay = Duration.ZERO;
+    private ProgressEvent<ResourceModel, CallbackContext> finalProgressEvent;
+
+    static CallbackReplay replay(
+            final AmazonWebServicesClientProxy proxy,
+            final ResourceHandlerRequest<ResourceModel> request,
+            final CallbackContext callbackContext,
+            final ProxyClient<ComprehendClient> proxyClient,
+            final Logger logger,
+            final AbstractModelHandler handler,
+            final Consumer<Duration> waitForCallback) {
+
+        final CallbackReplay replay = new CallbackReplay();
+        ResourceHandlerRequest<ResourceModel> currentRequest = request;
+        CallbackContext currentCallbackContext = callbackContext;
+        while (true) {
+            final long start = System.nanoTime();
+            final ProgressEvent<ResourceModel, CallbackContext> progress =
+                    handler.handleRequest(proxy, currentRequest, currentCallbackContext, proxyClient, logger);
+            replay.invocations++;
+            replay.billedTime = replay.billedTime.plusNanos(System.nanoTime() - start);
+            replay.finalProgressEvent = progress;
+
+            if (progress.getStatus() != OperationStatus.IN_PROGRESS) {
+                return replay;
+            }
+
+            if (progress.getCallbackDelaySeconds() > 0) {
+                final Duration delay = Duration.ofSeconds(progress.getCallbackDelaySeconds());
+                replay.callbackDelay = replay.callbackDelay.plus(delay);
+                waitForCallback.accept(delay);
+            }
+
+            currentRequest = currentRequest.toBuilder()
+                    .desiredResourceState(roundTrip(progress.getResourceModel(), RESOURCE_MODEL_TYPE))
+                    .build();
+            currentCallbackContext = roundTrip(progress.getCallbackContext(), CALLBACK_CONTEXT_TYPE);
+        }
+    }
+
+    private static <T> T roundTrip(final T value, final TypeReference<T> type) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return SERIALIZER.deserialize(SERIALIZER.serialize(value), type);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /** Number of handler invocations, including the first one. */
+    int getInvocations() {
+        return invocations;
+    }
+
+    /** Wall time spent inside the handler over all invocations. */
+    Duration getBilledTime() {
+        return billedTime;
+    }
+
+    /** Total time CloudFormation was asked to wait between invocations. */
+    Duration getCallbackDelay() {
+        return callbackDelay;
+    }
+
+    ProgressEvent<ResourceModel, CallbackContext> getFinalProgressEvent() {
+        return finalProgressEvent;
+    }
+}
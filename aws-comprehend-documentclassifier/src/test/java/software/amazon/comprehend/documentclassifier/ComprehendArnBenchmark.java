@@ -0,0 +1,51 @@
+package software.amazon.comprehend.documentclassifier;
+
+import org.apache.commons.lang3.StringUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.comprehend.core.ComprehendArn;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The ARN and output S3 uri parsing done on every read, against the regular expression and StringUtils path it
+ * replaced. Run with {@code mvn -Pbenchmark test -Dbenchmark.includes=ComprehendArnBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ComprehendArnBenchmark {
+
+    public String arn = "arn:aws:comprehend:us-west-2:123456789012:document-classifier/benchmarkClassifier/version/v1";
+    public String outputS3Uri = "s3://bucket/output/123456789012-CLR-0123456789abcdef0123456789abcdef/output/output.tar.gz";
+
+    @Benchmark
+    public String nameFromArn_StringUtils() {
+        return StringUtils.substringBefore(StringUtils.substringAfter(arn, "/"), "/version/");
+    }
+
+    @Benchmark
+    public String nameFromArn_Codec() {
+        return ComprehendArn.resourceName(arn);
+    }
+
+    @Benchmark
+    public String trimOutputS3Uri_Regex() {
+        return outputS3Uri.replaceAll("\\d{12}-CLR-[0-9a-f]{32}\\/output\\/output.tar.gz$", "");
+    }
+
+    @Benchmark
+    public String trimOutputS3Uri_Codec() {
+        return Translator.trimOutputS3Uri(outputS3Uri);
+    }
+}
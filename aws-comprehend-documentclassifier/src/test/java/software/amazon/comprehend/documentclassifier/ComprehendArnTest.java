@@ -0,0 +1,124 @@
+package software.amazon.comprehend.documentclassifier;
+
+import org.apache.commons.lang3.StringUtils;
+import org.junit.jupiter.api.Test;
+import software.amazon.comprehend.core.ComprehendArn;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ComprehendArnTest {
+
+    private static final int CASES = 10_000;
+    private static final String ARN_ALPHABET = "arn:aws-cn/versio0123456789abcdef-_";
+    private static final String HEX = "0123456789abcdef";
+
+    @Test
+    public void testParse_DocumentClassifierVersionArn() {
+        final ComprehendArn arn = ComprehendArn.parse("arn:aws:comprehend:us-west-2:123456789012:document-classifier/myClassifier/version/v1");
+
+        assertThat(arn.getPartition()).isEqualTo("aws");
+        assertThat(arn.getService()).isEqualTo("comprehend");
+        assertThat(arn.getRegion()).isEqualTo("us-west-2");
+        assertThat(arn.getAccountId()).isEqualTo("123456789012");
+        assertThat(arn.getResourceType()).isEqualTo("document-classifier");
+        assertThat(arn.getResourceName()).isEqualTo("myClassifier");
+        assertThat(arn.getVersionName()).isEqualTo("v1");
+    }
+
+    @Test
+    public void testParse_UnversionedArn() {
+        final ComprehendArn arn = ComprehendArn.parse("arn:aws-cn:comprehend:cn-north-1:123456789012:flywheel/myFlywheel");
+
+        assertThat(arn.getPartition()).isEqualTo("aws-cn");
+        assertThat(arn.getResourceType()).isEqualTo("flywheel");
+        assertThat(arn.getResourceName()).isEqualTo("myFlywheel");
+        assertThat(arn.getVersionName()).isNull();
+    }
+
+    @Test
+    public void testParse_Malformed() {
+        assertThat(ComprehendArn.parse(null)).isNull();
+        assertThat(ComprehendArn.resourceName(null)).isNull();
+
+        final ComprehendArn noSlash = ComprehendArn.parse("arn:aws:comprehend");
+        assertThat(noSlash.getPartition()).isEqualTo("aws");
+        assertThat(noSlash.getRegion()).isNull();
+        assertThat(noSlash.getResourceType()).isNull();
+        assertThat(noSlash.getResourceName()).isEmpty();
+
+        final ComprehendArn nameOnly = ComprehendArn.parse("/myClassifier");
+        assertThat(nameOnly.getPartition()).isNull();
+        assertThat(nameOnly.getResourceName()).isEqualTo("myClassifier");
+    }
+
+    @Test
+    public void testParse_ResourceNameMatchesStringUtils() {
+        final Random random = new Random(15);
+        for (int i = 0; i < CASES; i++) {
+            final String arn = i % 2 == 0 ? randomArn(random) : randomString(random, ARN_ALPHABET, random.nextInt(41));
+
+            assertThat(ComprehendArn.parse(arn).getResourceName()).as(arn).isEqualTo(legacyName(arn));
+            assertThat(ComprehendArn.resourceName(arn)).as(arn).isEqualTo(legacyName(arn));
+        }
+    }
+
+    @Test
+    public void testTrimOutputS3Uri_MatchesRegex() {
+        final Random random = new Random(15);
+        for (int i = 0; i < CASES; i++) {
+            final String uri = randomOutputS3Uri(random);
+
+            assertThat(Translator.trimOutputS3Uri(uri)).as(uri).isEqualTo(legacyTrim(uri));
+        }
+    }
+
+    /** The name extraction replaced by {@link ComprehendArn}. */
+    private static String legacyName(final String arn) {
+        return StringUtils.substringBefore(StringUtils.substringAfter(arn, "/"), "/version/");
+    }
+
+    /** The trim replaced by {@link Translator#trimOutputS3Uri(String)}. */
+    private static String legacyTrim(final String uri) {
+        return uri.replaceAll("\\d{12}-CLR-[0-9a-f]{32}\\/output\\/output.tar.gz$", "");
+    }
+
+    private static String randomArn(final Random random) {
+        final StringBuilder arn = new StringBuilder("arn:aws:comprehend:us-west-2:");
+        arn.append(randomString(random, HEX, 12)).append(':');
+        arn.append(random.nextBoolean() ? "document-classifier" : "flywheel").append('/');
+        arn.append(randomString(random, ARN_ALPHABET, random.nextInt(11)));
+        if (random.nextBoolean()) {
+            arn.append("/version/").append(randomString(random, ARN_ALPHABET, random.nextInt(11)));
+        }
+        // Drop a random run of characters, so that separators go missing
+        if (random.nextInt(4) == 0) {
+            final int start = random.nextInt(arn.length());
+            arn.delete(start, Math.min(arn.length(), start + 1 + random.nextInt(10)));
+        }
+        return arn.toString();
+    }
+
+    /** Output uris around the service suffix, with the lengths, marker and hex case mutated. */
+    private static String randomOutputS3Uri(final Random random) {
+        final String prefix = random.nextInt(8) == 0 ? "" : "s3://bucket/" + randomString(random, "ab/", random.nextInt(6));
+        final String account = randomString(random, random.nextInt(8) == 0 ? "0123456789a" : "0123456789",
+                12 + (random.nextInt(8) == 0 ? random.nextInt(3) - 1 : 0));
+        final String marker = random.nextInt(8) == 0 ? "-CLX-" : "-CLR-";
+        final String job = randomString(random, random.nextInt(8) == 0 ? HEX + "ABCDEFg" : HEX,
+                32 + (random.nextInt(8) == 0 ? random.nextInt(3) - 1 : 0));
+        final String suffix = random.nextInt(8) == 0 ? "/output/output.tar" : "/output/output.tar.gz";
+        final String uri = prefix + account + marker + job + suffix;
+        // Sometimes cut the uri short, including below the length of the suffix
+        return random.nextInt(8) == 0 ? uri.substring(random.nextInt(uri.length())) : uri;
+    }
+
+    private static String randomString(final Random random, final String alphabet, final int length) {
+        final StringBuilder string = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            string.append(alphabet.charAt(random.nextInt(alphabet.length())));
+        }
+        return string.toString();
+    }
+}
@@ -8,14 +8,17 @@ import org.mockito.Captor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import software.amazon.awssdk.services.comprehend.ComprehendClient;
+import software.amazon.awssdk.services.comprehend.model.ClassifierMetadata;
 import software.amazon.awssdk.services.comprehend.model.CreateDocumentClassifierRequest;
 import software.amazon.awssdk.services.comprehend.model.CreateDocumentClassifierResponse;
 import software.amazon.awssdk.services.comprehend.model.DescribeDocumentClassifierRequest;
 import software.amazon.awssdk.services.comprehend.model.DescribeDocumentClassifierResponse;
 import software.amazon.awssdk.services.comprehend.model.DescribeResourcePolicyRequest;
 import software.amazon.awssdk.services.comprehend.model.DescribeResourcePolicyResponse;
+import software.amazon.awssdk.services.comprehend.model.DocumentClassifierProperties;
 import software.amazon.awssdk.services.comprehend.model.ListTagsForResourceRequest;
 import software.amazon.awssdk.services.comprehend.model.ListTagsForResourceResponse;
+import software.amazon.awssdk.services.comprehend.model.ModelStatus;
 import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
 import software.amazon.cloudformation.exceptions.CfnNotStabilizedException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
@@ -23,13 +26,16 @@ import software.amazon.cloudformation.proxy.HandlerErrorCode;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.comprehend.core.CallbackStabilizer;
+import software.amazon.comprehend.core.StageTrace;
+import software.amazon.comprehend.core.TagReconciler;
 
 import java.time.Duration;
+import java.time.Instant;
 import java.util.Collections;
 import java.util.HashSet;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doThrow;
@@ -40,6 +46,9 @@ import static org.mockito.Mockito.when;
 @ExtendWith(MockitoExtension.class)
 public class CreateHandlerTest extends AbstractModelTestBase {
 
+    private static final CallbackStabilizer LOCAL_STABILIZER =
+            new CallbackStabilizer(Duration.ofDays(2), Duration.ofDays(2), duration -> { });
+
     @Mock
     private AmazonWebServicesClientProxy proxy;
 
@@ -69,7 +78,8 @@ public class CreateHandlerTest extends AbstractModelTestBase {
     public void setup() {
         proxy = new AmazonWebServicesClientProxy(LOGGER, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
         proxyClient = MOCK_PROXY(proxy, comprehendClient);
-        handler = new CreateHandler();
+        // Stabilizes within the invocation without sleeping, the hand-back to CloudFormation is replayed by its own tests
+        handler = new CreateHandler(context -> new TrainingAwareDelay(context, Duration.ofDays(2)), LOCAL_STABILIZER);
         callbackContext = new CallbackContext();
     }
 
@@ -111,17 +121,30 @@ public class CreateHandlerTest extends AbstractModelTestBase {
         assertThat(finalResponse.getMessage()).isNull();
         assertThat(finalResponse.getErrorCode()).isNull();
         assertThat(finalResponse.getCallbackContext().getArn()).isEqualTo(TEST_DOCUMENT_CLASSIFIER_ARN);
-        assertEquals(finalResponse.getCallbackContext().getTagsToAdd(),
-                new HashSet<>(Translator.toSdkTags(TEST_RESOURCE_MODEL_WITH_SYSTEM_TAGS.getTags())));
+        assertThat(finalResponse.getCallbackContext().getDesiredTagsFingerprint()).isEqualTo(
+                TagReconciler.fingerprint(new HashSet<>(Translator.toSdkTags(TEST_RESOURCE_MODEL_WITH_SYSTEM_TAGS.getTags()))));
+        assertThat(finalResponse.getCallbackContext().getTagsToAdd()).isNull();
         assertThat(finalResponse.getCallbackContext().getTagKeysToRemove()).isNull();
+        assertThat(finalResponse.getCallbackContext().isStatusStabilized()).isTrue();
+        assertThat(finalResponse.getCallbackContext().isTaggingStabilized()).isTrue();
+        assertThat(finalResponse.getCallbackContext().getStatusPollCount()).isEqualTo(2);
+        assertThat(finalResponse.getCallbackContext().getTagPollCount()).isEqualTo(2);
+        assertThat(finalResponse.getCallbackContext().getStageTraces()).containsOnlyKeys(
+                "AWS-Comprehend-DocumentClassifier::Create",
+                "AWS-Comprehend-DocumentClassifier::Create::Stabilize",
+                "AWS-Comprehend-DocumentClassifier::Create::Read");
+        assertThat(finalResponse.getCallbackContext().getStageTraces().values())
+                .allMatch(trace -> trace.getOutcome() == StageTrace.Outcome.DONE);
+        assertThat(finalResponse.getCallbackContext().getStageTraces().get("AWS-Comprehend-DocumentClassifier::Create").getAttempts())
+                .isEqualTo(1);
 
         verify(comprehendClient, times(1)).createDocumentClassifier(createDocumentClassifierRequestArgumentCaptor.capture());
         EXPECTED_CREATE_DOCUMENT_CLASSIFIER_REQUEST.equalsBySdkFields(createDocumentClassifierRequestArgumentCaptor.getValue());
 
-        verify(comprehendClient, times(3)).describeDocumentClassifier(describeDocumentClassifierRequestArgumentCaptor.capture());
+        verify(comprehendClient, times(2)).describeDocumentClassifier(describeDocumentClassifierRequestArgumentCaptor.capture());
         EXPECTED_DESCRIBE_DOCUMENT_CLASSIFIER_REQUEST.equalsBySdkFields(describeDocumentClassifierRequestArgumentCaptor.getValue());
 
-        verify(comprehendClient, times(3)).listTagsForResource(listTagsForResourceRequestArgumentCaptor.capture());
+        verify(comprehendClient, times(2)).listTagsForResource(listTagsForResourceRequestArgumentCaptor.capture());
         EXPECTED_LIST_TAGS_FOR_RESOURCE_REQUEST.equalsBySdkFields(listTagsForResourceRequestArgumentCaptor.getValue());
 
         verify(comprehendClient, times(1)).describeResourcePolicy(describeResourcePolicyRequestArgumentCaptor.capture());
@@ -385,21 +408,123 @@ public class CreateHandlerTest extends AbstractModelTestBase {
         assertThat(finalResponse.getMessage()).isNull();
         assertThat(finalResponse.getErrorCode()).isNull();
         assertThat(finalResponse.getCallbackContext().getArn()).isEqualTo(TEST_DOCUMENT_CLASSIFIER_ARN);
-        assertEquals(finalResponse.getCallbackContext().getTagsToAdd(),
-                new HashSet<>(Translator.toSdkTags(TEST_RESOURCE_MODEL_WITH_SYSTEM_TAGS.getTags())));
+        assertThat(finalResponse.getCallbackContext().getDesiredTagsFingerprint()).isEqualTo(
+                TagReconciler.fingerprint(new HashSet<>(Translator.toSdkTags(TEST_RESOURCE_MODEL_WITH_SYSTEM_TAGS.getTags()))));
+        assertThat(finalResponse.getCallbackContext().getTagsToAdd()).isNull();
         assertThat(finalResponse.getCallbackContext().getTagKeysToRemove()).isNull();
 
         verify(comprehendClient, times(1)).createDocumentClassifier(createDocumentClassifierRequestArgumentCaptor.capture());
         EXPECTED_CREATE_DOCUMENT_CLASSIFIER_REQUEST.equalsBySdkFields(createDocumentClassifierRequestArgumentCaptor.getValue());
 
-        verify(comprehendClient, times(3)).describeDocumentClassifier(describeDocumentClassifierRequestArgumentCaptor.capture());
+        verify(comprehendClient, times(2)).describeDocumentClassifier(describeDocumentClassifierRequestArgumentCaptor.capture());
         EXPECTED_DESCRIBE_DOCUMENT_CLASSIFIER_REQUEST.equalsBySdkFields(describeDocumentClassifierRequestArgumentCaptor.getValue());
 
-        verify(comprehendClient, times(4)).listTagsForResource(listTagsForResourceRequestArgumentCaptor.capture());
+        verify(comprehendClient, times(3)).listTagsForResource(listTagsForResourceRequestArgumentCaptor.capture());
         EXPECTED_LIST_TAGS_FOR_RESOURCE_REQUEST.equalsBySdkFields(listTagsForResourceRequestArgumentCaptor.getValue());
 
         verify(comprehendClient, times(1)).describeResourcePolicy(describeResourcePolicyRequestArgumentCaptor.capture());
         EXPECTED_DESCRIBE_RESOURCE_POLICY_REQUEST.equalsBySdkFields(describeResourcePolicyRequestArgumentCaptor.getValue());
     }
 
+    @Test
+    public void handleRequest_RecordsTrainingProgressForBackoff() {
+        final Instant submitTime = Instant.parse("2023-01-01T00:00:00Z");
+        final Instant trainingStartTime = submitTime.plus(Duration.ofMinutes(5));
+
+        // Set up mock behavior
+        when(comprehendClient.createDocumentClassifier(any(CreateDocumentClassifierRequest.class)))
+                .thenReturn(CreateDocumentClassifierResponse.builder()
+                        .documentClassifierArn(TEST_DOCUMENT_CLASSIFIER_ARN)
+                        .build());
+        when(comprehendClient.describeDocumentClassifier(any(DescribeDocumentClassifierRequest.class)))
+                .thenReturn(DescribeDocumentClassifierResponse.builder()
+                        .documentClassifierProperties(TEST_DOCUMENT_CLASSIFIER_PROPERTIES_TRAINED.toBuilder()
+                                .submitTime(submitTime)
+                                .trainingStartTime(trainingStartTime)
+                                .classifierMetadata(ClassifierMetadata.builder()
+                                        .numberOfTrainedDocuments(900)
+                                        .numberOfTestDocuments(100)
+                                        .build())
+                                .build())
+                        .build());
+        when(comprehendClient.listTagsForResource(any(ListTagsForResourceRequest.class)))
+                .thenReturn(ListTagsForResourceResponse.builder()
+                        .tags(USER_TAGS_WITH_SYSTEM_TAGS)
+                        .build());
+        when(comprehendClient.describeResourcePolicy(any(DescribeResourcePolicyRequest.class)))
+                .thenReturn(DescribeResourcePolicyResponse.builder()
+                        .resourcePolicy(TEST_MODEL_POLICY)
+                        .build());
+
+        // Invoke Handler
+        final ProgressEvent<ResourceModel, CallbackContext> finalResponse = invokeHandleRequestAndReturnFinalProgressEvent(
+                proxy, TEST_RESOURCE_HANDLER_REQUEST_NO_ARN, callbackContext, proxyClient, LOGGER, handler);
+
+        // Validate handler behavior
+        assertThat(finalResponse.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(finalResponse.getCallbackContext().getSubmitTime()).isEqualTo(submitTime.toEpochMilli());
+        assertThat(finalResponse.getCallbackContext().getTrainingStartTime()).isEqualTo(trainingStartTime.toEpochMilli());
+        assertThat(finalResponse.getCallbackContext().getTrainingDocumentCount()).isEqualTo(1000);
+
+        verify(comprehendClient, times(1)).describeDocumentClassifier(any(DescribeDocumentClassifierRequest.class));
+        verify(comprehendClient, times(1)).listTagsForResource(any(ListTagsForResourceRequest.class));
+    }
+
+    /**
+     * Replays the callbacks of a create whose classifier stays SUBMITTED for 5 minutes and then trains for 6 hours,
+     * with the virtual clock moved forward by every callback delay.
+     */
+    @Test
+    public void handleRequest_HandsLongTrainingWaitsBackToCloudFormation() {
+        final Instant submitTime = Instant.parse("2023-01-01T00:00:00Z");
+        final Instant trainingStartTime = submitTime.plus(Duration.ofMinutes(5));
+        final Instant trainingEndTime = trainingStartTime.plus(Duration.ofHours(6));
+        final MutableClock clock = new MutableClock(submitTime);
+        handler = new CreateHandler(context -> new TrainingAwareDelay(context, Duration.ofDays(2), clock));
+
+        // Set up mock behavior
+        when(comprehendClient.createDocumentClassifier(any(CreateDocumentClassifierRequest.class)))
+                .thenReturn(CreateDocumentClassifierResponse.builder()
+                        .documentClassifierArn(TEST_DOCUMENT_CLASSIFIER_ARN)
+                        .build());
+        when(comprehendClient.describeDocumentClassifier(any(DescribeDocumentClassifierRequest.class)))
+                .thenAnswer(invocation -> {
+                    final Instant now = clock.instant();
+                    final DocumentClassifierProperties properties = now.isBefore(trainingStartTime)
+                            ? TEST_DOCUMENT_CLASSIFIER_PROPERTIES_TRAINING.toBuilder().status(ModelStatus.SUBMITTED).build()
+                            : now.isBefore(trainingEndTime)
+                            ? TEST_DOCUMENT_CLASSIFIER_PROPERTIES_TRAINING.toBuilder().trainingStartTime(trainingStartTime).build()
+                            : TEST_DOCUMENT_CLASSIFIER_PROPERTIES_TRAINED.toBuilder().trainingStartTime(trainingStartTime).build();
+                    return DescribeDocumentClassifierResponse.builder()
+                            .documentClassifierProperties(properties.toBuilder().submitTime(submitTime).build())
+                            .build();
+                });
+        when(comprehendClient.listTagsForResource(any(ListTagsForResourceRequest.class)))
+                .thenReturn(ListTagsForResourceResponse.builder()
+                        .tags(USER_TAGS_WITH_SYSTEM_TAGS)
+                        .build());
+        when(comprehendClient.describeResourcePolicy(any(DescribeResourcePolicyRequest.class)))
+                .thenReturn(DescribeResourcePolicyResponse.builder()
+                        .resourcePolicy(TEST_MODEL_POLICY)
+                        .build());
+
+        // Invoke Handler
+        final CallbackReplay replay = CallbackReplay.replay(
+                proxy, TEST_RESOURCE_HANDLER_REQUEST_NO_ARN, callbackContext, proxyClient, LOGGER, handler, clock::advance);
+
+        // Validate handler behavior
+        final ProgressEvent<ResourceModel, CallbackContext> finalResponse = replay.getFinalProgressEvent();
+        assertThat(finalResponse.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(finalResponse.getResourceModel()).isEqualTo(TEST_RESOURCE_MODEL_WITH_SYSTEM_TAGS);
+        assertThat(replay.getCallbackDelay()).isGreaterThanOrEqualTo(Duration.between(submitTime, trainingEndTime));
+        assertThat(replay.getBilledTime()).isLessThan(Duration.ofSeconds(30));
+        // Tags are not polled while training, however long it takes
+        assertThat(finalResponse.getCallbackContext().getStatusPollCount()).isEqualTo(replay.getInvocations());
+        assertThat(finalResponse.getCallbackContext().getTagPollCount()).isEqualTo(1);
+
+        // Every poll but the last one hands the wait back, so there is one invocation per describe call
+        verify(comprehendClient, times(1)).createDocumentClassifier(any(CreateDocumentClassifierRequest.class));
+        verify(comprehendClient, times(replay.getInvocations())).describeDocumentClassifier(any(DescribeDocumentClassifierRequest.class));
+        verify(comprehendClient, times(1)).listTagsForResource(any(ListTagsForResourceRequest.class));
+    }
 }
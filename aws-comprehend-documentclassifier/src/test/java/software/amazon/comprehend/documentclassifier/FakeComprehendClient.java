@@ -0,0 +1,486 @@
+package software.amazon.comprehend.documentclassifier;
+
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.services.comprehend.ComprehendClient;
+import software.amazon.awssdk.services.comprehend.model.ClassifierMetadata;
+import software.amazon.awssdk.services.comprehend.model.CreateDocumentClassifierRequest;
+import software.amazon.awssdk.services.comprehend.model.CreateDocumentClassifierResponse;
+import software.amazon.awssdk.services.comprehend.model.DeleteDocumentClassifierRequest;
+import software.amazon.awssdk.services.comprehend.model.DeleteDocumentClassifierResponse;
+import software.amazon.awssdk.services.comprehend.model.DeleteResourcePolicyRequest;
+import software.amazon.awssdk.services.comprehend.model.DeleteResourcePolicyResponse;
+import software.amazon.awssdk.services.comprehend.model.DescribeDocumentClassifierRequest;
+import software.amazon.awssdk.services.comprehend.model.DescribeDocumentClassifierResponse;
+import software.amazon.awssdk.services.comprehend.model.DescribeResourcePolicyRequest;
+import software.amazon.awssdk.services.comprehend.model.DescribeResourcePolicyResponse;
+import software.amazon.awssdk.services.comprehend.model.DocumentClassifierOutputDataConfig;
+import software.amazon.awssdk.services.comprehend.model.DocumentClassifierProperties;
+import software.amazon.awssdk.services.comprehend.model.InvalidRequestException;
+import software.amazon.awssdk.services.comprehend.model.ListDocumentClassifiersRequest;
+import software.amazon.awssdk.services.comprehend.model.ListDocumentClassifiersResponse;
+import software.amazon.awssdk.services.comprehend.model.ListTagsForResourceRequest;
+import software.amazon.awssdk.services.comprehend.model.ListTagsForResourceResponse;
+import software.amazon.awssdk.services.comprehend.model.ModelStatus;
+import software.amazon.awssdk.services.comprehend.model.PutResourcePolicyRequest;
+import software.amazon.awssdk.services.comprehend.model.PutResourcePolicyResponse;
+import software.amazon.awssdk.services.comprehend.model.ResourceInUseException;
+import software.amazon.awssdk.services.comprehend.model.ResourceNotFoundException;
+import software.amazon.awssdk.services.comprehend.model.Tag;
+import software.amazon.awssdk.services.comprehend.model.TagResourceRequest;
+import software.amazon.awssdk.services.comprehend.model.TagResourceResponse;
+import software.amazon.awssdk.services.comprehend.model.TooManyRequestsException;
+import software.amazon.awssdk.services.comprehend.model.TooManyTagsException;
+import software.amazon.awssdk.services.comprehend.model.UntagResourceRequest;
+import software.amazon.awssdk.services.comprehend.model.UntagResourceResponse;
+import software.amazon.comprehend.core.CallbackStabilizer;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Stateful in-memory stand-in for the Comprehend control plane, covering document classifiers, their tags and their
+ * resource policies. Classifiers go through SUBMITTED, TRAINING and TRAINED as the clock passes the configured
+ * durations, so handlers can run end to end offline. Every call can be given a latency distribution, a TPS limit and
+ * injected errors, and calls are counted per operation.
+ *
+ * With a MutableClock, latencies move the clock on instead of sleeping, so a whole lifecycle runs in virtual time.
+ */
+class FakeComprehendClient implements ComprehendClient {
+
+    static final int MAX_TAGS = 50;
+    static final int DEFAULT_PAGE_SIZE = 10;
+
+    /** Distribution of the time one call takes. */
+    @FunctionalInterface
+    interface Latency {
+        Duration sample(Random random);
+
+        static Latency fixed(final Duration duration) {
+            return random -> duration;
+        }
+
+        static Latency uniform(final Duration min, final Duration max) {
+            return random -> min.plusNanos((long) (random.nextDouble() * max.minus(min).toNanos()));
+        }
+
+        /** Long-tailed latency around a median, as control plane calls usually are. */
+        static Latency logNormal(final Duration median, final double sigma) {
+            return random -> Duration.ofNanos((long) (median.toNanos() * Math.exp(sigma * random.nextGaussian())));
+        }
+    }
+
+    private final Clock clock;
+    private final CallbackStabilizer.Sleeper sleeper;
+    private final Random random = new Random(42);
+
+    private final Map<String, Latency> latencies = new ConcurrentHashMap<>();
+    private final Map<String, double[]> tpsBuckets = new HashMap<>();
+    private final Map<String, Double> tpsLimits = new ConcurrentHashMap<>();
+    private final Map<String, Queue<RuntimeException>> scheduledErrors = new HashMap<>();
+    private final Map<String, Double> errorRates = new ConcurrentHashMap<>();
+    private final Map<String, Supplier<RuntimeException>> errorSuppliers = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> calls = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> throttles = new ConcurrentHashMap<>();
+
+    private final Map<String, Classifier> classifiers = new LinkedHashMap<>();
+    private final Map<String, String> arnsByClientRequestToken = new HashMap<>();
+
+    private Duration submittedTime = Duration.ofMinutes(5);
+    private Duration trainingTime = Duration.ofHours(1);
+    private Duration deletionTime = Duration.ZERO;
+    private ModelStatus trainingOutcome = ModelStatus.TRAINED;
+    private int trainingDocumentCount = 1000;
+
+    /** Simulator in virtual time, where latencies move the clock on. */
+    FakeComprehendClient(final MutableClock clock) {
+        this(clock, clock::advance);
+    }
+
+    FakeComprehendClient(final Clock clock, final CallbackStabilizer.Sleeper sleeper) {
+        this.clock = clock;
+        this.sleeper = sleeper;
+    }
+
+    /* * * * * * * * * * * * *
+     *     Configuration     *
+     * * * * * * * * * * * * */
+
+    FakeComprehendClient withLatency(final String operation, final Latency latency) {
+        latencies.put(operation, latency);
+        return this;
+    }
+
+    FakeComprehendClient withTpsLimit(final String operation, final double tps) {
+        tpsLimits.put(operation, tps);
+        return this;
+    }
+
+    /** Fail the next calls of an operation with the given errors, in order. */
+    synchronized FakeComprehendClient failNext(final String operation, final RuntimeException... errors) {
+        final Queue<RuntimeException> queue = scheduledErrors.computeIfAbsent(operation, key -> new ArrayDeque<>());
+        for (final RuntimeException error : errors) {
+            queue.add(error);
+        }
+        return this;
+    }
+
+    /** Fail a fraction of the calls of an operation at random. */
+    FakeComprehendClient withErrorRate(final String operation, final double rate, final Supplier<RuntimeException> error) {
+        errorRates.put(operation, rate);
+        errorSuppliers.put(operation, error);
+        return this;
+    }
+
+    synchronized FakeComprehendClient withTraining(final Duration submittedTime, final Duration trainingTime, final ModelStatus outcome) {
+        this.submittedTime = submittedTime;
+        this.trainingTime = trainingTime;
+        this.trainingOutcome = outcome;
+        return this;
+    }
+
+    synchronized FakeComprehendClient withDeletionTime(final Duration deletionTime) {
+        this.deletionTime = deletionTime;
+        return this;
+    }
+
+    synchronized FakeComprehendClient withTrainingDocumentCount(final int trainingDocumentCount) {
+        this.trainingDocumentCount = trainingDocumentCount;
+        return this;
+    }
+
+    /* * * * * * * * * * * * *
+     *     Observations      *
+     * * * * * * * * * * * * */
+
+    int getCallCount(final String operation) {
+        return calls.getOrDefault(operation, new AtomicInteger()).get();
+    }
+
+    int getTotalCallCount() {
+        return calls.values().stream().mapToInt(AtomicInteger::get).sum();
+    }
+
+    int getThrottleCount(final String operation) {
+        return throttles.getOrDefault(operation, new AtomicInteger()).get();
+    }
+
+    Map<String, Integer> getCallCounts() {
+        return calls.entrySet().stream().collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().get()));
+    }
+
+    /* * * * * * * * * * * * *
+     *      Operations       *
+     * * * * * * * * * * * * */
+
+    @Override
+    public CreateDocumentClassifierResponse createDocumentClassifier(final CreateDocumentClassifierRequest request) {
+        return invoke(request, () -> {
+            final String arn = arn(request.documentClassifierName(), request.versionName());
+            final String previousArn = request.clientRequestToken() == null ? null : arnsByClientRequestToken.get(request.clientRequestToken());
+            if (arn.equals(previousArn)) {
+                return CreateDocumentClassifierResponse.builder().documentClassifierArn(arn).build();
+            }
+            if (classifiers.containsKey(arn)) {
+                throw ResourceInUseException.builder().message(String.format("Document classifier %s already exists", arn)).build();
+            }
+            if (request.tags().size() > MAX_TAGS) {
+                throw TooManyTagsException.builder().message("Too many tags").build();
+            }
+
+            final Classifier classifier = new Classifier(request, arn, clock.instant());
+            request.tags().forEach(tag -> classifier.tags.put(tag.key(), tag.value()));
+            if (request.modelPolicy() != null) {
+                classifier.putPolicy(request.modelPolicy());
+            }
+            classifiers.put(arn, classifier);
+            if (request.clientRequestToken() != null) {
+                arnsByClientRequestToken.put(request.clientRequestToken(), arn);
+            }
+            return CreateDocumentClassifierResponse.builder().documentClassifierArn(arn).build();
+        });
+    }
+
+    @Override
+    public DescribeDocumentClassifierResponse describeDocumentClassifier(final DescribeDocumentClassifierRequest request) {
+        return invoke(request, () -> DescribeDocumentClassifierResponse.builder()
+                .documentClassifierProperties(find(request.documentClassifierArn()).properties())
+                .build());
+    }
+
+    @Override
+    public ListDocumentClassifiersResponse listDocumentClassifiers(final ListDocumentClassifiersRequest request) {
+        return invoke(request, () -> {
+            final List<Classifier> existing = new ArrayList<>();
+            for (final String arn : new ArrayList<>(classifiers.keySet())) {
+                findIfExists(arn).ifPresent(existing::add);
+            }
+            final int from = request.nextToken() == null ? 0 : Integer.parseInt(request.nextToken());
+            final int pageSize = request.maxResults() == null ? DEFAULT_PAGE_SIZE : request.maxResults();
+            final int to = Math.min(existing.size(), from + pageSize);
+            return ListDocumentClassifiersResponse.builder()
+                    .documentClassifierPropertiesList(existing.subList(from, to).stream()
+                            .map(Classifier::properties)
+                            .collect(Collectors.toList()))
+                    .nextToken(to < existing.size() ? String.valueOf(to) : null)
+                    .build();
+        });
+    }
+
+    @Override
+    public DeleteDocumentClassifierResponse deleteDocumentClassifier(final DeleteDocumentClassifierRequest request) {
+        return invoke(request, () -> {
+            final Classifier classifier = find(request.documentClassifierArn());
+            if (classifier.status() == ModelStatus.SUBMITTED || classifier.status() == ModelStatus.TRAINING) {
+                throw ResourceInUseException.builder().message("Document classifier is still training").build();
+            }
+            if (classifier.deletedAt == null) {
+                classifier.deletedAt = clock.instant();
+            }
+            return DeleteDocumentClassifierResponse.builder().build();
+        });
+    }
+
+    @Override
+    public ListTagsForResourceResponse listTagsForResource(final ListTagsForResourceRequest request) {
+        return invoke(request, () -> ListTagsForResourceResponse.builder()
+                .resourceArn(request.resourceArn())
+                .tags(find(request.resourceArn()).tags.entrySet().stream()
+                        .map(entry -> Tag.builder().key(entry.getKey()).value(entry.getValue()).build())
+                        .collect(Collectors.toList()))
+                .build());
+    }
+
+    @Override
+    public TagResourceResponse tagResource(final TagResourceRequest request) {
+        return invoke(request, () -> {
+            final Classifier classifier = find(request.resourceArn());
+            final Map<String, String> tags = new LinkedHashMap<>(classifier.tags);
+            request.tags().forEach(tag -> tags.put(tag.key(), tag.value()));
+            if (tags.size() > MAX_TAGS) {
+                throw TooManyTagsException.builder().message("Too many tags").build();
+            }
+            classifier.tags.putAll(tags);
+            return TagResourceResponse.builder().build();
+        });
+    }
+
+    @Override
+    public UntagResourceResponse untagResource(final UntagResourceRequest request) {
+        return invoke(request, () -> {
+            find(request.resourceArn()).tags.keySet().removeAll(request.tagKeys());
+            return UntagResourceResponse.builder().build();
+        });
+    }
+
+    @Override
+    public DescribeResourcePolicyResponse describeResourcePolicy(final DescribeResourcePolicyRequest request) {
+        return invoke(request, () -> {
+            final Classifier classifier = find(request.resourceArn());
+            return DescribeResourcePolicyResponse.builder()
+                    .resourcePolicy(classifier.policy)
+                    .policyRevisionId(classifier.policyRevisionId)
+                    .build();
+        });
+    }
+
+    @Override
+    public PutResourcePolicyResponse putResourcePolicy(final PutResourcePolicyRequest request) {
+        return invoke(request, () -> {
+            final Classifier classifier = find(request.resourceArn());
+            if (request.policyRevisionId() != null && !request.policyRevisionId().equals(classifier.policyRevisionId)) {
+                throw InvalidRequestException.builder().message("Policy revision id does not match").build();
+            }
+            classifier.putPolicy(request.resourcePolicy());
+            return PutResourcePolicyResponse.builder().policyRevisionId(classifier.policyRevisionId).build();
+        });
+    }
+
+    @Override
+    public DeleteResourcePolicyResponse deleteResourcePolicy(final DeleteResourcePolicyRequest request) {
+        return invoke(request, () -> {
+            final Classifier classifier = find(request.resourceArn());
+            if (classifier.policy == null) {
+                throw ResourceNotFoundException.builder().message("Resource policy not found").build();
+            }
+            classifier.policy = null;
+            classifier.policyRevisionId = null;
+            return DeleteResourcePolicyResponse.builder().build();
+        });
+    }
+
+    @Override
+    public String serviceName() {
+        return SERVICE_NAME;
+    }
+
+    @Override
+    public void close() {
+    }
+
+    /* * * * * * * * * * * * *
+     *       Internals       *
+     * * * * * * * * * * * * */
+
+    /**
+     * Counts the call, waits for its latency and then fails it with an injected error or throttle, or runs it against
+     * the state.
+     */
+    private <T> T invoke(final AwsRequest request, final Supplier<T> operation) {
+        final String name = request.getClass().getSimpleName().replaceFirst("Request$", "");
+        calls.computeIfAbsent(name, key -> new AtomicInteger()).incrementAndGet();
+
+        final Latency latency = latencies.get(name);
+        if (latency != null) {
+            sleeper.sleep(latency.sample(random));
+        }
+
+        synchronized (this) {
+            final Queue<RuntimeException> queue = scheduledErrors.get(name);
+            if (queue != null && !queue.isEmpty()) {
+                throw queue.remove();
+            }
+            final Double errorRate = errorRates.get(name);
+            if (errorRate != null && random.nextDouble() < errorRate) {
+                throw errorSuppliers.get(name).get();
+            }
+            if (!tryTakeToken(name)) {
+                throttles.computeIfAbsent(name, key -> new AtomicInteger()).incrementAndGet();
+                throw TooManyRequestsException.builder()
+                        .message("Rate exceeded")
+                        .statusCode(400)
+                        .awsErrorDetails(AwsErrorDetails.builder().errorCode("ThrottlingException").build())
+                        .build();
+            }
+            return operation.get();
+        }
+    }
+
+    /** Token bucket of the operation on the simulator clock, holding one second of calls. */
+    private boolean tryTakeToken(final String name) {
+        final Double tps = tpsLimits.get(name);
+        if (tps == null) {
+            return true;
+        }
+        final long now = TimeUnit.MILLISECONDS.toNanos(clock.millis());
+        final double[] bucket = tpsBuckets.computeIfAbsent(name, key -> new double[] {tps, now});
+        bucket[0] = Math.min(tps, bucket[0] + (now - bucket[1]) * tps / TimeUnit.SECONDS.toNanos(1));
+        bucket[1] = now;
+        if (bucket[0] < 1) {
+            return false;
+        }
+        bucket[0] -= 1;
+        return true;
+    }
+
+    private Classifier find(final String arn) {
+        return findIfExists(arn).orElseThrow(() -> ResourceNotFoundException.builder()
+                .message(String.format("Document classifier %s not found", arn))
+                .build());
+    }
+
+    /** Look up a classifier, dropping it once its deletion has finished. */
+    private Optional<Classifier> findIfExists(final String arn) {
+        final Classifier classifier = arn == null ? null : classifiers.get(arn);
+        if (classifier != null && classifier.deletedAt != null
+                && !clock.instant().isBefore(classifier.deletedAt.plus(deletionTime))) {
+            classifiers.remove(arn);
+            return Optional.empty();
+        }
+        return Optional.ofNullable(classifier);
+    }
+
+    private static String arn(final String name, final String versionName) {
+        final String arn = String.format("arn:aws:comprehend:us-west-2:123456789012:document-classifier/%s", name);
+        return versionName == null ? arn : arn + "/version/" + versionName;
+    }
+
+    private final class Classifier {
+        private final CreateDocumentClassifierRequest request;
+        private final String arn;
+        private final Instant submitTime;
+        private final String jobId = UUID.randomUUID().toString().replace("-", "");
+        private final Map<String, String> tags = new LinkedHashMap<>();
+        private String policy;
+        private String policyRevisionId;
+        private Instant deletedAt;
+
+        private Classifier(final CreateDocumentClassifierRequest request, final String arn, final Instant submitTime) {
+            this.request = request;
+            this.arn = arn;
+            this.submitTime = submitTime;
+        }
+
+        private void putPolicy(final String policy) {
+            this.policy = policy;
+            this.policyRevisionId = UUID.randomUUID().toString();
+        }
+
+        private ModelStatus status() {
+            final Instant now = clock.instant();
+            if (deletedAt != null) {
+                return ModelStatus.DELETING;
+            } else if (now.isBefore(trainingStartTime())) {
+                return ModelStatus.SUBMITTED;
+            } else if (now.isBefore(trainingEndTime())) {
+                return ModelStatus.TRAINING;
+            }
+            return trainingOutcome;
+        }
+
+        private Instant trainingStartTime() {
+            return submitTime.plus(submittedTime);
+        }
+
+        private Instant trainingEndTime() {
+            return trainingStartTime().plus(trainingTime);
+        }
+
+        private DocumentClassifierProperties properties() {
+            final ModelStatus status = status();
+            final boolean started = status != ModelStatus.SUBMITTED;
+            final boolean finished = started && status != ModelStatus.TRAINING;
+            return DocumentClassifierProperties.builder()
+                    .documentClassifierArn(arn)
+                    .versionName(request.versionName())
+                    .languageCode(request.languageCode())
+                    .status(status)
+                    .message(status == ModelStatus.IN_ERROR ? "Training failed" : null)
+                    .submitTime(submitTime)
+                    .trainingStartTime(started ? trainingStartTime() : null)
+                    .trainingEndTime(finished ? trainingEndTime() : null)
+                    .endTime(finished ? trainingEndTime() : null)
+                    .inputDataConfig(request.inputDataConfig())
+                    .outputDataConfig(request.outputDataConfig() == null ? null : DocumentClassifierOutputDataConfig.builder()
+                            .kmsKeyId(request.outputDataConfig().kmsKeyId())
+                            .s3Uri(request.outputDataConfig().s3Uri() + String.format("123456789012-CLR-%s/output/output.tar.gz", jobId))
+                            .build())
+                    .classifierMetadata(finished ? ClassifierMetadata.builder()
+                            .numberOfLabels(2)
+                            .numberOfTrainedDocuments(trainingDocumentCount)
+                            .build() : null)
+                    .dataAccessRoleArn(request.dataAccessRoleArn())
+                    .volumeKmsKeyId(request.volumeKmsKeyId())
+                    .modelKmsKeyId(request.modelKmsKeyId())
+                    .vpcConfig(request.vpcConfig())
+                    .mode(request.mode())
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package software.amazon.comprehend.documentclassifier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.comprehend.ComprehendClient;
+import software.amazon.awssdk.services.comprehend.model.CreateDocumentClassifierRequest;
+import software.amazon.awssdk.services.comprehend.model.DeleteDocumentClassifierRequest;
+import software.amazon.awssdk.services.comprehend.model.DescribeDocumentClassifierRequest;
+import software.amazon.awssdk.services.comprehend.model.ListDocumentClassifiersRequest;
+import software.amazon.awssdk.services.comprehend.model.ListDocumentClassifiersResponse;
+import software.amazon.awssdk.services.comprehend.model.ModelStatus;
+import software.amazon.awssdk.services.comprehend.model.ResourceInUseException;
+import software.amazon.awssdk.services.comprehend.model.ResourceNotFoundException;
+import software.amazon.awssdk.services.comprehend.model.TooManyRequestsException;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.comprehend.core.CallbackStabilizer;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class FakeComprehendClientTest extends AbstractModelTestBase {
+    private static final Instant START = Instant.parse("2023-01-01T00:00:00Z");
+
+    private final MutableClock clock = new MutableClock(START);
+    private final FakeComprehendClient fakeComprehendClient = new FakeComprehendClient(clock);
+
+    private AmazonWebServicesClientProxy proxy;
+    private ProxyClient<ComprehendClient> proxyClient;
+
+    @BeforeEach
+    public void setup() {
+        proxy = new AmazonWebServicesClientProxy(LOGGER, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
+        proxyClient = MOCK_PROXY(proxy, fakeComprehendClient);
+    }
+
+    @Test
+    public void testHandlers_RunWholeLifecycleOffline() {
+        fakeComprehendClient
+                .withTraining(Duration.ofMinutes(5), Duration.ofHours(2), ModelStatus.TRAINED)
+                .withLatency("CreateDocumentClassifier", FakeComprehendClient.Latency.logNormal(Duration.ofMillis(300), 0.5))
+                .withLatency("DescribeDocumentClassifier", FakeComprehendClient.Latency.uniform(Duration.ofMillis(50), Duration.ofMillis(150)));
+
+        // Create, with training waits handed back to the replayed callbacks in virtual time
+        final CreateHandler createHandler = new CreateHandler(
+                context -> new TrainingAwareDelay(context, Duration.ofDays(2), clock),
+                new CallbackStabilizer(CallbackStabilizer.DEFAULT_CALLBACK_THRESHOLD, CallbackStabilizer.DEFAULT_LOCAL_WAIT_BUDGET, clock::advance));
+        final CallbackReplay create = CallbackReplay.replay(
+                proxy, TEST_RESOURCE_HANDLER_REQUEST_NO_ARN, new CallbackContext(), proxyClient, LOGGER, createHandler, clock::advance);
+        final ResourceModel createdModel = create.getFinalProgressEvent().getResourceModel();
+
+        assertThat(create.getFinalProgressEvent().getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(createdModel.getArn()).endsWith("document-classifier/" + TEST_MODEL_NAME + "/version/" + TEST_VERSION_NAME);
+        assertThat(createdModel.getModelPolicy()).isEqualTo(TEST_RESOURCE_MODEL_NO_ARN.getModelPolicy());
+        assertThat(createdModel.getOutputDataConfig()).isEqualTo(TEST_RESOURCE_MODEL_NO_ARN.getOutputDataConfig());
+        assertThat(Duration.between(START, clock.instant())).isGreaterThan(Duration.ofHours(2));
+
+        // Read
+        final ProgressEvent<ResourceModel, CallbackContext> read = invokeHandleRequestAndReturnFinalProgressEvent(
+                proxy, requestFor(createdModel, null), new CallbackContext(), proxyClient, LOGGER, new ReadHandler());
+        assertThat(read.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(read.getResourceModel()).isEqualTo(createdModel);
+
+        // Update tags and resource policy
+        final ResourceModel updatedModel = buildResourceModel(RESOURCE_TAGS_UPDATED, TEST_MODEL_POLICY_UPDATED);
+        updatedModel.setArn(createdModel.getArn());
+        final ProgressEvent<ResourceModel, CallbackContext> update = invokeHandleRequestAndReturnFinalProgressEvent(
+                proxy, requestFor(updatedModel, createdModel), new CallbackContext(), proxyClient, LOGGER, new UpdateHandler());
+        assertThat(update.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(update.getResourceModel().getModelPolicy()).isEqualTo(TEST_MODEL_POLICY_UPDATED);
+        assertThat(update.getResourceModel().getTags()).containsAll(updatedModel.getTags());
+
+        // List
+        final ProgressEvent<ResourceModel, CallbackContext> list = new ListHandler().handleRequest(
+                proxy, requestFor(ResourceModel.builder().build(), null), new CallbackContext(), proxyClient, LOGGER);
+        assertThat(list.getResourceModels()).extracting(ResourceModel::getArn).containsExactly(createdModel.getArn());
+
+        // Delete
+        final ProgressEvent<ResourceModel, CallbackContext> delete = invokeHandleRequestAndReturnFinalProgressEvent(
+                proxy, requestFor(updatedModel, null), new CallbackContext(), proxyClient, LOGGER, new DeleteHandler());
+        assertThat(delete.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThrows(ResourceNotFoundException.class, () -> fakeComprehendClient.describeDocumentClassifier(
+                DescribeDocumentClassifierRequest.builder().documentClassifierArn(createdModel.getArn()).build()));
+
+        // The create waits were handed back to the replayed callbacks rather than slept through
+        assertThat(create.getInvocations()).isGreaterThan(1);
+        assertThat(fakeComprehendClient.getCallCount("CreateDocumentClassifier")).isEqualTo(1);
+        assertThat(fakeComprehendClient.getCallCount("DeleteDocumentClassifier")).isEqualTo(1);
+    }
+
+    @Test
+    public void testDescribe_FollowsTrainingLifecycleOnClock() {
+        fakeComprehendClient
+                .withTraining(Duration.ofMinutes(5), Duration.ofHours(1), ModelStatus.IN_ERROR)
+                .withDeletionTime(Duration.ofMinutes(1));
+        final String arn = create(TEST_MODEL_NAME);
+
+        assertThat(status(arn)).isEqualTo(ModelStatus.SUBMITTED);
+        clock.advance(Duration.ofMinutes(5));
+        assertThat(status(arn)).isEqualTo(ModelStatus.TRAINING);
+        assertThrows(ResourceInUseException.class, () -> fakeComprehendClient.deleteDocumentClassifier(
+                DeleteDocumentClassifierRequest.builder().documentClassifierArn(arn).build()));
+        clock.advance(Duration.ofHours(1));
+        assertThat(status(arn)).isEqualTo(ModelStatus.IN_ERROR);
+
+        fakeComprehendClient.deleteDocumentClassifier(DeleteDocumentClassifierRequest.builder().documentClassifierArn(arn).build());
+        assertThat(status(arn)).isEqualTo(ModelStatus.DELETING);
+        clock.advance(Duration.ofMinutes(1));
+        assertThrows(ResourceNotFoundException.class, () -> status(arn));
+    }
+
+    @Test
+    public void testList_Paginates() {
+        for (int i = 0; i < 12; i++) {
+            create(TEST_MODEL_NAME + i);
+        }
+
+        final ListDocumentClassifiersResponse firstPage = fakeComprehendClient.listDocumentClassifiers(
+                ListDocumentClassifiersRequest.builder().build());
+        final ListDocumentClassifiersResponse secondPage = fakeComprehendClient.listDocumentClassifiers(
+                ListDocumentClassifiersRequest.builder().nextToken(firstPage.nextToken()).build());
+
+        assertThat(firstPage.documentClassifierPropertiesList()).hasSize(FakeComprehendClient.DEFAULT_PAGE_SIZE);
+        assertThat(secondPage.documentClassifierPropertiesList()).hasSize(2);
+        assertThat(secondPage.nextToken()).isNull();
+    }
+
+    @Test
+    public void testTpsLimitAndInjectedErrors() {
+        final String arn = create(TEST_MODEL_NAME);
+        fakeComprehendClient
+                .withTpsLimit("DescribeDocumentClassifier", 2)
+                .failNext("DescribeDocumentClassifier", INTERNAL_SERVER_EXCEPTION);
+
+        assertThrows(INTERNAL_SERVER_EXCEPTION.getClass(), () -> status(arn));
+        status(arn);
+        status(arn);
+        final TooManyRequestsException throttle = assertThrows(TooManyRequestsException.class, () -> status(arn));
+        assertThat(throttle.isThrottlingException()).isTrue();
+
+        clock.advance(Duration.ofMillis(500));
+        assertThat(status(arn)).isEqualTo(ModelStatus.SUBMITTED);
+        assertThat(fakeComprehendClient.getCallCount("DescribeDocumentClassifier")).isEqualTo(5);
+        assertThat(fakeComprehendClient.getThrottleCount("DescribeDocumentClassifier")).isEqualTo(1);
+    }
+
+    private String create(final String name) {
+        return fakeComprehendClient.createDocumentClassifier(CreateDocumentClassifierRequest.builder()
+                .documentClassifierName(name)
+                .languageCode(TEST_LANGUAGE_CODE)
+                .dataAccessRoleArn(TEST_DATA_ACCESS_ROLE_ARN)
+                .inputDataConfig(TEST_INPUT_DATA_CONFIG)
+                .build()).documentClassifierArn();
+    }
+
+    private ModelStatus status(final String arn) {
+        return fakeComprehendClient.describeDocumentClassifier(DescribeDocumentClassifierRequest.builder()
+                .documentClassifierArn(arn)
+                .build()).documentClassifierProperties().status();
+    }
+
+    private static ResourceHandlerRequest<ResourceModel> requestFor(final ResourceModel desired, final ResourceModel previous) {
+        return ResourceHandlerRequest.<ResourceModel>builder()
+                .clientRequestToken(TEST_CLIENT_REQUEST_TOKEN)
+                .desiredResourceState(desired)
+                .previousResourceState(previous)
+                .awsPartition(TEST_PARTITION)
+                .awsAccountId(TEST_ACCOUNT_ID)
+                .region(TEST_REGION)
+                .logicalResourceIdentifier(TEST_LOGICAL_RESOURCE_IDENTIFIER)
+                .build();
+    }
+}
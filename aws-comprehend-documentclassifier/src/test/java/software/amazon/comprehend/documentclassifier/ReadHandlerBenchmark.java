@@ -0,0 +1,119 @@
+package software.amazon.comprehend.documentclassifier;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.services.comprehend.ComprehendClient;
+import software.amazon.awssdk.services.comprehend.model.DescribeDocumentClassifierRequest;
+import software.amazon.awssdk.services.comprehend.model.DescribeDocumentClassifierResponse;
+import software.amazon.awssdk.services.comprehend.model.DescribeResourcePolicyRequest;
+import software.amazon.awssdk.services.comprehend.model.DescribeResourcePolicyResponse;
+import software.amazon.awssdk.services.comprehend.model.ListTagsForResourceRequest;
+import software.amazon.awssdk.services.comprehend.model.ListTagsForResourceResponse;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.LoggerProxy;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Wall time of a read with its DescribeDocumentClassifier, DescribeResourcePolicy and ListTagsForResource calls issued
+ * one after the other and together, against a client that answers every call after a fixed latency. Run with
+ * {@code mvn -Pbenchmark test -Dbenchmark.includes=ReadHandlerBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReadHandlerBenchmark {
+
+    @Param
+    public ReadHandler.ReadMode readMode;
+
+    @Param({"10", "100"})
+    public int callLatencyMillis;
+
+    private AmazonWebServicesClientProxy proxy;
+    private ProxyClient<ComprehendClient> proxyClient;
+    private ReadHandler handler;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        proxy = new AmazonWebServicesClientProxy(new LoggerProxy(), AbstractModelTestBase.MOCK_CREDENTIALS,
+                () -> Duration.ofSeconds(600).toMillis());
+        proxyClient = AbstractModelTestBase.MOCK_PROXY(proxy, new DelayedComprehendClient(Duration.ofMillis(callLatencyMillis)));
+        handler = new ReadHandler(readMode);
+    }
+
+    @Benchmark
+    public ProgressEvent<ResourceModel, CallbackContext> read() {
+        return handler.handleRequest(proxy, AbstractModelTestBase.TEST_RESOURCE_HANDLER_REQUEST, new CallbackContext(),
+                proxyClient, AbstractModelTestBase.LOGGER);
+    }
+
+    /**
+     * Fake client that answers the three read calls after a fixed delay.
+     */
+    private static final class DelayedComprehendClient implements ComprehendClient {
+        private final Duration latency;
+
+        DelayedComprehendClient(final Duration latency) {
+            this.latency = latency;
+        }
+
+        @Override
+        public DescribeDocumentClassifierResponse describeDocumentClassifier(final DescribeDocumentClassifierRequest request) {
+            sleep();
+            return DescribeDocumentClassifierResponse.builder()
+                    .documentClassifierProperties(AbstractModelTestBase.TEST_DOCUMENT_CLASSIFIER_PROPERTIES_TRAINED)
+                    .build();
+        }
+
+        @Override
+        public DescribeResourcePolicyResponse describeResourcePolicy(final DescribeResourcePolicyRequest request) {
+            sleep();
+            return DescribeResourcePolicyResponse.builder()
+                    .resourcePolicy(AbstractModelTestBase.TEST_MODEL_POLICY)
+                    .build();
+        }
+
+        @Override
+        public ListTagsForResourceResponse listTagsForResource(final ListTagsForResourceRequest request) {
+            sleep();
+            return ListTagsForResourceResponse.builder()
+                    .tags(AbstractModelTestBase.RESOURCE_TAGS)
+                    .build();
+        }
+
+        @Override
+        public String serviceName() {
+            return SERVICE_NAME;
+        }
+
+        @Override
+        public void close() {
+        }
+
+        private void sleep() {
+            try {
+                Thread.sleep(latency.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
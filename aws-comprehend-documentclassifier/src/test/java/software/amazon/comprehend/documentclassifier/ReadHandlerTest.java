@@ -1,5 +1,7 @@
 package software.amazon.comprehend.documentclassifier;
 
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -22,12 +24,26 @@ import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.comprehend.core.HandlerMetrics;
+import software.amazon.comprehend.core.MetricsProxyClient;
+import software.amazon.comprehend.core.RateLimitedProxyClient;
+import software.amazon.comprehend.core.RateLimiter;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -35,6 +51,8 @@ import static org.mockito.Mockito.when;
 @ExtendWith(MockitoExtension.class)
 @MockitoSettings(strictness = Strictness.LENIENT)
 public class ReadHandlerTest extends AbstractModelTestBase {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
     private final ResourceModel resourceModel = ResourceModel.builder()
             .arn(TEST_DOCUMENT_CLASSIFIER_ARN)
             .build();
@@ -68,11 +86,85 @@ public class ReadHandlerTest extends AbstractModelTestBase {
 
     private ReadHandler handler;
 
+    private ReadHandler sequentialHandler;
+
     @BeforeEach
     public void setup() {
         proxy = new AmazonWebServicesClientProxy(LOGGER, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
         proxyClient = MOCK_PROXY(proxy, comprehendClient);
         handler = new ReadHandler();
+        sequentialHandler = new ReadHandler(ReadHandler.ReadMode.SEQUENTIAL);
+    }
+
+    @Test
+    public void handleRequest_TakesRateLimiterTokens() {
+        final RateLimiter rateLimiter = mock(RateLimiter.class);
+        final ProxyClient<ComprehendClient> rateLimitedProxyClient = new RateLimitedProxyClient<>(proxyClient, rateLimiter);
+
+        // Set up mock behavior
+        when(comprehendClient.describeDocumentClassifier(any(DescribeDocumentClassifierRequest.class)))
+                .thenReturn(DescribeDocumentClassifierResponse.builder()
+                        .documentClassifierProperties(TEST_DOCUMENT_CLASSIFIER_PROPERTIES_TRAINED)
+                        .build());
+        when(comprehendClient.describeResourcePolicy(any(DescribeResourcePolicyRequest.class)))
+                .thenReturn(DescribeResourcePolicyResponse.builder()
+                        .resourcePolicy(TEST_MODEL_POLICY)
+                        .build());
+        when(comprehendClient.listTagsForResource(any(ListTagsForResourceRequest.class)))
+                .thenReturn(ListTagsForResourceResponse.builder()
+                        .tags(RESOURCE_TAGS)
+                        .build());
+
+        // Invoke Handler
+        final ProgressEvent<ResourceModel, CallbackContext> response = invokeHandleRequestAndReturnFinalProgressEvent(
+                proxy, TEST_RESOURCE_HANDLER_REQUEST, new CallbackContext(), rateLimitedProxyClient, LOGGER, handler);
+
+        // Validate every call of the read took a token from the bucket of its API
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        verify(rateLimiter, times(2)).acquire(RateLimiter.Api.DESCRIBE);
+        verify(rateLimiter, times(1)).acquire(RateLimiter.Api.LIST);
+        verify(rateLimiter, times(2)).onSuccess(RateLimiter.Api.DESCRIBE);
+        verify(rateLimiter, times(1)).onSuccess(RateLimiter.Api.LIST);
+    }
+
+    @Test
+    public void handleRequest_RecordsCallMetrics() throws Exception {
+        final CallbackContext callbackContext = new CallbackContext();
+        final HandlerMetrics metrics = new HandlerMetrics(ResourceModel.TYPE_NAME, "Read", callbackContext);
+        final ProxyClient<ComprehendClient> metricsProxyClient = new MetricsProxyClient<>(proxyClient, metrics);
+
+        // Set up mock behavior
+        when(comprehendClient.describeDocumentClassifier(any(DescribeDocumentClassifierRequest.class)))
+                .thenReturn(DescribeDocumentClassifierResponse.builder()
+                        .documentClassifierProperties(TEST_DOCUMENT_CLASSIFIER_PROPERTIES_TRAINED)
+                        .build());
+        when(comprehendClient.describeResourcePolicy(any(DescribeResourcePolicyRequest.class)))
+                .thenReturn(DescribeResourcePolicyResponse.builder()
+                        .resourcePolicy(TEST_MODEL_POLICY)
+                        .build());
+        when(comprehendClient.listTagsForResource(any(ListTagsForResourceRequest.class)))
+                .thenReturn(ListTagsForResourceResponse.builder()
+                        .tags(RESOURCE_TAGS)
+                        .build());
+
+        // Invoke Handler
+        final ProgressEvent<ResourceModel, CallbackContext> response = invokeHandleRequestAndReturnFinalProgressEvent(
+                proxy, TEST_RESOURCE_HANDLER_REQUEST, callbackContext, metricsProxyClient, LOGGER, handler);
+        final List<String> logLines = new ArrayList<>();
+        metrics.flush(logLines::add, callbackContext);
+
+        // Validate every call of the read is in the flushed records, one per operation and one for the handler
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        final Map<String, Map<String, Object>> records = new HashMap<>();
+        for (final String logLine : logLines) {
+            final Map<String, Object> record = OBJECT_MAPPER.readValue(logLine, new TypeReference<Map<String, Object>>() {});
+            records.put(String.valueOf(record.get("Operation")), record);
+        }
+        assertThat(records.keySet()).containsExactlyInAnyOrder(
+                "DescribeDocumentClassifier", "DescribeResourcePolicy", "ListTagsForResource", "null");
+        assertThat(records.get("DescribeDocumentClassifier")).containsEntry("Action", "Read").containsEntry("Calls", 1);
+        assertThat(records.get("ListTagsForResource")).containsEntry("Calls", 1).containsEntry("Throttles", 0);
+        assertThat(records.get("null")).containsEntry("Calls", 3);
     }
 
     @Test
@@ -124,7 +216,7 @@ public class ReadHandlerTest extends AbstractModelTestBase {
 
         // Invoke Handler
         final ProgressEvent<ResourceModel, CallbackContext> response = invokeHandleRequestAndReturnFinalProgressEvent(
-                proxy, TEST_RESOURCE_HANDLER_REQUEST, new CallbackContext(), proxyClient, LOGGER, handler);;
+                proxy, TEST_RESOURCE_HANDLER_REQUEST, new CallbackContext(), proxyClient, LOGGER, sequentialHandler);;
 
         // Validate handler behavior
         assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
@@ -153,7 +245,7 @@ public class ReadHandlerTest extends AbstractModelTestBase {
 
         // Invoke Handler
         final ProgressEvent<ResourceModel, CallbackContext> response = invokeHandleRequestAndReturnFinalProgressEvent(
-                proxy, TEST_RESOURCE_HANDLER_REQUEST, new CallbackContext(), proxyClient, LOGGER, handler);;
+                proxy, TEST_RESOURCE_HANDLER_REQUEST, new CallbackContext(), proxyClient, LOGGER, sequentialHandler);;
 
         // Validate handler behavior
         assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
@@ -188,7 +280,7 @@ public class ReadHandlerTest extends AbstractModelTestBase {
 
         // Invoke Handler
         final ProgressEvent<ResourceModel, CallbackContext> response = invokeHandleRequestAndReturnFinalProgressEvent(
-                proxy, TEST_RESOURCE_HANDLER_REQUEST, new CallbackContext(), proxyClient, LOGGER, handler);;
+                proxy, TEST_RESOURCE_HANDLER_REQUEST, new CallbackContext(), proxyClient, LOGGER, sequentialHandler);;
 
         // Validate handler behavior
         assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
@@ -204,4 +296,167 @@ public class ReadHandlerTest extends AbstractModelTestBase {
         verify(comprehendClient, times(1)).listTagsForResource(listTagsForResourceRequestArgumentCaptor.capture());
         EXPECTED_LIST_TAGS_FOR_RESOURCE_REQUEST.equalsBySdkFields(listTagsForResourceRequestArgumentCaptor.getValue());
     }
+
+    @Test
+    public void handleRequest_Concurrent_Fail_WhenResourceNotFound() {
+        // Set up mock behavior
+        doThrow(RESOURCE_NOT_FOUND_EXCEPTION)
+                .when(comprehendClient).describeDocumentClassifier(any(DescribeDocumentClassifierRequest.class));
+        doThrow(RESOURCE_NOT_FOUND_EXCEPTION)
+                .when(comprehendClient).describeResourcePolicy(any(DescribeResourcePolicyRequest.class));
+        doThrow(RESOURCE_NOT_FOUND_EXCEPTION)
+                .when(comprehendClient).listTagsForResource(any(ListTagsForResourceRequest.class));
+
+        // Invoke Handler
+        final ProgressEvent<ResourceModel, CallbackContext> response = invokeHandleRequestAndReturnFinalProgressEvent(
+                proxy, TEST_RESOURCE_HANDLER_REQUEST, new CallbackContext(), proxyClient, LOGGER, handler);
+
+        // Validate handler behavior
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(response.getMessage()).isEqualTo(RESOURCE_NOT_FOUND_EXCEPTION.getMessage());
+        assertThat(response.getErrorCode()).isEqualByComparingTo(HandlerErrorCode.NotFound);
+
+        verify(comprehendClient, times(1)).describeDocumentClassifier(any(DescribeDocumentClassifierRequest.class));
+        verify(comprehendClient, times(1)).describeResourcePolicy(any(DescribeResourcePolicyRequest.class));
+        verify(comprehendClient, times(1)).listTagsForResource(any(ListTagsForResourceRequest.class));
+    }
+
+    @Test
+    public void handleRequest_Concurrent_Fail_WhenTagResourceNotFound() {
+        // Set up mock behavior
+        when(comprehendClient.describeDocumentClassifier(any(DescribeDocumentClassifierRequest.class)))
+                .thenReturn(DescribeDocumentClassifierResponse.builder()
+                        .documentClassifierProperties(TEST_DOCUMENT_CLASSIFIER_PROPERTIES_TRAINED)
+                        .build());
+        when(comprehendClient.describeResourcePolicy(any(DescribeResourcePolicyRequest.class)))
+                .thenReturn(DescribeResourcePolicyResponse.builder()
+                        .resourcePolicy(TEST_MODEL_POLICY)
+                        .build());
+        doThrow(RESOURCE_NOT_FOUND_EXCEPTION)
+                .when(comprehendClient).listTagsForResource(any(ListTagsForResourceRequest.class));
+
+        // Invoke Handler
+        final ProgressEvent<ResourceModel, CallbackContext> response = invokeHandleRequestAndReturnFinalProgressEvent(
+                proxy, TEST_RESOURCE_HANDLER_REQUEST, new CallbackContext(), proxyClient, LOGGER, handler);
+
+        // Validate handler behavior
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(response.getErrorCode()).isEqualByComparingTo(HandlerErrorCode.NotFound);
+    }
+
+    @Test
+    public void handleRequest_Concurrent_PropagatesNonNotFoundErrors() {
+        // Set up mock behavior
+        when(comprehendClient.describeDocumentClassifier(any(DescribeDocumentClassifierRequest.class)))
+                .thenReturn(DescribeDocumentClassifierResponse.builder()
+                        .documentClassifierProperties(TEST_DOCUMENT_CLASSIFIER_PROPERTIES_TRAINED)
+                        .build());
+        doThrow(INTERNAL_SERVER_EXCEPTION)
+                .when(comprehendClient).describeResourcePolicy(any(DescribeResourcePolicyRequest.class));
+        when(comprehendClient.listTagsForResource(any(ListTagsForResourceRequest.class)))
+                .thenReturn(ListTagsForResourceResponse.builder()
+                        .tags(RESOURCE_TAGS)
+                        .build());
+
+        // Invoke Handler
+        assertThatThrownBy(() -> invokeHandleRequestAndReturnFinalProgressEvent(
+                proxy, TEST_RESOURCE_HANDLER_REQUEST, new CallbackContext(), proxyClient, LOGGER, handler))
+                .isSameAs(INTERNAL_SERVER_EXCEPTION);
+    }
+
+    /**
+     * Each call against the fake client waits for the other two to start, so the read only completes without waiting
+     * out the timeout of the fake when all three calls are in flight together.
+     */
+    @Test
+    public void handleRequest_ConcurrentRead_CallsInFlightTogether() {
+        final InFlightComprehendClient inFlightComprehendClient = new InFlightComprehendClient(3);
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(
+                proxy, TEST_RESOURCE_HANDLER_REQUEST, new CallbackContext(), MOCK_PROXY(proxy, inFlightComprehendClient), LOGGER);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(inFlightComprehendClient.getMaxInFlight()).isEqualTo(3);
+        assertThat(inFlightComprehendClient.getTimeouts()).isZero();
+    }
+
+    @Test
+    public void handleRequest_SequentialRead_OneCallAtATime() {
+        final InFlightComprehendClient inFlightComprehendClient = new InFlightComprehendClient(1);
+        final ProgressEvent<ResourceModel, CallbackContext> response = sequentialHandler.handleRequest(
+                proxy, TEST_RESOURCE_HANDLER_REQUEST, new CallbackContext(), MOCK_PROXY(proxy, inFlightComprehendClient), LOGGER);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(inFlightComprehendClient.getMaxInFlight()).isEqualTo(1);
+    }
+
+    /**
+     * Fake client that answers the three read calls once the given number of calls has started, or after a timeout,
+     * and counts the calls in flight at the same time.
+     */
+    private static final class InFlightComprehendClient implements ComprehendClient {
+        private static final long TIMEOUT_SECONDS = 10;
+
+        private final CountDownLatch started;
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final AtomicInteger maxInFlight = new AtomicInteger();
+        private final AtomicInteger timeouts = new AtomicInteger();
+
+        InFlightComprehendClient(final int callsToAwait) {
+            this.started = new CountDownLatch(callsToAwait);
+        }
+
+        @Override
+        public DescribeDocumentClassifierResponse describeDocumentClassifier(final DescribeDocumentClassifierRequest request) {
+            return call(() -> DescribeDocumentClassifierResponse.builder()
+                    .documentClassifierProperties(TEST_DOCUMENT_CLASSIFIER_PROPERTIES_TRAINED)
+                    .build());
+        }
+
+        @Override
+        public DescribeResourcePolicyResponse describeResourcePolicy(final DescribeResourcePolicyRequest request) {
+            return call(() -> DescribeResourcePolicyResponse.builder()
+                    .resourcePolicy(TEST_MODEL_POLICY)
+                    .build());
+        }
+
+        @Override
+        public ListTagsForResourceResponse listTagsForResource(final ListTagsForResourceRequest request) {
+            return call(() -> ListTagsForResourceResponse.builder()
+                    .tags(RESOURCE_TAGS)
+                    .build());
+        }
+
+        @Override
+        public String serviceName() {
+            return SERVICE_NAME;
+        }
+
+        @Override
+        public void close() {
+        }
+
+        int getMaxInFlight() {
+            return maxInFlight.get();
+        }
+
+        int getTimeouts() {
+            return timeouts.get();
+        }
+
+        private <T> T call(final Supplier<T> response) {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            started.countDown();
+            try {
+                if (!started.await(TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                    timeouts.incrementAndGet();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            } finally {
+                inFlight.decrementAndGet();
+            }
+            return response.get();
+        }
+    }
 }
@@ -0,0 +1,79 @@
+package software.amazon.comprehend.documentclassifier;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.comprehend.core.StageExecutors;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+
+/**
+ * Lifecycles per second and allocation of the load harness with its lifecycles and read fan-out run on bounded pools of
+ * platform threads and on the executor of the runtime, which runs every task on its own virtual thread on Java 21+.
+ * Each operation is one harness run. Run on a Java 21+ JDK with
+ * {@code mvn -Pbenchmark test -Dbenchmark.includes=StageExecutorBenchmark}; on older runtimes both executors are the
+ * bounded pool. The gc profiler the benchmark profile adds reports the heap allocated per run, and the peak number of
+ * platform threads, each reserving its own stack, is printed once per trial.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class StageExecutorBenchmark {
+
+    /** Executors the lifecycles and the calls of their reads run on. */
+    public enum Executor {
+        PLATFORM(StageExecutors::newBoundedExecutor),
+        RUNTIME(StageExecutors::newExecutor);
+
+        private final IntFunction<ExecutorService> factory;
+
+        Executor(final IntFunction<ExecutorService> factory) {
+            this.factory = factory;
+        }
+    }
+
+    @Param
+    public Executor executor;
+
+    @Param({"16", "256"})
+    public int concurrency;
+
+    private LoadHarness loadHarness;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        System.out.printf("%n%s executor, virtual threads: %s%n", executor,
+                executor == Executor.RUNTIME && StageExecutors.isVirtual());
+        loadHarness = new LoadHarness()
+                .withConcurrency(concurrency)
+                .withLifecycles(concurrency * 4)
+                .withExecutors(executor.factory);
+        ManagementFactory.getThreadMXBean().resetPeakThreadCount();
+    }
+
+    @TearDown(Level.Trial)
+    public void printPeakThreadCount() {
+        System.out.printf("%nPeak platform threads: %d%n", ManagementFactory.getThreadMXBean().getPeakThreadCount());
+    }
+
+    @Benchmark
+    public LoadHarness.Report lifecycles() throws Exception {
+        return loadHarness.run();
+    }
+}
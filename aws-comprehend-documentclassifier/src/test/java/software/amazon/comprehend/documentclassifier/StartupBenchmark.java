@@ -0,0 +1,104 @@
+package software.amazon.comprehend.documentclassifier;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compares the cold start of the shaded handler jar with and without its class-data-sharing archive. Every run starts a
+ * fresh JVM on the StartupProbe, with the handler jar first on the class path as the archive requires, and the report
+ * gives the median JVM init time, time to the first ProgressEvent, classes loaded by then and JVM wall time. The runs
+ * with the archive use -Xshare:on, so they fail rather than silently measuring a JVM that could not map it, and log
+ * class loading, so they also fail when the archive maps but the handler classes still come from the jar.
+ *
+ * The cds profile runs it after dumping the archive: {@code mvn -Pcds package -Dcds.benchmark.runs=10}.
+ */
+final class StartupBenchmark {
+
+    private static final String[] METRICS = {"jvmInitMillis", "firstProgressEventMillis", "loadedClasses", "wallMillis"};
+    private static final String SHARED_HANDLER_CLASSES = "sharedHandlerClasses";
+    private static final String SHARED_CLASS_SOURCE = "source: shared objects file";
+    private static final String HANDLER_PACKAGE = StartupBenchmark.class.getPackage().getName() + ".";
+
+    private StartupBenchmark() {
+    }
+
+    /** Arguments are the handler jar, its archive and the number of JVMs started with and without it. */
+    public static void main(final String[] args) throws Exception {
+        final String handlerJar = args[0];
+        final String archive = args[1];
+        final int runs = Integer.parseInt(args[2]);
+
+        final Map<String, List<Long>> withoutArchive = run(handlerJar, runs);
+        final Map<String, List<Long>> withArchive = run(handlerJar, runs,
+                "-XX:SharedArchiveFile=" + archive, "-Xshare:on", "-Xlog:class+load=info");
+        if (withArchive.get(SHARED_HANDLER_CLASSES).contains(0L)) {
+            throw new IllegalStateException("No handler class was loaded from " + archive + ", is it stale?");
+        }
+
+        System.out.printf("Cold start of %s over %d fresh JVMs each (medians):%n", handlerJar, runs);
+        System.out.printf("  %-16s %10s %22s %16s %15s%n", "", "JVM init", "first ProgressEvent", "loaded classes", "JVM wall time");
+        print("without archive", withoutArchive);
+        print("with archive", withArchive);
+        System.out.printf("  handler classes loaded from the archive: %d%n", median(withArchive.get(SHARED_HANDLER_CLASSES)));
+    }
+
+    private static Map<String, List<Long>> run(final String handlerJar, final int runs, final String... jvmOptions) throws Exception {
+        final Map<String, List<Long>> results = new HashMap<>();
+        for (int i = 0; i < runs; i++) {
+            final List<String> command = new ArrayList<>();
+            command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+            command.addAll(Arrays.asList(jvmOptions));
+            command.add("-classpath");
+            command.add(handlerJar + File.pathSeparator + System.getProperty("java.class.path"));
+            command.add(StartupProbe.class.getName());
+
+            final long start = System.nanoTime();
+            final Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+            String result = null;
+            long sharedHandlerClasses = 0;
+            final StringBuilder output = new StringBuilder();
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    output.append(line).append(System.lineSeparator());
+                    if (line.startsWith(StartupProbe.RESULT_PREFIX)) {
+                        result = line.substring(StartupProbe.RESULT_PREFIX.length()).trim();
+                    } else if (line.contains(HANDLER_PACKAGE) && line.endsWith(SHARED_CLASS_SOURCE)) {
+                        sharedHandlerClasses++;
+                    }
+                }
+            }
+            final int exitCode = process.waitFor();
+            final long wallMillis = (System.nanoTime() - start) / 1_000_000;
+            if (exitCode != 0 || result == null) {
+                throw new IllegalStateException(String.format("Startup probe exited with %d:%n%s", exitCode, output));
+            }
+
+            for (final String pair : result.split(" ")) {
+                final String[] nameAndValue = pair.split("=");
+                results.computeIfAbsent(nameAndValue[0], name -> new ArrayList<>()).add(Long.parseLong(nameAndValue[1]));
+            }
+            results.computeIfAbsent("wallMillis", name -> new ArrayList<>()).add(wallMillis);
+            results.computeIfAbsent(SHARED_HANDLER_CLASSES, name -> new ArrayList<>()).add(sharedHandlerClasses);
+        }
+        return results;
+    }
+
+    private static void print(final String label, final Map<String, List<Long>> results) {
+        final long[] medians = Arrays.stream(METRICS).mapToLong(metric -> median(results.get(metric))).toArray();
+        System.out.printf("  %-16s %7d ms %19d ms %16d %12d ms%n", label, medians[0], medians[1], medians[2], medians[3]);
+    }
+
+    private static long median(final List<Long> values) {
+        final long[] sorted = values.stream().mapToLong(Long::longValue).sorted().toArray();
+        return sorted[(sorted.length - 1) / 2];
+    }
+}
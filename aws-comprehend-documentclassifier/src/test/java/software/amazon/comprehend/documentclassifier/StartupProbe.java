@@ -0,0 +1,90 @@
+package software.amazon.comprehend.documentclassifier;
+
+import software.amazon.awssdk.services.comprehend.ComprehendClient;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.LoggerProxy;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.resource.Serializer;
+import software.amazon.comprehend.core.CallbackStabilizer;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.RuntimeMXBean;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+
+/**
+ * Cold start of a handler JVM, started fresh by the StartupBenchmark and by the training run of the class-data-sharing
+ * archive of the handler jar. Serves the invocation a new container usually gets first, a create against the
+ * FakeComprehendClient, and prints the JVM init time, the time to its serialized ProgressEvent and the classes loaded
+ * by then. With "train" as argument it goes on to run every handler, so the class list of the training run covers all
+ * five.
+ */
+final class StartupProbe {
+
+    /** Prefix of the line carrying the measurements, followed by name=value pairs. */
+    static final String RESULT_PREFIX = "startup:";
+
+    private static final Instant START = Instant.parse("2023-01-01T00:00:00Z");
+    private static final Logger SILENT_LOGGER = message -> { };
+    private static final int TRAINING_LIFECYCLES = 20;
+    private static final int TRAINING_CONCURRENCY = 4;
+
+    private StartupProbe() {
+    }
+
+    public static void main(final String[] args) throws Exception {
+        final RuntimeMXBean runtime = ManagementFactory.getRuntimeMXBean();
+        final long jvmInitMillis = runtime.getUptime();
+
+        final MutableClock clock = new MutableClock(START);
+        final FakeComprehendClient fakeComprehendClient = new FakeComprehendClient(clock);
+        final AmazonWebServicesClientProxy proxy = new AmazonWebServicesClientProxy(
+                new LoggerProxy(), AbstractModelTestBase.MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
+        final ProxyClient<ComprehendClient> proxyClient = AbstractModelTestBase.MOCK_PROXY(proxy, fakeComprehendClient);
+        final ResourceModel desiredModel = AbstractModelTestBase.buildResourceModelNoArn(Collections.emptyList());
+        desiredModel.setDocumentClassifierName("startupClassifier");
+
+        final CreateHandler createHandler = new CreateHandler(
+                context -> new TrainingAwareDelay(context, Duration.ofDays(2), clock),
+                new CallbackStabilizer(CallbackStabilizer.DEFAULT_CALLBACK_THRESHOLD, CallbackStabilizer.DEFAULT_LOCAL_WAIT_BUDGET, clock::advance));
+        final ProgressEvent<ResourceModel, CallbackContext> event = createHandler.handleRequest(
+                proxy, LoadHarness.requestFor(desiredModel, null), new CallbackContext(), proxyClient, SILENT_LOGGER);
+        // The wrapper hands the event back to CloudFormation serialized
+        new Serializer().serialize(event);
+        final long firstProgressEventMillis = runtime.getUptime();
+        final int loadedClasses = ManagementFactory.getClassLoadingMXBean().getLoadedClassCount();
+
+        if (event.getStatus() == OperationStatus.FAILED) {
+            throw new IllegalStateException("First create failed with " + event.getErrorCode() + ": " + event.getMessage());
+        }
+        System.out.printf("%s jvmInitMillis=%d firstProgressEventMillis=%d loadedClasses=%d%n",
+                RESULT_PREFIX, jvmInitMillis, firstProgressEventMillis, loadedClasses);
+
+        if (args.length > 0 && "train".equals(args[0])) {
+            train(proxy, proxyClient);
+        }
+    }
+
+    /** Runs full lifecycles through the create, read, update and delete handlers, then the list handler. */
+    private static void train(final AmazonWebServicesClientProxy proxy,
+                              final ProxyClient<ComprehendClient> proxyClient) throws Exception {
+        final LoadHarness.Report report = new LoadHarness()
+                .withLifecycles(TRAINING_LIFECYCLES)
+                .withConcurrency(TRAINING_CONCURRENCY)
+                .run();
+        if (report.getFailures() > 0) {
+            throw new IllegalStateException(report.getFailures() + " training lifecycles failed");
+        }
+
+        final ProgressEvent<ResourceModel, CallbackContext> listEvent = new ListHandler().handleRequest(
+                proxy, LoadHarness.requestFor(new ResourceModel(), null), new CallbackContext(), proxyClient, SILENT_LOGGER);
+        if (listEvent.getStatus() != OperationStatus.SUCCESS) {
+            throw new IllegalStateException("Training list failed with " + listEvent.getErrorCode());
+        }
+        System.out.print(report);
+    }
+}
@@ -0,0 +1,151 @@
+package software.amazon.comprehend.documentclassifier;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.comprehend.model.ModelStatus;
+import software.amazon.cloudformation.proxy.Delay;
+import software.amazon.cloudformation.proxy.delay.Constant;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TrainingAwareDelayTest extends AbstractModelTestBase {
+    private static final Duration TIMEOUT = Duration.ofDays(2);
+    private static final Instant SUBMIT_TIME = Instant.parse("2023-01-01T00:00:00Z");
+
+    private final MutableClock clock = new MutableClock(SUBMIT_TIME);
+
+    @Test
+    public void testNextDelay_PollsOftenBeforeTrainingStarts() {
+        final CallbackContext callbackContext = CallbackContext.builder().build();
+        final TrainingAwareDelay delay = new TrainingAwareDelay(callbackContext, TIMEOUT, clock);
+
+        assertThat(delay.nextDelay(1)).isEqualTo(TrainingAwareDelay.MIN_DELAY);
+
+        callbackContext.setModelStatus(ModelStatus.SUBMITTED);
+        callbackContext.setSubmitTime(SUBMIT_TIME.toEpochMilli());
+        clock.advance(Duration.ofMinutes(30));
+
+        assertThat(delay.nextDelay(2)).isEqualTo(TrainingAwareDelay.MIN_DELAY);
+    }
+
+    @Test
+    public void testNextDelay_BacksOffMidTrainingAndTightensNearExpectedFinish() {
+        final CallbackContext callbackContext = trainingContext(SUBMIT_TIME);
+        final TrainingAwareDelay delay = new TrainingAwareDelay(callbackContext, TIMEOUT, clock);
+
+        clock.set(SUBMIT_TIME.plus(Duration.ofMinutes(2)));
+        assertThat(delay.nextDelay(1)).isEqualTo(TrainingAwareDelay.MIN_DELAY);
+
+        clock.set(SUBMIT_TIME.plus(Duration.ofMinutes(15)));
+        assertThat(delay.nextDelay(2)).isEqualTo(TrainingAwareDelay.MAX_DELAY);
+
+        clock.set(SUBMIT_TIME.plus(Duration.ofMinutes(52)));
+        assertThat(delay.nextDelay(3)).isEqualTo(Duration.ofMinutes(2));
+
+        clock.set(SUBMIT_TIME.plus(Duration.ofMinutes(59)));
+        assertThat(delay.nextDelay(4)).isEqualTo(TrainingAwareDelay.MIN_DELAY);
+
+        // Past the expected finish the estimate was wrong, so the wait grows again with the overrun
+        clock.set(SUBMIT_TIME.plus(Duration.ofMinutes(80)));
+        assertThat(delay.nextDelay(5)).isEqualTo(Duration.ofMinutes(5));
+    }
+
+    @Test
+    public void testNextDelay_StopsAfterTimeout() {
+        final CallbackContext callbackContext = trainingContext(SUBMIT_TIME);
+        final TrainingAwareDelay delay = new TrainingAwareDelay(callbackContext, TIMEOUT, clock);
+
+        clock.set(SUBMIT_TIME.plus(TIMEOUT).plusSeconds(1));
+        assertThat(delay.nextDelay(100)).isEqualTo(Duration.ZERO);
+
+        final TrainingAwareDelay delayWithoutSubmitTime = new TrainingAwareDelay(CallbackContext.builder().build(), TIMEOUT, clock);
+        final int attemptsInTimeout = (int) (TIMEOUT.getSeconds() / TrainingAwareDelay.MIN_DELAY.getSeconds());
+        assertThat(delayWithoutSubmitTime.nextDelay(attemptsInTimeout)).isEqualTo(TrainingAwareDelay.MIN_DELAY);
+        assertThat(delayWithoutSubmitTime.nextDelay(attemptsInTimeout + 1)).isEqualTo(Duration.ZERO);
+    }
+
+    @Test
+    public void testExpectedTrainingTime_ScalesWithDocumentCount() {
+        final CallbackContext callbackContext = trainingContext(SUBMIT_TIME);
+        final TrainingAwareDelay delay = new TrainingAwareDelay(callbackContext, TIMEOUT, clock);
+
+        assertThat(delay.getExpectedTrainingTime()).isEqualTo(TrainingAwareDelay.DEFAULT_EXPECTED_TRAINING_TIME);
+
+        callbackContext.setTrainingDocumentCount(50_000);
+        assertThat(delay.getExpectedTrainingTime()).isEqualTo(Duration.ofMinutes(120));
+
+        callbackContext.setTrainingDocumentCount(Integer.MAX_VALUE);
+        assertThat(delay.getExpectedTrainingTime()).isEqualTo(TrainingAwareDelay.MAX_EXPECTED_TRAINING_TIME);
+    }
+
+    /**
+     * Simulates polling a classifier that stays SUBMITTED for 5 minutes and then trains for 6 hours.
+     */
+    @Test
+    public void testSimulation_SavesCallsAgainstConstantStrategy() {
+        final Duration submittedTime = Duration.ofMinutes(5);
+        final Duration trainingTime = Duration.ofHours(6);
+
+        final SimulationResult constant = simulate(callbackContext -> Constant.of()
+                .delay(Duration.ofSeconds(15))
+                .timeout(TIMEOUT)
+                .build(), submittedTime, trainingTime);
+        final SimulationResult trainingAware = simulate(callbackContext ->
+                new TrainingAwareDelay(callbackContext, TIMEOUT, clock), submittedTime, trainingTime);
+
+        assertThat(constant.calls).isGreaterThan(1400);
+        assertThat(trainingAware.calls).isLessThan(constant.calls / 10);
+        assertThat(trainingAware.detectionLag).isLessThanOrEqualTo(TrainingAwareDelay.MAX_DELAY);
+    }
+
+    private SimulationResult simulate(final Function<CallbackContext, Delay> strategy,
+                                      final Duration submittedTime,
+                                      final Duration trainingTime) {
+        final Instant trainingStartTime = SUBMIT_TIME.plus(submittedTime);
+        final Instant trainingEndTime = trainingStartTime.plus(trainingTime);
+        final CallbackContext callbackContext = CallbackContext.builder().build();
+        final Delay delay = strategy.apply(callbackContext);
+
+        clock.set(SUBMIT_TIME);
+        int calls = 0;
+        for (int attempt = 1; ; attempt++) {
+            // One DescribeDocumentClassifier poll
+            calls++;
+            final Instant now = clock.instant();
+            callbackContext.setSubmitTime(SUBMIT_TIME.toEpochMilli());
+            if (now.isBefore(trainingStartTime)) {
+                callbackContext.setModelStatus(ModelStatus.SUBMITTED);
+            } else if (now.isBefore(trainingEndTime)) {
+                callbackContext.setModelStatus(ModelStatus.TRAINING);
+                callbackContext.setTrainingStartTime(trainingStartTime.toEpochMilli());
+            } else {
+                return new SimulationResult(calls, Duration.between(trainingEndTime, now));
+            }
+
+            final Duration next = delay.nextDelay(attempt);
+            assertThat(next).isPositive();
+            clock.advance(next);
+        }
+    }
+
+    private static CallbackContext trainingContext(final Instant trainingStartTime) {
+        return CallbackContext.builder()
+                .modelStatus(ModelStatus.TRAINING)
+                .submitTime(trainingStartTime.toEpochMilli())
+                .trainingStartTime(trainingStartTime.toEpochMilli())
+                .build();
+    }
+
+    private static final class SimulationResult {
+        private final int calls;
+        private final Duration detectionLag;
+
+        private SimulationResult(final int calls, final Duration detectionLag) {
+            this.calls = calls;
+            this.detectionLag = detectionLag;
+        }
+    }
+}
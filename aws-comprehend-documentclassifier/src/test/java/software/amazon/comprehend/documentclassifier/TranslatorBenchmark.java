@@ -0,0 +1,195 @@
+package software.amazon.comprehend.documentclassifier;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.services.comprehend.model.CreateDocumentClassifierRequest;
+import software.amazon.awssdk.services.comprehend.model.DescribeDocumentClassifierResponse;
+import software.amazon.awssdk.services.comprehend.model.DocumentClassifierProperties;
+import software.amazon.awssdk.services.comprehend.model.DocumentClassifierMode;
+import software.amazon.awssdk.services.comprehend.model.ModelStatus;
+import software.amazon.awssdk.services.comprehend.model.Tag;
+import software.amazon.awssdk.services.comprehend.model.TagResourceRequest;
+import software.amazon.awssdk.services.comprehend.model.UntagResourceRequest;
+import software.amazon.comprehend.core.TagDiff;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput and allocation of the Translator conversions run on every handler entry and read, for small, typical and
+ * maximum-size classifiers. Run with {@code mvn -Pbenchmark test}, which adds the gc profiler for bytes allocated per
+ * operation; {@code -Dbenchmark.includes=TranslatorBenchmark.translateFromReadResponse} narrows the run.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TranslatorBenchmark {
+
+    /** Size of the classifier translated. */
+    public enum Payload {
+        // S3 input, no VPC, one tag
+        SMALL(0, 0, 0, 0, 1),
+        // Two augmented manifests, PDF reader config, a VPC with two subnets and ten tags
+        TYPICAL(2, 2, 2, 2, 10),
+        // The service limits: five augmented manifests of five attributes, 16 subnets, 5 security groups and 50 tags
+        MAX(5, 5, 16, 5, 50);
+
+        private final int augmentedManifests;
+        private final int attributeNames;
+        private final int subnets;
+        private final int securityGroups;
+        private final int tags;
+
+        Payload(final int augmentedManifests, final int attributeNames, final int subnets, final int securityGroups, final int tags) {
+            this.augmentedManifests = augmentedManifests;
+            this.attributeNames = attributeNames;
+            this.subnets = subnets;
+            this.securityGroups = securityGroups;
+            this.tags = tags;
+        }
+    }
+
+    @Param
+    public Payload payload;
+
+    private ResourceModel model;
+    private Set<Tag> desiredTags;
+    private Set<Tag> currentTags;
+    private Set<software.amazon.comprehend.documentclassifier.Tag> modelTags;
+    private DescribeDocumentClassifierResponse describeResponse;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        final DocumentClassifierInputDataConfig inputDataConfig = new DocumentClassifierInputDataConfig();
+        if (payload.augmentedManifests == 0) {
+            inputDataConfig.setDataFormat("COMPREHEND_CSV");
+            inputDataConfig.setS3Uri("s3://bucket/training/");
+        } else {
+            inputDataConfig.setDataFormat("AUGMENTED_MANIFEST");
+            final Set<AugmentedManifestsListItem> augmentedManifests = new LinkedHashSet<>();
+            for (int i = 0; i < payload.augmentedManifests; i++) {
+                final Set<String> attributeNames = new LinkedHashSet<>();
+                for (int j = 0; j < payload.attributeNames; j++) {
+                    attributeNames.add("attribute" + j);
+                }
+                augmentedManifests.add(AugmentedManifestsListItem.builder()
+                        .s3Uri("s3://bucket/manifests/manifest" + i + ".json")
+                        .split(i % 2 == 0 ? "TRAIN" : "TEST")
+                        .attributeNames(attributeNames)
+                        .build());
+            }
+            inputDataConfig.setAugmentedManifests(augmentedManifests);
+            inputDataConfig.setDocumentType("SEMI_STRUCTURED_DOCUMENT");
+            inputDataConfig.setDocuments(DocumentClassifierDocuments.builder()
+                    .s3Uri("s3://bucket/documents/")
+                    .testS3Uri("s3://bucket/test-documents/")
+                    .build());
+            inputDataConfig.setDocumentReaderConfig(DocumentReaderConfig.builder()
+                    .documentReadAction("TEXTRACT_ANALYZE_DOCUMENT")
+                    .documentReadMode("FORCE_DOCUMENT_READ_ACTION")
+                    .featureTypes(new HashSet<>(Arrays.asList("TABLES", "FORMS")))
+                    .build());
+        }
+
+        model = ResourceModel.builder()
+                .arn("arn:aws:comprehend:us-west-2:123456789012:document-classifier/benchmarkClassifier/version/v1")
+                .documentClassifierName("benchmarkClassifier")
+                .versionName("v1")
+                .dataAccessRoleArn("arn:aws:iam::123456789012:role/DataAccessRole")
+                .languageCode("en")
+                .mode(DocumentClassifierMode.MULTI_CLASS.toString())
+                .inputDataConfig(inputDataConfig)
+                .outputDataConfig(DocumentClassifierOutputDataConfig.builder().s3Uri("s3://bucket/output/").build())
+                .vpcConfig(payload.subnets == 0 ? null : VpcConfig.builder()
+                        .securityGroupIds(ids("sg-", payload.securityGroups))
+                        .subnets(ids("subnet-", payload.subnets))
+                        .build())
+                .build();
+
+        desiredTags = tags(payload.tags, 0);
+        // Half of the current tags have other keys, so the diff both adds and removes
+        currentTags = tags(payload.tags, payload.tags / 2);
+        modelTags = Translator.fromSdkTags(desiredTags);
+
+        final CreateDocumentClassifierRequest createRequest = Translator.translateToCreateRequest(model, "token", desiredTags);
+        describeResponse = DescribeDocumentClassifierResponse.builder()
+                .documentClassifierProperties(DocumentClassifierProperties.builder()
+                        .documentClassifierArn(model.getArn())
+                        .versionName(createRequest.versionName())
+                        .dataAccessRoleArn(createRequest.dataAccessRoleArn())
+                        .languageCode(createRequest.languageCode())
+                        .mode(createRequest.mode())
+                        .inputDataConfig(createRequest.inputDataConfig())
+                        .outputDataConfig(createRequest.outputDataConfig().toBuilder()
+                                .s3Uri("s3://bucket/output/123456789012-CLR-0123456789abcdef0123456789abcdef/output/output.tar.gz")
+                                .build())
+                        .vpcConfig(createRequest.vpcConfig())
+                        .status(ModelStatus.TRAINED)
+                        .build())
+                .build();
+    }
+
+    @Benchmark
+    public CreateDocumentClassifierRequest translateToCreateRequest() {
+        return Translator.translateToCreateRequest(model, "token", desiredTags);
+    }
+
+    @Benchmark
+    public ResourceModel translateFromReadResponse() {
+        return Translator.translateFromReadResponse(describeResponse);
+    }
+
+    @Benchmark
+    public TagResourceRequest translateToTagResourceRequest() {
+        return Translator.translateToTagResourceRequest(model, TagDiff.between(currentTags, desiredTags));
+    }
+
+    @Benchmark
+    public UntagResourceRequest translateToUntagResourceRequest() {
+        return Translator.translateToUntagResourceRequest(model, TagDiff.between(currentTags, desiredTags));
+    }
+
+    @Benchmark
+    public Set<software.amazon.comprehend.documentclassifier.Tag> fromSdkTags() {
+        return Translator.fromSdkTags(desiredTags);
+    }
+
+    @Benchmark
+    public Collection<Tag> toSdkTags() {
+        return Translator.toSdkTags(modelTags);
+    }
+
+    private static Set<String> ids(final String prefix, final int count) {
+        final Set<String> ids = new LinkedHashSet<>();
+        for (int i = 0; i < count; i++) {
+            ids.add(String.format("%s%017x", prefix, i));
+        }
+        return ids;
+    }
+
+    /** Tags key0..keyN, with the first {@code renamed} given other keys. */
+    private static Set<Tag> tags(final int count, final int renamed) {
+        final Set<Tag> tags = new LinkedHashSet<>();
+        for (int i = 0; i < count; i++) {
+            tags.add(Tag.builder().key(i < renamed ? "renamedKey" + i : "key" + i).value("value" + i).build());
+        }
+        return tags;
+    }
+}
@@ -29,6 +29,8 @@ import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.comprehend.core.StageTrace;
+import software.amazon.comprehend.core.TagReconciler;
 
 import java.time.Duration;
 import java.util.Arrays;
@@ -37,6 +39,8 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
@@ -81,6 +85,17 @@ public class UpdateHandlerTest extends AbstractModelTestBase {
                     .logicalResourceIdentifier(TEST_LOGICAL_RESOURCE_IDENTIFIER)
                     .build();
 
+    protected static final ResourceHandlerRequest<ResourceModel> TEST_RESOURCE_HANDLER_REQUEST_WITH_PREVIOUS_STATE =
+            ResourceHandlerRequest.<ResourceModel>builder()
+                    .clientRequestToken(TEST_CLIENT_REQUEST_TOKEN)
+                    .desiredResourceState(TEST_RESOURCE_MODEL_UPDATED)
+                    .previousResourceState(TEST_RESOURCE_MODEL)
+                    .awsPartition(TEST_PARTITION)
+                    .awsAccountId(TEST_ACCOUNT_ID)
+                    .region(TEST_REGION)
+                    .logicalResourceIdentifier(TEST_LOGICAL_RESOURCE_IDENTIFIER)
+                    .build();
+
     @Mock
     private AmazonWebServicesClientProxy proxy;
 
@@ -156,10 +171,6 @@ public class UpdateHandlerTest extends AbstractModelTestBase {
                         .resourceArn(TEST_DOCUMENT_CLASSIFIER_ARN_WITH_VERSION)
                         .tags(expectedTagsPostUntagging)
                         .build())
-                .thenReturn(ListTagsForResourceResponse.builder()
-                        .resourceArn(TEST_DOCUMENT_CLASSIFIER_ARN_WITH_VERSION)
-                        .tags(expectedTagsPostUntagging)
-                        .build())
                 .thenReturn(ListTagsForResourceResponse.builder()
                         .resourceArn(TEST_DOCUMENT_CLASSIFIER_ARN_WITH_VERSION)
                         .tags(expectedTagsPostTagging)
@@ -186,6 +197,16 @@ public class UpdateHandlerTest extends AbstractModelTestBase {
         )));
         assertThat(finalResponse.getCallbackContext().getTagKeysToRemove()).isEqualTo(
                 new HashSet<>(Collections.singletonList("key3")));
+        // Untagging and tagging are stabilized together with one ListTagsForResource call per poll
+        assertThat(finalResponse.getCallbackContext().getTagPollCount()).isEqualTo(3);
+        assertThat(finalResponse.getCallbackContext().getStageTraces().keySet()).containsExactly(
+                "AWS-Comprehend-DocumentClassifier::Update::DeleteResourcePolicy",
+                "AWS-Comprehend-DocumentClassifier::Update::PutResourcePolicy",
+                "AWS-Comprehend-DocumentClassifier::Update::Untag",
+                "AWS-Comprehend-DocumentClassifier::Update::Tag",
+                "AWS-Comprehend-DocumentClassifier::Update::Read");
+        assertThat(finalResponse.getCallbackContext().getStageTraces().values())
+                .allMatch(trace -> trace.getOutcome() == StageTrace.Outcome.DONE && trace.getAttempts() == 1);
 
         verify(comprehendClient, times(2)).describeResourcePolicy(describeResourcePolicyRequestArgumentCaptor.capture());
         EXPECTED_DESCRIBE_RESOURCE_POLICY_REQUEST.equalsBySdkFields(describeResourcePolicyRequestArgumentCaptor.getValue());
@@ -199,7 +220,7 @@ public class UpdateHandlerTest extends AbstractModelTestBase {
                 .build();
         expectedPutResourcePolicyRequest.equalsBySdkFields(putResourcePolicyRequestArgumentCaptor.getValue());
 
-        verify(comprehendClient, times(6)).listTagsForResource(listTagsForResourceRequestArgumentCaptor.capture());
+        verify(comprehendClient, times(4)).listTagsForResource(listTagsForResourceRequestArgumentCaptor.capture());
         EXPECTED_LIST_TAGS_FOR_RESOURCE_REQUEST.equalsBySdkFields(listTagsForResourceRequestArgumentCaptor.getValue());
 
         verify(comprehendClient, times(1)).untagResource(untagResourceRequestArgumentCaptor.capture());
@@ -312,16 +333,16 @@ public class UpdateHandlerTest extends AbstractModelTestBase {
         assertThat(finalResponse.getResourceModels()).isNull();
         assertThat(finalResponse.getMessage()).isNull();
         assertThat(finalResponse.getErrorCode()).isNull();
-        assertThat(finalResponse.getCallbackContext().getTagsToAdd()).isEmpty();
-        assertThat(finalResponse.getCallbackContext().getTagKeysToRemove()).isEmpty();
+        assertThat(finalResponse.getCallbackContext().getTagsToAdd()).isNull();
+        assertThat(finalResponse.getCallbackContext().getTagKeysToRemove()).isNull();
 
-        verify(comprehendClient, times(2)).describeResourcePolicy(describeResourcePolicyRequestArgumentCaptor.capture());
+        verify(comprehendClient, times(1)).describeResourcePolicy(describeResourcePolicyRequestArgumentCaptor.capture());
         EXPECTED_DESCRIBE_RESOURCE_POLICY_REQUEST.equalsBySdkFields(describeResourcePolicyRequestArgumentCaptor.getValue());
 
         verify(comprehendClient, times(0)).deleteResourcePolicy(any(DeleteResourcePolicyRequest.class));
         verify(comprehendClient, times(0)).putResourcePolicy(any(PutResourcePolicyRequest.class));
 
-        verify(comprehendClient, times(2)).listTagsForResource(listTagsForResourceRequestArgumentCaptor.capture());
+        verify(comprehendClient, times(1)).listTagsForResource(listTagsForResourceRequestArgumentCaptor.capture());
         EXPECTED_LIST_TAGS_FOR_RESOURCE_REQUEST.equalsBySdkFields(listTagsForResourceRequestArgumentCaptor.getValue());
 
         verify(comprehendClient, times(0)).untagResource(any(UntagResourceRequest.class));
@@ -366,8 +387,8 @@ public class UpdateHandlerTest extends AbstractModelTestBase {
         assertThat(finalResponse.getResourceModels()).isNull();
         assertThat(finalResponse.getMessage()).isNull();
         assertThat(finalResponse.getErrorCode()).isNull();
-        assertThat(finalResponse.getCallbackContext().getTagsToAdd()).isEmpty();
-        assertThat(finalResponse.getCallbackContext().getTagKeysToRemove()).isEmpty();
+        assertThat(finalResponse.getCallbackContext().getTagsToAdd()).isNull();
+        assertThat(finalResponse.getCallbackContext().getTagKeysToRemove()).isNull();
 
         verify(comprehendClient, times(2)).describeResourcePolicy(describeResourcePolicyRequestArgumentCaptor.capture());
         EXPECTED_DESCRIBE_RESOURCE_POLICY_REQUEST.equalsBySdkFields(describeResourcePolicyRequestArgumentCaptor.getValue());
@@ -377,7 +398,7 @@ public class UpdateHandlerTest extends AbstractModelTestBase {
 
         verify(comprehendClient, times(0)).putResourcePolicy(any(PutResourcePolicyRequest.class));
 
-        verify(comprehendClient, times(2)).listTagsForResource(listTagsForResourceRequestArgumentCaptor.capture());
+        verify(comprehendClient, times(1)).listTagsForResource(listTagsForResourceRequestArgumentCaptor.capture());
         EXPECTED_LIST_TAGS_FOR_RESOURCE_REQUEST.equalsBySdkFields(listTagsForResourceRequestArgumentCaptor.getValue());
 
         verify(comprehendClient, times(0)).untagResource(any(UntagResourceRequest.class));
@@ -524,8 +545,8 @@ public class UpdateHandlerTest extends AbstractModelTestBase {
         assertThat(finalResponse.getResourceModels()).isNull();
         assertThat(finalResponse.getMessage()).isNull();
         assertThat(finalResponse.getErrorCode()).isNull();
-        assertThat(finalResponse.getCallbackContext().getTagsToAdd()).isEmpty();
-        assertThat(finalResponse.getCallbackContext().getTagKeysToRemove()).isEmpty();
+        assertThat(finalResponse.getCallbackContext().getTagsToAdd()).isNull();
+        assertThat(finalResponse.getCallbackContext().getTagKeysToRemove()).isNull();
 
         verify(comprehendClient, times(2)).describeResourcePolicy(describeResourcePolicyRequestArgumentCaptor.capture());
         EXPECTED_DESCRIBE_RESOURCE_POLICY_REQUEST.equalsBySdkFields(describeResourcePolicyRequestArgumentCaptor.getValue());
@@ -539,7 +560,7 @@ public class UpdateHandlerTest extends AbstractModelTestBase {
                 .build();
         expectedPutResourcePolicyRequest.equalsBySdkFields(putResourcePolicyRequestArgumentCaptor.getValue());
 
-        verify(comprehendClient, times(2)).listTagsForResource(listTagsForResourceRequestArgumentCaptor.capture());
+        verify(comprehendClient, times(1)).listTagsForResource(listTagsForResourceRequestArgumentCaptor.capture());
         EXPECTED_LIST_TAGS_FOR_RESOURCE_REQUEST.equalsBySdkFields(listTagsForResourceRequestArgumentCaptor.getValue());
 
         verify(comprehendClient, times(0)).untagResource(any(UntagResourceRequest.class));
@@ -614,13 +635,13 @@ public class UpdateHandlerTest extends AbstractModelTestBase {
         assertThat(finalResponse.getCallbackContext().getTagsToAdd()).isEqualTo(expectedTagsToAdd);
         assertThat(finalResponse.getCallbackContext().getTagKeysToRemove()).isEqualTo(expectedTagKeysToRemove);
 
-        verify(comprehendClient, times(2)).describeResourcePolicy(describeResourcePolicyRequestArgumentCaptor.capture());
+        verify(comprehendClient, times(1)).describeResourcePolicy(describeResourcePolicyRequestArgumentCaptor.capture());
         EXPECTED_DESCRIBE_RESOURCE_POLICY_REQUEST.equalsBySdkFields(describeResourcePolicyRequestArgumentCaptor.getValue());
 
         verify(comprehendClient, times(0)).deleteResourcePolicy(any(DeleteResourcePolicyRequest.class));
         verify(comprehendClient, times(0)).putResourcePolicy(any(PutResourcePolicyRequest.class));
 
-        verify(comprehendClient, times(5)).listTagsForResource(listTagsForResourceRequestArgumentCaptor.capture());
+        verify(comprehendClient, times(4)).listTagsForResource(listTagsForResourceRequestArgumentCaptor.capture());
         EXPECTED_LIST_TAGS_FOR_RESOURCE_REQUEST.equalsBySdkFields(listTagsForResourceRequestArgumentCaptor.getValue());
 
         verify(comprehendClient, times(1)).untagResource(untagResourceRequestArgumentCaptor.capture());
@@ -641,4 +662,265 @@ public class UpdateHandlerTest extends AbstractModelTestBase {
         EXPECTED_DESCRIBE_DOCUMENT_CLASSIFIER_REQUEST.equalsBySdkFields(describeDocumentClassifierRequestArgumentCaptor.getValue());
     }
 
+    @Test
+    public void handleRequest_PlansFromPreviousState_WithoutLiveReads() {
+        Collection<Tag> expectedTagsPostTagging = Translator.toSdkTags(TEST_RESOURCE_MODEL_UPDATED.getTags());
+
+        // Set up mock behavior
+        // These empty responses aren't needed, but makeServiceCall is repeated if response is null
+        when(comprehendClient.putResourcePolicy(any(PutResourcePolicyRequest.class)))
+                .thenReturn(PutResourcePolicyResponse.builder().build());
+        when(comprehendClient.untagResource(any(UntagResourceRequest.class)))
+                .thenReturn(UntagResourceResponse.builder().build());
+        when(comprehendClient.tagResource(any(TagResourceRequest.class)))
+                .thenReturn(TagResourceResponse.builder().build());
+
+        when(comprehendClient.describeResourcePolicy(any(DescribeResourcePolicyRequest.class)))
+                .thenReturn(DescribeResourcePolicyResponse.builder()
+                        .resourcePolicy(TEST_MODEL_POLICY_UPDATED)
+                        .build());
+        when(comprehendClient.listTagsForResource(any(ListTagsForResourceRequest.class)))
+                .thenReturn(ListTagsForResourceResponse.builder()
+                        .resourceArn(TEST_DOCUMENT_CLASSIFIER_ARN_WITH_VERSION)
+                        .tags(expectedTagsPostTagging)
+                        .build());
+        when(comprehendClient.describeDocumentClassifier(any(DescribeDocumentClassifierRequest.class)))
+                .thenReturn(DescribeDocumentClassifierResponse.builder()
+                        .documentClassifierProperties(TEST_DOCUMENT_CLASSIFIER_PROPERTIES_TRAINED)
+                        .build());
+
+        // Invoke Handler
+        final ProgressEvent<ResourceModel, CallbackContext> finalResponse = invokeHandleRequestAndReturnFinalProgressEvent(
+                proxy, TEST_RESOURCE_HANDLER_REQUEST_WITH_PREVIOUS_STATE, new CallbackContext(), proxyClient, LOGGER, handler);
+
+        // Validate handler behavior
+        assertThat(finalResponse.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(finalResponse.getResourceModel()).isEqualTo(TEST_RESOURCE_HANDLER_REQUEST_WITH_PREVIOUS_STATE.getDesiredResourceState());
+        assertThat(finalResponse.getCallbackContext().isUpdatePlanned()).isTrue();
+        assertThat(finalResponse.getCallbackContext().isResourcePolicyToPut()).isTrue();
+        assertThat(finalResponse.getCallbackContext().isResourcePolicyToDelete()).isFalse();
+        assertThat(finalResponse.getCallbackContext().getTagsToAdd()).isEqualTo(new HashSet<>(Arrays.asList(
+                Tag.builder().key("key1").value("newValue1").build(),
+                Tag.builder().key("key4").value("value4").build()
+        )));
+        assertThat(finalResponse.getCallbackContext().getTagKeysToRemove()).isEqualTo(
+                new HashSet<>(Collections.singletonList("key3")));
+
+        // The only reads are the tagging stabilization poll and the trailing read of the resource
+        verify(comprehendClient, times(1)).describeResourcePolicy(any(DescribeResourcePolicyRequest.class));
+        verify(comprehendClient, times(1)).listTagsForResource(any(ListTagsForResourceRequest.class));
+        verify(comprehendClient, times(1)).describeDocumentClassifier(any(DescribeDocumentClassifierRequest.class));
+        verify(comprehendClient, times(1)).putResourcePolicy(any(PutResourcePolicyRequest.class));
+        verify(comprehendClient, times(1)).untagResource(any(UntagResourceRequest.class));
+        verify(comprehendClient, times(1)).tagResource(any(TagResourceRequest.class));
+        verify(comprehendClient, times(0)).deleteResourcePolicy(any(DeleteResourcePolicyRequest.class));
+    }
+
+    @Test
+    public void handleRequest_PlansFromLiveTags_WhenPreviousSystemTagsMissing() {
+        final ResourceHandlerRequest<ResourceModel> request = TEST_RESOURCE_HANDLER_REQUEST_WITH_PREVIOUS_STATE.toBuilder()
+                .systemTags(SYSTEM_TAGS_MAP)
+                .previousSystemTags(null)
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> finalResponse = invokeUpdatePlannedFromLiveTags(request);
+
+        // The system tags are already on the classifier, so only the user tag changes are applied
+        verify(comprehendClient, times(1)).tagResource(tagResourceRequestArgumentCaptor.capture());
+        assertThat(tagResourceRequestArgumentCaptor.getValue().tags())
+                .noneMatch(tag -> tag.key().startsWith("aws:"));
+        assertThat(finalResponse.getCallbackContext().getTagsToAdd()).isEqualTo(new HashSet<>(Arrays.asList(
+                Tag.builder().key("key1").value("newValue1").build(),
+                Tag.builder().key("key4").value("value4").build()
+        )));
+    }
+
+    @Test
+    public void handleRequest_PlansFromLiveTags_WhenPreviousStateHasNoArn() {
+        final ResourceHandlerRequest<ResourceModel> request = TEST_RESOURCE_HANDLER_REQUEST_WITH_PREVIOUS_STATE.toBuilder()
+                .previousResourceState(TEST_RESOURCE_MODEL_NO_ARN)
+                .systemTags(SYSTEM_TAGS_MAP)
+                .previousSystemTags(SYSTEM_TAGS_MAP)
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> finalResponse = invokeUpdatePlannedFromLiveTags(request);
+
+        verify(comprehendClient, times(1)).tagResource(any(TagResourceRequest.class));
+        assertThat(finalResponse.getCallbackContext().getTagKeysToRemove()).isEqualTo(
+                new HashSet<>(Collections.singletonList("key3")));
+    }
+
+    /**
+     * Runs an update whose plan has to come from the live tags and resource policy, verifying both are read before
+     * the tagging stabilization poll and the trailing read.
+     */
+    private ProgressEvent<ResourceModel, CallbackContext> invokeUpdatePlannedFromLiveTags(final ResourceHandlerRequest<ResourceModel> request) {
+        final List<Tag> tagsPostTagging = Stream.of(Translator.toSdkTags(TEST_RESOURCE_MODEL_UPDATED.getTags()), SYSTEM_TAGS)
+                .flatMap(Collection::stream)
+                .collect(Collectors.toList());
+
+        // Set up mock behavior
+        // These empty responses aren't needed, but makeServiceCall is repeated if response is null
+        when(comprehendClient.putResourcePolicy(any(PutResourcePolicyRequest.class)))
+                .thenReturn(PutResourcePolicyResponse.builder().build());
+        when(comprehendClient.untagResource(any(UntagResourceRequest.class)))
+                .thenReturn(UntagResourceResponse.builder().build());
+        when(comprehendClient.tagResource(any(TagResourceRequest.class)))
+                .thenReturn(TagResourceResponse.builder().build());
+
+        when(comprehendClient.describeResourcePolicy(any(DescribeResourcePolicyRequest.class)))
+                .thenReturn(DescribeResourcePolicyResponse.builder()
+                        .resourcePolicy(TEST_MODEL_POLICY)
+                        .build())
+                .thenReturn(DescribeResourcePolicyResponse.builder()
+                        .resourcePolicy(TEST_MODEL_POLICY_UPDATED)
+                        .build());
+        when(comprehendClient.listTagsForResource(any(ListTagsForResourceRequest.class)))
+                .thenReturn(ListTagsForResourceResponse.builder()
+                        .resourceArn(TEST_DOCUMENT_CLASSIFIER_ARN_WITH_VERSION)
+                        .tags(RESOURCE_TAGS_WITH_SYSTEM_TAGS)
+                        .build())
+                .thenReturn(ListTagsForResourceResponse.builder()
+                        .resourceArn(TEST_DOCUMENT_CLASSIFIER_ARN_WITH_VERSION)
+                        .tags(tagsPostTagging)
+                        .build());
+        when(comprehendClient.describeDocumentClassifier(any(DescribeDocumentClassifierRequest.class)))
+                .thenReturn(DescribeDocumentClassifierResponse.builder()
+                        .documentClassifierProperties(TEST_DOCUMENT_CLASSIFIER_PROPERTIES_TRAINED)
+                        .build());
+
+        // Invoke Handler
+        final ProgressEvent<ResourceModel, CallbackContext> finalResponse = invokeHandleRequestAndReturnFinalProgressEvent(
+                proxy, request, new CallbackContext(), proxyClient, LOGGER, handler);
+
+        // Validate handler behavior
+        assertThat(finalResponse.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(finalResponse.getCallbackContext().isResourcePolicyToPut()).isTrue();
+        verify(comprehendClient, times(2)).describeResourcePolicy(any(DescribeResourcePolicyRequest.class));
+        verify(comprehendClient, times(2)).listTagsForResource(any(ListTagsForResourceRequest.class));
+        verify(comprehendClient, times(1)).putResourcePolicy(any(PutResourcePolicyRequest.class));
+        verify(comprehendClient, times(1)).untagResource(any(UntagResourceRequest.class));
+        return finalResponse;
+    }
+
+    @Test
+    public void handleRequest_ReusesPlanFromCallbackContext_OnReentry() {
+        final CallbackContext plannedCallbackContext = CallbackContext.builder()
+                .updatePlanned(true)
+                .tagsToAdd(Collections.emptySet())
+                .tagKeysToRemove(Collections.emptySet())
+                .build();
+
+        // Set up mock behavior
+        when(comprehendClient.describeResourcePolicy(any(DescribeResourcePolicyRequest.class)))
+                .thenReturn(DescribeResourcePolicyResponse.builder()
+                        .resourcePolicy(TEST_MODEL_POLICY_UPDATED)
+                        .build());
+        when(comprehendClient.listTagsForResource(any(ListTagsForResourceRequest.class)))
+                .thenReturn(ListTagsForResourceResponse.builder()
+                        .resourceArn(TEST_DOCUMENT_CLASSIFIER_ARN_WITH_VERSION)
+                        .tags(Translator.toSdkTags(TEST_RESOURCE_MODEL_UPDATED.getTags()))
+                        .build());
+        when(comprehendClient.describeDocumentClassifier(any(DescribeDocumentClassifierRequest.class)))
+                .thenReturn(DescribeDocumentClassifierResponse.builder()
+                        .documentClassifierProperties(TEST_DOCUMENT_CLASSIFIER_PROPERTIES_TRAINED)
+                        .build());
+
+        // Invoke Handler
+        final ProgressEvent<ResourceModel, CallbackContext> finalResponse = invokeHandleRequestAndReturnFinalProgressEvent(
+                proxy, TEST_RESOURCE_HANDLER_REQUEST_RESOURCE_TAGS_ONLY, plannedCallbackContext, proxyClient, LOGGER, handler);
+
+        // Validate handler behavior
+        assertThat(finalResponse.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+
+        // Nothing is read to plan the update again, so the only reads are the trailing read of the resource
+        verify(comprehendClient, times(1)).describeResourcePolicy(any(DescribeResourcePolicyRequest.class));
+        verify(comprehendClient, times(1)).listTagsForResource(any(ListTagsForResourceRequest.class));
+        verify(comprehendClient, times(1)).describeDocumentClassifier(any(DescribeDocumentClassifierRequest.class));
+        verify(comprehendClient, times(0)).putResourcePolicy(any(PutResourcePolicyRequest.class));
+        verify(comprehendClient, times(0)).untagResource(any(UntagResourceRequest.class));
+        verify(comprehendClient, times(0)).tagResource(any(TagResourceRequest.class));
+    }
+
+    @Test
+    public void handleRequest_ReusesCompactPlanFromCallbackContext_OnReentry() {
+        // A plan with no tag changes carries only the fingerprint of the desired tags it was made for
+        final CallbackContext plannedCallbackContext = CallbackContext.builder()
+                .updatePlanned(true)
+                .desiredTagsFingerprint(TagReconciler.fingerprint(TagHelper.getDesiredTags(TEST_RESOURCE_HANDLER_REQUEST_RESOURCE_TAGS_ONLY)))
+                .build();
+
+        // Set up mock behavior
+        when(comprehendClient.describeResourcePolicy(any(DescribeResourcePolicyRequest.class)))
+                .thenReturn(DescribeResourcePolicyResponse.builder()
+                        .resourcePolicy(TEST_MODEL_POLICY_UPDATED)
+                        .build());
+        when(comprehendClient.listTagsForResource(any(ListTagsForResourceRequest.class)))
+                .thenReturn(ListTagsForResourceResponse.builder()
+                        .resourceArn(TEST_DOCUMENT_CLASSIFIER_ARN_WITH_VERSION)
+                        .tags(Translator.toSdkTags(TEST_RESOURCE_MODEL_UPDATED.getTags()))
+                        .build());
+        when(comprehendClient.describeDocumentClassifier(any(DescribeDocumentClassifierRequest.class)))
+                .thenReturn(DescribeDocumentClassifierResponse.builder()
+                        .documentClassifierProperties(TEST_DOCUMENT_CLASSIFIER_PROPERTIES_TRAINED)
+                        .build());
+
+        // Invoke Handler
+        final ProgressEvent<ResourceModel, CallbackContext> finalResponse = invokeHandleRequestAndReturnFinalProgressEvent(
+                proxy, TEST_RESOURCE_HANDLER_REQUEST_RESOURCE_TAGS_ONLY, plannedCallbackContext, proxyClient, LOGGER, handler);
+
+        // Validate handler behavior
+        assertThat(finalResponse.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(finalResponse.getCallbackContext().getTagsToAdd()).isNull();
+        assertThat(finalResponse.getCallbackContext().getTagKeysToRemove()).isNull();
+
+        // Nothing is read to plan the update again, so the only reads are the trailing read of the resource
+        verify(comprehendClient, times(1)).describeResourcePolicy(any(DescribeResourcePolicyRequest.class));
+        verify(comprehendClient, times(1)).listTagsForResource(any(ListTagsForResourceRequest.class));
+        verify(comprehendClient, times(0)).untagResource(any(UntagResourceRequest.class));
+        verify(comprehendClient, times(0)).tagResource(any(TagResourceRequest.class));
+    }
+
+    @Test
+    public void handleRequest_PlansAgain_WhenDesiredTagsDifferFromPlan() {
+        // The plan in the context was made for other desired tags, so it is not reused
+        final CallbackContext plannedCallbackContext = CallbackContext.builder()
+                .updatePlanned(true)
+                .desiredTagsFingerprint(TagReconciler.fingerprint(Collections.singleton(Tag.builder().key("key").value("value").build())))
+                .tagKeysToRemove(Collections.singleton("key"))
+                .build();
+
+        // Set up mock behavior
+        when(comprehendClient.describeResourcePolicy(any(DescribeResourcePolicyRequest.class)))
+                .thenReturn(DescribeResourcePolicyResponse.builder()
+                        .resourcePolicy(TEST_MODEL_POLICY_UPDATED)
+                        .build());
+        when(comprehendClient.listTagsForResource(any(ListTagsForResourceRequest.class)))
+                .thenReturn(ListTagsForResourceResponse.builder()
+                        .resourceArn(TEST_DOCUMENT_CLASSIFIER_ARN_WITH_VERSION)
+                        .tags(Translator.toSdkTags(TEST_RESOURCE_MODEL_UPDATED.getTags()))
+                        .build());
+        when(comprehendClient.describeDocumentClassifier(any(DescribeDocumentClassifierRequest.class)))
+                .thenReturn(DescribeDocumentClassifierResponse.builder()
+                        .documentClassifierProperties(TEST_DOCUMENT_CLASSIFIER_PROPERTIES_TRAINED)
+                        .build());
+
+        // Invoke Handler
+        final ProgressEvent<ResourceModel, CallbackContext> finalResponse = invokeHandleRequestAndReturnFinalProgressEvent(
+                proxy, TEST_RESOURCE_HANDLER_REQUEST_RESOURCE_TAGS_ONLY, plannedCallbackContext, proxyClient, LOGGER, handler);
+
+        // Validate handler behavior
+        assertThat(finalResponse.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(finalResponse.getCallbackContext().getDesiredTagsFingerprint())
+                .isEqualTo(TagReconciler.fingerprint(TagHelper.getDesiredTags(TEST_RESOURCE_HANDLER_REQUEST_RESOURCE_TAGS_ONLY)));
+        assertThat(finalResponse.getCallbackContext().getTagsToAdd()).isNull();
+        assertThat(finalResponse.getCallbackContext().getTagKeysToRemove()).isNull();
+
+        // The live tags and resource policy read to plan again, and reused by the trailing read, already match the
+        // desired ones, so the tag key of the old plan is not removed
+        verify(comprehendClient, times(1)).describeResourcePolicy(any(DescribeResourcePolicyRequest.class));
+        verify(comprehendClient, times(1)).listTagsForResource(any(ListTagsForResourceRequest.class));
+        verify(comprehendClient, times(0)).untagResource(any(UntagResourceRequest.class));
+        verify(comprehendClient, times(0)).tagResource(any(TagResourceRequest.class));
+    }
 }
@@ -0,0 +1,140 @@
+package software.amazon.comprehend.flywheel;
+
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.services.comprehend.ComprehendAsyncClient;
+import software.amazon.awssdk.services.comprehend.model.DescribeFlywheelRequest;
+import software.amazon.awssdk.services.comprehend.model.DescribeFlywheelResponse;
+import software.amazon.awssdk.services.comprehend.model.ListTagsForResourceResponse;
+import software.amazon.awssdk.services.comprehend.model.Tag;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.comprehend.core.ClientBuilder;
+import software.amazon.comprehend.core.CompletableFutures;
+import software.amazon.comprehend.core.ComprehendErrors;
+import software.amazon.comprehend.core.HandlerLogger;
+import software.amazon.comprehend.core.HandlerMetrics;
+import software.amazon.comprehend.core.ResponseCache;
+import software.amazon.comprehend.core.StageTracer;
+import software.amazon.comprehend.core.TagReconciler;
+
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+
+/**
+ * Functionality shared across the non-blocking handlers, which make their Comprehend calls through the
+ * ComprehendAsyncClient and compose them into a single future the invocation waits for.
+ */
+public abstract class AbstractAsyncFlywheelHandler extends BaseHandler<CallbackContext> {
+
+  protected HandlerLogger logger;
+
+  /** Responses fetched while handling the current request, reset for every request the handler receives. */
+  protected ResponseCache responseCache = new ResponseCache();
+
+  /** Traces the handler, as a single stage, in the callback context, with a tracer for every request the handler receives. */
+  protected StageTracer stageTracer = new StageTracer();
+
+  public abstract CompletableFuture<ProgressEvent<ResourceModel, CallbackContext>> handleRequestAsync(
+    final AmazonWebServicesClientProxy proxy,
+    final ResourceHandlerRequest<ResourceModel> request,
+    final CallbackContext callbackContext,
+    final ProxyClient<ComprehendAsyncClient> proxyClient,
+    final Logger logger);
+
+  @Override
+  public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
+          AmazonWebServicesClientProxy proxy,
+          ResourceHandlerRequest<ResourceModel> request,
+          CallbackContext callbackContext,
+          Logger logger) {
+    this.responseCache = new ResponseCache();
+    this.stageTracer = new StageTracer();
+    final CallbackContext context = callbackContext == null ? CallbackContext.builder().build(): callbackContext;
+    final HandlerMetrics metrics = new HandlerMetrics(ResourceModel.TYPE_NAME, getAction(), context);
+    ProgressEvent<ResourceModel, CallbackContext> event = null;
+    try {
+      event = stageTracer.trace(getStage(), context, () -> join(handleRequestAsync(
+              proxy,
+              request,
+              context,
+              ClientBuilder.getAsyncProxyClient(proxy, request.getRegion(), metrics),
+              logger)));
+      return event;
+    } finally {
+      metrics.flush(logger, context);
+      // The operation is over unless CloudFormation calls the handler back
+      if (event == null || !event.isInProgress()) {
+        stageTracer.logTimeline(logger, ResourceModel.TYPE_NAME, getAction(), context);
+      }
+    }
+  }
+
+  /**
+   * Name of the handler action used in metrics and stage timelines, such as Update for the AsyncUpdateHandler.
+   */
+  protected String getAction() {
+    return getClass().getSimpleName().replaceFirst("^Async", "").replaceFirst("Handler$", "");
+  }
+
+  /**
+   * Call graph name the handler is traced under, such as AWS-Comprehend-Flywheel::Update.
+   */
+  protected String getStage() {
+    return "AWS-Comprehend-Flywheel::" + getAction();
+  }
+
+  /**
+   * Wait for the progress event of a handler, mapping the exception of a failed call to a failed progress event. No
+   * proxy retry loop wraps the calls, so throttling and timeouts fail with an error code CloudFormation retries.
+   * Exceptions the handler raised itself are rethrown as they are.
+   */
+  protected ProgressEvent<ResourceModel, CallbackContext> join(
+          final CompletableFuture<ProgressEvent<ResourceModel, CallbackContext>> future) {
+    try {
+      return CompletableFutures.join(future);
+    } catch (final SdkException e) {
+      return handleError(e);
+    }
+  }
+
+  protected ProgressEvent<ResourceModel, CallbackContext> handleError(final Exception exception) {
+    return ComprehendErrors.handleErrorWithoutRetry(exception);
+  }
+
+  /**
+   * Describe the flywheel via DescribeFlywheel, reusing a fresh response of the request.
+   */
+  protected CompletableFuture<DescribeFlywheelResponse> describeFlywheel(final ProxyClient<ComprehendAsyncClient> proxyClient,
+                                                                         final String flywheelArn) {
+    final Optional<DescribeFlywheelResponse> cachedResponse = responseCache.getIfFresh(flywheelArn, DescribeFlywheelResponse.class);
+    if (cachedResponse.isPresent()) {
+      logger.debug("Reusing DescribeFlywheel response for flywheel [{}].", flywheelArn);
+      return CompletableFuture.completedFuture(cachedResponse.get());
+    }
+    DescribeFlywheelRequest describeFlywheelRequest = DescribeFlywheelRequest.builder()
+            .flywheelArn(flywheelArn)
+            .build();
+    return proxyClient.injectCredentialsAndInvokeV2Async(describeFlywheelRequest, proxyClient.client()::describeFlywheel)
+            .thenApply(response -> responseCache.put(flywheelArn, response));
+  }
+
+  /**
+   * Get all tags currently attached to the flywheel via ListTagsForResource, reusing a fresh response of the request.
+   */
+  protected CompletableFuture<Set<Tag>> getCurrentTags(final ProxyClient<ComprehendAsyncClient> proxyClient,
+                                                       final String flywheelArn) {
+    final Optional<ListTagsForResourceResponse> cachedResponse = responseCache.getIfFresh(flywheelArn, ListTagsForResourceResponse.class);
+    if (cachedResponse.isPresent()) {
+      logger.debug("Reusing ListTagsForResource response for flywheel [{}].", flywheelArn);
+      return CompletableFuture.completedFuture(new HashSet<>(cachedResponse.get().tags()));
+    }
+    return TagReconciler.getCurrentTagsAsync(proxyClient, flywheelArn, responseCache);
+  }
+
+}
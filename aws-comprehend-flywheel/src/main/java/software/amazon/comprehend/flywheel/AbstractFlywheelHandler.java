@@ -1,35 +1,20 @@
 package software.amazon.comprehend.flywheel;
 
 import software.amazon.awssdk.awscore.AwsRequest;
-import software.amazon.awssdk.core.exception.ApiCallAttemptTimeoutException;
-import software.amazon.awssdk.core.exception.ApiCallTimeoutException;
-import software.amazon.awssdk.core.exception.RetryableException;
 import software.amazon.awssdk.services.comprehend.ComprehendClient;
-import software.amazon.awssdk.services.comprehend.model.ComprehendException;
 import software.amazon.awssdk.services.comprehend.model.DescribeFlywheelRequest;
 import software.amazon.awssdk.services.comprehend.model.FlywheelStatus;
-import software.amazon.awssdk.services.comprehend.model.InternalServerException;
-import software.amazon.awssdk.services.comprehend.model.InvalidRequestException;
-import software.amazon.awssdk.services.comprehend.model.KmsKeyValidationException;
-import software.amazon.awssdk.services.comprehend.model.ListTagsForResourceRequest;
-import software.amazon.awssdk.services.comprehend.model.ListTagsForResourceResponse;
-import software.amazon.awssdk.services.comprehend.model.ResourceInUseException;
-import software.amazon.awssdk.services.comprehend.model.ResourceLimitExceededException;
-import software.amazon.awssdk.services.comprehend.model.ResourceNotFoundException;
-import software.amazon.awssdk.services.comprehend.model.Tag;
-import software.amazon.awssdk.services.comprehend.model.TooManyTagsException;
-import software.amazon.awssdk.services.comprehend.model.UnsupportedLanguageException;
-import software.amazon.cloudformation.exceptions.BaseHandlerException;
-import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
-import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
-import software.amazon.cloudformation.exceptions.CfnNotFoundException;
-import software.amazon.cloudformation.exceptions.CfnResourceConflictException;
-import software.amazon.cloudformation.exceptions.CfnServiceInternalErrorException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.comprehend.core.ClientBuilder;
+import software.amazon.comprehend.core.ComprehendErrors;
+import software.amazon.comprehend.core.HandlerLogger;
+import software.amazon.comprehend.core.HandlerMetrics;
+import software.amazon.comprehend.core.ResponseCache;
+import software.amazon.comprehend.core.StageTracer;
 
 import java.util.List;
 
@@ -39,7 +24,13 @@ import java.util.List;
  */
 public abstract class AbstractFlywheelHandler extends BaseHandler<CallbackContext> {
 
-  protected Logger logger;
+  protected HandlerLogger logger;
+
+  /** Responses fetched while handling the current request, reset for every request the handler receives. */
+  protected ResponseCache responseCache = new ResponseCache();
+
+  /** Traces the stages of the progress chain in the callback context, with a tracer for every invocation of the handler. */
+  protected StageTracer stageTracer = new StageTracer();
 
   public abstract ProgressEvent<ResourceModel, CallbackContext> handleRequest(
     final AmazonWebServicesClientProxy proxy,
@@ -54,12 +45,44 @@ public abstract class AbstractFlywheelHandler extends BaseHandler<CallbackContex
           ResourceHandlerRequest<ResourceModel> request,
           CallbackContext callbackContext,
           Logger logger) {
-    return handleRequest(
-            proxy,
-            request,
-            callbackContext == null ? CallbackContext.builder().build(): callbackContext,
-            proxy.newProxy(() -> ComprehendClient.builder().build()),
-            logger);
+    final BaseHandler<CallbackContext> asyncHandler = ClientBuilder.useAsyncHandlers() ? getAsyncHandler() : null;
+    if (asyncHandler != null) {
+      return asyncHandler.handleRequest(proxy, request, callbackContext, logger);
+    }
+    this.responseCache = new ResponseCache();
+    final CallbackContext context = callbackContext == null ? CallbackContext.builder().build(): callbackContext;
+    final HandlerMetrics metrics = new HandlerMetrics(ResourceModel.TYPE_NAME, getAction(), context);
+    ProgressEvent<ResourceModel, CallbackContext> event = null;
+    try {
+      event = handleRequest(
+              proxy,
+              request,
+              context,
+              ClientBuilder.getProxyClient(proxy, request.getRegion(), metrics),
+              logger);
+      return event;
+    } finally {
+      metrics.flush(logger, context);
+      // The operation is over unless CloudFormation calls the handler back
+      if (event == null || !event.isInProgress()) {
+        stageTracer.logTimeline(logger, ResourceModel.TYPE_NAME, getAction(), context);
+      }
+    }
+  }
+
+  /**
+   * Non-blocking variant of the handler on the async client, which takes over the requests of the handler when
+   * COMPREHEND_ASYNC_HANDLERS is set to true, or null when the handler has none.
+   */
+  protected BaseHandler<CallbackContext> getAsyncHandler() {
+    return null;
+  }
+
+  /**
+   * Name of the handler action used in metrics and stage timelines, such as Create for the CreateHandler.
+   */
+  protected String getAction() {
+    return getClass().getSimpleName().replaceFirst("Handler$", "");
   }
 
   protected ProgressEvent<ResourceModel, CallbackContext> handleError(
@@ -68,31 +91,7 @@ public abstract class AbstractFlywheelHandler extends BaseHandler<CallbackContex
           final ProxyClient<ComprehendClient> proxyClient,
           final ResourceModel flywheelModel,
           final CallbackContext callbackContext) {
-
-    if (exception instanceof ApiCallAttemptTimeoutException ||
-            exception instanceof ApiCallTimeoutException ||
-            (exception instanceof ComprehendException && ((ComprehendException) exception).isThrottlingException())) {
-      throw RetryableException.builder().cause(exception).build();
-    }
-
-    final BaseHandlerException handlerException;
-    if (exception instanceof InvalidRequestException ||
-            exception instanceof KmsKeyValidationException ||
-            exception instanceof ResourceLimitExceededException ||
-            exception instanceof TooManyTagsException ||
-            exception instanceof UnsupportedLanguageException) {
-      handlerException = new CfnInvalidRequestException(exception);
-    } else if (exception instanceof ResourceNotFoundException) {
-      handlerException = new CfnNotFoundException(exception);
-    } else if (exception instanceof ResourceInUseException) {
-      handlerException = new CfnResourceConflictException(exception);
-    } else if (exception instanceof InternalServerException) {
-      handlerException = new CfnServiceInternalErrorException(exception);
-    } else {
-      handlerException = new CfnGeneralServiceException(exception);
-    }
-
-    return ProgressEvent.defaultFailureHandler(handlerException, handlerException.getErrorCode());
+    return ComprehendErrors.handleError(exception);
   }
 
   /**
@@ -100,18 +99,18 @@ public abstract class AbstractFlywheelHandler extends BaseHandler<CallbackContex
    */
   protected FlywheelStatus getFlywheelStatus(final ProxyClient<ComprehendClient> comprehendClient,
                                              final String flywheelArn,
-                                             final Logger logger) {
-    logger.log(String.format("Getting flywheel status for flywheel [%s] via DescribeFlywheel.", flywheelArn));
+                                             final HandlerLogger logger) {
+    logger.debug("Getting flywheel status for flywheel [{}] via DescribeFlywheel.", flywheelArn);
     DescribeFlywheelRequest describeFlywheelRequest = DescribeFlywheelRequest.builder()
             .flywheelArn(flywheelArn)
             .build();
 
-    FlywheelStatus flywheelStatus = comprehendClient
-            .injectCredentialsAndInvokeV2(describeFlywheelRequest, comprehendClient.client()::describeFlywheel)
+    FlywheelStatus flywheelStatus = responseCache.put(flywheelArn, comprehendClient
+            .injectCredentialsAndInvokeV2(describeFlywheelRequest, comprehendClient.client()::describeFlywheel))
             .flywheelProperties()
             .status();
 
-    logger.log(String.format("Flywheel [%s] has status %s.", flywheelArn, flywheelStatus));
+    logger.debug("Flywheel [{}] has status {}.", flywheelArn, flywheelStatus);
     return flywheelStatus;
   }
 
@@ -0,0 +1,41 @@
+package software.amazon.comprehend.flywheel;
+
+import software.amazon.awssdk.services.comprehend.ComprehendAsyncClient;
+import software.amazon.awssdk.services.comprehend.model.ListFlywheelsRequest;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.comprehend.core.HandlerLogger;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * List handler making the ListFlywheels call through the async client.
+ */
+public class AsyncListHandler extends AbstractAsyncFlywheelHandler {
+
+    @Override
+    public CompletableFuture<ProgressEvent<ResourceModel, CallbackContext>> handleRequestAsync(
+        final AmazonWebServicesClientProxy proxy,
+        final ResourceHandlerRequest<ResourceModel> request,
+        final CallbackContext callbackContext,
+        final ProxyClient<ComprehendAsyncClient> proxyClient,
+        final Logger logger) {
+
+        this.logger = HandlerLogger.of(logger);
+
+        final ListFlywheelsRequest listFlywheelsRequest = Translator.translateToListRequest(request.getNextToken());
+        return proxyClient.injectCredentialsAndInvokeV2Async(listFlywheelsRequest, proxyClient.client()::listFlywheels)
+                .thenApply(listFlywheelsResponse -> {
+                    this.logger.info("Successfully listed {} flywheels.", listFlywheelsResponse.flywheelSummaryList().size());
+                    return ProgressEvent.<ResourceModel, CallbackContext>builder()
+                            .resourceModels(Translator.translateFromListResponse(listFlywheelsResponse))
+                            .nextToken(listFlywheelsResponse.nextToken())
+                            .status(OperationStatus.SUCCESS)
+                            .build();
+                });
+    }
+}
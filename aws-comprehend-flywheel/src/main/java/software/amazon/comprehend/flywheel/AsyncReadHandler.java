@@ -0,0 +1,65 @@
+package software.amazon.comprehend.flywheel;
+
+import software.amazon.awssdk.services.comprehend.ComprehendAsyncClient;
+import software.amazon.awssdk.services.comprehend.model.DescribeFlywheelResponse;
+import software.amazon.awssdk.services.comprehend.model.ResourceNotFoundException;
+import software.amazon.awssdk.services.comprehend.model.Tag;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.comprehend.core.CompletableFutures;
+import software.amazon.comprehend.core.HandlerLogger;
+import software.amazon.comprehend.core.ResponseCache;
+
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Read handler issuing the DescribeFlywheel and ListTagsForResource calls together through the async client.
+ */
+public class AsyncReadHandler extends AbstractAsyncFlywheelHandler {
+
+    public AsyncReadHandler() {
+    }
+
+    /**
+     * Read handler that reuses fresh responses already fetched by the calling handler for the same request.
+     */
+    public AsyncReadHandler(final ResponseCache responseCache) {
+        this.responseCache = responseCache;
+    }
+
+    @Override
+    public CompletableFuture<ProgressEvent<ResourceModel, CallbackContext>> handleRequestAsync(
+        final AmazonWebServicesClientProxy proxy,
+        final ResourceHandlerRequest<ResourceModel> request,
+        final CallbackContext callbackContext,
+        final ProxyClient<ComprehendAsyncClient> proxyClient,
+        final Logger logger) {
+
+        this.logger = HandlerLogger.of(logger);
+
+        final ResourceModel flywheelModel = request.getDesiredResourceState();
+        final String flywheelArn = flywheelModel.getArn();
+
+        final CompletableFuture<DescribeFlywheelResponse> describeFlywheelFuture = describeFlywheel(proxyClient, flywheelArn);
+        final CompletableFuture<Set<Tag>> currentTagsFuture = getCurrentTags(proxyClient, flywheelArn);
+
+        // Wait for both calls to settle, then surface failures in the same order as the ReadHandler
+        return CompletableFuture.allOf(describeFlywheelFuture, currentTagsFuture)
+                .handle((ignored, exception) -> {
+                    try {
+                        final ResourceModel newModel = Translator.translateFromReadResponse(CompletableFutures.join(describeFlywheelFuture));
+                        newModel.setTags(Translator.fromSdkTags(CompletableFutures.join(currentTagsFuture)));
+                        this.logger.info("Successfully read flywheel [{}].", flywheelArn);
+                        return ProgressEvent.success(newModel, callbackContext);
+                    } catch (final ResourceNotFoundException e) {
+                        this.logger.warn("Read operation failed for flywheel [{}] with error: {}", flywheelArn, e);
+                        return ProgressEvent.<ResourceModel, CallbackContext>defaultFailureHandler(e, HandlerErrorCode.NotFound);
+                    }
+                });
+    }
+}
@@ -0,0 +1,143 @@
+package software.amazon.comprehend.flywheel;
+
+import software.amazon.awssdk.services.comprehend.ComprehendAsyncClient;
+import software.amazon.awssdk.services.comprehend.model.DescribeFlywheelResponse;
+import software.amazon.awssdk.services.comprehend.model.ListTagsForResourceResponse;
+import software.amazon.awssdk.services.comprehend.model.Tag;
+import software.amazon.awssdk.services.comprehend.model.TagResourceRequest;
+import software.amazon.awssdk.services.comprehend.model.UntagResourceRequest;
+import software.amazon.awssdk.services.comprehend.model.UpdateFlywheelRequest;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.comprehend.core.HandlerLogger;
+import software.amazon.comprehend.core.TagDiff;
+import software.amazon.comprehend.core.TagReconciler;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+/**
+ * Update handler making its calls through the async client. The tags are diffed against the live tags on every
+ * invocation like the UpdateHandler does, and the UpdateFlywheel call, untagging and tagging are then applied together,
+ * as they touch disjoint state.
+ *
+ * The tags read by the closing read verify the update. While they have not converged, the handler asks CloudFormation
+ * to call it back, and the callback diffs and applies the tags again; UpdateFlywheel is synchronous and repeating it
+ * with the same properties leaves the flywheel as it is.
+ */
+public class AsyncUpdateHandler extends AbstractAsyncFlywheelHandler {
+
+    /** Seconds CloudFormation waits before calling back while the tags of the update have not converged. */
+    static final int TAGGING_CALLBACK_DELAY_SECONDS = 5;
+
+    @Override
+    public CompletableFuture<ProgressEvent<ResourceModel, CallbackContext>> handleRequestAsync(
+        final AmazonWebServicesClientProxy proxy,
+        final ResourceHandlerRequest<ResourceModel> request,
+        final CallbackContext callbackContext,
+        final ProxyClient<ComprehendAsyncClient> proxyClient,
+        final Logger logger) {
+
+        this.logger = HandlerLogger.of(logger);
+
+        final ResourceModel flywheelModel = request.getDesiredResourceState();
+        final Set<Tag> desiredTags = TagHelper.getDesiredTags(request);
+
+        final List<String> changedProperties = UpdateHandler.getChangedUpdatableProperties(request.getPreviousResourceState(), flywheelModel);
+        if (changedProperties.isEmpty()) {
+            this.logger.info("Flywheel [{}] has no changes to updatable properties, skipping update call.", flywheelModel.getArn());
+        }
+
+        return getCurrentTags(proxyClient, flywheelModel.getArn())
+                .thenCompose(currentTags -> {
+                    final TagDiff tagDiff = TagDiff.between(currentTags, desiredTags);
+                    callbackContext.setDesiredTagsFingerprint(TagReconciler.fingerprint(desiredTags));
+                    callbackContext.planTags(tagDiff);
+                    return applyUpdate(flywheelModel, changedProperties, tagDiff, proxyClient);
+                })
+                .thenCompose(ignored -> new AsyncReadHandler(responseCache)
+                        .handleRequestAsync(proxy, request, callbackContext, proxyClient, this.logger))
+                .thenApply(event -> verifyTags(event, flywheelModel, callbackContext));
+    }
+
+    /**
+     * Applies the UpdateFlywheel call, if an updatable property changed, and the untagging and tagging of the diff
+     * together.
+     */
+    private CompletableFuture<Void> applyUpdate(final ResourceModel flywheelModel,
+                                                final List<String> changedProperties,
+                                                final TagDiff tagDiff,
+                                                final ProxyClient<ComprehendAsyncClient> proxyClient) {
+        final String flywheelArn = flywheelModel.getArn();
+
+        final CompletableFuture<Void> updateFuture;
+        if (changedProperties.isEmpty()) {
+            updateFuture = CompletableFuture.completedFuture(null);
+        } else {
+            final UpdateFlywheelRequest updateFlywheelRequest = Translator.translateToUpdateRequest(flywheelModel);
+            updateFuture = proxyClient.injectCredentialsAndInvokeV2Async(updateFlywheelRequest, proxyClient.client()::updateFlywheel)
+                    .thenAccept(updateFlywheelResponse -> {
+                        // UpdateFlywheel is synchronous and returns the updated properties, which is all a describe would return
+                        responseCache.put(flywheelArn, DescribeFlywheelResponse.builder()
+                                .flywheelProperties(updateFlywheelResponse.flywheelProperties())
+                                .build());
+                        logger.info("Flywheel [{}] update call successful.", flywheelArn);
+                    });
+        }
+
+        final CompletableFuture<Void> untagFuture;
+        if (tagDiff.getTagKeysToRemove().isEmpty()) {
+            untagFuture = CompletableFuture.completedFuture(null);
+        } else {
+            final UntagResourceRequest untagResourceRequest = Translator.translateToUntagResourceRequest(flywheelModel, tagDiff);
+            untagFuture = proxyClient.injectCredentialsAndInvokeV2Async(untagResourceRequest, proxyClient.client()::untagResource)
+                    .thenRun(() -> responseCache.invalidate(flywheelArn, ListTagsForResourceResponse.class))
+                    .thenRun(() -> logger.info("Flywheel [{}] untag call for removing {} tags successful.",
+                            flywheelArn, untagResourceRequest.tagKeys().size()));
+        }
+
+        final CompletableFuture<Void> tagFuture;
+        if (tagDiff.getTagsToAdd().isEmpty()) {
+            tagFuture = CompletableFuture.completedFuture(null);
+        } else {
+            final TagResourceRequest tagResourceRequest = Translator.translateToTagResourceRequest(flywheelModel, tagDiff);
+            tagFuture = proxyClient.injectCredentialsAndInvokeV2Async(tagResourceRequest, proxyClient.client()::tagResource)
+                    .thenRun(() -> responseCache.invalidate(flywheelArn, ListTagsForResourceResponse.class))
+                    .thenRun(() -> logger.info("Flywheel [{}] tag call for adding {} tags successful.",
+                            flywheelArn, tagResourceRequest.tags().size()));
+        }
+
+        return CompletableFuture.allOf(updateFuture, untagFuture, tagFuture);
+    }
+
+    /**
+     * Returns the event of the closing read once no tag keys to remove are present and all tags to add are present,
+     * and an event calling the handler back otherwise.
+     */
+    private ProgressEvent<ResourceModel, CallbackContext> verifyTags(final ProgressEvent<ResourceModel, CallbackContext> event,
+                                                                     final ResourceModel flywheelModel,
+                                                                     final CallbackContext callbackContext) {
+        if (!event.isSuccess()) return event;
+        if (callbackContext.tagKeysToRemoveOrEmpty().isEmpty() && callbackContext.tagsToAddOrEmpty().isEmpty()) return event;
+
+        callbackContext.setTagPollCount(callbackContext.getTagPollCount() + 1);
+        final Set<Tag> flywheelCurrentTags = new HashSet<>(Translator.toSdkTags(event.getResourceModel().getTags()));
+        final Set<String> flywheelCurrentTagKeys = flywheelCurrentTags.stream().map(Tag::key).collect(Collectors.toSet());
+
+        boolean untagStabilized = Collections.disjoint(flywheelCurrentTagKeys, callbackContext.tagKeysToRemoveOrEmpty());
+        boolean tagStabilized = flywheelCurrentTags.containsAll(callbackContext.tagsToAddOrEmpty());
+        logger.sampled(callbackContext.getTagPollCount(), "Flywheel [{}] untagging stabilization status: {}, tagging stabilization status: {}.",
+                flywheelModel.getArn(), untagStabilized, tagStabilized);
+
+        callbackContext.setTaggingStabilized(untagStabilized && tagStabilized);
+        if (callbackContext.isTaggingStabilized()) return event;
+        return ProgressEvent.defaultInProgressHandler(callbackContext, TAGGING_CALLBACK_DELAY_SECONDS, flywheelModel);
+    }
+}
@@ -10,8 +10,13 @@ import lombok.ToString;
 import software.amazon.awssdk.services.comprehend.model.FlywheelStatus;
 import software.amazon.cloudformation.proxy.StdCallbackContext;
 
+import java.util.Collections;
+import java.util.Map;
 import java.util.Set;
 import software.amazon.awssdk.services.comprehend.model.Tag;
+import software.amazon.comprehend.core.HandlerContext;
+import software.amazon.comprehend.core.StageTrace;
+import software.amazon.comprehend.core.TagDiff;
 
 
 @Getter
@@ -21,9 +26,41 @@ import software.amazon.awssdk.services.comprehend.model.Tag;
 @AllArgsConstructor
 @NoArgsConstructor
 @EqualsAndHashCode(callSuper = true)
-public class CallbackContext extends StdCallbackContext {
+public class CallbackContext extends StdCallbackContext implements HandlerContext {
     private String flywheelArn;
     private FlywheelStatus flywheelStatus;
+    // Fingerprint of the desired tags, which are recomputed from the request on every invocation. The tag diff of an
+    // update is only carried when it is non-empty; contexts written before the fingerprint have none and full sets
+    private Long desiredTagsFingerprint;
     private Set<Tag> tagsToAdd;
     private Set<String> tagKeysToRemove;
+    // Stabilization aspects that have converged are not polled again, and the polls made for each are counted
+    private boolean statusStabilized;
+    private boolean taggingStabilized;
+    private int statusPollCount;
+    private int tagPollCount;
+    // Traces of the stages of the progress chain, by call graph name, in the order they first ran
+    private Map<String, StageTrace> stageTraces;
+
+    /**
+     * Keeps the tags to add and the tag keys to remove of an update, each only when it is non-empty.
+     */
+    public void planTags(final TagDiff tagDiff) {
+        tagsToAdd = tagDiff.getTagsToAdd().isEmpty() ? null : tagDiff.getTagsToAdd();
+        tagKeysToRemove = tagDiff.getTagKeysToRemove().isEmpty() ? null : tagDiff.getTagKeysToRemove();
+    }
+
+    /**
+     * @return tags the update adds, or an empty set when the context carries none
+     */
+    public Set<Tag> tagsToAddOrEmpty() {
+        return tagsToAdd == null ? Collections.emptySet() : tagsToAdd;
+    }
+
+    /**
+     * @return keys of the tags the update removes, or an empty set when the context carries none
+     */
+    public Set<String> tagKeysToRemoveOrEmpty() {
+        return tagKeysToRemove == null ? Collections.emptySet() : tagKeysToRemove;
+    }
 }
@@ -18,16 +18,36 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.cloudformation.proxy.delay.Constant;
+import software.amazon.comprehend.core.BackoffStrategies;
+import software.amazon.comprehend.core.CallbackStabilizer;
+import software.amazon.comprehend.core.HandlerLogger;
+import software.amazon.comprehend.core.StageTracer;
+import software.amazon.comprehend.core.TagReconciler;
 
-import java.time.Duration;
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.Set;
 import java.util.stream.Collectors;
 
 public class CreateHandler extends AbstractFlywheelHandler {
 
-    protected static final Constant CREATE_BACKOFF_STRATEGY = Constant.of().delay(Duration.ofSeconds(15)).timeout(Duration.ofDays(2)).build();
+    protected static final Constant CREATE_BACKOFF_STRATEGY = BackoffStrategies.CREATE;
+
+    private static final String CREATE_CALL_GRAPH = "AWS-Comprehend-Flywheel::Create";
+    private static final String STABILIZE_CALL_GRAPH = "AWS-Comprehend-Flywheel::Create::Stabilize";
+    private static final String READ_STAGE = "AWS-Comprehend-Flywheel::Create::Read";
+
+    private final CallbackStabilizer callbackStabilizer;
+
+    public CreateHandler() {
+        this(new CallbackStabilizer());
+    }
+
+    /**
+     * Create handler with a custom policy for waiting locally or calling back during stabilization.
+     */
+    public CreateHandler(final CallbackStabilizer callbackStabilizer) {
+        this.callbackStabilizer = callbackStabilizer;
+    }
 
     @Override
     public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -37,31 +57,40 @@ public class CreateHandler extends AbstractFlywheelHandler {
         final ProxyClient<ComprehendClient> proxyClient,
         final Logger logger) {
 
-        this.logger = logger;
+        this.logger = HandlerLogger.of(logger);
+        this.stageTracer = new StageTracer();
         final ResourceModel flywheelModel = request.getDesiredResourceState();
 
+        // Desired tags are recomputed from the request on every invocation, so only their fingerprint is kept. A context
+        // written before the fingerprint carries the tags in full instead, and they are dropped here.
         final Set<Tag> desiredTags = TagHelper.getDesiredTags(request);
-        callbackContext.setTagsToAdd(desiredTags);
+        callbackContext.setDesiredTagsFingerprint(TagReconciler.fingerprint(desiredTags));
+        callbackContext.setTagsToAdd(null);
 
         return ProgressEvent.progress(flywheelModel, callbackContext)
-            // Progress chain to create flywheel and stabilize
-            .then(progress ->
-                proxy.initiate("AWS-Comprehend-Flywheel::Create", proxyClient, flywheelModel, callbackContext)
+            // Progress chain to create flywheel
+            .then(progress -> stageTracer.trace(CREATE_CALL_GRAPH, callbackContext, () ->
+                proxy.initiate(CREATE_CALL_GRAPH, proxyClient, flywheelModel, callbackContext)
                     .translateToServiceRequest(resourceModel -> Translator.translateToCreateRequest(
                             resourceModel,
                             request.getClientRequestToken(),
                             desiredTags))
                     .backoffDelay(CREATE_BACKOFF_STRATEGY)
                     .makeServiceCall((awsRequest, client) -> createFlywheelAndUpdateResourceModel(awsRequest, client, flywheelModel, callbackContext))
-                    .stabilize(this::createStabilize)
                     .handleError(this::handleError)
                     .progress()
-            )
-            // Progress chain to describe flywheel and return result
-            .then(progress -> {
+            ))
+            // Progress chain to wait for the flywheel, handing long waits back to CloudFormation
+            .then(progress -> stageTracer.trace(STABILIZE_CALL_GRAPH, callbackContext, () -> {
                 if (flywheelModel.getArn() == null) flywheelModel.setArn(callbackContext.getFlywheelArn());
-                return new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger);
-            });
+                return callbackStabilizer.stabilize(STABILIZE_CALL_GRAPH, flywheelModel, callbackContext, CREATE_BACKOFF_STRATEGY,
+                        () -> createStabilize(proxyClient, flywheelModel, callbackContext),
+                        exception -> handleError(null, exception, proxyClient, flywheelModel, callbackContext),
+                        this.logger);
+            }))
+            // Progress chain to describe flywheel and return result, reusing responses from stabilization
+            .then(progress -> stageTracer.trace(READ_STAGE, callbackContext,
+                    () -> new ReadHandler(responseCache).handleRequest(proxy, request, callbackContext, proxyClient, this.logger)));
     }
 
     /**
@@ -78,23 +107,29 @@ public class CreateHandler extends AbstractFlywheelHandler {
 
         flywheelModel.setArn(createFlywheelResponse.flywheelArn());
         callbackContext.setFlywheelArn(createFlywheelResponse.flywheelArn());
-        logger.log(String.format("Flywheel [%s] creation call successful.", flywheelModel.getArn()));
+        logger.info("Flywheel [{}] creation call successful.", flywheelModel.getArn());
 
         return createFlywheelResponse;
     }
 
     /**
      * Verifies flywheel creation has stabilized by checking if flywheel status is ACTIVE and the desired tags are
-     * present.
+     * present. Tags are only polled once the flywheel is active, and each aspect is no longer polled once it has
+     * converged.
      */
     private boolean createStabilize(
-            final CreateFlywheelRequest request,
-            final CreateFlywheelResponse response,
             final ProxyClient<ComprehendClient> proxyClient,
             final ResourceModel flywheelModel,
             final CallbackContext callbackContext) {
-        return (callbackContext.getFlywheelStatus() == FlywheelStatus.ACTIVE || isFlywheelActive(proxyClient, flywheelModel, callbackContext))
-                && isTaggingComplete(proxyClient, flywheelModel, callbackContext.getTagsToAdd());
+        if (!callbackContext.isStatusStabilized()) {
+            callbackContext.setStatusPollCount(callbackContext.getStatusPollCount() + 1);
+            callbackContext.setStatusStabilized(isFlywheelActive(proxyClient, flywheelModel, callbackContext));
+            if (!callbackContext.isStatusStabilized()) return false;
+        }
+        if (!callbackContext.isTaggingStabilized()) {
+            callbackContext.setTaggingStabilized(isTaggingComplete(proxyClient, flywheelModel, callbackContext));
+        }
+        return callbackContext.isTaggingStabilized();
     }
 
     /**
@@ -107,10 +142,11 @@ public class CreateHandler extends AbstractFlywheelHandler {
         callbackContext.setFlywheelStatus(flywheelStatus);
         switch (flywheelStatus) {
             case ACTIVE:
-                logger.log(String.format("Flywheel [%s] has reached ACTIVE state.", flywheelModel.getPrimaryIdentifier()));
+                logger.info("Flywheel [{}] has reached ACTIVE state.", flywheelModel.getArn());
                 return true;
             case CREATING:
-                logger.log(String.format("Flywheel [%s] has not reached ACTIVE state.", flywheelModel.getPrimaryIdentifier()));
+                logger.sampled(callbackContext.getStatusPollCount(), "Flywheel [{}] has not reached ACTIVE state, status {}.",
+                        flywheelModel.getArn(), flywheelStatus);
                 return false;
             case FAILED:
                 throw new CfnGeneralServiceException(Action.CREATE.toString(), new Throwable(String.format(
@@ -124,18 +160,20 @@ public class CreateHandler extends AbstractFlywheelHandler {
     }
 
     /**
-     * Returns whether flywheel resource has the desired tags.
+     * Returns whether flywheel resource has the desired tags, by comparing the fingerprint of its current tags to the
+     * fingerprint of the desired tags.
      */
     private boolean isTaggingComplete(final ProxyClient<ComprehendClient> proxyClient,
                                       final ResourceModel flywheelModel,
-                                      final Set<Tag> desiredTags) {
+                                      final CallbackContext callbackContext) {
 
-        if (desiredTags.isEmpty()) return true;
+        if (callbackContext.getDesiredTagsFingerprint() == TagReconciler.fingerprint(Collections.emptySet())) return true;
 
-        final Set<Tag> flywheelCurrentTags = new HashSet<>(TagHelper.getCurrentTags(proxyClient, flywheelModel));
-        boolean taggingStabilized = desiredTags.equals(flywheelCurrentTags);
-        logger.log(String.format("Flywheel [%s] tagging stabilization status: %s.",
-                flywheelModel.getPrimaryIdentifier(), taggingStabilized));
+        callbackContext.setTagPollCount(callbackContext.getTagPollCount() + 1);
+        final Set<Tag> flywheelCurrentTags = TagHelper.getCurrentTags(proxyClient, flywheelModel, responseCache);
+        boolean taggingStabilized = TagReconciler.fingerprint(flywheelCurrentTags) == callbackContext.getDesiredTagsFingerprint();
+        logger.sampled(callbackContext.getTagPollCount(), "Flywheel [{}] tagging stabilization status: {}.",
+                flywheelModel.getArn(), taggingStabilized);
 
         return taggingStabilized;
     }
@@ -14,12 +14,16 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.cloudformation.proxy.delay.Constant;
+import software.amazon.comprehend.core.BackoffStrategies;
+import software.amazon.comprehend.core.HandlerLogger;
+import software.amazon.comprehend.core.StageTracer;
 
-import java.time.Duration;
 
 public class DeleteHandler extends AbstractFlywheelHandler {
 
-    protected static final Constant DELETE_BACKOFF_STRATEGY = Constant.of().delay(Duration.ofSeconds(5)).timeout(Duration.ofMinutes(60)).build();
+    private static final String DELETE_CALL_GRAPH = "AWS-Comprehend-Flywheel::Delete";
+
+    protected static final Constant DELETE_BACKOFF_STRATEGY = BackoffStrategies.DELETE;
 
     @Override
     public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -29,19 +33,20 @@ public class DeleteHandler extends AbstractFlywheelHandler {
         final ProxyClient<ComprehendClient> proxyClient,
         final Logger logger) {
 
-        this.logger = logger;
+        this.logger = HandlerLogger.of(logger);
+        this.stageTracer = new StageTracer();
 
         return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
             // Progress chain to delete flywheel and stabilize
-            .then(progress ->
-                 proxy.initiate("AWS-Comprehend-Flywheel::Delete", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
+            .then(progress -> stageTracer.trace(DELETE_CALL_GRAPH, callbackContext, () ->
+                 proxy.initiate(DELETE_CALL_GRAPH, proxyClient, progress.getResourceModel(), progress.getCallbackContext())
                     .translateToServiceRequest(Translator::translateToDeleteRequest)
                     .backoffDelay(DELETE_BACKOFF_STRATEGY)
                     .makeServiceCall(this::deleteFlywheel)
                     .stabilize(this::deleteStabilize)
                     .handleError(this::handleError)
                     .progress()
-            )
+            ))
             // Return the successful progress event without resource model
             .then(progress -> ProgressEvent.defaultSuccessHandler(null));
     }
@@ -56,7 +61,7 @@ public class DeleteHandler extends AbstractFlywheelHandler {
         DeleteFlywheelResponse deleteFlywheelResponse = proxyClient.injectCredentialsAndInvokeV2(
                 deleteFlywheelRequest, proxyClient.client()::deleteFlywheel);
 
-        logger.log(String.format("Flywheel [%s] deletion call successful.", deleteFlywheelRequest.flywheelArn()));
+        logger.info("Flywheel [{}] deletion call successful.", deleteFlywheelRequest.flywheelArn());
         return deleteFlywheelResponse;
     }
 
@@ -74,7 +79,8 @@ public class DeleteHandler extends AbstractFlywheelHandler {
             switch(flywheelStatus) {
                 case ACTIVE:
                 case DELETING:
-                    logger.log(String.format("Flywheel [%s] deletion has not stabilized.", flywheelModel.getPrimaryIdentifier()));
+                    logger.sampled(callbackContext.attempts(DELETE_CALL_GRAPH), "Flywheel [{}] deletion has not stabilized, status {}.",
+                            flywheelModel.getArn(), flywheelStatus);
                     return false;
                 case FAILED:
                     throw new CfnGeneralServiceException(Action.CREATE.toString(), new Throwable(String.format(
@@ -86,7 +92,7 @@ public class DeleteHandler extends AbstractFlywheelHandler {
                     throw new CfnNotStabilizedException(ResourceModel.TYPE_NAME, flywheelModel.getFlywheelName());
             }
         } catch (ResourceNotFoundException e) {
-            logger.log(String.format("Flywheel [%s] deletion has stabilized.", flywheelModel.getPrimaryIdentifier()));
+            logger.info("Flywheel [{}] deletion has stabilized.", flywheelModel.getArn());
             return true;
         }
     }
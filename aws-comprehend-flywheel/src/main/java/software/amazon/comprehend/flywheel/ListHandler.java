@@ -11,12 +11,18 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.comprehend.core.HandlerLogger;
 
 import java.util.ArrayList;
 import java.util.List;
 
 public class ListHandler extends AbstractFlywheelHandler {
 
+    @Override
+    protected BaseHandler<CallbackContext> getAsyncHandler() {
+        return new AsyncListHandler();
+    }
+
     @Override
     public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
@@ -25,12 +31,12 @@ public class ListHandler extends AbstractFlywheelHandler {
         final ProxyClient<ComprehendClient> proxyClient,
         final Logger logger) {
 
-        this.logger = logger;
+        this.logger = HandlerLogger.of(logger);
 
         final ListFlywheelsRequest listFlywheelsRequest = Translator.translateToListRequest(request.getNextToken());
-        ListFlywheelsResponse listFlywheelsResponse = proxy.injectCredentialsAndInvokeV2(listFlywheelsRequest, proxyClient.client()::listFlywheels);
+        ListFlywheelsResponse listFlywheelsResponse = proxyClient.injectCredentialsAndInvokeV2(listFlywheelsRequest, proxyClient.client()::listFlywheels);
 
-        logger.log(String.format("Successfully listed %d flywheels.", listFlywheelsResponse.flywheelSummaryList().size()));
+        this.logger.info("Successfully listed {} flywheels.", listFlywheelsResponse.flywheelSummaryList().size());
         return ProgressEvent.<ResourceModel, CallbackContext>builder()
                 .resourceModels(Translator.translateFromListResponse(listFlywheelsResponse))
                 .nextToken(listFlywheelsResponse.nextToken())
@@ -12,10 +12,29 @@ import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.comprehend.core.HandlerLogger;
+import software.amazon.comprehend.core.ResponseCache;
+
+import java.util.Optional;
 
 
 public class ReadHandler extends AbstractFlywheelHandler {
 
+    public ReadHandler() {
+    }
+
+    /**
+     * Read handler that reuses fresh responses already fetched by the calling handler for the same request.
+     */
+    public ReadHandler(final ResponseCache responseCache) {
+        this.responseCache = responseCache;
+    }
+
+    @Override
+    protected BaseHandler<CallbackContext> getAsyncHandler() {
+        return new AsyncReadHandler();
+    }
+
     @Override
     public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
@@ -24,7 +43,7 @@ public class ReadHandler extends AbstractFlywheelHandler {
         final ProxyClient<ComprehendClient> proxyClient,
         final Logger logger) {
 
-        this.logger = logger;
+        this.logger = HandlerLogger.of(logger);
 
         final ResourceModel flywheelModel = request.getDesiredResourceState();
 
@@ -32,20 +51,36 @@ public class ReadHandler extends AbstractFlywheelHandler {
         ListTagsForResourceRequest listTagsForResourceRequest = Translator.translateToListTagsRequest(flywheelModel);
 
         try {
-            DescribeFlywheelResponse describeFlywheelResponse = proxy.injectCredentialsAndInvokeV2(describeFlywheelRequest, proxyClient.client()::describeFlywheel);
-            logger.log(String.format("Successfully described flywheel [%s].", flywheelModel.getArn()));
+            final Optional<DescribeFlywheelResponse> cachedDescribeFlywheelResponse =
+                    responseCache.getIfFresh(flywheelModel.getArn(), DescribeFlywheelResponse.class);
+            final DescribeFlywheelResponse describeFlywheelResponse;
+            if (cachedDescribeFlywheelResponse.isPresent()) {
+                describeFlywheelResponse = cachedDescribeFlywheelResponse.get();
+                this.logger.debug("Reusing DescribeFlywheel response for flywheel [{}].", flywheelModel.getArn());
+            } else {
+                describeFlywheelResponse = proxyClient.injectCredentialsAndInvokeV2(describeFlywheelRequest, proxyClient.client()::describeFlywheel);
+                this.logger.info("Successfully described flywheel [{}].", flywheelModel.getArn());
+            }
 
-            ListTagsForResourceResponse listTagsForResourceResponse = proxy.injectCredentialsAndInvokeV2(listTagsForResourceRequest, proxyClient.client()::listTagsForResource);
-            logger.log(String.format("Successfully listed %d tags for flywheel [%s].",
-                    listTagsForResourceResponse.tags().size(), flywheelModel.getArn()));
+            final Optional<ListTagsForResourceResponse> cachedListTagsForResourceResponse =
+                    responseCache.getIfFresh(flywheelModel.getArn(), ListTagsForResourceResponse.class);
+            final ListTagsForResourceResponse listTagsForResourceResponse;
+            if (cachedListTagsForResourceResponse.isPresent()) {
+                listTagsForResourceResponse = cachedListTagsForResourceResponse.get();
+                this.logger.debug("Reusing ListTagsForResource response for flywheel [{}].", flywheelModel.getArn());
+            } else {
+                listTagsForResourceResponse = proxyClient.injectCredentialsAndInvokeV2(listTagsForResourceRequest, proxyClient.client()::listTagsForResource);
+                this.logger.info("Successfully listed {} tags for flywheel [{}].",
+                        listTagsForResourceResponse.tags().size(), flywheelModel.getArn());
+            }
 
             ResourceModel newModel = Translator.translateFromReadResponse(describeFlywheelResponse);
             newModel.setTags(Translator.fromSdkTags(listTagsForResourceResponse.tags()));
 
             return ProgressEvent.success(newModel, callbackContext);
         } catch (final ResourceNotFoundException e) {
-            logger.log(String.format("Read operation failed for flywheel [%s] with error: %s",
-                    flywheelModel.getArn(), e));
+            this.logger.warn("Read operation failed for flywheel [{}] with error: {}",
+                    flywheelModel.getArn(), e);
             return ProgressEvent.defaultFailureHandler(e, HandlerErrorCode.NotFound);
         }
 
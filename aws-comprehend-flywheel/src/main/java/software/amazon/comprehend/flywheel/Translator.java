@@ -1,7 +1,6 @@
 package software.amazon.comprehend.flywheel;
 
 import com.google.common.collect.Lists;
-import com.google.common.collect.Sets;
 import org.apache.commons.lang3.StringUtils;
 import software.amazon.awssdk.awscore.AwsRequest;
 import software.amazon.awssdk.awscore.AwsRequestOverrideConfiguration;
@@ -14,6 +13,7 @@ import software.amazon.awssdk.services.comprehend.model.DescribeFlywheelResponse
 import software.amazon.awssdk.services.comprehend.model.DocumentClassificationConfig;
 import software.amazon.awssdk.services.comprehend.model.EntityRecognitionConfig;
 import software.amazon.awssdk.services.comprehend.model.FlywheelProperties;
+import software.amazon.awssdk.services.comprehend.model.FlywheelSummary;
 import software.amazon.awssdk.services.comprehend.model.ListFlywheelsRequest;
 import software.amazon.awssdk.services.comprehend.model.ListFlywheelsResponse;
 import software.amazon.awssdk.services.comprehend.model.ListTagsForResourceRequest;
@@ -25,17 +25,17 @@ import software.amazon.awssdk.services.comprehend.model.UntagResourceRequest;
 import software.amazon.awssdk.services.comprehend.model.UpdateDataSecurityConfig;
 import software.amazon.awssdk.services.comprehend.model.UpdateFlywheelRequest;
 import software.amazon.awssdk.services.comprehend.model.VpcConfig;
+import software.amazon.comprehend.core.ComprehendArn;
+import software.amazon.comprehend.core.TagDiff;
 
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import java.util.Set;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 
 /**
@@ -60,14 +60,11 @@ public class Translator {
             .documentClassificationConfig(documentClassificationConfig == null ? null :
                     DocumentClassificationConfig.builder()
                             .mode(documentClassificationConfig.getMode())
-                            .labels(streamOfOrEmpty(documentClassificationConfig.getLabels())
-                                    .collect(Collectors.toList()))
+                            .labels(toList(documentClassificationConfig.getLabels()))
                             .build())
             .entityRecognitionConfig(entityRecognitionConfig == null ? null :
                     EntityRecognitionConfig.builder()
-                            .entityTypes(streamOfOrEmpty(entityRecognitionConfig.getEntityTypes())
-                                    .map(entityType -> EntityTypesListItem.builder().type(entityType.getType()).build())
-                                    .collect(Collectors.toSet()))
+                            .entityTypes(toSdkEntityTypes(entityRecognitionConfig.getEntityTypes()))
                             .build())
             .build();
   }
@@ -97,12 +94,29 @@ public class Translator {
   }
 
   public static Collection<Tag> toSdkTags(Set<software.amazon.comprehend.flywheel.Tag> tags) {
-    return streamOfOrEmpty(tags).map(t ->
-            Tag.builder()
-                    .key(t.getKey())
-                    .value(t.getValue())
-                    .build())
-            .collect(Collectors.toList());
+    if (tags == null || tags.isEmpty()) {
+      return Collections.emptyList();
+    }
+    final List<Tag> sdkTags = new ArrayList<>(tags.size());
+    for (final software.amazon.comprehend.flywheel.Tag tag : tags) {
+      sdkTags.add(Tag.builder()
+              .key(tag.getKey())
+              .value(tag.getValue())
+              .build());
+    }
+    return sdkTags;
+  }
+
+  private static List<EntityTypesListItem> toSdkEntityTypes(
+          final Collection<software.amazon.comprehend.flywheel.EntityTypesListItem> entityTypes) {
+    if (entityTypes == null || entityTypes.isEmpty()) {
+      return Collections.emptyList();
+    }
+    final List<EntityTypesListItem> sdkEntityTypes = new ArrayList<>(entityTypes.size());
+    for (final software.amazon.comprehend.flywheel.EntityTypesListItem entityType : entityTypes) {
+      sdkEntityTypes.add(EntityTypesListItem.builder().type(entityType.getType()).build());
+    }
+    return sdkEntityTypes;
   }
 
 
@@ -118,24 +132,19 @@ public class Translator {
             .documentClassificationConfig(documentClassificationConfig == null ? null :
                     software.amazon.comprehend.flywheel.DocumentClassificationConfig.builder()
                             .mode(documentClassificationConfig.modeAsString())
-                            .labels(streamOfOrEmpty(documentClassificationConfig.labels())
-                                    .collect(Collectors.toSet()))
+                            .labels(toSet(documentClassificationConfig.labels()))
                             .build())
             .entityRecognitionConfig(entityRecognitionConfig == null ? null :
                     software.amazon.comprehend.flywheel.EntityRecognitionConfig.builder()
-                            .entityTypes(streamOfOrEmpty(entityRecognitionConfig.entityTypes())
-                                    .map(entityType -> software.amazon.comprehend.flywheel.EntityTypesListItem.builder()
-                                            .type(entityType.type())
-                                            .build())
-                                    .collect(Collectors.toSet()))
+                            .entityTypes(fromSdkEntityTypes(entityRecognitionConfig.entityTypes()))
                             .build())
             .build();
   }
 
   static software.amazon.comprehend.flywheel.VpcConfig fromVpcConfig(final VpcConfig vpcConfig) {
     return vpcConfig == null ? null : software.amazon.comprehend.flywheel.VpcConfig.builder()
-            .securityGroupIds(streamOfOrEmpty(vpcConfig.securityGroupIds()).collect(Collectors.toSet()))
-            .subnets(streamOfOrEmpty(vpcConfig.subnets()).collect(Collectors.toSet()))
+            .securityGroupIds(toSet(vpcConfig.securityGroupIds()))
+            .subnets(toSet(vpcConfig.subnets()))
             .build();
   }
 
@@ -149,12 +158,31 @@ public class Translator {
   }
 
   public static Set<software.amazon.comprehend.flywheel.Tag> fromSdkTags(Collection<Tag> tags) {
-    return streamOfOrEmpty(tags).map(t ->
-            software.amazon.comprehend.flywheel.Tag.builder()
-                    .key(t.key())
-                    .value(t.value())
-                    .build())
-            .collect(Collectors.toSet());
+    if (tags == null || tags.isEmpty()) {
+      return Collections.emptySet();
+    }
+    final Set<software.amazon.comprehend.flywheel.Tag> modelTags = newHashSet(tags.size());
+    for (final Tag tag : tags) {
+      modelTags.add(software.amazon.comprehend.flywheel.Tag.builder()
+              .key(tag.key())
+              .value(tag.value())
+              .build());
+    }
+    return modelTags;
+  }
+
+  private static Set<software.amazon.comprehend.flywheel.EntityTypesListItem> fromSdkEntityTypes(
+          final Collection<EntityTypesListItem> entityTypes) {
+    if (entityTypes == null || entityTypes.isEmpty()) {
+      return Collections.emptySet();
+    }
+    final Set<software.amazon.comprehend.flywheel.EntityTypesListItem> modelEntityTypes = newHashSet(entityTypes.size());
+    for (final EntityTypesListItem entityType : entityTypes) {
+      modelEntityTypes.add(software.amazon.comprehend.flywheel.EntityTypesListItem.builder()
+              .type(entityType.type())
+              .build());
+    }
+    return modelEntityTypes;
   }
 
 
@@ -235,33 +263,21 @@ public class Translator {
   /**
    * Request to add tags to a resource
    * @param model resource model
+   * @param tagDiff difference between the current and the desired tags of the resource
    * @return awsRequest the aws service request to tag a resource
    */
-  static TagResourceRequest translateToTagResourceRequest(final ResourceModel model, Set<Tag> currentTags, Set<Tag> desiredTags) {
-    Set<Tag> setOfCurrentTags = Sets.newHashSet(currentTags);
-    Set<Tag> setOfDesiredTags = Sets.newHashSet(desiredTags);
-    List<Tag> tagsToAdd = new ArrayList<>(Sets.difference(setOfDesiredTags, setOfCurrentTags));
-
-    return TagResourceRequest.builder()
-            .resourceArn(model.getArn())
-            .tags(tagsToAdd)
-            .build();
+  static TagResourceRequest translateToTagResourceRequest(final ResourceModel model, final TagDiff tagDiff) {
+    return tagDiff.toTagResourceRequest(model.getArn());
   }
 
   /**
-   * Request to add tags to a resource
+   * Request to remove tags from a resource
    * @param model resource model
-   * @return awsRequest the aws service request to create a resource
+   * @param tagDiff difference between the current and the desired tags of the resource
+   * @return awsRequest the aws service request to untag a resource
    */
-  static UntagResourceRequest translateToUntagResourceRequest(final ResourceModel model, Set<Tag> currentTags, Set<Tag> desiredTags) {
-    Set<String> setOfCurrentTagKeys = streamOfOrEmpty(currentTags).map(Tag::key).collect(Collectors.toSet());
-    Set<String> setOfDesiredTagKeys = streamOfOrEmpty(desiredTags).map(Tag::key).collect(Collectors.toSet());
-    List<String> tagKeysToRemove = new ArrayList<>(Sets.difference(setOfCurrentTagKeys, setOfDesiredTagKeys));
-
-    return UntagResourceRequest.builder()
-            .resourceArn(model.getArn())
-            .tagKeys(tagKeysToRemove)
-            .build();
+  static UntagResourceRequest translateToUntagResourceRequest(final ResourceModel model, final TagDiff tagDiff) {
+    return tagDiff.toUntagResourceRequest(model.getArn());
   }
 
   /**
@@ -288,12 +304,13 @@ public class Translator {
   static ResourceModel translateFromReadResponse(final DescribeFlywheelResponse awsResponse) {
     FlywheelProperties flywheelProperties = awsResponse.flywheelProperties();
     String flywheelArn = flywheelProperties.flywheelArn();
+    String flywheelName = ComprehendArn.resourceName(flywheelArn);
     ResourceModel model = ResourceModel.builder()
             .arn(flywheelArn)
             .dataAccessRoleArn(flywheelProperties.dataAccessRoleArn())
-            .dataLakeS3Uri(trimDataLakeS3Uri(flywheelProperties.dataLakeS3Uri(), flywheelArn))
+            .dataLakeS3Uri(trimDataLakeS3Uri(flywheelProperties.dataLakeS3Uri(), flywheelName))
             .dataSecurityConfig(fromSdkDataSecurityConfig(flywheelProperties.dataSecurityConfig()))
-            .flywheelName(flywheelArn.substring(flywheelArn.indexOf("/") + 1))
+            .flywheelName(flywheelName)
             .modelType(flywheelProperties.modelTypeAsString())
             .taskConfig(fromSdkTaskConfig(flywheelProperties.taskConfig()))
             .build();
@@ -309,11 +326,16 @@ public class Translator {
    * @return list of resource models
    */
   static List<ResourceModel> translateFromListResponse(final ListFlywheelsResponse awsResponse) {
-    return streamOfOrEmpty(awsResponse.flywheelSummaryList())
-            .map(flywheelSummary -> ResourceModel.builder()
-                    .arn(flywheelSummary.flywheelArn())
-                    .build())
-            .collect(Collectors.toList());
+    final List<FlywheelSummary> flywheelSummaryList = awsResponse.flywheelSummaryList();
+    final List<ResourceModel> models = new ArrayList<>(flywheelSummaryList == null ? 0 : flywheelSummaryList.size());
+    if (flywheelSummaryList != null) {
+      for (final FlywheelSummary flywheelSummary : flywheelSummaryList) {
+        models.add(ResourceModel.builder()
+                .arn(flywheelSummary.flywheelArn())
+                .build());
+      }
+    }
+    return models;
   }
 
 
@@ -324,19 +346,38 @@ public class Translator {
   /**
    * For output DataLake S3 uri to match the input uri, need to trim the flywheel name and timestamp suffix
    * @param dataLakeS3Uri the DataLake S3 returned by DescribeFlywheel
-   * @param flywheelArn the arn of the flywheel from which to derive the flywheel name
+   * @param flywheelName the name of the flywheel
    * @return trimmed DataLake S3 uri matching what the user passed in originally in CreateFlywheel
    */
-  private static String trimDataLakeS3Uri(final String dataLakeS3Uri, final String flywheelArn) {
-    String flywheelName = flywheelArn.substring(flywheelArn.lastIndexOf('/') + 1);
-    int splitIndex = dataLakeS3Uri.lastIndexOf(flywheelName + "/");
-    return splitIndex > 0 ? dataLakeS3Uri.substring(0, splitIndex) : dataLakeS3Uri;
+  static String trimDataLakeS3Uri(final String dataLakeS3Uri, final String flywheelName) {
+    // Last "{flywheelName}/" in the uri, found in place rather than by searching for a concatenated string
+    for (int splitIndex = dataLakeS3Uri.length() - flywheelName.length() - 1; splitIndex > 0; splitIndex--) {
+      if (dataLakeS3Uri.charAt(splitIndex + flywheelName.length()) == '/' && dataLakeS3Uri.startsWith(flywheelName, splitIndex)) {
+        return dataLakeS3Uri.substring(0, splitIndex);
+      }
+    }
+    return dataLakeS3Uri;
+  }
+
+  /**
+   * Copy a collection into a set, sharing one immutable empty set for null or empty input.
+   */
+  private static <T> Set<T> toSet(final Collection<T> collection) {
+    return collection == null || collection.isEmpty() ? Collections.emptySet() : new HashSet<>(collection);
   }
 
-  private static <T> Stream<T> streamOfOrEmpty(final Collection<T> collection) {
-    return Optional.ofNullable(collection)
-        .map(Collection::stream)
-        .orElseGet(Stream::empty);
+  /**
+   * Copy a collection into a list, sharing one immutable empty list for null or empty input.
+   */
+  private static <T> List<T> toList(final Collection<T> collection) {
+    return collection == null || collection.isEmpty() ? Collections.emptyList() : new ArrayList<>(collection);
+  }
+
+  /**
+   * Hash set that holds the expected number of elements without rehashing.
+   */
+  private static <T> Set<T> newHashSet(final int expectedSize) {
+    return new HashSet<>((int) (expectedSize / 0.75f) + 1);
   }
 
 }
@@ -1,6 +1,7 @@
 package software.amazon.comprehend.flywheel;
 
 import software.amazon.awssdk.services.comprehend.ComprehendClient;
+import software.amazon.awssdk.services.comprehend.model.DescribeFlywheelResponse;
 import software.amazon.awssdk.services.comprehend.model.Tag;
 import software.amazon.awssdk.services.comprehend.model.FlywheelStatus;
 import software.amazon.awssdk.services.comprehend.model.TagResourceRequest;
@@ -17,17 +18,32 @@ import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.comprehend.core.HandlerLogger;
+import software.amazon.comprehend.core.StageTracer;
+import software.amazon.comprehend.core.TagDiff;
+import software.amazon.comprehend.core.TagReconciler;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.List;
+import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 public class UpdateHandler extends AbstractFlywheelHandler {
 
+    private static final String UPDATE_CALL_GRAPH = "AWS-Comprehend-Flywheel::Update::Flywheel";
+    private static final String UNTAG_CALL_GRAPH = "AWS-Comprehend-Flywheel::Update::Untag";
+    private static final String TAG_CALL_GRAPH = "AWS-Comprehend-Flywheel::Update::Tag";
+    private static final String READ_STAGE = "AWS-Comprehend-Flywheel::Update::Read";
+
+    @Override
+    protected BaseHandler<CallbackContext> getAsyncHandler() {
+        return new AsyncUpdateHandler();
+    }
+
     @Override
     public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
@@ -36,44 +52,69 @@ public class UpdateHandler extends AbstractFlywheelHandler {
         final ProxyClient<ComprehendClient> proxyClient,
         final Logger logger) {
 
-        this.logger = logger;
+        this.logger = HandlerLogger.of(logger);
+        this.stageTracer = new StageTracer();
 
         final ResourceModel flywheelModel = request.getDesiredResourceState();
 
-        final Set<Tag> currentTags = TagHelper.getCurrentTags(proxyClient, request.getDesiredResourceState());
+        final Set<Tag> currentTags = TagHelper.getCurrentTags(proxyClient, request.getDesiredResourceState(), responseCache);
         final Set<Tag> desiredTags = TagHelper.getDesiredTags(request);
-        UntagResourceRequest untagResourceRequest = Translator.translateToUntagResourceRequest(flywheelModel, currentTags, desiredTags);
-        TagResourceRequest tagResourceRequest = Translator.translateToTagResourceRequest(flywheelModel, currentTags, desiredTags);
+        final TagDiff tagDiff = TagDiff.between(currentTags, desiredTags);
+        final UntagResourceRequest untagResourceRequest = Translator.translateToUntagResourceRequest(flywheelModel, tagDiff);
+        final TagResourceRequest tagResourceRequest = Translator.translateToTagResourceRequest(flywheelModel, tagDiff);
+
+        callbackContext.setDesiredTagsFingerprint(TagReconciler.fingerprint(desiredTags));
+        callbackContext.planTags(tagDiff);
 
-        callbackContext.setTagKeysToRemove(new HashSet<>(untagResourceRequest.tagKeys()));
-        callbackContext.setTagsToAdd(new HashSet<>(tagResourceRequest.tags()));
+        final List<String> changedProperties = getChangedUpdatableProperties(request.getPreviousResourceState(), flywheelModel);
+        if (changedProperties.isEmpty()) {
+            this.logger.info("Flywheel [{}] has no changes to updatable properties, skipping update call.", flywheelModel.getArn());
+        }
 
         return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
-                // Progress chain to update flywheel (no stabilization as UpdateFlywheel is synchronous)
-                .then(progress ->
-                    proxy.initiate("AWS-Comprehend-Flywheel::Update::Flywheel", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
+                // Progress chain to update flywheel if necessary (no stabilization as UpdateFlywheel is synchronous)
+                .then(progress -> changedProperties.isEmpty() ? progress : stageTracer.trace(UPDATE_CALL_GRAPH, callbackContext, () ->
+                    proxy.initiate(UPDATE_CALL_GRAPH, proxyClient, progress.getResourceModel(), progress.getCallbackContext())
                         .translateToServiceRequest(Translator::translateToUpdateRequest)
                         .makeServiceCall(this::updateFlywheel)
                         .handleError(this::handleError)
-                        .progress())
-                // Progress chain to untag if necessary and stabilize
-                .then(progress ->
-                    proxy.initiate("AWS-Comprehend-Flywheel::Update::Untag", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
+                        .progress()))
+                // Progress chain to untag if necessary, stabilized together with tagging below
+                .then(progress -> stageTracer.trace(UNTAG_CALL_GRAPH, callbackContext, () ->
+                    proxy.initiate(UNTAG_CALL_GRAPH, proxyClient, progress.getResourceModel(), progress.getCallbackContext())
                         .translateToServiceRequest(resourceModel -> untagResourceRequest)
                         .makeServiceCall(this::untagFlywheel)
-                        .stabilize(this::untagStabilize)
                         .handleError(this::handleError)
-                        .progress())
-                // Progress chain to tag if necessary and stabilize
-                .then(progress ->
-                    proxy.initiate("AWS-Comprehend-Flywheel::Update::Tag", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
+                        .progress()))
+                // Progress chain to tag if necessary and stabilize both untagging and tagging
+                .then(progress -> stageTracer.trace(TAG_CALL_GRAPH, callbackContext, () ->
+                    proxy.initiate(TAG_CALL_GRAPH, proxyClient, progress.getResourceModel(), progress.getCallbackContext())
                         .translateToServiceRequest(resourceModel -> tagResourceRequest)
                         .makeServiceCall(this::tagFlywheel)
-                        .stabilize(this::tagStabilize)
+                        .stabilize(this::tagReconciliationStabilize)
                         .handleError(this::handleError)
-                        .progress())
-                // Progress chain to describe flywheel and return the resource model
-                .then(progress -> new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger));
+                        .progress()))
+                // Progress chain to describe flywheel and return the resource model, reusing responses from the update and stabilization
+                .then(progress -> stageTracer.trace(READ_STAGE, callbackContext,
+                        () -> new ReadHandler(responseCache).handleRequest(proxy, request, callbackContext, proxyClient, this.logger)));
+    }
+
+    /**
+     * Returns the names of the properties accepted by UpdateFlywheel that differ between the previous and desired
+     * state. Without a previous state nothing is known to be unchanged, so all of them are returned.
+     */
+    static List<String> getChangedUpdatableProperties(final ResourceModel previousModel, final ResourceModel desiredModel) {
+        final List<String> changedProperties = new ArrayList<>();
+        if (previousModel == null || !Objects.equals(previousModel.getActiveModelArn(), desiredModel.getActiveModelArn())) {
+            changedProperties.add("ActiveModelArn");
+        }
+        if (previousModel == null || !Objects.equals(previousModel.getDataAccessRoleArn(), desiredModel.getDataAccessRoleArn())) {
+            changedProperties.add("DataAccessRoleArn");
+        }
+        if (previousModel == null || !Objects.equals(previousModel.getDataSecurityConfig(), desiredModel.getDataSecurityConfig())) {
+            changedProperties.add("DataSecurityConfig");
+        }
+        return changedProperties;
     }
 
     /**
@@ -85,8 +126,12 @@ public class UpdateHandler extends AbstractFlywheelHandler {
     ) {
         UpdateFlywheelResponse updateFlywheelResponse = proxyClient.injectCredentialsAndInvokeV2(
                 updateFlywheelRequest, proxyClient.client()::updateFlywheel);
+        // UpdateFlywheel is synchronous and returns the updated properties, which is all a describe would return
+        responseCache.put(updateFlywheelRequest.flywheelArn(), DescribeFlywheelResponse.builder()
+                .flywheelProperties(updateFlywheelResponse.flywheelProperties())
+                .build());
 
-        logger.log(String.format("Flywheel [%s] update call successful.", updateFlywheelResponse.flywheelProperties().flywheelArn()));
+        logger.info("Flywheel [{}] update call successful.", updateFlywheelResponse.flywheelProperties().flywheelArn());
         return updateFlywheelResponse;
     }
 
@@ -102,8 +147,8 @@ public class UpdateHandler extends AbstractFlywheelHandler {
         UntagResourceResponse untagResourceResponse = proxyClient.injectCredentialsAndInvokeV2(
                 untagResourceRequest, proxyClient.client()::untagResource);
 
-        logger.log(String.format("Flywheel [%s] untag call for removing %d tags successful.",
-                untagResourceRequest.resourceArn(), untagResourceRequest.tagKeys().size()));
+        logger.info("Flywheel [{}] untag call for removing {} tags successful.",
+                untagResourceRequest.resourceArn(), untagResourceRequest.tagKeys().size());
 
         return untagResourceResponse;
     }
@@ -120,54 +165,36 @@ public class UpdateHandler extends AbstractFlywheelHandler {
         TagResourceResponse tagResourceResponse = proxyClient.injectCredentialsAndInvokeV2(
                 tagResourceRequest, proxyClient.client()::tagResource);
 
-        logger.log(String.format("Flywheel [%s] tag call for adding %d tags successful.",
-                tagResourceRequest.resourceArn(), tagResourceRequest.tags().size()));
+        logger.info("Flywheel [{}] tag call for adding {} tags successful.",
+                tagResourceRequest.resourceArn(), tagResourceRequest.tags().size());
 
         return tagResourceResponse;
     }
 
     /**
-     * Verifies flywheel untagging has stabilized by checking no tag keys to remove is present in current flywheel tag keys.
-     */
-    private boolean untagStabilize(
-            final UntagResourceRequest request,
-            final UntagResourceResponse response,
-            final ProxyClient<ComprehendClient> proxyClient,
-            final ResourceModel flywheelModel,
-            final CallbackContext callbackContext) {
-
-        if (callbackContext.getTagKeysToRemove().isEmpty()) return true;
-
-        final Set<String> flywheelCurrentTagKeys = TagHelper.getCurrentTags(proxyClient, flywheelModel)
-                .stream().map(Tag::key).collect(Collectors.toSet());
-
-        boolean untagStabilized = Collections.disjoint(flywheelCurrentTagKeys, callbackContext.getTagKeysToRemove());
-
-        logger.log(String.format("Flywheel [%s] untagging stabilization status: %s.",
-                flywheelModel.getPrimaryIdentifier(), untagStabilized));
-
-        return untagStabilized;
-    }
-
-    /**
-     * Verifies flywheel tagging has stabilized by checking current flywheel tags contain all tags to add.
+     * Verifies flywheel untagging and tagging have stabilized by checking, with a single ListTagsForResource call, that
+     * no tag keys to remove are present and that all tags to add are present.
      */
-    private boolean tagStabilize(
+    private boolean tagReconciliationStabilize(
             final TagResourceRequest request,
             final TagResourceResponse response,
             final ProxyClient<ComprehendClient> proxyClient,
             final ResourceModel flywheelModel,
             final CallbackContext callbackContext) {
 
+        if (callbackContext.tagKeysToRemoveOrEmpty().isEmpty() && callbackContext.tagsToAddOrEmpty().isEmpty()) return true;
 
-        if (callbackContext.getTagsToAdd().isEmpty()) return true;
+        callbackContext.setTagPollCount(callbackContext.getTagPollCount() + 1);
+        final Set<Tag> flywheelCurrentTags = TagHelper.getCurrentTags(proxyClient, flywheelModel, responseCache);
+        final Set<String> flywheelCurrentTagKeys = flywheelCurrentTags.stream().map(Tag::key).collect(Collectors.toSet());
 
-        final Set<Tag> flywheelCurrentTags = new HashSet<>(TagHelper.getCurrentTags(proxyClient, flywheelModel));
-        boolean tagStabilized = flywheelCurrentTags.containsAll(callbackContext.getTagsToAdd());
-        logger.log(String.format("Flywheel [%s] untagging stabilization status: %s.",
-                flywheelModel.getPrimaryIdentifier(), tagStabilized));
+        boolean untagStabilized = Collections.disjoint(flywheelCurrentTagKeys, callbackContext.tagKeysToRemoveOrEmpty());
+        boolean tagStabilized = flywheelCurrentTags.containsAll(callbackContext.tagsToAddOrEmpty());
+        logger.sampled(callbackContext.getTagPollCount(), "Flywheel [{}] untagging stabilization status: {}, tagging stabilization status: {}.",
+                flywheelModel.getArn(), untagStabilized, tagStabilized);
 
-        return tagStabilized;
+        callbackContext.setTaggingStabilized(untagStabilized && tagStabilized);
+        return callbackContext.isTaggingStabilized();
     }
 
 }
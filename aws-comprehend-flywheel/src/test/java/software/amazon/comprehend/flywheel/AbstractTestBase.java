@@ -23,6 +23,7 @@ import software.amazon.awssdk.core.SdkClient;
 import software.amazon.awssdk.core.ResponseBytes;
 import software.amazon.awssdk.core.ResponseInputStream;
 import software.amazon.awssdk.core.pagination.sync.SdkIterable;
+import software.amazon.awssdk.services.comprehend.ComprehendAsyncClient;
 import software.amazon.awssdk.services.comprehend.ComprehendClient;
 import software.amazon.awssdk.services.comprehend.model.CreateFlywheelRequest;
 import software.amazon.awssdk.services.comprehend.model.DataSecurityConfig;
@@ -55,6 +56,7 @@ import software.amazon.cloudformation.proxy.LoggerProxy;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.comprehend.core.TagReconciler;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -178,9 +180,9 @@ public class AbstractTestBase {
           Stream.of(RESOURCE_TAGS_UPDATED, STACK_LEVEL_TAGS, SYSTEM_TAGS_UPDATED)
                   .flatMap(Collection::stream)
                   .collect(Collectors.toList());
-  protected static Map<String, String> SYSTEM_TAGS_MAP = TagHelper.convertSdkTagsToKeyValueMap(SYSTEM_TAGS);
-  protected static Map<String, String> SYSTEM_TAGS_UPDATED_MAP = TagHelper.convertSdkTagsToKeyValueMap(SYSTEM_TAGS_UPDATED);
-  protected static Map<String, String> STACK_TAGS_MAP = TagHelper.convertSdkTagsToKeyValueMap(STACK_LEVEL_TAGS);
+  protected static Map<String, String> SYSTEM_TAGS_MAP = TagReconciler.convertSdkTagsToKeyValueMap(SYSTEM_TAGS);
+  protected static Map<String, String> SYSTEM_TAGS_UPDATED_MAP = TagReconciler.convertSdkTagsToKeyValueMap(SYSTEM_TAGS_UPDATED);
+  protected static Map<String, String> STACK_TAGS_MAP = TagReconciler.convertSdkTagsToKeyValueMap(STACK_LEVEL_TAGS);
 
 
   /* CFN RESOURCE MODELS */
@@ -309,6 +311,32 @@ public class AbstractTestBase {
     return progressResponse;
   }
 
+  /**
+   * Invokes the handler through the CallbackReplay until it completes, handing the callback delays back and
+   * round-tripping the model and callback context between invocations as CloudFormation does.
+   */
+  protected ProgressEvent<ResourceModel, CallbackContext> replayHandleRequestAndReturnFinalProgressEvent(
+          final AmazonWebServicesClientProxy proxy,
+          final ResourceHandlerRequest<ResourceModel> request,
+          final CallbackContext callbackContext,
+          final ProxyClient<ComprehendClient> proxyClient,
+          final LoggerProxy logger,
+          final AbstractFlywheelHandler handler
+  ) {
+    return CallbackReplay.replay(proxy, request, callbackContext, proxyClient, logger, handler, callbackDelay -> { })
+            .getFinalProgressEvent();
+  }
+
+  protected ProgressEvent<ResourceModel, CallbackContext> invokeAsyncHandleRequest(
+          final AmazonWebServicesClientProxy proxy,
+          final ResourceHandlerRequest<ResourceModel> request,
+          final CallbackContext callbackContext,
+          final ProxyClient<ComprehendAsyncClient> proxyClient,
+          final AbstractAsyncFlywheelHandler handler
+  ) {
+    return handler.join(handler.handleRequestAsync(proxy, request, callbackContext, proxyClient, LOGGER));
+  }
+
   private static FlywheelProperties buildFlywheelProperties(
           FlywheelStatus status, TaskConfig taskConfig, ModelType modelType, String activeModelArn,
           String dataLakeS3Uri) {
@@ -0,0 +1,89 @@
+package software.amazon.comprehend.flywheel;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.services.comprehend.ComprehendAsyncClient;
+import software.amazon.awssdk.services.comprehend.model.ListFlywheelsRequest;
+import software.amazon.awssdk.services.comprehend.model.ListFlywheelsResponse;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class AsyncListHandlerTest extends AbstractTestBase {
+
+    @Mock
+    private ComprehendAsyncClient comprehendAsyncClient;
+
+    @Captor
+    ArgumentCaptor<ListFlywheelsRequest> listFlywheelsRequestArgumentCaptor;
+
+    private AmazonWebServicesClientProxy proxy;
+
+    private ProxyClient<ComprehendAsyncClient> proxyClient;
+
+    @BeforeEach
+    public void setup() {
+        proxy = new AmazonWebServicesClientProxy(LOGGER, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
+        proxyClient = proxy.newProxy(() -> comprehendAsyncClient);
+    }
+
+    @Test
+    public void handleRequest_SimpleSuccess_WithNextToken() {
+        // Set up mock behavior
+        when(comprehendAsyncClient.listFlywheels(listFlywheelsRequestArgumentCaptor.capture()))
+                .thenReturn(CompletableFuture.completedFuture(ListFlywheelsResponse.builder()
+                        .flywheelSummaryList(TEST_FLYWHEEL_SUMMARY_LIST)
+                        .nextToken(TEST_NEXT_TOKEN)
+                        .build()));
+
+        // Invoke Handler
+        final ProgressEvent<ResourceModel, CallbackContext> response = invokeAsyncHandleRequest(
+                proxy, TEST_RESOURCE_HANDLER_REQUEST_WITH_NEXT_TOKEN, new CallbackContext(), proxyClient, new AsyncListHandler());
+
+        // Validate handler behavior
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel()).isNull();
+        assertThat(response.getNextToken()).isEqualTo(TEST_NEXT_TOKEN);
+        assertThat(response.getResourceModels()).hasSize(TEST_FLYWHEEL_SUMMARY_LIST.size());
+        for (int i = 0; i < TEST_FLYWHEEL_SUMMARY_LIST.size(); i++) {
+            assertThat(response.getResourceModels().get(i).getArn()).isEqualTo(TEST_FLYWHEEL_SUMMARY_LIST.get(i).flywheelArn());
+        }
+
+        verify(comprehendAsyncClient, times(1)).listFlywheels(any(ListFlywheelsRequest.class));
+        assertThat(listFlywheelsRequestArgumentCaptor.getValue().nextToken()).isEqualTo(TEST_NEXT_TOKEN);
+    }
+
+    @Test
+    public void handleRequest_Success_WhenNoFlywheelsReturned() {
+        // Set up mock behavior
+        when(comprehendAsyncClient.listFlywheels(listFlywheelsRequestArgumentCaptor.capture()))
+                .thenReturn(CompletableFuture.completedFuture(ListFlywheelsResponse.builder()
+                        .flywheelSummaryList(TEST_EMPTY_FLYWHEEL_SUMMARY_LIST)
+                        .build()));
+
+        // Invoke Handler
+        final ProgressEvent<ResourceModel, CallbackContext> response = invokeAsyncHandleRequest(
+                proxy, TEST_RESOURCE_HANDLER_REQUEST, new CallbackContext(), proxyClient, new AsyncListHandler());
+
+        // Validate handler behavior
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModels()).isEmpty();
+        assertThat(response.getNextToken()).isNull();
+    }
+}
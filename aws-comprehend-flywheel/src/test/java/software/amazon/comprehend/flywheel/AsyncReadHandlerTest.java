@@ -0,0 +1,153 @@
+package software.amazon.comprehend.flywheel;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.services.comprehend.ComprehendAsyncClient;
+import software.amazon.awssdk.services.comprehend.model.DescribeFlywheelRequest;
+import software.amazon.awssdk.services.comprehend.model.DescribeFlywheelResponse;
+import software.amazon.awssdk.services.comprehend.model.ListTagsForResourceRequest;
+import software.amazon.awssdk.services.comprehend.model.ListTagsForResourceResponse;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.comprehend.core.ResponseCache;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class AsyncReadHandlerTest extends AbstractTestBase {
+
+    @Mock
+    private ComprehendAsyncClient comprehendAsyncClient;
+
+    private AmazonWebServicesClientProxy proxy;
+
+    private ProxyClient<ComprehendAsyncClient> proxyClient;
+
+    @BeforeEach
+    public void setup() {
+        proxy = new AmazonWebServicesClientProxy(LOGGER, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
+        proxyClient = proxy.newProxy(() -> comprehendAsyncClient);
+    }
+
+    @Test
+    public void handleRequest_SimpleSuccess() {
+        // Set up mock behavior
+        when(comprehendAsyncClient.describeFlywheel(any(DescribeFlywheelRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(DescribeFlywheelResponse.builder()
+                        .flywheelProperties(TEST_FLYWHEEL_PROPERTIES_TRANSFORMED_DATALAKE_S3_URI)
+                        .build()));
+        when(comprehendAsyncClient.listTagsForResource(any(ListTagsForResourceRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(ListTagsForResourceResponse.builder()
+                        .tags(RESOURCE_TAGS)
+                        .build()));
+
+        // Invoke Handler
+        final ProgressEvent<ResourceModel, CallbackContext> response = invokeAsyncHandleRequest(
+                proxy, TEST_RESOURCE_HANDLER_REQUEST, new CallbackContext(), proxyClient, new AsyncReadHandler());
+
+        // Validate handler behavior
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getCallbackDelaySeconds()).isEqualTo(0);
+        assertThat(response.getResourceModel()).isEqualTo(TEST_RESOURCE_HANDLER_REQUEST.getDesiredResourceState());
+        assertThat(response.getErrorCode()).isNull();
+
+        verify(comprehendAsyncClient, times(1)).describeFlywheel(any(DescribeFlywheelRequest.class));
+        verify(comprehendAsyncClient, times(1)).listTagsForResource(any(ListTagsForResourceRequest.class));
+    }
+
+    @Test
+    public void handleRequest_ReusesFreshResponses() {
+        final String flywheelArn = TEST_RESOURCE_HANDLER_REQUEST.getDesiredResourceState().getArn();
+        final ResponseCache responseCache = new ResponseCache();
+        responseCache.put(flywheelArn, DescribeFlywheelResponse.builder()
+                .flywheelProperties(TEST_FLYWHEEL_PROPERTIES_TRANSFORMED_DATALAKE_S3_URI)
+                .build());
+        responseCache.put(flywheelArn, ListTagsForResourceResponse.builder()
+                .tags(RESOURCE_TAGS)
+                .build());
+
+        // Invoke Handler
+        final ProgressEvent<ResourceModel, CallbackContext> response = invokeAsyncHandleRequest(
+                proxy, TEST_RESOURCE_HANDLER_REQUEST, new CallbackContext(), proxyClient, new AsyncReadHandler(responseCache));
+
+        // Validate handler behavior
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel()).isEqualTo(TEST_RESOURCE_HANDLER_REQUEST.getDesiredResourceState());
+
+        verify(comprehendAsyncClient, never()).describeFlywheel(any(DescribeFlywheelRequest.class));
+        verify(comprehendAsyncClient, never()).listTagsForResource(any(ListTagsForResourceRequest.class));
+    }
+
+    @Test
+    public void handleRequest_Fails_WhenResourceNotFound() {
+        // Set up mock behavior, failing only one of the calls in flight
+        final CompletableFuture<DescribeFlywheelResponse> notFound = new CompletableFuture<>();
+        notFound.completeExceptionally(RESOURCE_NOT_FOUND_EXCEPTION);
+        when(comprehendAsyncClient.describeFlywheel(any(DescribeFlywheelRequest.class)))
+                .thenReturn(notFound);
+        when(comprehendAsyncClient.listTagsForResource(any(ListTagsForResourceRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(ListTagsForResourceResponse.builder().build()));
+
+        // Invoke Handler
+        final ProgressEvent<ResourceModel, CallbackContext> response = invokeAsyncHandleRequest(
+                proxy, TEST_RESOURCE_HANDLER_REQUEST, new CallbackContext(), proxyClient, new AsyncReadHandler());
+
+        // Validate handler behavior
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.NotFound);
+    }
+
+    @Test
+    public void handleRequest_Fails_WhenInternalServerException() {
+        // Set up mock behavior
+        final CompletableFuture<ListTagsForResourceResponse> internalServerError = new CompletableFuture<>();
+        internalServerError.completeExceptionally(INTERNAL_SERVER_EXCEPTION);
+        when(comprehendAsyncClient.describeFlywheel(any(DescribeFlywheelRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(DescribeFlywheelResponse.builder()
+                        .flywheelProperties(TEST_FLYWHEEL_PROPERTIES_ACTIVE)
+                        .build()));
+        when(comprehendAsyncClient.listTagsForResource(any(ListTagsForResourceRequest.class)))
+                .thenReturn(internalServerError);
+
+        // Invoke Handler
+        final ProgressEvent<ResourceModel, CallbackContext> response = invokeAsyncHandleRequest(
+                proxy, TEST_RESOURCE_HANDLER_REQUEST, new CallbackContext(), proxyClient, new AsyncReadHandler());
+
+        // Validate handler behavior
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.ServiceInternalError);
+    }
+
+    @Test
+    public void handleRequest_FailsWithThrottling_WhenThrottled() {
+        // Set up mock behavior
+        final CompletableFuture<DescribeFlywheelResponse> throttled = new CompletableFuture<>();
+        throttled.completeExceptionally(TOO_MANY_REQUESTS_EXCEPTION);
+        when(comprehendAsyncClient.describeFlywheel(any(DescribeFlywheelRequest.class)))
+                .thenReturn(throttled);
+        when(comprehendAsyncClient.listTagsForResource(any(ListTagsForResourceRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(ListTagsForResourceResponse.builder().build()));
+
+        // Invoke Handler
+        final ProgressEvent<ResourceModel, CallbackContext> response = invokeAsyncHandleRequest(
+                proxy, TEST_RESOURCE_HANDLER_REQUEST, new CallbackContext(), proxyClient, new AsyncReadHandler());
+
+        // Validate handler behavior, with an error code CloudFormation retries rather than a RetryableException
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.Throttling);
+    }
+}
@@ -0,0 +1,208 @@
+package software.amazon.comprehend.flywheel;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.services.comprehend.ComprehendAsyncClient;
+import software.amazon.awssdk.services.comprehend.model.DescribeFlywheelRequest;
+import software.amazon.awssdk.services.comprehend.model.DescribeFlywheelResponse;
+import software.amazon.awssdk.services.comprehend.model.ListTagsForResourceRequest;
+import software.amazon.awssdk.services.comprehend.model.ListTagsForResourceResponse;
+import software.amazon.awssdk.services.comprehend.model.Tag;
+import software.amazon.awssdk.services.comprehend.model.TagResourceRequest;
+import software.amazon.awssdk.services.comprehend.model.TagResourceResponse;
+import software.amazon.awssdk.services.comprehend.model.UntagResourceRequest;
+import software.amazon.awssdk.services.comprehend.model.UntagResourceResponse;
+import software.amazon.awssdk.services.comprehend.model.UpdateFlywheelRequest;
+import software.amazon.awssdk.services.comprehend.model.UpdateFlywheelResponse;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class AsyncUpdateHandlerTest extends AbstractTestBase {
+
+    private static final ResourceHandlerRequest<ResourceModel> TEST_RESOURCE_HANDLER_REQUEST_TAGS_CHANGED_FROM_PREVIOUS =
+            ResourceHandlerRequest.<ResourceModel>builder()
+                    .clientRequestToken(TEST_CLIENT_REQUEST_TOKEN)
+                    .desiredResourceState(TEST_RESOURCE_MODEL_UPDATED)
+                    .previousResourceState(TEST_RESOURCE_MODEL)
+                    .awsPartition(TEST_PARTITION)
+                    .awsAccountId(TEST_ACCOUNT_ID)
+                    .region(TEST_REGION)
+                    .logicalResourceIdentifier(TEST_LOGICAL_RESOURCE_IDENTIFIER)
+                    .build();
+
+    private static final ResourceHandlerRequest<ResourceModel> TEST_RESOURCE_HANDLER_REQUEST_NO_PREVIOUS_STATE =
+            ResourceHandlerRequest.<ResourceModel>builder()
+                    .clientRequestToken(TEST_CLIENT_REQUEST_TOKEN)
+                    .desiredResourceState(TEST_RESOURCE_MODEL)
+                    .awsPartition(TEST_PARTITION)
+                    .awsAccountId(TEST_ACCOUNT_ID)
+                    .region(TEST_REGION)
+                    .logicalResourceIdentifier(TEST_LOGICAL_RESOURCE_IDENTIFIER)
+                    .build();
+
+    @Mock
+    private ComprehendAsyncClient comprehendAsyncClient;
+
+    @Captor
+    ArgumentCaptor<UntagResourceRequest> untagResourceRequestArgumentCaptor;
+
+    @Captor
+    ArgumentCaptor<TagResourceRequest> tagResourceRequestArgumentCaptor;
+
+    private AmazonWebServicesClientProxy proxy;
+
+    private ProxyClient<ComprehendAsyncClient> proxyClient;
+
+    private AsyncUpdateHandler handler;
+
+    @BeforeEach
+    public void setup() {
+        proxy = new AmazonWebServicesClientProxy(LOGGER, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
+        proxyClient = proxy.newProxy(() -> comprehendAsyncClient);
+        handler = new AsyncUpdateHandler();
+    }
+
+    @Test
+    public void handleRequest_AppliesTagChangesTogether_WithoutUpdateCall() {
+        // Set up mock behavior
+        when(comprehendAsyncClient.untagResource(untagResourceRequestArgumentCaptor.capture()))
+                .thenReturn(CompletableFuture.completedFuture(UntagResourceResponse.builder().build()));
+        when(comprehendAsyncClient.tagResource(tagResourceRequestArgumentCaptor.capture()))
+                .thenReturn(CompletableFuture.completedFuture(TagResourceResponse.builder().build()));
+        when(comprehendAsyncClient.listTagsForResource(any(ListTagsForResourceRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(ListTagsForResourceResponse.builder()
+                        .tags(RESOURCE_TAGS)
+                        .build()))
+                .thenReturn(CompletableFuture.completedFuture(ListTagsForResourceResponse.builder()
+                        .tags(Translator.toSdkTags(TEST_RESOURCE_MODEL_UPDATED.getTags()))
+                        .build()));
+        when(comprehendAsyncClient.describeFlywheel(any(DescribeFlywheelRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(DescribeFlywheelResponse.builder()
+                        .flywheelProperties(TEST_FLYWHEEL_PROPERTIES_ACTIVE)
+                        .build()));
+
+        // Invoke Handler
+        final ProgressEvent<ResourceModel, CallbackContext> response = invokeAsyncHandleRequest(
+                proxy, TEST_RESOURCE_HANDLER_REQUEST_TAGS_CHANGED_FROM_PREVIOUS, new CallbackContext(), proxyClient, handler);
+
+        // Validate handler behavior
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel()).isEqualTo(TEST_RESOURCE_MODEL_UPDATED);
+        assertThat(response.getCallbackContext().isTaggingStabilized()).isTrue();
+        assertThat(untagResourceRequestArgumentCaptor.getValue().tagKeys()).containsExactly("key3");
+        assertThat(new HashSet<>(tagResourceRequestArgumentCaptor.getValue().tags())).isEqualTo(new HashSet<>(Arrays.asList(
+                Tag.builder().key("key1").value("newValue1").build(),
+                Tag.builder().key("key4").value("value4").build()
+        )));
+
+        // The tags read for the diff are not reused once the tags changed
+        verify(comprehendAsyncClient, times(2)).listTagsForResource(any(ListTagsForResourceRequest.class));
+        verify(comprehendAsyncClient, times(1)).describeFlywheel(any(DescribeFlywheelRequest.class));
+        verify(comprehendAsyncClient, never()).updateFlywheel(any(UpdateFlywheelRequest.class));
+    }
+
+    @Test
+    public void handleRequest_ReusesUpdateResponse_ForClosingRead() {
+        // Set up mock behavior, the tags being unchanged
+        when(comprehendAsyncClient.updateFlywheel(any(UpdateFlywheelRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(UpdateFlywheelResponse.builder()
+                        .flywheelProperties(TEST_FLYWHEEL_PROPERTIES_ACTIVE)
+                        .build()));
+        when(comprehendAsyncClient.listTagsForResource(any(ListTagsForResourceRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(ListTagsForResourceResponse.builder()
+                        .tags(RESOURCE_TAGS)
+                        .build()));
+
+        // Invoke Handler
+        final ProgressEvent<ResourceModel, CallbackContext> response = invokeAsyncHandleRequest(
+                proxy, TEST_RESOURCE_HANDLER_REQUEST_NO_PREVIOUS_STATE, new CallbackContext(), proxyClient, handler);
+
+        // Validate handler behavior
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel()).isEqualTo(TEST_RESOURCE_MODEL);
+        assertThat(response.getCallbackContext().getTagsToAdd()).isNull();
+        assertThat(response.getCallbackContext().getTagKeysToRemove()).isNull();
+
+        // The closing read reuses both the update response and the tags read for the diff
+        verify(comprehendAsyncClient, times(1)).updateFlywheel(any(UpdateFlywheelRequest.class));
+        verify(comprehendAsyncClient, times(1)).listTagsForResource(any(ListTagsForResourceRequest.class));
+        verify(comprehendAsyncClient, never()).describeFlywheel(any(DescribeFlywheelRequest.class));
+        verify(comprehendAsyncClient, never()).untagResource(any(UntagResourceRequest.class));
+        verify(comprehendAsyncClient, never()).tagResource(any(TagResourceRequest.class));
+    }
+
+    @Test
+    public void handleRequest_CallsBack_WhenTagsHaveNotConverged() {
+        // Set up mock behavior, the closing read still listing the tags from before the update
+        when(comprehendAsyncClient.untagResource(any(UntagResourceRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(UntagResourceResponse.builder().build()));
+        when(comprehendAsyncClient.tagResource(any(TagResourceRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(TagResourceResponse.builder().build()));
+        when(comprehendAsyncClient.listTagsForResource(any(ListTagsForResourceRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(ListTagsForResourceResponse.builder()
+                        .tags(RESOURCE_TAGS)
+                        .build()));
+        when(comprehendAsyncClient.describeFlywheel(any(DescribeFlywheelRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(DescribeFlywheelResponse.builder()
+                        .flywheelProperties(TEST_FLYWHEEL_PROPERTIES_ACTIVE)
+                        .build()));
+
+        // Invoke Handler
+        final ProgressEvent<ResourceModel, CallbackContext> response = invokeAsyncHandleRequest(
+                proxy, TEST_RESOURCE_HANDLER_REQUEST_TAGS_CHANGED_FROM_PREVIOUS, new CallbackContext(), proxyClient, handler);
+
+        // Validate handler behavior
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(response.getCallbackDelaySeconds()).isEqualTo(AsyncUpdateHandler.TAGGING_CALLBACK_DELAY_SECONDS);
+        assertThat(response.getCallbackContext().isTaggingStabilized()).isFalse();
+        assertThat(response.getCallbackContext().getTagKeysToRemove()).isEqualTo(Collections.singleton("key3"));
+        assertThat(response.getCallbackContext().getTagPollCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void handleRequest_Fails_WhenInternalServerException() {
+        // Set up mock behavior
+        final CompletableFuture<TagResourceResponse> internalServerError = new CompletableFuture<>();
+        internalServerError.completeExceptionally(INTERNAL_SERVER_EXCEPTION);
+        when(comprehendAsyncClient.listTagsForResource(any(ListTagsForResourceRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(ListTagsForResourceResponse.builder()
+                        .tags(RESOURCE_TAGS)
+                        .build()));
+        when(comprehendAsyncClient.untagResource(any(UntagResourceRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(UntagResourceResponse.builder().build()));
+        when(comprehendAsyncClient.tagResource(any(TagResourceRequest.class)))
+                .thenReturn(internalServerError);
+
+        // Invoke Handler
+        final ProgressEvent<ResourceModel, CallbackContext> response = invokeAsyncHandleRequest(
+                proxy, TEST_RESOURCE_HANDLER_REQUEST_TAGS_CHANGED_FROM_PREVIOUS, new CallbackContext(), proxyClient, handler);
+
+        // Validate handler behavior
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.ServiceInternalError);
+        verify(comprehendAsyncClient, never()).describeFlywheel(any(DescribeFlywheelRequest.class));
+    }
+}
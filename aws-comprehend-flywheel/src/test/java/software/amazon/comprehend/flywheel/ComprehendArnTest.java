@@ -0,0 +1,83 @@
+package software.amazon.comprehend.flywheel;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.comprehend.core.ComprehendArn;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ComprehendArnTest {
+
+    private static final int CASES = 10_000;
+    private static final String NAME_ALPHABET = "abc-/";
+
+    @Test
+    public void testParse_FlywheelArn() {
+        final ComprehendArn arn = ComprehendArn.parse("arn:aws:comprehend:us-west-2:123456789012:flywheel/myFlywheel");
+
+        assertThat(arn.getPartition()).isEqualTo("aws");
+        assertThat(arn.getService()).isEqualTo("comprehend");
+        assertThat(arn.getRegion()).isEqualTo("us-west-2");
+        assertThat(arn.getAccountId()).isEqualTo("123456789012");
+        assertThat(arn.getResourceType()).isEqualTo("flywheel");
+        assertThat(arn.getResourceName()).isEqualTo("myFlywheel");
+        assertThat(arn.getVersionName()).isNull();
+        assertThat(ComprehendArn.resourceName(arn.toString())).isEqualTo("myFlywheel");
+    }
+
+    @Test
+    public void testParse_ModelVersionArn() {
+        final ComprehendArn arn = ComprehendArn.parse("arn:aws:comprehend:us-west-2:123456789012:entity-recognizer/myRecognizer/version/v2");
+
+        assertThat(arn.getResourceType()).isEqualTo("entity-recognizer");
+        assertThat(arn.getResourceName()).isEqualTo("myRecognizer");
+        assertThat(arn.getVersionName()).isEqualTo("v2");
+    }
+
+    @Test
+    public void testTrimDataLakeS3Uri() {
+        assertThat(Translator.trimDataLakeS3Uri("s3://bucket/lake/myFlywheel/schemaVersion=1/20230101T000000Z", "myFlywheel"))
+                .isEqualTo("s3://bucket/lake/");
+        assertThat(Translator.trimDataLakeS3Uri("s3://bucket/lake/", "myFlywheel"))
+                .isEqualTo("s3://bucket/lake/");
+    }
+
+    @Test
+    public void testTrimDataLakeS3Uri_MatchesLastIndexOf() {
+        final Random random = new Random(15);
+        for (int i = 0; i < CASES; i++) {
+            final String name = randomString(random, "abc-", 1 + random.nextInt(4));
+            final String uri = randomDataLakeS3Uri(random, name);
+
+            assertThat(Translator.trimDataLakeS3Uri(uri, name)).as(uri + " " + name).isEqualTo(legacyTrim(uri, name));
+        }
+    }
+
+    /** The trim replaced by {@link Translator#trimDataLakeS3Uri(String, String)}. */
+    private static String legacyTrim(final String uri, final String flywheelName) {
+        final int splitIndex = uri.lastIndexOf(flywheelName + "/");
+        return splitIndex > 0 ? uri.substring(0, splitIndex) : uri;
+    }
+
+    /** Data lake uris built from short random segments, so the name appears zero, one or several times. */
+    private static String randomDataLakeS3Uri(final Random random, final String name) {
+        final StringBuilder uri = new StringBuilder(random.nextInt(8) == 0 ? "" : "s3://");
+        final int segments = random.nextInt(5);
+        for (int i = 0; i < segments; i++) {
+            uri.append(random.nextInt(3) == 0 ? name : randomString(random, NAME_ALPHABET, random.nextInt(5)));
+            if (random.nextBoolean()) {
+                uri.append('/');
+            }
+        }
+        return uri.toString();
+    }
+
+    private static String randomString(final Random random, final String alphabet, final int length) {
+        final StringBuilder string = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            string.append(alphabet.charAt(random.nextInt(alphabet.length())));
+        }
+        return string.toString();
+    }
+}
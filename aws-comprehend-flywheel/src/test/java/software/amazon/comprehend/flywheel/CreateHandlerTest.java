@@ -5,6 +5,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -32,9 +33,11 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.comprehend.core.CallbackStabilizer;
+import software.amazon.comprehend.core.StageTrace;
+import software.amazon.comprehend.core.TagReconciler;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -52,6 +55,9 @@ import static org.mockito.Mockito.when;
 @ExtendWith(MockitoExtension.class)
 public class CreateHandlerTest extends AbstractTestBase {
 
+    private static final CallbackStabilizer LOCAL_STABILIZER =
+            new CallbackStabilizer(Duration.ofHours(1), Duration.ofHours(1), duration -> { });
+
     @Mock
     private AmazonWebServicesClientProxy proxy;
 
@@ -78,7 +84,8 @@ public class CreateHandlerTest extends AbstractTestBase {
     public void setup() {
         proxy = new AmazonWebServicesClientProxy(LOGGER, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
         proxyClient = MOCK_PROXY(proxy, comprehendClient);
-        handler = new CreateHandler();
+        // Stabilizes within the invocation without sleeping, the hand-back to CloudFormation is replayed by its own tests
+        handler = new CreateHandler(LOCAL_STABILIZER);
         callbackContext = new CallbackContext();
     }
 
@@ -116,17 +123,22 @@ public class CreateHandlerTest extends AbstractTestBase {
         assertThat(finalResponse.getMessage()).isNull();
         assertThat(finalResponse.getErrorCode()).isNull();
         assertThat(finalResponse.getCallbackContext().getFlywheelArn()).isEqualTo(TEST_FLYWHEEL_ARN);
-        assertEquals(finalResponse.getCallbackContext().getTagsToAdd(),
-                new HashSet<>(Translator.toSdkTags(TEST_RESOURCE_MODEL_WITH_SYSTEM_TAGS.getTags())));
+        assertThat(finalResponse.getCallbackContext().getDesiredTagsFingerprint()).isEqualTo(
+                TagReconciler.fingerprint(new HashSet<>(Translator.toSdkTags(TEST_RESOURCE_MODEL_WITH_SYSTEM_TAGS.getTags()))));
+        assertThat(finalResponse.getCallbackContext().getTagsToAdd()).isNull();
         assertThat(finalResponse.getCallbackContext().getTagKeysToRemove()).isNull();
+        assertThat(finalResponse.getCallbackContext().isStatusStabilized()).isTrue();
+        assertThat(finalResponse.getCallbackContext().isTaggingStabilized()).isTrue();
+        assertThat(finalResponse.getCallbackContext().getStatusPollCount()).isEqualTo(2);
+        assertThat(finalResponse.getCallbackContext().getTagPollCount()).isEqualTo(2);
 
         verify(comprehendClient, times(1)).createFlywheel(createFlywheelRequestArgumentCaptor.capture());
         EXPECTED_CREATE_FLYWHEEL_REQUEST.equalsBySdkFields(createFlywheelRequestArgumentCaptor.getValue());
 
-        verify(comprehendClient, times(3)).describeFlywheel(describeFlywheelRequestArgumentCaptor.capture());
+        verify(comprehendClient, times(2)).describeFlywheel(describeFlywheelRequestArgumentCaptor.capture());
         EXPECTED_DESCRIBE_FLYWHEEL_REQUEST.equalsBySdkFields(describeFlywheelRequestArgumentCaptor.getValue());
 
-        verify(comprehendClient, times(3)).listTagsForResource(listTagsForResourceRequestArgumentCaptor.capture());
+        verify(comprehendClient, times(2)).listTagsForResource(listTagsForResourceRequestArgumentCaptor.capture());
         EXPECTED_LIST_TAGS_FOR_RESOURCE_REQUEST.equalsBySdkFields(listTagsForResourceRequestArgumentCaptor.getValue());
     }
 
@@ -375,18 +387,67 @@ public class CreateHandlerTest extends AbstractTestBase {
         assertThat(finalResponse.getMessage()).isNull();
         assertThat(finalResponse.getErrorCode()).isNull();
         assertThat(finalResponse.getCallbackContext().getFlywheelArn()).isEqualTo(TEST_FLYWHEEL_ARN);
-        assertEquals(finalResponse.getCallbackContext().getTagsToAdd(),
-                new HashSet<>(Translator.toSdkTags(TEST_RESOURCE_MODEL_WITH_SYSTEM_TAGS.getTags())));
+        assertThat(finalResponse.getCallbackContext().getDesiredTagsFingerprint()).isEqualTo(
+                TagReconciler.fingerprint(new HashSet<>(Translator.toSdkTags(TEST_RESOURCE_MODEL_WITH_SYSTEM_TAGS.getTags()))));
+        assertThat(finalResponse.getCallbackContext().getTagsToAdd()).isNull();
         assertThat(finalResponse.getCallbackContext().getTagKeysToRemove()).isNull();
 
         verify(comprehendClient, times(1)).createFlywheel(createFlywheelRequestArgumentCaptor.capture()); // Using eq() argument matcher didn't work
         EXPECTED_CREATE_FLYWHEEL_REQUEST.equalsBySdkFields(createFlywheelRequestArgumentCaptor.getValue());
 
-        verify(comprehendClient, times(3)).describeFlywheel(describeFlywheelRequestArgumentCaptor.capture());
+        verify(comprehendClient, times(2)).describeFlywheel(describeFlywheelRequestArgumentCaptor.capture());
         EXPECTED_DESCRIBE_FLYWHEEL_REQUEST.equalsBySdkFields(describeFlywheelRequestArgumentCaptor.getValue());
 
-        verify(comprehendClient, times(4)).listTagsForResource(listTagsForResourceRequestArgumentCaptor.capture());
+        verify(comprehendClient, times(3)).listTagsForResource(listTagsForResourceRequestArgumentCaptor.capture());
         EXPECTED_LIST_TAGS_FOR_RESOURCE_REQUEST.equalsBySdkFields(listTagsForResourceRequestArgumentCaptor.getValue());
     }
 
+    @Test
+    public void handleRequest_HandsStabilizationWaitsBackToCloudFormation() {
+        handler = new CreateHandler();
+
+        // Set up mock behavior
+        when(comprehendClient.createFlywheel(any(CreateFlywheelRequest.class)))
+                .thenReturn(CreateFlywheelResponse.builder()
+                        .flywheelArn(TEST_FLYWHEEL_ARN)
+                        .build());
+        when(comprehendClient.describeFlywheel(any(DescribeFlywheelRequest.class)))
+                .thenReturn(DescribeFlywheelResponse.builder()
+                        .flywheelProperties(TEST_FLYWHEEL_PROPERTIES_CREATING)
+                        .build())
+                .thenReturn(DescribeFlywheelResponse.builder()
+                        .flywheelProperties(TEST_FLYWHEEL_PROPERTIES_CREATING)
+                        .build())
+                .thenReturn(DescribeFlywheelResponse.builder()
+                        .flywheelProperties(TEST_FLYWHEEL_PROPERTIES_ACTIVE)
+                        .build());
+        when(comprehendClient.listTagsForResource(any(ListTagsForResourceRequest.class)))
+                .thenReturn(ListTagsForResourceResponse.builder()
+                        .tags(USER_TAGS_WITH_SYSTEM_TAGS)
+                        .build());
+
+        // Invoke Handler
+        final CallbackReplay replay = CallbackReplay.replay(
+                proxy, TEST_RESOURCE_HANDLER_REQUEST_NO_ARN, callbackContext, proxyClient, LOGGER, handler, callbackDelay -> { });
+
+        // Validate handler behavior
+        assertThat(replay.getFinalProgressEvent().getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(replay.getFinalProgressEvent().getResourceModel()).isEqualTo(TEST_RESOURCE_MODEL_WITH_SYSTEM_TAGS);
+        assertThat(replay.getInvocations()).isEqualTo(3);
+        assertThat(replay.getCallbackDelay()).isEqualTo(CreateHandler.CREATE_BACKOFF_STRATEGY.nextDelay(1).multipliedBy(2));
+        assertThat(replay.getBilledTime()).isLessThan(CreateHandler.CREATE_BACKOFF_STRATEGY.nextDelay(1));
+        assertThat(replay.getFinalProgressEvent().getCallbackContext().getStatusPollCount()).isEqualTo(3);
+        assertThat(replay.getFinalProgressEvent().getCallbackContext().getTagPollCount()).isEqualTo(1);
+        // The stabilization stage is traced across the callbacks, the create stage completed in the first invocation
+        final Map<String, StageTrace> stageTraces = replay.getFinalProgressEvent().getCallbackContext().getStageTraces();
+        assertThat(stageTraces.keySet()).containsExactly(
+                "AWS-Comprehend-Flywheel::Create", "AWS-Comprehend-Flywheel::Create::Stabilize", "AWS-Comprehend-Flywheel::Create::Read");
+        assertThat(stageTraces.get("AWS-Comprehend-Flywheel::Create").getAttempts()).isEqualTo(1);
+        assertThat(stageTraces.get("AWS-Comprehend-Flywheel::Create::Stabilize").getAttempts()).isEqualTo(3);
+        assertThat(stageTraces.values()).allMatch(trace -> trace.getOutcome() == StageTrace.Outcome.DONE);
+
+        verify(comprehendClient, times(1)).createFlywheel(any(CreateFlywheelRequest.class));
+        verify(comprehendClient, times(3)).describeFlywheel(any(DescribeFlywheelRequest.class));
+        verify(comprehendClient, times(1)).listTagsForResource(any(ListTagsForResourceRequest.class));
+    }
 }
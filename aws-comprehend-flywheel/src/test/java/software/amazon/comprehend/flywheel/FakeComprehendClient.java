@@ -0,0 +1,446 @@
+package software.amazon.comprehend.flywheel;
+
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.services.comprehend.ComprehendClient;
+import software.amazon.awssdk.services.comprehend.model.CreateFlywheelRequest;
+import software.amazon.awssdk.services.comprehend.model.CreateFlywheelResponse;
+import software.amazon.awssdk.services.comprehend.model.DataSecurityConfig;
+import software.amazon.awssdk.services.comprehend.model.DeleteFlywheelRequest;
+import software.amazon.awssdk.services.comprehend.model.DeleteFlywheelResponse;
+import software.amazon.awssdk.services.comprehend.model.DescribeFlywheelRequest;
+import software.amazon.awssdk.services.comprehend.model.DescribeFlywheelResponse;
+import software.amazon.awssdk.services.comprehend.model.FlywheelProperties;
+import software.amazon.awssdk.services.comprehend.model.FlywheelStatus;
+import software.amazon.awssdk.services.comprehend.model.FlywheelSummary;
+import software.amazon.awssdk.services.comprehend.model.ListFlywheelsRequest;
+import software.amazon.awssdk.services.comprehend.model.ListFlywheelsResponse;
+import software.amazon.awssdk.services.comprehend.model.ListTagsForResourceRequest;
+import software.amazon.awssdk.services.comprehend.model.ListTagsForResourceResponse;
+import software.amazon.awssdk.services.comprehend.model.ResourceInUseException;
+import software.amazon.awssdk.services.comprehend.model.ResourceNotFoundException;
+import software.amazon.awssdk.services.comprehend.model.Tag;
+import software.amazon.awssdk.services.comprehend.model.TagResourceRequest;
+import software.amazon.awssdk.services.comprehend.model.TagResourceResponse;
+import software.amazon.awssdk.services.comprehend.model.TooManyRequestsException;
+import software.amazon.awssdk.services.comprehend.model.TooManyTagsException;
+import software.amazon.awssdk.services.comprehend.model.UntagResourceRequest;
+import software.amazon.awssdk.services.comprehend.model.UntagResourceResponse;
+import software.amazon.awssdk.services.comprehend.model.UpdateFlywheelRequest;
+import software.amazon.awssdk.services.comprehend.model.UpdateFlywheelResponse;
+import software.amazon.comprehend.core.CallbackStabilizer;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Stateful in-memory stand-in for the Comprehend control plane, covering flywheels and their tags. Flywheels go
+ * through CREATING and ACTIVE as the clock passes the configured creation time, so handlers can run end to end
+ * offline. Every call can be given a latency distribution, a TPS limit and injected errors, and calls are counted per
+ * operation.
+ *
+ * With a MutableClock, latencies move the clock on instead of sleeping, so a whole lifecycle runs in virtual time.
+ */
+class FakeComprehendClient implements ComprehendClient {
+
+    static final int MAX_TAGS = 50;
+    static final int DEFAULT_PAGE_SIZE = 10;
+    private static final DateTimeFormatter DATA_LAKE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'").withZone(ZoneOffset.UTC);
+
+    /** Distribution of the time one call takes. */
+    @FunctionalInterface
+    interface Latency {
+        Duration sample(Random random);
+
+        static Latency fixed(final Duration duration) {
+            return random -> duration;
+        }
+
+        static Latency uniform(final Duration min, final Duration max) {
+            return random -> min.plusNanos((long) (random.nextDouble() * max.minus(min).toNanos()));
+        }
+
+        /** Long-tailed latency around a median, as control plane calls usually are. */
+        static Latency logNormal(final Duration median, final double sigma) {
+            return random -> Duration.ofNanos((long) (median.toNanos() * Math.exp(sigma * random.nextGaussian())));
+        }
+    }
+
+    private final Clock clock;
+    private final CallbackStabilizer.Sleeper sleeper;
+    private final Random random = new Random(42);
+
+    private final Map<String, Latency> latencies = new ConcurrentHashMap<>();
+    private final Map<String, double[]> tpsBuckets = new HashMap<>();
+    private final Map<String, Double> tpsLimits = new ConcurrentHashMap<>();
+    private final Map<String, Queue<RuntimeException>> scheduledErrors = new HashMap<>();
+    private final Map<String, Double> errorRates = new ConcurrentHashMap<>();
+    private final Map<String, Supplier<RuntimeException>> errorSuppliers = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> calls = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> throttles = new ConcurrentHashMap<>();
+
+    private final Map<String, Flywheel> flywheels = new LinkedHashMap<>();
+    private final Map<String, String> arnsByClientRequestToken = new HashMap<>();
+
+    private Duration creationTime = Duration.ofMinutes(2);
+    private Duration deletionTime = Duration.ZERO;
+    private FlywheelStatus creationOutcome = FlywheelStatus.ACTIVE;
+
+    /** Simulator in virtual time, where latencies move the clock on. */
+    FakeComprehendClient(final MutableClock clock) {
+        this(clock, clock::advance);
+    }
+
+    FakeComprehendClient(final Clock clock, final CallbackStabilizer.Sleeper sleeper) {
+        this.clock = clock;
+        this.sleeper = sleeper;
+    }
+
+    /* * * * * * * * * * * * *
+     *     Configuration     *
+     * * * * * * * * * * * * */
+
+    FakeComprehendClient withLatency(final String operation, final Latency latency) {
+        latencies.put(operation, latency);
+        return this;
+    }
+
+    FakeComprehendClient withTpsLimit(final String operation, final double tps) {
+        tpsLimits.put(operation, tps);
+        return this;
+    }
+
+    /** Fail the next calls of an operation with the given errors, in order. */
+    synchronized FakeComprehendClient failNext(final String operation, final RuntimeException... errors) {
+        final Queue<RuntimeException> queue = scheduledErrors.computeIfAbsent(operation, key -> new ArrayDeque<>());
+        for (final RuntimeException error : errors) {
+            queue.add(error);
+        }
+        return this;
+    }
+
+    /** Fail a fraction of the calls of an operation at random. */
+    FakeComprehendClient withErrorRate(final String operation, final double rate, final Supplier<RuntimeException> error) {
+        errorRates.put(operation, rate);
+        errorSuppliers.put(operation, error);
+        return this;
+    }
+
+    synchronized FakeComprehendClient withCreation(final Duration creationTime, final FlywheelStatus outcome) {
+        this.creationTime = creationTime;
+        this.creationOutcome = outcome;
+        return this;
+    }
+
+    synchronized FakeComprehendClient withDeletionTime(final Duration deletionTime) {
+        this.deletionTime = deletionTime;
+        return this;
+    }
+
+    /* * * * * * * * * * * * *
+     *     Observations      *
+     * * * * * * * * * * * * */
+
+    int getCallCount(final String operation) {
+        return calls.getOrDefault(operation, new AtomicInteger()).get();
+    }
+
+    int getTotalCallCount() {
+        return calls.values().stream().mapToInt(AtomicInteger::get).sum();
+    }
+
+    int getThrottleCount(final String operation) {
+        return throttles.getOrDefault(operation, new AtomicInteger()).get();
+    }
+
+    Map<String, Integer> getCallCounts() {
+        return calls.entrySet().stream().collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().get()));
+    }
+
+    /* * * * * * * * * * * * *
+     *      Operations       *
+     * * * * * * * * * * * * */
+
+    @Override
+    public CreateFlywheelResponse createFlywheel(final CreateFlywheelRequest request) {
+        return invoke(request, () -> {
+            final String arn = String.format("arn:aws:comprehend:us-west-2:123456789012:flywheel/%s", request.flywheelName());
+            final String previousArn = request.clientRequestToken() == null ? null : arnsByClientRequestToken.get(request.clientRequestToken());
+            if (arn.equals(previousArn)) {
+                return CreateFlywheelResponse.builder().flywheelArn(arn).activeModelArn(request.activeModelArn()).build();
+            }
+            if (flywheels.containsKey(arn)) {
+                throw ResourceInUseException.builder().message(String.format("Flywheel %s already exists", arn)).build();
+            }
+            if (request.tags().size() > MAX_TAGS) {
+                throw TooManyTagsException.builder().message("Too many tags").build();
+            }
+
+            final Flywheel flywheel = new Flywheel(request, arn, clock.instant());
+            request.tags().forEach(tag -> flywheel.tags.put(tag.key(), tag.value()));
+            flywheels.put(arn, flywheel);
+            if (request.clientRequestToken() != null) {
+                arnsByClientRequestToken.put(request.clientRequestToken(), arn);
+            }
+            return CreateFlywheelResponse.builder().flywheelArn(arn).activeModelArn(request.activeModelArn()).build();
+        });
+    }
+
+    @Override
+    public DescribeFlywheelResponse describeFlywheel(final DescribeFlywheelRequest request) {
+        return invoke(request, () -> DescribeFlywheelResponse.builder()
+                .flywheelProperties(find(request.flywheelArn()).properties())
+                .build());
+    }
+
+    @Override
+    public UpdateFlywheelResponse updateFlywheel(final UpdateFlywheelRequest request) {
+        return invoke(request, () -> {
+            final Flywheel flywheel = find(request.flywheelArn());
+            if (flywheel.status() != FlywheelStatus.ACTIVE) {
+                throw ResourceInUseException.builder().message(String.format("Flywheel is %s", flywheel.status())).build();
+            }
+            if (request.activeModelArn() != null) {
+                flywheel.activeModelArn = request.activeModelArn();
+            }
+            if (request.dataAccessRoleArn() != null) {
+                flywheel.dataAccessRoleArn = request.dataAccessRoleArn();
+            }
+            if (request.dataSecurityConfig() != null) {
+                final DataSecurityConfig.Builder dataSecurityConfig = flywheel.dataSecurityConfig == null
+                        ? DataSecurityConfig.builder()
+                        : flywheel.dataSecurityConfig.toBuilder();
+                flywheel.dataSecurityConfig = dataSecurityConfig
+                        .modelKmsKeyId(request.dataSecurityConfig().modelKmsKeyId())
+                        .volumeKmsKeyId(request.dataSecurityConfig().volumeKmsKeyId())
+                        .vpcConfig(request.dataSecurityConfig().vpcConfig())
+                        .build();
+            }
+            flywheel.lastModifiedTime = clock.instant();
+            return UpdateFlywheelResponse.builder().flywheelProperties(flywheel.properties()).build();
+        });
+    }
+
+    @Override
+    public ListFlywheelsResponse listFlywheels(final ListFlywheelsRequest request) {
+        return invoke(request, () -> {
+            final List<Flywheel> existing = new ArrayList<>();
+            for (final String arn : new ArrayList<>(flywheels.keySet())) {
+                findIfExists(arn).ifPresent(existing::add);
+            }
+            final int from = request.nextToken() == null ? 0 : Integer.parseInt(request.nextToken());
+            final int pageSize = request.maxResults() == null ? DEFAULT_PAGE_SIZE : request.maxResults();
+            final int to = Math.min(existing.size(), from + pageSize);
+            return ListFlywheelsResponse.builder()
+                    .flywheelSummaryList(existing.subList(from, to).stream()
+                            .map(flywheel -> FlywheelSummary.builder()
+                                    .flywheelArn(flywheel.arn)
+                                    .activeModelArn(flywheel.activeModelArn)
+                                    .dataLakeS3Uri(flywheel.dataLakeS3Uri)
+                                    .status(flywheel.status())
+                                    .modelType(flywheel.request.modelType())
+                                    .creationTime(flywheel.creationTime)
+                                    .lastModifiedTime(flywheel.lastModifiedTime)
+                                    .build())
+                            .collect(Collectors.toList()))
+                    .nextToken(to < existing.size() ? String.valueOf(to) : null)
+                    .build();
+        });
+    }
+
+    @Override
+    public DeleteFlywheelResponse deleteFlywheel(final DeleteFlywheelRequest request) {
+        return invoke(request, () -> {
+            final Flywheel flywheel = find(request.flywheelArn());
+            if (flywheel.status() == FlywheelStatus.CREATING) {
+                throw ResourceInUseException.builder().message("Flywheel is still being created").build();
+            }
+            if (flywheel.deletedAt == null) {
+                flywheel.deletedAt = clock.instant();
+            }
+            return DeleteFlywheelResponse.builder().build();
+        });
+    }
+
+    @Override
+    public ListTagsForResourceResponse listTagsForResource(final ListTagsForResourceRequest request) {
+        return invoke(request, () -> ListTagsForResourceResponse.builder()
+                .resourceArn(request.resourceArn())
+                .tags(find(request.resourceArn()).tags.entrySet().stream()
+                        .map(entry -> Tag.builder().key(entry.getKey()).value(entry.getValue()).build())
+                        .collect(Collectors.toList()))
+                .build());
+    }
+
+    @Override
+    public TagResourceResponse tagResource(final TagResourceRequest request) {
+        return invoke(request, () -> {
+            final Flywheel flywheel = find(request.resourceArn());
+            final Map<String, String> tags = new LinkedHashMap<>(flywheel.tags);
+            request.tags().forEach(tag -> tags.put(tag.key(), tag.value()));
+            if (tags.size() > MAX_TAGS) {
+                throw TooManyTagsException.builder().message("Too many tags").build();
+            }
+            flywheel.tags.putAll(tags);
+            return TagResourceResponse.builder().build();
+        });
+    }
+
+    @Override
+    public UntagResourceResponse untagResource(final UntagResourceRequest request) {
+        return invoke(request, () -> {
+            find(request.resourceArn()).tags.keySet().removeAll(request.tagKeys());
+            return UntagResourceResponse.builder().build();
+        });
+    }
+
+    @Override
+    public String serviceName() {
+        return SERVICE_NAME;
+    }
+
+    @Override
+    public void close() {
+    }
+
+    /* * * * * * * * * * * * *
+     *       Internals       *
+     * * * * * * * * * * * * */
+
+    /**
+     * Counts the call, waits for its latency and then fails it with an injected error or throttle, or runs it against
+     * the state.
+     */
+    private <T> T invoke(final AwsRequest request, final Supplier<T> operation) {
+        final String name = request.getClass().getSimpleName().replaceFirst("Request$", "");
+        calls.computeIfAbsent(name, key -> new AtomicInteger()).incrementAndGet();
+
+        final Latency latency = latencies.get(name);
+        if (latency != null) {
+            sleeper.sleep(latency.sample(random));
+        }
+
+        synchronized (this) {
+            final Queue<RuntimeException> queue = scheduledErrors.get(name);
+            if (queue != null && !queue.isEmpty()) {
+                throw queue.remove();
+            }
+            final Double errorRate = errorRates.get(name);
+            if (errorRate != null && random.nextDouble() < errorRate) {
+                throw errorSuppliers.get(name).get();
+            }
+            if (!tryTakeToken(name)) {
+                throttles.computeIfAbsent(name, key -> new AtomicInteger()).incrementAndGet();
+                throw TooManyRequestsException.builder()
+                        .message("Rate exceeded")
+                        .statusCode(400)
+                        .awsErrorDetails(AwsErrorDetails.builder().errorCode("ThrottlingException").build())
+                        .build();
+            }
+            return operation.get();
+        }
+    }
+
+    /** Token bucket of the operation on the simulator clock, holding one second of calls. */
+    private boolean tryTakeToken(final String name) {
+        final Double tps = tpsLimits.get(name);
+        if (tps == null) {
+            return true;
+        }
+        final long now = TimeUnit.MILLISECONDS.toNanos(clock.millis());
+        final double[] bucket = tpsBuckets.computeIfAbsent(name, key -> new double[] {tps, now});
+        bucket[0] = Math.min(tps, bucket[0] + (now - bucket[1]) * tps / TimeUnit.SECONDS.toNanos(1));
+        bucket[1] = now;
+        if (bucket[0] < 1) {
+            return false;
+        }
+        bucket[0] -= 1;
+        return true;
+    }
+
+    private Flywheel find(final String arn) {
+        return findIfExists(arn).orElseThrow(() -> ResourceNotFoundException.builder()
+                .message(String.format("Flywheel %s not found", arn))
+                .build());
+    }
+
+    /** Look up a flywheel, dropping it once its deletion has finished. */
+    private Optional<Flywheel> findIfExists(final String arn) {
+        final Flywheel flywheel = arn == null ? null : flywheels.get(arn);
+        if (flywheel != null && flywheel.deletedAt != null
+                && !clock.instant().isBefore(flywheel.deletedAt.plus(deletionTime))) {
+            flywheels.remove(arn);
+            return Optional.empty();
+        }
+        return Optional.ofNullable(flywheel);
+    }
+
+    private final class Flywheel {
+        private final CreateFlywheelRequest request;
+        private final String arn;
+        private final Instant creationTime;
+        private final String dataLakeS3Uri;
+        private final Map<String, String> tags = new LinkedHashMap<>();
+        private String activeModelArn;
+        private String dataAccessRoleArn;
+        private DataSecurityConfig dataSecurityConfig;
+        private Instant lastModifiedTime;
+        private Instant deletedAt;
+
+        private Flywheel(final CreateFlywheelRequest request, final String arn, final Instant creationTime) {
+            this.request = request;
+            this.arn = arn;
+            this.creationTime = creationTime;
+            this.lastModifiedTime = creationTime;
+            this.activeModelArn = request.activeModelArn();
+            this.dataAccessRoleArn = request.dataAccessRoleArn();
+            this.dataSecurityConfig = request.dataSecurityConfig();
+            // The service keeps the data lake of a flywheel in a folder of its own under the given location
+            this.dataLakeS3Uri = String.format("%s%s/schemaVersion=1/%s",
+                    request.dataLakeS3Uri(), request.flywheelName(), DATA_LAKE_TIMESTAMP.format(creationTime));
+        }
+
+        private FlywheelStatus status() {
+            if (deletedAt != null) {
+                return FlywheelStatus.DELETING;
+            } else if (clock.instant().isBefore(creationTime.plus(FakeComprehendClient.this.creationTime))) {
+                return FlywheelStatus.CREATING;
+            }
+            return creationOutcome;
+        }
+
+        private FlywheelProperties properties() {
+            final FlywheelStatus status = status();
+            return FlywheelProperties.builder()
+                    .flywheelArn(arn)
+                    .activeModelArn(activeModelArn)
+                    .dataAccessRoleArn(dataAccessRoleArn)
+                    .taskConfig(request.taskConfig())
+                    .dataLakeS3Uri(dataLakeS3Uri)
+                    .dataSecurityConfig(dataSecurityConfig)
+                    .status(status)
+                    .modelType(request.modelType())
+                    .message(status == FlywheelStatus.FAILED ? "Flywheel creation failed" : null)
+                    .creationTime(creationTime)
+                    .lastModifiedTime(lastModifiedTime)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package software.amazon.comprehend.flywheel;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.comprehend.ComprehendClient;
+import software.amazon.awssdk.services.comprehend.model.DeleteFlywheelRequest;
+import software.amazon.awssdk.services.comprehend.model.DescribeFlywheelRequest;
+import software.amazon.awssdk.services.comprehend.model.FlywheelStatus;
+import software.amazon.awssdk.services.comprehend.model.ListFlywheelsRequest;
+import software.amazon.awssdk.services.comprehend.model.ListFlywheelsResponse;
+import software.amazon.awssdk.services.comprehend.model.ModelType;
+import software.amazon.awssdk.services.comprehend.model.ResourceInUseException;
+import software.amazon.awssdk.services.comprehend.model.ResourceNotFoundException;
+import software.amazon.awssdk.services.comprehend.model.TooManyRequestsException;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.comprehend.core.CallbackStabilizer;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class FakeComprehendClientTest extends AbstractTestBase {
+    private static final Instant START = Instant.parse("2023-01-01T00:00:00Z");
+
+    private final MutableClock clock = new MutableClock(START);
+    private final FakeComprehendClient fakeComprehendClient = new FakeComprehendClient(clock);
+
+    private AmazonWebServicesClientProxy proxy;
+    private ProxyClient<ComprehendClient> proxyClient;
+
+    @BeforeEach
+    public void setup() {
+        proxy = new AmazonWebServicesClientProxy(LOGGER, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
+        proxyClient = MOCK_PROXY(proxy, fakeComprehendClient);
+    }
+
+    @Test
+    public void testHandlers_RunWholeLifecycleOffline() {
+        fakeComprehendClient
+                .withCreation(Duration.ofMinutes(3), FlywheelStatus.ACTIVE)
+                .withLatency("CreateFlywheel", FakeComprehendClient.Latency.logNormal(Duration.ofMillis(300), 0.5))
+                .withLatency("DescribeFlywheel", FakeComprehendClient.Latency.uniform(Duration.ofMillis(50), Duration.ofMillis(150)));
+
+        // Create, with stabilization waits handed back to the replayed callbacks in virtual time
+        final CreateHandler createHandler = new CreateHandler(new CallbackStabilizer(
+                CallbackStabilizer.DEFAULT_CALLBACK_THRESHOLD, CallbackStabilizer.DEFAULT_LOCAL_WAIT_BUDGET, clock::advance));
+        final CallbackReplay create = CallbackReplay.replay(
+                proxy, TEST_RESOURCE_HANDLER_REQUEST_NO_ARN, new CallbackContext(), proxyClient, LOGGER, createHandler, clock::advance);
+        final ResourceModel createdModel = create.getFinalProgressEvent().getResourceModel();
+
+        assertThat(create.getFinalProgressEvent().getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(createdModel.getArn()).isEqualTo(TEST_FLYWHEEL_ARN);
+        assertThat(createdModel.getDataLakeS3Uri()).isEqualTo(TEST_DATA_LAKE_S3_URI);
+        assertThat(Duration.between(START, clock.instant())).isGreaterThan(Duration.ofMinutes(3));
+
+        // Read
+        final ProgressEvent<ResourceModel, CallbackContext> read = invokeHandleRequestAndReturnFinalProgressEvent(
+                proxy, requestFor(createdModel, null), new CallbackContext(), proxyClient, LOGGER, new ReadHandler());
+        assertThat(read.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(read.getResourceModel()).isEqualTo(createdModel);
+
+        // Update tags and data access role
+        final ResourceModel updatedModel = buildResourceModel(
+                TEST_ACTIVE_MODEL_ARN, ModelType.DOCUMENT_CLASSIFIER, SDK_CLR_TASK_CONFIG, RESOURCE_TAGS_UPDATED);
+        updatedModel.setDataAccessRoleArn(TEST_DATA_ACCESS_ROLE_ARN + "2");
+        final ProgressEvent<ResourceModel, CallbackContext> update = invokeHandleRequestAndReturnFinalProgressEvent(
+                proxy, requestFor(updatedModel, createdModel), new CallbackContext(), proxyClient, LOGGER, new UpdateHandler());
+        assertThat(update.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(update.getResourceModel().getDataAccessRoleArn()).isEqualTo(TEST_DATA_ACCESS_ROLE_ARN + "2");
+        assertThat(update.getResourceModel().getTags()).containsAll(updatedModel.getTags());
+
+        // List
+        final ProgressEvent<ResourceModel, CallbackContext> list = new ListHandler().handleRequest(
+                proxy, requestFor(ResourceModel.builder().build(), null), new CallbackContext(), proxyClient, LOGGER);
+        assertThat(list.getResourceModels()).extracting(ResourceModel::getArn).containsExactly(createdModel.getArn());
+
+        // Delete
+        final ProgressEvent<ResourceModel, CallbackContext> delete = invokeHandleRequestAndReturnFinalProgressEvent(
+                proxy, requestFor(updatedModel, null), new CallbackContext(), proxyClient, LOGGER, new DeleteHandler());
+        assertThat(delete.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThrows(ResourceNotFoundException.class, () -> status(createdModel.getArn()));
+
+        // The create waits were handed back to the replayed callbacks rather than slept through
+        assertThat(create.getInvocations()).isGreaterThan(1);
+        assertThat(fakeComprehendClient.getCallCount("CreateFlywheel")).isEqualTo(1);
+        assertThat(fakeComprehendClient.getCallCount("UpdateFlywheel")).isEqualTo(1);
+        assertThat(fakeComprehendClient.getCallCount("DeleteFlywheel")).isEqualTo(1);
+    }
+
+    @Test
+    public void testDescribe_FollowsLifecycleOnClock() {
+        fakeComprehendClient
+                .withCreation(Duration.ofMinutes(2), FlywheelStatus.FAILED)
+                .withDeletionTime(Duration.ofMinutes(1));
+        fakeComprehendClient.createFlywheel(EXPECTED_CREATE_FLYWHEEL_REQUEST);
+
+        assertThat(status(TEST_FLYWHEEL_ARN)).isEqualTo(FlywheelStatus.CREATING);
+        assertThrows(ResourceInUseException.class, () -> fakeComprehendClient.deleteFlywheel(
+                DeleteFlywheelRequest.builder().flywheelArn(TEST_FLYWHEEL_ARN).build()));
+        clock.advance(Duration.ofMinutes(2));
+        assertThat(status(TEST_FLYWHEEL_ARN)).isEqualTo(FlywheelStatus.FAILED);
+
+        fakeComprehendClient.deleteFlywheel(DeleteFlywheelRequest.builder().flywheelArn(TEST_FLYWHEEL_ARN).build());
+        assertThat(status(TEST_FLYWHEEL_ARN)).isEqualTo(FlywheelStatus.DELETING);
+        clock.advance(Duration.ofMinutes(1));
+        assertThrows(ResourceNotFoundException.class, () -> status(TEST_FLYWHEEL_ARN));
+    }
+
+    @Test
+    public void testList_Paginates() {
+        for (int i = 0; i < 12; i++) {
+            fakeComprehendClient.createFlywheel(EXPECTED_CREATE_FLYWHEEL_REQUEST.toBuilder()
+                    .flywheelName(TEST_FLYWHEEL_NAME + i)
+                    .clientRequestToken(null)
+                    .build());
+        }
+
+        final ListFlywheelsResponse firstPage = fakeComprehendClient.listFlywheels(ListFlywheelsRequest.builder().build());
+        final ListFlywheelsResponse secondPage = fakeComprehendClient.listFlywheels(
+                ListFlywheelsRequest.builder().nextToken(firstPage.nextToken()).build());
+
+        assertThat(firstPage.flywheelSummaryList()).hasSize(FakeComprehendClient.DEFAULT_PAGE_SIZE);
+        assertThat(secondPage.flywheelSummaryList()).hasSize(2);
+        assertThat(secondPage.nextToken()).isNull();
+    }
+
+    @Test
+    public void testTpsLimitAndInjectedErrors() {
+        fakeComprehendClient.createFlywheel(EXPECTED_CREATE_FLYWHEEL_REQUEST);
+        fakeComprehendClient
+                .withTpsLimit("DescribeFlywheel", 2)
+                .failNext("DescribeFlywheel", INTERNAL_SERVER_EXCEPTION);
+
+        assertThrows(INTERNAL_SERVER_EXCEPTION.getClass(), () -> status(TEST_FLYWHEEL_ARN));
+        status(TEST_FLYWHEEL_ARN);
+        status(TEST_FLYWHEEL_ARN);
+        final TooManyRequestsException throttle = assertThrows(TooManyRequestsException.class, () -> status(TEST_FLYWHEEL_ARN));
+        assertThat(throttle.isThrottlingException()).isTrue();
+
+        clock.advance(Duration.ofMillis(500));
+        assertThat(status(TEST_FLYWHEEL_ARN)).isEqualTo(FlywheelStatus.CREATING);
+        assertThat(fakeComprehendClient.getCallCount("DescribeFlywheel")).isEqualTo(5);
+        assertThat(fakeComprehendClient.getThrottleCount("DescribeFlywheel")).isEqualTo(1);
+    }
+
+    private FlywheelStatus status(final String arn) {
+        return fakeComprehendClient.describeFlywheel(DescribeFlywheelRequest.builder()
+                .flywheelArn(arn)
+                .build()).flywheelProperties().status();
+    }
+
+    private static ResourceHandlerRequest<ResourceModel> requestFor(final ResourceModel desired, final ResourceModel previous) {
+        return ResourceHandlerRequest.<ResourceModel>builder()
+                .clientRequestToken(TEST_CLIENT_REQUEST_TOKEN)
+                .desiredResourceState(desired)
+                .previousResourceState(previous)
+                .systemTags(SYSTEM_TAGS_MAP)
+                .awsPartition(TEST_PARTITION)
+                .awsAccountId(TEST_ACCOUNT_ID)
+                .region(TEST_REGION)
+                .logicalResourceIdentifier(TEST_LOGICAL_RESOURCE_IDENTIFIER)
+                .build();
+    }
+}
@@ -0,0 +1,290 @@
+package software.amazon.comprehend.flywheel;
+
+import software.amazon.awssdk.services.comprehend.ComprehendClient;
+import software.amazon.awssdk.services.comprehend.model.ModelType;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.LoggerProxy;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.comprehend.core.CallbackStabilizer;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Drives many full flywheel lifecycles (create, read, update and delete) concurrently through their callback
+ * loops, each against the FakeComprehendClient of its own tenant, and reports what one handler JVM sustains: per-stage
+ * handler latency percentiles, API calls per lifecycle, throughput and allocation rate.
+ *
+ * Waits for creation and callbacks pass in the virtual time of each tenant, so the latencies measured are the time
+ * spent in the handlers themselves.
+ */
+class LoadHarness {
+
+    /** Stages of a lifecycle, each one handler run to completion. */
+    enum Stage {
+        CREATE,
+        READ,
+        UPDATE,
+        DELETE
+    }
+
+    private static final Instant START = Instant.parse("2023-01-01T00:00:00Z");
+    private static final Logger SILENT_LOGGER = message -> { };
+
+    private int concurrency = 16;
+    private int lifecycles = 200;
+    private int tagCount = 10;
+    private double entityRecognizerShare = 0.5;
+    private double roleChangeShare = 0.5;
+
+    LoadHarness withConcurrency(final int concurrency) {
+        this.concurrency = concurrency;
+        return this;
+    }
+
+    LoadHarness withLifecycles(final int lifecycles) {
+        this.lifecycles = lifecycles;
+        return this;
+    }
+
+    /** Number of user tags on each flywheel, half of which the update replaces. */
+    LoadHarness withTagCount(final int tagCount) {
+        this.tagCount = tagCount;
+        return this;
+    }
+
+    /**
+     * Fractions of the flywheels that train entity recognizers rather than document classifiers, and whose update
+     * changes the data access role and so calls UpdateFlywheel rather than only retagging.
+     */
+    LoadHarness withResourceMix(final double entityRecognizerShare, final double roleChangeShare) {
+        this.entityRecognizerShare = entityRecognizerShare;
+        this.roleChangeShare = roleChangeShare;
+        return this;
+    }
+
+    Report run() throws Exception {
+        final Report report = new Report(concurrency, lifecycles);
+        final ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+        try {
+            final long allocatedBefore = allocatedBytes();
+            final long start = System.nanoTime();
+            final List<Future<Lifecycle>> futures = new ArrayList<>(lifecycles);
+            for (int i = 0; i < lifecycles; i++) {
+                final int index = i;
+                futures.add(executor.submit(() -> runLifecycle(index)));
+            }
+            for (final Future<Lifecycle> future : futures) {
+                report.add(future.get());
+            }
+            report.wallTime = Duration.ofNanos(System.nanoTime() - start);
+            report.allocatedBytes = allocatedBytes() - allocatedBefore;
+        } finally {
+            executor.shutdownNow();
+        }
+        return report;
+    }
+
+    private Lifecycle runLifecycle(final int index) {
+        final Random random = new Random(index);
+        final MutableClock clock = new MutableClock(START);
+        final FakeComprehendClient fakeComprehendClient = new FakeComprehendClient(clock);
+        final AmazonWebServicesClientProxy proxy = new AmazonWebServicesClientProxy(
+                new LoggerProxy(), AbstractTestBase.MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
+        final ProxyClient<ComprehendClient> proxyClient = AbstractTestBase.MOCK_PROXY(proxy, fakeComprehendClient);
+        final Lifecycle lifecycle = new Lifecycle();
+
+        try {
+            final boolean entityRecognizer = random.nextDouble() < entityRecognizerShare;
+            final ResourceModel desiredModel = model(index, entityRecognizer, 0);
+
+            final CreateHandler createHandler = new CreateHandler(new CallbackStabilizer(
+                    CallbackStabilizer.DEFAULT_CALLBACK_THRESHOLD, CallbackStabilizer.DEFAULT_LOCAL_WAIT_BUDGET, clock::advance));
+            final ResourceModel createdModel = lifecycle.run(Stage.CREATE, proxy, requestFor(desiredModel, null), proxyClient, createHandler, clock);
+            if (createdModel == null) {
+                return lifecycle.finish(fakeComprehendClient);
+            }
+
+            if (lifecycle.run(Stage.READ, proxy, requestFor(createdModel, null), proxyClient, new ReadHandler(), clock) == null) {
+                return lifecycle.finish(fakeComprehendClient);
+            }
+
+            final ResourceModel updatedModel = model(index, entityRecognizer, tagCount / 2);
+            updatedModel.setArn(createdModel.getArn());
+            if (random.nextDouble() < roleChangeShare) {
+                updatedModel.setDataAccessRoleArn(AbstractTestBase.TEST_DATA_ACCESS_ROLE_ARN + "Updated");
+            }
+            if (lifecycle.run(Stage.UPDATE, proxy, requestFor(updatedModel, createdModel), proxyClient, new UpdateHandler(), clock) == null) {
+                return lifecycle.finish(fakeComprehendClient);
+            }
+
+            lifecycle.run(Stage.DELETE, proxy, requestFor(updatedModel, null), proxyClient, new DeleteHandler(), clock);
+        } catch (RuntimeException e) {
+            lifecycle.failed = true;
+        }
+        return lifecycle.finish(fakeComprehendClient);
+    }
+
+    private ResourceModel model(final int index, final boolean entityRecognizer, final int replacedTags) {
+        final ResourceModel model = entityRecognizer
+                ? AbstractTestBase.buildResourceModelNoArn(AbstractTestBase.TEST_ACTIVE_MODEL_ARN_ER,
+                        ModelType.ENTITY_RECOGNIZER, AbstractTestBase.SDK_ER_TASK_CONFIG, Collections.emptyList())
+                : AbstractTestBase.buildResourceModelNoArn(AbstractTestBase.TEST_ACTIVE_MODEL_ARN,
+                        ModelType.DOCUMENT_CLASSIFIER, AbstractTestBase.SDK_CLR_TASK_CONFIG, Collections.emptyList());
+        model.setFlywheelName("loadTestFlywheel" + index);
+        model.setTags(tags(replacedTags));
+        return model;
+    }
+
+    /** User tags of one flywheel, with the first {@code replaced} given new keys. */
+    private Set<Tag> tags(final int replaced) {
+        final Set<Tag> tags = new LinkedHashSet<>();
+        for (int i = 0; i < tagCount; i++) {
+            tags.add(new Tag(i < replaced ? "replacedKey" + i : "key" + i, "value" + i));
+        }
+        return tags;
+    }
+
+    static ResourceHandlerRequest<ResourceModel> requestFor(final ResourceModel desired, final ResourceModel previous) {
+        return ResourceHandlerRequest.<ResourceModel>builder()
+                .clientRequestToken(AbstractTestBase.TEST_CLIENT_REQUEST_TOKEN + desired.getFlywheelName())
+                .desiredResourceState(desired)
+                .previousResourceState(previous)
+                .desiredResourceTags(AbstractTestBase.STACK_TAGS_MAP)
+                .systemTags(AbstractTestBase.SYSTEM_TAGS_MAP)
+                .previousSystemTags(previous == null ? null : AbstractTestBase.SYSTEM_TAGS_MAP)
+                .awsPartition(AbstractTestBase.TEST_PARTITION)
+                .awsAccountId(AbstractTestBase.TEST_ACCOUNT_ID)
+                .region(AbstractTestBase.TEST_REGION)
+                .logicalResourceIdentifier(AbstractTestBase.TEST_LOGICAL_RESOURCE_IDENTIFIER)
+                .build();
+    }
+
+    /** Bytes allocated so far by all live threads. */
+    private static long allocatedBytes() {
+        final com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        return Arrays.stream(threads.getThreadAllocatedBytes(threads.getAllThreadIds())).filter(bytes -> bytes > 0).sum();
+    }
+
+    /** Measurements of one lifecycle. */
+    private static final class Lifecycle {
+        private final Map<Stage, Duration> stageLatencies = new EnumMap<>(Stage.class);
+        private Map<String, Integer> apiCalls;
+        private boolean failed;
+
+        /** Run one handler through its callback loop, returning the final model or null when it did not succeed. */
+        private ResourceModel run(final Stage stage, final AmazonWebServicesClientProxy proxy,
+                                  final ResourceHandlerRequest<ResourceModel> request, final ProxyClient<ComprehendClient> proxyClient,
+                                  final AbstractFlywheelHandler handler, final MutableClock clock) {
+            final CallbackReplay replay = CallbackReplay.replay(
+                    proxy, request, new CallbackContext(), proxyClient, SILENT_LOGGER, handler, clock::advance);
+            stageLatencies.put(stage, replay.getBilledTime());
+            final ProgressEvent<ResourceModel, CallbackContext> progress = replay.getFinalProgressEvent();
+            if (progress.getStatus() != OperationStatus.SUCCESS) {
+                failed = true;
+                return null;
+            }
+            return progress.getResourceModel() == null ? request.getDesiredResourceState() : progress.getResourceModel();
+        }
+
+        private Lifecycle finish(final FakeComprehendClient fakeComprehendClient) {
+            apiCalls = fakeComprehendClient.getCallCounts();
+            return this;
+        }
+    }
+
+    /** Aggregated measurements of a run. */
+    static final class Report {
+        private final int concurrency;
+        private final int lifecycles;
+        private final Map<Stage, List<Long>> stageLatencies = new EnumMap<>(Stage.class);
+        private final Map<String, AtomicInteger> apiCalls = new TreeMap<>();
+        private int failures;
+        private Duration wallTime;
+        private long allocatedBytes;
+
+        private Report(final int concurrency, final int lifecycles) {
+            this.concurrency = concurrency;
+            this.lifecycles = lifecycles;
+            for (final Stage stage : Stage.values()) {
+                stageLatencies.put(stage, new ArrayList<>(lifecycles));
+            }
+        }
+
+        private void add(final Lifecycle lifecycle) {
+            lifecycle.stageLatencies.forEach((stage, latency) -> stageLatencies.get(stage).add(latency.toNanos()));
+            lifecycle.apiCalls.forEach((operation, calls) ->
+                    apiCalls.computeIfAbsent(operation, key -> new AtomicInteger()).addAndGet(calls));
+            if (lifecycle.failed) {
+                failures++;
+            }
+        }
+
+        int getFailures() {
+            return failures;
+        }
+
+        /** Handler latency of a stage at the given percentile, over all lifecycles that reached the stage. */
+        Duration getLatency(final Stage stage, final double percentile) {
+            final long[] latencies = stageLatencies.get(stage).stream().mapToLong(Long::longValue).sorted().toArray();
+            if (latencies.length == 0) {
+                return Duration.ZERO;
+            }
+            final int rank = (int) Math.ceil(percentile / 100 * latencies.length);
+            return Duration.ofNanos(latencies[Math.max(0, rank - 1)]);
+        }
+
+        double getApiCallsPerLifecycle() {
+            return apiCalls.values().stream().mapToInt(AtomicInteger::get).sum() / (double) lifecycles;
+        }
+
+        double getLifecyclesPerSecond() {
+            return lifecycles / (wallTime.toNanos() / 1e9);
+        }
+
+        /** Allocation rate of the whole JVM during the run in MB/s. */
+        double getAllocationRate() {
+            return allocatedBytes / 1e6 / (wallTime.toNanos() / 1e9);
+        }
+
+        long getAllocatedBytesPerLifecycle() {
+            return allocatedBytes / lifecycles;
+        }
+
+        @Override
+        public String toString() {
+            final StringBuilder report = new StringBuilder(String.format(
+                    "%d lifecycles at concurrency %d in %d ms: %.1f lifecycles/s, %d failed%n",
+                    lifecycles, concurrency, wallTime.toMillis(), getLifecyclesPerSecond(), failures));
+            for (final Stage stage : Stage.values()) {
+                report.append(String.format("  %-6s p50 %8.3f ms  p99 %8.3f ms%n", stage,
+                        getLatency(stage, 50).toNanos() / 1e6, getLatency(stage, 99).toNanos() / 1e6));
+            }
+            report.append(String.format("  API calls per lifecycle %.1f:", getApiCallsPerLifecycle()));
+            apiCalls.forEach((operation, calls) ->
+                    report.append(String.format(" %s=%.1f", operation, calls.get() / (double) lifecycles)));
+            report.append(String.format("%n  Allocation %.1f MB/s, %d KB per lifecycle%n",
+                    getAllocationRate(), getAllocatedBytesPerLifecycle() / 1024));
+            return report.toString();
+        }
+    }
+}
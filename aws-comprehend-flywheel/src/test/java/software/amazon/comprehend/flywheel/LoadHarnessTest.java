@@ -0,0 +1,31 @@
+package software.amazon.comprehend.flywheel;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Load run of the handlers against the FakeComprehendClient, excluded from the default test run. Run it with
+ * {@code mvn test -Dtest=LoadHarnessTest}, taking its size from system properties, for example
+ * {@code -Dload.lifecycles=5000 -Dload.concurrency=256 -Dload.tags=50}. The report is published to the surefire
+ * report of the test.
+ */
+public class LoadHarnessTest {
+
+    @Test
+    public void testLoad_AllLifecyclesSucceed(final TestReporter testReporter) throws Exception {
+        final LoadHarness.Report report = new LoadHarness()
+                .withLifecycles(Integer.getInteger("load.lifecycles", 50))
+                .withConcurrency(Integer.getInteger("load.concurrency", 8))
+                .withTagCount(Integer.getInteger("load.tags", 10))
+                .run();
+
+        testReporter.publishEntry("report", report.toString());
+        assertThat(report.getFailures()).isZero();
+        assertThat(report.getApiCallsPerLifecycle()).isGreaterThan(0);
+        for (final LoadHarness.Stage stage : LoadHarness.Stage.values()) {
+            assertThat(report.getLatency(stage, 99)).isGreaterThanOrEqualTo(report.getLatency(stage, 50));
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package software.amazon.comprehend.flywheel;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+/**
+ * Clock for tests that only moves when told to.
+ */
+class MutableClock extends Clock {
+    private volatile Instant now;
+
+    MutableClock(final Instant now) {
+        this.now = now;
+    }
+
+    void set(final Instant instant) {
+        now = instant;
+    }
+
+    void advance(final Duration duration) {
+        now = now.plus(duration);
+    }
+
+    @Override
+    public ZoneId getZone() {
+        return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(final ZoneId zone) {
+        return this;
+    }
+
+    @Override
+    public Instant instant() {
+        return now;
+    }
+}
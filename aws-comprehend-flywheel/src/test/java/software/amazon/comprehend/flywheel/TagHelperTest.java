@@ -1,6 +1,5 @@
 package software.amazon.comprehend.flywheel;
 
-import com.google.common.collect.Sets;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -15,11 +14,10 @@ import software.amazon.cloudformation.exceptions.CfnNotStabilizedException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.comprehend.core.TagReconciler;
 
 import java.time.Duration;
-import java.util.Arrays;
 import java.util.HashSet;
-import java.util.List;
 import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -66,8 +64,8 @@ public class TagHelperTest extends AbstractTestBase {
         ResourceHandlerRequest<ResourceModel> request =
                 buildResourceHandlerRequest(TEST_RESOURCE_MODEL, null, SYSTEM_TAGS_MAP);
         Set<Tag> expectedDesiredTags = new HashSet<>();
-        expectedDesiredTags.addAll(TagHelper.convertKeyValueMapToSdkTagSet(request.getSystemTags()));
-        expectedDesiredTags.addAll(TagHelper.convertKeyValueMapToSdkTagSet(request.getDesiredResourceTags()));
+        expectedDesiredTags.addAll(TagReconciler.convertKeyValueMapToSdkTagSet(request.getSystemTags()));
+        expectedDesiredTags.addAll(TagReconciler.convertKeyValueMapToSdkTagSet(request.getDesiredResourceTags()));
         expectedDesiredTags.addAll(Translator.toSdkTags(request.getDesiredResourceState().getTags()));
 
         Set<Tag> desiredTags = TagHelper.getDesiredTags(request);
@@ -0,0 +1,176 @@
+package software.amazon.comprehend.flywheel;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.services.comprehend.model.CreateFlywheelRequest;
+import software.amazon.awssdk.services.comprehend.model.DescribeFlywheelResponse;
+import software.amazon.awssdk.services.comprehend.model.FlywheelProperties;
+import software.amazon.awssdk.services.comprehend.model.FlywheelStatus;
+import software.amazon.awssdk.services.comprehend.model.ModelType;
+import software.amazon.awssdk.services.comprehend.model.Tag;
+import software.amazon.awssdk.services.comprehend.model.TagResourceRequest;
+import software.amazon.awssdk.services.comprehend.model.UntagResourceRequest;
+import software.amazon.comprehend.core.TagDiff;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput and allocation of the Translator conversions run on every handler entry and read, for small, typical and
+ * maximum-size flywheels. Run with {@code mvn -Pbenchmark test}, which adds the gc profiler for bytes allocated per
+ * operation; {@code -Dbenchmark.includes=TranslatorBenchmark.translateFromReadResponse} narrows the run.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TranslatorBenchmark {
+
+    /** Size of the flywheel translated. */
+    public enum Payload {
+        // Document classifier with two labels, no VPC, one tag
+        SMALL(ModelType.DOCUMENT_CLASSIFIER, 2, 0, 0, 1),
+        // Entity recognizer with five entity types, a VPC with two subnets and ten tags
+        TYPICAL(ModelType.ENTITY_RECOGNIZER, 5, 2, 2, 10),
+        // The service limits: 25 entity types, 16 subnets, 5 security groups and 50 tags
+        MAX(ModelType.ENTITY_RECOGNIZER, 25, 16, 5, 50);
+
+        private final ModelType modelType;
+        private final int labelsOrEntityTypes;
+        private final int subnets;
+        private final int securityGroups;
+        private final int tags;
+
+        Payload(final ModelType modelType, final int labelsOrEntityTypes, final int subnets, final int securityGroups, final int tags) {
+            this.modelType = modelType;
+            this.labelsOrEntityTypes = labelsOrEntityTypes;
+            this.subnets = subnets;
+            this.securityGroups = securityGroups;
+            this.tags = tags;
+        }
+    }
+
+    @Param
+    public Payload payload;
+
+    private ResourceModel model;
+    private Set<Tag> desiredTags;
+    private Set<Tag> currentTags;
+    private Set<software.amazon.comprehend.flywheel.Tag> modelTags;
+    private DescribeFlywheelResponse describeResponse;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        final TaskConfig taskConfig = TaskConfig.builder().languageCode("en").build();
+        if (payload.modelType == ModelType.DOCUMENT_CLASSIFIER) {
+            taskConfig.setDocumentClassificationConfig(DocumentClassificationConfig.builder()
+                    .mode("MULTI_CLASS")
+                    .labels(ids("LABEL_", payload.labelsOrEntityTypes))
+                    .build());
+        } else {
+            final Set<EntityTypesListItem> entityTypes = new LinkedHashSet<>();
+            for (final String type : ids("ENTITY_", payload.labelsOrEntityTypes)) {
+                entityTypes.add(EntityTypesListItem.builder().type(type).build());
+            }
+            taskConfig.setEntityRecognitionConfig(EntityRecognitionConfig.builder().entityTypes(entityTypes).build());
+        }
+
+        model = ResourceModel.builder()
+                .arn("arn:aws:comprehend:us-west-2:123456789012:flywheel/benchmarkFlywheel")
+                .flywheelName("benchmarkFlywheel")
+                .activeModelArn("arn:aws:comprehend:us-west-2:123456789012:entity-recognizer/benchmarkModel")
+                .dataAccessRoleArn("arn:aws:iam::123456789012:role/DataAccessRole")
+                .dataLakeS3Uri("s3://bucket/data-lake/")
+                .modelType(payload.modelType.toString())
+                .taskConfig(taskConfig)
+                .dataSecurityConfig(DataSecurityConfig.builder()
+                        .modelKmsKeyId("arn:aws:kms:us-west-2:123456789012:key/model")
+                        .volumeKmsKeyId("arn:aws:kms:us-west-2:123456789012:key/volume")
+                        .vpcConfig(payload.subnets == 0 ? null : VpcConfig.builder()
+                                .securityGroupIds(ids("sg-", payload.securityGroups))
+                                .subnets(ids("subnet-", payload.subnets))
+                                .build())
+                        .build())
+                .build();
+
+        desiredTags = tags(payload.tags, 0);
+        // Half of the current tags have other keys, so the diff both adds and removes
+        currentTags = tags(payload.tags, payload.tags / 2);
+        modelTags = Translator.fromSdkTags(desiredTags);
+
+        final CreateFlywheelRequest createRequest = Translator.translateToCreateRequest(model, "token", desiredTags);
+        describeResponse = DescribeFlywheelResponse.builder()
+                .flywheelProperties(FlywheelProperties.builder()
+                        .flywheelArn(model.getArn())
+                        .activeModelArn(createRequest.activeModelArn())
+                        .dataAccessRoleArn(createRequest.dataAccessRoleArn())
+                        .dataLakeS3Uri(createRequest.dataLakeS3Uri() + "benchmarkFlywheel/schemaVersion=1/20230101T000000Z")
+                        .dataSecurityConfig(createRequest.dataSecurityConfig())
+                        .modelType(createRequest.modelType())
+                        .taskConfig(createRequest.taskConfig())
+                        .status(FlywheelStatus.ACTIVE)
+                        .build())
+                .build();
+    }
+
+    @Benchmark
+    public CreateFlywheelRequest translateToCreateRequest() {
+        return Translator.translateToCreateRequest(model, "token", desiredTags);
+    }
+
+    @Benchmark
+    public ResourceModel translateFromReadResponse() {
+        return Translator.translateFromReadResponse(describeResponse);
+    }
+
+    @Benchmark
+    public TagResourceRequest translateToTagResourceRequest() {
+        return Translator.translateToTagResourceRequest(model, TagDiff.between(currentTags, desiredTags));
+    }
+
+    @Benchmark
+    public UntagResourceRequest translateToUntagResourceRequest() {
+        return Translator.translateToUntagResourceRequest(model, TagDiff.between(currentTags, desiredTags));
+    }
+
+    @Benchmark
+    public Set<software.amazon.comprehend.flywheel.Tag> fromSdkTags() {
+        return Translator.fromSdkTags(desiredTags);
+    }
+
+    @Benchmark
+    public Collection<Tag> toSdkTags() {
+        return Translator.toSdkTags(modelTags);
+    }
+
+    private static Set<String> ids(final String prefix, final int count) {
+        final Set<String> ids = new LinkedHashSet<>();
+        for (int i = 0; i < count; i++) {
+            ids.add(String.format("%s%017x", prefix, i));
+        }
+        return ids;
+    }
+
+    /** Tags key0..keyN, with the first {@code renamed} given other keys. */
+    private static Set<Tag> tags(final int count, final int renamed) {
+        final Set<Tag> tags = new LinkedHashSet<>();
+        for (int i = 0; i < count; i++) {
+            tags.add(Tag.builder().key(i < renamed ? "renamedKey" + i : "key" + i).value("value" + i).build());
+        }
+        return tags;
+    }
+}
@@ -22,6 +22,7 @@ import software.amazon.awssdk.services.comprehend.model.UntagResourceRequest;
 import software.amazon.awssdk.services.comprehend.model.UpdateDataSecurityConfig;
 import software.amazon.awssdk.services.comprehend.model.UpdateFlywheelRequest;
 import software.amazon.awssdk.services.comprehend.model.VpcConfig;
+import software.amazon.comprehend.core.TagDiff;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -438,23 +439,23 @@ public class TranslatorTest extends AbstractTestBase {
                 Tag.builder().key("key5").value("value5").build()));
 
         TagResourceRequest tagResourceRequestAllEmpty = Translator.translateToTagResourceRequest(
-                FLYWHEEL_CFN_MODEL_WITH_ARN_ONLY, SDK_TAGS_EMPTY, SDK_TAGS_EMPTY);
+                FLYWHEEL_CFN_MODEL_WITH_ARN_ONLY, TagDiff.between(SDK_TAGS_EMPTY, SDK_TAGS_EMPTY));
         assertThat(new HashSet<>(tagResourceRequestAllEmpty.tags())).isEmpty();
 
         TagResourceRequest tagResourceRequestNoChange = Translator.translateToTagResourceRequest(
-                FLYWHEEL_CFN_MODEL_WITH_ARN_ONLY, SDK_TAGS, SDK_TAGS);
+                FLYWHEEL_CFN_MODEL_WITH_ARN_ONLY, TagDiff.between(SDK_TAGS, SDK_TAGS));
         assertThat(new HashSet<>(tagResourceRequestNoChange.tags())).isEmpty();
 
         TagResourceRequest tagResourceRequestAddOnly = Translator.translateToTagResourceRequest(
-                FLYWHEEL_CFN_MODEL_WITH_ARN_ONLY, SDK_TAGS_EMPTY, SDK_TAGS);
+                FLYWHEEL_CFN_MODEL_WITH_ARN_ONLY, TagDiff.between(SDK_TAGS_EMPTY, SDK_TAGS));
         assertThat(new HashSet<>(tagResourceRequestAddOnly.tags())).isEqualTo(SDK_TAGS);
 
         TagResourceRequest tagResourceRequestRemoveOnly = Translator.translateToTagResourceRequest(
-                FLYWHEEL_CFN_MODEL_WITH_ARN_ONLY, SDK_TAGS, SDK_TAGS_EMPTY);
+                FLYWHEEL_CFN_MODEL_WITH_ARN_ONLY, TagDiff.between(SDK_TAGS, SDK_TAGS_EMPTY));
         assertThat(new HashSet<>(tagResourceRequestRemoveOnly.tags())).isEmpty();
 
         TagResourceRequest tagResourceRequestAddAndRemove = Translator.translateToTagResourceRequest(
-                FLYWHEEL_CFN_MODEL_WITH_ARN_ONLY, SDK_TAGS, SDK_TAGS_UPDATED);
+                FLYWHEEL_CFN_MODEL_WITH_ARN_ONLY, TagDiff.between(SDK_TAGS, SDK_TAGS_UPDATED));
         assertThat(tagResourceRequestAddAndRemove.resourceArn()).isEqualTo(FLYWHEEL_CFN_MODEL_WITH_ARN_ONLY.getArn());
         assertThat(new HashSet<>(tagResourceRequestAddAndRemove.tags())).isEqualTo(EXPECTED_TAGS_TO_ADD);
     }
@@ -464,24 +465,24 @@ public class TranslatorTest extends AbstractTestBase {
         Set<String> EXPECTED_TAG_KEYS_TO_REMOVE = new HashSet<>(Arrays.asList("key3"));
 
         UntagResourceRequest untagResourceRequestAllEmpty = Translator.translateToUntagResourceRequest(
-                FLYWHEEL_CFN_MODEL_WITH_ARN_ONLY, SDK_TAGS_EMPTY, SDK_TAGS_EMPTY);
+                FLYWHEEL_CFN_MODEL_WITH_ARN_ONLY, TagDiff.between(SDK_TAGS_EMPTY, SDK_TAGS_EMPTY));
         assertThat(new HashSet<>(untagResourceRequestAllEmpty.tagKeys())).isEmpty();
 
         UntagResourceRequest untagResourceRequestNoChange = Translator.translateToUntagResourceRequest(
-                FLYWHEEL_CFN_MODEL_WITH_ARN_ONLY, SDK_TAGS, SDK_TAGS);
+                FLYWHEEL_CFN_MODEL_WITH_ARN_ONLY, TagDiff.between(SDK_TAGS, SDK_TAGS));
         assertThat(new HashSet<>(untagResourceRequestNoChange.tagKeys())).isEmpty();
 
         UntagResourceRequest untagResourceRequestAddOnly = Translator.translateToUntagResourceRequest(
-                FLYWHEEL_CFN_MODEL_WITH_ARN_ONLY, SDK_TAGS_EMPTY, SDK_TAGS);
+                FLYWHEEL_CFN_MODEL_WITH_ARN_ONLY, TagDiff.between(SDK_TAGS_EMPTY, SDK_TAGS));
         assertThat(new HashSet<>(untagResourceRequestAddOnly.tagKeys())).isEmpty();
 
         UntagResourceRequest untagResourceRequestRemoveOnly = Translator.translateToUntagResourceRequest(
-                FLYWHEEL_CFN_MODEL_WITH_ARN_ONLY, SDK_TAGS, SDK_TAGS_EMPTY);
+                FLYWHEEL_CFN_MODEL_WITH_ARN_ONLY, TagDiff.between(SDK_TAGS, SDK_TAGS_EMPTY));
         assertThat(new HashSet<>(untagResourceRequestRemoveOnly.tagKeys())).isEqualTo(SDK_TAGS.stream()
                 .map(Tag::key).collect(Collectors.toSet()));
 
         UntagResourceRequest untagResourceRequestAddAndRemove = Translator.translateToUntagResourceRequest(
-                FLYWHEEL_CFN_MODEL_WITH_ARN_ONLY, SDK_TAGS, SDK_TAGS_UPDATED);
+                FLYWHEEL_CFN_MODEL_WITH_ARN_ONLY, TagDiff.between(SDK_TAGS, SDK_TAGS_UPDATED));
         assertThat(untagResourceRequestAddAndRemove.resourceArn()).isEqualTo(FLYWHEEL_CFN_MODEL_WITH_ARN_ONLY.getArn());
         assertThat(new HashSet<>(untagResourceRequestAddAndRemove.tagKeys())).isEqualTo(EXPECTED_TAG_KEYS_TO_REMOVE);
     }
@@ -16,6 +16,7 @@ import software.amazon.awssdk.services.comprehend.model.CreateFlywheelRequest;
 import software.amazon.awssdk.services.comprehend.model.CreateFlywheelResponse;
 import software.amazon.awssdk.services.comprehend.model.DescribeFlywheelRequest;
 import software.amazon.awssdk.services.comprehend.model.DescribeFlywheelResponse;
+import software.amazon.awssdk.services.comprehend.model.ModelType;
 import software.amazon.awssdk.services.comprehend.model.InternalServerException;
 import software.amazon.awssdk.services.comprehend.model.ListTagsForResourceRequest;
 import software.amazon.awssdk.services.comprehend.model.ListTagsForResourceResponse;
@@ -41,6 +42,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.comprehend.core.StageTrace;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -79,6 +81,29 @@ public class UpdateHandlerTest extends AbstractTestBase {
                     .systemTags(SYSTEM_TAGS_UPDATED_MAP)
                     .logicalResourceIdentifier(TEST_LOGICAL_RESOURCE_IDENTIFIER)
                     .build();
+
+    protected static final ResourceHandlerRequest<ResourceModel> TEST_RESOURCE_HANDLER_REQUEST_UNCHANGED =
+            ResourceHandlerRequest.<ResourceModel>builder()
+                    .clientRequestToken(TEST_CLIENT_REQUEST_TOKEN)
+                    .desiredResourceState(TEST_RESOURCE_MODEL_UPDATED)
+                    .previousResourceState(TEST_RESOURCE_MODEL_UPDATED)
+                    .awsPartition(TEST_PARTITION)
+                    .awsAccountId(TEST_ACCOUNT_ID)
+                    .region(TEST_REGION)
+                    .logicalResourceIdentifier(TEST_LOGICAL_RESOURCE_IDENTIFIER)
+                    .build();
+
+    protected static final ResourceHandlerRequest<ResourceModel> TEST_RESOURCE_HANDLER_REQUEST_TAGS_CHANGED_FROM_PREVIOUS =
+            ResourceHandlerRequest.<ResourceModel>builder()
+                    .clientRequestToken(TEST_CLIENT_REQUEST_TOKEN)
+                    .desiredResourceState(TEST_RESOURCE_MODEL_UPDATED)
+                    .previousResourceState(TEST_RESOURCE_MODEL)
+                    .awsPartition(TEST_PARTITION)
+                    .awsAccountId(TEST_ACCOUNT_ID)
+                    .region(TEST_REGION)
+                    .logicalResourceIdentifier(TEST_LOGICAL_RESOURCE_IDENTIFIER)
+                    .build();
+
     @Mock
     private AmazonWebServicesClientProxy proxy;
 
@@ -91,9 +116,6 @@ public class UpdateHandlerTest extends AbstractTestBase {
     @Captor
     ArgumentCaptor<UpdateFlywheelRequest> updateFlywheelRequestArgumentCaptor;
 
-    @Captor
-    ArgumentCaptor<DescribeFlywheelRequest> describeFlywheelRequestArgumentCaptor;
-
     @Captor
     ArgumentCaptor<ListTagsForResourceRequest> listTagsForResourceRequestArgumentCaptor;
 
@@ -139,10 +161,6 @@ public class UpdateHandlerTest extends AbstractTestBase {
                         .resourceArn(TEST_FLYWHEEL_ARN)
                         .tags(expectedTagsPostUntagging)
                         .build())
-                .thenReturn(ListTagsForResourceResponse.builder()
-                        .resourceArn(TEST_FLYWHEEL_ARN)
-                        .tags(expectedTagsPostUntagging)
-                        .build())
                 .thenReturn(ListTagsForResourceResponse.builder()
                         .resourceArn(TEST_FLYWHEEL_ARN)
                         .tags(expectedTagsPostTagging)
@@ -151,10 +169,6 @@ public class UpdateHandlerTest extends AbstractTestBase {
                 .thenReturn(UpdateFlywheelResponse.builder()
                         .flywheelProperties(TEST_FLYWHEEL_PROPERTIES_ACTIVE)
                         .build());
-        when(comprehendClient.describeFlywheel(any(DescribeFlywheelRequest.class)))
-                .thenReturn(DescribeFlywheelResponse.builder()
-                        .flywheelProperties(TEST_FLYWHEEL_PROPERTIES_ACTIVE)
-                        .build());
 
         // Invoke Handler
         final ProgressEvent<ResourceModel, CallbackContext> finalResponse = invokeHandleRequestAndReturnFinalProgressEvent(
@@ -173,8 +187,17 @@ public class UpdateHandlerTest extends AbstractTestBase {
         )));
         assertThat(finalResponse.getCallbackContext().getTagKeysToRemove()).isEqualTo(
                 new HashSet<>(Collections.singletonList("key3")));
-
-        verify(comprehendClient, times(6)).listTagsForResource(listTagsForResourceRequestArgumentCaptor.capture());
+        // Untagging and tagging are stabilized together with one ListTagsForResource call per poll
+        assertThat(finalResponse.getCallbackContext().getTagPollCount()).isEqualTo(3);
+        assertThat(finalResponse.getCallbackContext().getStageTraces().keySet()).containsExactly(
+                "AWS-Comprehend-Flywheel::Update::Flywheel",
+                "AWS-Comprehend-Flywheel::Update::Untag",
+                "AWS-Comprehend-Flywheel::Update::Tag",
+                "AWS-Comprehend-Flywheel::Update::Read");
+        assertThat(finalResponse.getCallbackContext().getStageTraces().values())
+                .allMatch(trace -> trace.getOutcome() == StageTrace.Outcome.DONE && trace.getAttempts() == 1);
+
+        verify(comprehendClient, times(4)).listTagsForResource(listTagsForResourceRequestArgumentCaptor.capture());
         EXPECTED_LIST_TAGS_FOR_RESOURCE_REQUEST.equalsBySdkFields(listTagsForResourceRequestArgumentCaptor.getValue());
 
         verify(comprehendClient, times(1)).updateFlywheel(updateFlywheelRequestArgumentCaptor.capture());
@@ -196,8 +219,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
                 .build();
         assertTagResourceRequestsEqual(expectedTagResourceRequest, tagResourceRequestArgumentCaptor.getValue());
 
-        verify(comprehendClient, times(1)).describeFlywheel(describeFlywheelRequestArgumentCaptor.capture());
-        EXPECTED_DESCRIBE_FLYWHEEL_REQUEST.equalsBySdkFields(describeFlywheelRequestArgumentCaptor.getValue());
+        verify(comprehendClient, times(0)).describeFlywheel(any(DescribeFlywheelRequest.class));
     }
 
     @Test
@@ -256,10 +278,6 @@ public class UpdateHandlerTest extends AbstractTestBase {
                 .thenReturn(UpdateFlywheelResponse.builder()
                         .flywheelProperties(TEST_FLYWHEEL_PROPERTIES_ACTIVE)
                         .build());
-        when(comprehendClient.describeFlywheel(any(DescribeFlywheelRequest.class)))
-                .thenReturn(DescribeFlywheelResponse.builder()
-                        .flywheelProperties(TEST_FLYWHEEL_PROPERTIES_ACTIVE)
-                        .build());
 
         // Invoke Handler
         CallbackContext callbackContext = new CallbackContext();
@@ -274,10 +292,10 @@ public class UpdateHandlerTest extends AbstractTestBase {
         assertThat(finalResponse.getResourceModels()).isNull();
         assertThat(finalResponse.getMessage()).isNull();
         assertThat(finalResponse.getErrorCode()).isNull();
-        assertThat(finalResponse.getCallbackContext().getTagsToAdd()).isEmpty();
-        assertThat(finalResponse.getCallbackContext().getTagKeysToRemove()).isEmpty();
+        assertThat(finalResponse.getCallbackContext().getTagsToAdd()).isNull();
+        assertThat(finalResponse.getCallbackContext().getTagKeysToRemove()).isNull();
 
-        verify(comprehendClient, times(2)).listTagsForResource(listTagsForResourceRequestArgumentCaptor.capture());
+        verify(comprehendClient, times(1)).listTagsForResource(listTagsForResourceRequestArgumentCaptor.capture());
         EXPECTED_LIST_TAGS_FOR_RESOURCE_REQUEST.equalsBySdkFields(listTagsForResourceRequestArgumentCaptor.getValue());
 
         verify(comprehendClient, times(1)).updateFlywheel(updateFlywheelRequestArgumentCaptor.capture());
@@ -286,8 +304,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
         verify(comprehendClient, times(0)).untagResource(any(UntagResourceRequest.class));
         verify(comprehendClient, times(0)).tagResource(any(TagResourceRequest.class));
 
-        verify(comprehendClient, times(1)).describeFlywheel(describeFlywheelRequestArgumentCaptor.capture());
-        EXPECTED_DESCRIBE_FLYWHEEL_REQUEST.equalsBySdkFields(describeFlywheelRequestArgumentCaptor.getValue());
+        verify(comprehendClient, times(0)).describeFlywheel(any(DescribeFlywheelRequest.class));
     }
 
     @Test
@@ -382,10 +399,6 @@ public class UpdateHandlerTest extends AbstractTestBase {
                 .thenReturn(UpdateFlywheelResponse.builder()
                         .flywheelProperties(TEST_FLYWHEEL_PROPERTIES_ACTIVE)
                         .build());
-        when(comprehendClient.describeFlywheel(any(DescribeFlywheelRequest.class)))
-                .thenReturn(DescribeFlywheelResponse.builder()
-                        .flywheelProperties(TEST_FLYWHEEL_PROPERTIES_ACTIVE)
-                        .build());
 
         // Invoke Handler
         CallbackContext callbackContext = new CallbackContext();
@@ -399,10 +412,10 @@ public class UpdateHandlerTest extends AbstractTestBase {
         assertThat(finalResponse.getResourceModels()).isNull();
         assertThat(finalResponse.getMessage()).isNull();
         assertThat(finalResponse.getErrorCode()).isNull();
-        assertThat(finalResponse.getCallbackContext().getTagsToAdd()).isEmpty();
-        assertThat(finalResponse.getCallbackContext().getTagKeysToRemove()).isEmpty();
+        assertThat(finalResponse.getCallbackContext().getTagsToAdd()).isNull();
+        assertThat(finalResponse.getCallbackContext().getTagKeysToRemove()).isNull();
 
-        verify(comprehendClient, times(2)).listTagsForResource(listTagsForResourceRequestArgumentCaptor.capture());
+        verify(comprehendClient, times(1)).listTagsForResource(listTagsForResourceRequestArgumentCaptor.capture());
         EXPECTED_LIST_TAGS_FOR_RESOURCE_REQUEST.equalsBySdkFields(listTagsForResourceRequestArgumentCaptor.getValue());
 
         verify(comprehendClient, times(2)).updateFlywheel(updateFlywheelRequestArgumentCaptor.capture());
@@ -411,8 +424,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
         verify(comprehendClient, times(0)).untagResource(any(UntagResourceRequest.class));
         verify(comprehendClient, times(0)).tagResource(any(TagResourceRequest.class));
 
-        verify(comprehendClient, times(1)).describeFlywheel(describeFlywheelRequestArgumentCaptor.capture());
-        EXPECTED_DESCRIBE_FLYWHEEL_REQUEST.equalsBySdkFields(describeFlywheelRequestArgumentCaptor.getValue());
+        verify(comprehendClient, times(0)).describeFlywheel(any(DescribeFlywheelRequest.class));
     }
 
     @Test
@@ -453,10 +465,6 @@ public class UpdateHandlerTest extends AbstractTestBase {
                 .thenReturn(UpdateFlywheelResponse.builder()
                         .flywheelProperties(TEST_FLYWHEEL_PROPERTIES_ACTIVE)
                         .build());
-        when(comprehendClient.describeFlywheel(any(DescribeFlywheelRequest.class)))
-                .thenReturn(DescribeFlywheelResponse.builder()
-                        .flywheelProperties(TEST_FLYWHEEL_PROPERTIES_ACTIVE)
-                        .build());
 
         // Invoke Handler
         final ProgressEvent<ResourceModel, CallbackContext> finalResponse = invokeHandleRequestAndReturnFinalProgressEvent(
@@ -480,7 +488,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
         assertThat(finalResponse.getCallbackContext().getTagsToAdd()).isEqualTo(expectedTagsToAdd);
         assertThat(finalResponse.getCallbackContext().getTagKeysToRemove()).isEqualTo(expectedTagKeysToRemove);
 
-        verify(comprehendClient, times(5)).listTagsForResource(listTagsForResourceRequestArgumentCaptor.capture());
+        verify(comprehendClient, times(4)).listTagsForResource(listTagsForResourceRequestArgumentCaptor.capture());
         EXPECTED_LIST_TAGS_FOR_RESOURCE_REQUEST.equalsBySdkFields(listTagsForResourceRequestArgumentCaptor.getValue());
 
         verify(comprehendClient, times(1)).updateFlywheel(updateFlywheelRequestArgumentCaptor.capture());
@@ -500,8 +508,86 @@ public class UpdateHandlerTest extends AbstractTestBase {
                 .build();
         assertTagResourceRequestsEqual(expectedTagResourceRequest, tagResourceRequestArgumentCaptor.getValue());
 
-        verify(comprehendClient, times(1)).describeFlywheel(describeFlywheelRequestArgumentCaptor.capture());
-        EXPECTED_DESCRIBE_FLYWHEEL_REQUEST.equalsBySdkFields(describeFlywheelRequestArgumentCaptor.getValue());
+        verify(comprehendClient, times(0)).describeFlywheel(any(DescribeFlywheelRequest.class));
+    }
+
+    @Test
+    public void handleRequest_NoWriteCalls_WhenNothingChanged() {
+        // Set up mock behavior
+        when(comprehendClient.listTagsForResource(any(ListTagsForResourceRequest.class)))
+                .thenReturn(ListTagsForResourceResponse.builder()
+                        .resourceArn(TEST_FLYWHEEL_ARN)
+                        .tags(Translator.toSdkTags(TEST_RESOURCE_MODEL_UPDATED.getTags()))
+                        .build());
+        when(comprehendClient.describeFlywheel(any(DescribeFlywheelRequest.class)))
+                .thenReturn(DescribeFlywheelResponse.builder()
+                        .flywheelProperties(TEST_FLYWHEEL_PROPERTIES_ACTIVE)
+                        .build());
+
+        // Invoke Handler
+        final ProgressEvent<ResourceModel, CallbackContext> finalResponse = invokeHandleRequestAndReturnFinalProgressEvent(
+                proxy, TEST_RESOURCE_HANDLER_REQUEST_UNCHANGED, new CallbackContext(), proxyClient, LOGGER, handler);
+
+        // Validate handler behavior
+        assertThat(finalResponse.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(finalResponse.getResourceModel()).isEqualTo(TEST_RESOURCE_HANDLER_REQUEST_UNCHANGED.getDesiredResourceState());
+
+        // An unchanged update costs no write calls, only the reads of the tag diff and the trailing read
+        verify(comprehendClient, times(0)).updateFlywheel(any(UpdateFlywheelRequest.class));
+        verify(comprehendClient, times(0)).untagResource(any(UntagResourceRequest.class));
+        verify(comprehendClient, times(0)).tagResource(any(TagResourceRequest.class));
+        verify(comprehendClient, times(1)).listTagsForResource(any(ListTagsForResourceRequest.class));
+        verify(comprehendClient, times(1)).describeFlywheel(any(DescribeFlywheelRequest.class));
+    }
+
+    @Test
+    public void handleRequest_SkipsUpdateFlywheel_WhenOnlyTagsChanged() {
+        // Set up mock behavior
+        // These tag & untag responses aren't needed, but makeServiceCall is repeated if response is null
+        when(comprehendClient.untagResource(any(UntagResourceRequest.class)))
+                .thenReturn(UntagResourceResponse.builder().build());
+        when(comprehendClient.tagResource(any(TagResourceRequest.class)))
+                .thenReturn(TagResourceResponse.builder().build());
+        when(comprehendClient.listTagsForResource(any(ListTagsForResourceRequest.class)))
+                .thenReturn(ListTagsForResourceResponse.builder()
+                        .resourceArn(TEST_FLYWHEEL_ARN)
+                        .tags(RESOURCE_TAGS)
+                        .build())
+                .thenReturn(ListTagsForResourceResponse.builder()
+                        .resourceArn(TEST_FLYWHEEL_ARN)
+                        .tags(Translator.toSdkTags(TEST_RESOURCE_MODEL_UPDATED.getTags()))
+                        .build());
+        when(comprehendClient.describeFlywheel(any(DescribeFlywheelRequest.class)))
+                .thenReturn(DescribeFlywheelResponse.builder()
+                        .flywheelProperties(TEST_FLYWHEEL_PROPERTIES_ACTIVE)
+                        .build());
+
+        // Invoke Handler
+        final ProgressEvent<ResourceModel, CallbackContext> finalResponse = invokeHandleRequestAndReturnFinalProgressEvent(
+                proxy, TEST_RESOURCE_HANDLER_REQUEST_TAGS_CHANGED_FROM_PREVIOUS, new CallbackContext(), proxyClient, LOGGER, handler);
+
+        // Validate handler behavior
+        assertThat(finalResponse.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(finalResponse.getResourceModel()).isEqualTo(
+                TEST_RESOURCE_HANDLER_REQUEST_TAGS_CHANGED_FROM_PREVIOUS.getDesiredResourceState());
+
+        verify(comprehendClient, times(0)).updateFlywheel(any(UpdateFlywheelRequest.class));
+        verify(comprehendClient, times(1)).untagResource(any(UntagResourceRequest.class));
+        verify(comprehendClient, times(1)).tagResource(any(TagResourceRequest.class));
+        verify(comprehendClient, times(2)).listTagsForResource(any(ListTagsForResourceRequest.class));
+        verify(comprehendClient, times(1)).describeFlywheel(any(DescribeFlywheelRequest.class));
     }
 
+    @Test
+    public void getChangedUpdatableProperties_ComparesEachUpdatableProperty() {
+        final ResourceModel changedModel = buildResourceModel(
+                TEST_ACTIVE_MODEL_ARN_ER, ModelType.DOCUMENT_CLASSIFIER, SDK_CLR_TASK_CONFIG, RESOURCE_TAGS);
+        changedModel.setDataSecurityConfig(DataSecurityConfig.builder().volumeKmsKeyId("volumeKmsKeyId").build());
+
+        assertThat(UpdateHandler.getChangedUpdatableProperties(TEST_RESOURCE_MODEL, TEST_RESOURCE_MODEL_UPDATED)).isEmpty();
+        assertThat(UpdateHandler.getChangedUpdatableProperties(TEST_RESOURCE_MODEL, changedModel))
+                .containsExactly("ActiveModelArn", "DataSecurityConfig");
+        assertThat(UpdateHandler.getChangedUpdatableProperties(null, TEST_RESOURCE_MODEL_UPDATED))
+                .containsExactly("ActiveModelArn", "DataAccessRoleArn", "DataSecurityConfig");
+    }
 }
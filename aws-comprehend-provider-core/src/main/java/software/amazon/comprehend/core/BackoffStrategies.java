@@ -0,0 +1,21 @@
+package software.amazon.comprehend.core;
+
+import software.amazon.cloudformation.proxy.delay.Constant;
+
+import java.time.Duration;
+
+/**
+ * Backoff strategies of the stabilization of the resource types, for those that do not pace their polls from the
+ * progress the service reports.
+ */
+public final class BackoffStrategies {
+
+    /** Creation of a resource, polled every 15 seconds for up to two days. */
+    public static final Constant CREATE = Constant.of().delay(Duration.ofSeconds(15)).timeout(Duration.ofDays(2)).build();
+
+    /** Deletion of a resource, polled every 5 seconds for up to an hour. */
+    public static final Constant DELETE = Constant.of().delay(Duration.ofSeconds(5)).timeout(Duration.ofMinutes(60)).build();
+
+    private BackoffStrategies() {
+    }
+}
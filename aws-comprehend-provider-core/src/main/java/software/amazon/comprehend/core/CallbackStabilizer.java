@@ -0,0 +1,100 @@
+package software.amazon.comprehend.core;
+
+import com.google.common.util.concurrent.Uninterruptibles;
+import software.amazon.awssdk.core.exception.RetryableException;
+import software.amazon.cloudformation.exceptions.BaseHandlerException;
+import software.amazon.cloudformation.proxy.Delay;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.StdCallbackContext;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+
+/**
+ * Stabilization loop that only waits inside the invocation for short delays and hands longer waits back to
+ * CloudFormation through callbackDelaySeconds, so the handler is not billed while the resource is busy. The attempt
+ * count is kept in the callback context, so the backoff carries on where it left off when the handler is called back.
+ */
+public class CallbackStabilizer {
+
+    public static final Duration DEFAULT_CALLBACK_THRESHOLD = Duration.ofSeconds(10);
+    public static final Duration DEFAULT_LOCAL_WAIT_BUDGET = Duration.ofSeconds(30);
+
+    /** Waits for the given duration inside the invocation. */
+    @FunctionalInterface
+    public interface Sleeper {
+        void sleep(Duration duration);
+    }
+
+    private final Duration callbackThreshold;
+    private final Duration localWaitBudget;
+    private final Sleeper sleeper;
+
+    public CallbackStabilizer() {
+        this(DEFAULT_CALLBACK_THRESHOLD, DEFAULT_LOCAL_WAIT_BUDGET,
+                duration -> Uninterruptibles.sleepUninterruptibly(duration.toMillis(), TimeUnit.MILLISECONDS));
+    }
+
+    /**
+     * @param callbackThreshold waits longer than this are handed back to CloudFormation
+     * @param localWaitBudget   total time one invocation may spend waiting locally
+     * @param sleeper           how local waits are performed
+     */
+    public CallbackStabilizer(final Duration callbackThreshold, final Duration localWaitBudget, final Sleeper sleeper) {
+        this.callbackThreshold = callbackThreshold;
+        this.localWaitBudget = localWaitBudget;
+        this.sleeper = sleeper;
+    }
+
+    /**
+     * Polls until stabilized, returning a progress event that continues the chain once it is. Exceptions thrown by a
+     * poll go through the error handler; a RetryableException from it means the poll is retried after the next delay.
+     */
+    public <ModelT, CallbackT extends StdCallbackContext> ProgressEvent<ModelT, CallbackT> stabilize(
+            final String callGraph,
+            final ModelT model,
+            final CallbackT callbackContext,
+            final Delay delay,
+            final BooleanSupplier isStabilized,
+            final Function<Exception, ProgressEvent<ModelT, CallbackT>> errorHandler,
+            final Logger logger) {
+
+        final HandlerLogger handlerLogger = HandlerLogger.of(logger);
+        Duration waitedLocally = Duration.ZERO;
+        while (true) {
+            try {
+                if (isStabilized.getAsBoolean()) {
+                    return ProgressEvent.progress(model, callbackContext);
+                }
+            } catch (final BaseHandlerException e) {
+                throw e;
+            } catch (final Exception e) {
+                try {
+                    return errorHandler.apply(e);
+                } catch (final RetryableException retryableException) {
+                    handlerLogger.warn("[{}] retrying stabilization after error: {}", callGraph, e.getMessage());
+                }
+            }
+
+            final int attempt = callbackContext.attempts(callGraph);
+            final Duration next = delay.nextDelay(attempt);
+            callbackContext.attempts(callGraph, attempt + 1);
+            if (next.isZero()) {
+                return ProgressEvent.failed(model, callbackContext, HandlerErrorCode.NotStabilized, "Exceeded attempts to wait");
+            }
+
+            if (next.compareTo(callbackThreshold) > 0 || waitedLocally.plus(next).compareTo(localWaitBudget) > 0) {
+                handlerLogger.sampled(attempt, "[{}] not stabilized after attempt {}, calling back in {} seconds.",
+                        callGraph, attempt, next.getSeconds());
+                return ProgressEvent.defaultInProgressHandler(callbackContext, (int) Math.max(1, next.getSeconds()), model);
+            }
+
+            sleeper.sleep(next);
+            waitedLocally = waitedLocally.plus(next);
+        }
+    }
+}
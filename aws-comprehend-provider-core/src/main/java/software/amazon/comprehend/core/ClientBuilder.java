@@ -0,0 +1,355 @@
+package software.amazon.comprehend.core;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import org.apache.commons.lang3.StringUtils;
+import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
+import software.amazon.awssdk.awscore.client.builder.AwsClientBuilder;
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.http.SdkHttpConfigurationOption;
+import software.amazon.awssdk.http.apache.ApacheHttpClient;
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
+import software.amazon.awssdk.http.nio.netty.SdkEventLoopGroup;
+import software.amazon.awssdk.profiles.ProfileFile;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.comprehend.ComprehendAsyncClient;
+import software.amazon.awssdk.services.comprehend.ComprehendAsyncClientBuilder;
+import software.amazon.awssdk.services.comprehend.ComprehendClient;
+import software.amazon.awssdk.services.comprehend.ComprehendClientBuilder;
+import software.amazon.awssdk.utils.AttributeMap;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+/**
+ * Process-wide holder of ComprehendClient and ComprehendAsyncClient instances, keyed by region and endpoint override.
+ * Clients (and their HTTP connection pools) are built lazily on first use and reused across warm invocations. The
+ * async clients share one small Netty event loop group, so all of their calls in flight are served by a few threads.
+ *
+ * To keep cold starts short, nothing is discovered when a client is built: the HTTP client is the one named by
+ * COMPREHEND_HTTP_CLIENT rather than the first found on the classpath, the region is that of the request or of the
+ * Lambda environment, no profile file is read, and calls are only signed with the credentials the CloudFormation proxy
+ * injects into each request.
+ */
+public final class ClientBuilder {
+
+    static final String ENDPOINT_OVERRIDE_ENV = "COMPREHEND_ENDPOINT_OVERRIDE";
+    static final String MAX_CONNECTIONS_ENV = "COMPREHEND_HTTP_MAX_CONNECTIONS";
+    static final String CONNECTION_TIMEOUT_MILLIS_ENV = "COMPREHEND_HTTP_CONNECTION_TIMEOUT_MILLIS";
+    static final String SOCKET_TIMEOUT_MILLIS_ENV = "COMPREHEND_HTTP_SOCKET_TIMEOUT_MILLIS";
+    static final String CONNECTION_MAX_IDLE_MILLIS_ENV = "COMPREHEND_HTTP_CONNECTION_MAX_IDLE_MILLIS";
+    static final String MAX_CONCURRENCY_ENV = "COMPREHEND_HTTP_MAX_CONCURRENCY";
+    static final String EVENT_LOOP_THREADS_ENV = "COMPREHEND_HTTP_EVENT_LOOP_THREADS";
+    static final String HTTP_CLIENT_ENV = "COMPREHEND_HTTP_CLIENT";
+    static final String AWS_REGION_ENV = "AWS_REGION";
+    static final String ASYNC_HANDLERS_ENV = "COMPREHEND_ASYNC_HANDLERS";
+
+    /**
+     * Client classes that are only in the handler jars built with their profile. The URLConnection and CRT clients are
+     * built through their builder() method, the Netty client once it is known to be there.
+     */
+    static final String NETTY_ASYNC_HTTP_CLIENT = "software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient";
+    static final String URL_CONNECTION_HTTP_CLIENT = "software.amazon.awssdk.http.urlconnection.UrlConnectionHttpClient";
+    static final String CRT_ASYNC_HTTP_CLIENT = "software.amazon.awssdk.http.crt.AwsCrtAsyncHttpClient";
+
+    /** Credentials of the clients themselves, which are never used as the proxy injects credentials into every call. */
+    private static final AwsCredentialsProvider PROXY_CREDENTIALS_ONLY = () -> {
+        throw new IllegalStateException("Comprehend calls must be made through the CloudFormation proxy, which injects the credentials");
+    };
+    private static final ProfileFile NO_PROFILE_FILE = ProfileFile.aggregator().build();
+
+    private static final ConcurrentMap<ClientKey, ComprehendClient> CLIENTS = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<ClientKey, ComprehendAsyncClient> ASYNC_CLIENTS = new ConcurrentHashMap<>();
+    private static final HttpSettings HTTP_SETTINGS = HttpSettings.from(System::getenv);
+    private static final boolean ASYNC_HANDLERS = asyncHandlers(System::getenv);
+
+    private ClientBuilder() {
+    }
+
+    /** Get the shared client for a region, honouring the endpoint override from the environment if set. */
+    public static ComprehendClient getClient(final String region) {
+        return getClient(region, System.getenv(ENDPOINT_OVERRIDE_ENV));
+    }
+
+    /** Get the shared client for a region and endpoint override, building it on first use. */
+    public static ComprehendClient getClient(final String region, final String endpointOverride) {
+        return CLIENTS.computeIfAbsent(new ClientKey(region, endpointOverride), key -> buildClient(key, HTTP_SETTINGS));
+    }
+
+    /**
+     * Get the proxy client the handlers make their calls of a request through: calls use the shared client of the
+     * region, are recorded in the metrics of the request and are paced by the shared rate limiter.
+     */
+    public static ProxyClient<ComprehendClient> getProxyClient(final AmazonWebServicesClientProxy proxy,
+                                                               final String region,
+                                                               final HandlerMetrics metrics) {
+        return new RateLimitedProxyClient<>(new MetricsProxyClient<>(proxy.newProxy(() -> getClient(region)), metrics),
+                RateLimiter.shared());
+    }
+
+    /** Get the shared async client for a region, honouring the endpoint override from the environment if set. */
+    public static ComprehendAsyncClient getAsyncClient(final String region) {
+        return getAsyncClient(region, System.getenv(ENDPOINT_OVERRIDE_ENV));
+    }
+
+    /** Get the shared async client for a region and endpoint override, building it on first use. */
+    public static ComprehendAsyncClient getAsyncClient(final String region, final String endpointOverride) {
+        return ASYNC_CLIENTS.computeIfAbsent(new ClientKey(region, endpointOverride), key -> buildAsyncClient(key, HTTP_SETTINGS));
+    }
+
+    /**
+     * Get the proxy client the asynchronous handlers make their calls of a request through, like getProxyClient but
+     * over the shared async client of the region.
+     */
+    public static ProxyClient<ComprehendAsyncClient> getAsyncProxyClient(final AmazonWebServicesClientProxy proxy,
+                                                                         final String region,
+                                                                         final HandlerMetrics metrics) {
+        return new RateLimitedProxyClient<>(new MetricsProxyClient<>(proxy.newProxy(() -> getAsyncClient(region)), metrics),
+                RateLimiter.shared());
+    }
+
+    /**
+     * Whether the read, list and update handlers hand their requests to their non-blocking variants on the async
+     * client. Off unless COMPREHEND_ASYNC_HANDLERS is set to true.
+     */
+    public static boolean useAsyncHandlers() {
+        return ASYNC_HANDLERS;
+    }
+
+    /** Read COMPREHEND_ASYNC_HANDLERS, which turns the non-blocking handlers on when set to true. */
+    static boolean asyncHandlers(final Function<String, String> environment) {
+        return Boolean.parseBoolean(StringUtils.trim(environment.apply(ASYNC_HANDLERS_ENV)));
+    }
+
+    /** Build a new client, bypassing the cache. */
+    static ComprehendClient buildClient(final ClientKey key, final HttpSettings httpSettings) {
+        final ComprehendClientBuilder builder = ComprehendClient.builder()
+                .httpClient(buildHttpClient(httpSettings));
+        return configure(builder, key, System::getenv).build();
+    }
+
+    /** Build the HTTP client of a sync client, which is the Apache client for every transport but url-connection. */
+    static SdkHttpClient buildHttpClient(final HttpSettings httpSettings) {
+        switch (httpSettings.getTransport()) {
+            case URL_CONNECTION:
+                return (SdkHttpClient) buildHttpClient(URL_CONNECTION_HTTP_CLIENT, httpSettings);
+            case APACHE:
+            case CRT:
+            default:
+                return ApacheHttpClient.builder()
+                        .maxConnections(httpSettings.getMaxConnections())
+                        .connectionTimeout(httpSettings.getConnectionTimeout())
+                        .socketTimeout(httpSettings.getSocketTimeout())
+                        .connectionMaxIdleTime(httpSettings.getConnectionMaxIdleTime())
+                        .build();
+        }
+    }
+
+    /** Build a new async client, bypassing the cache. */
+    static ComprehendAsyncClient buildAsyncClient(final ClientKey key, final HttpSettings httpSettings) {
+        final ComprehendAsyncClientBuilder builder = ComprehendAsyncClient.builder()
+                .httpClient(buildAsyncHttpClient(httpSettings));
+        return configure(builder, key, System::getenv).build();
+    }
+
+    /**
+     * Set everything the SDK would otherwise discover when the client is built: the region, falling back to that of the
+     * Lambda environment, the credentials and the profile file.
+     */
+    static <B extends AwsClientBuilder<B, ?>> B configure(final B builder,
+                                                         final ClientKey key,
+                                                         final Function<String, String> environment) {
+        final String region = key.getRegion() != null ? key.getRegion() : StringUtils.trimToNull(environment.apply(AWS_REGION_ENV));
+        if (region != null) {
+            builder.region(Region.of(region));
+        }
+        if (key.getEndpointOverride() != null) {
+            builder.endpointOverride(URI.create(key.getEndpointOverride()));
+        }
+        return builder
+                .credentialsProvider(PROXY_CREDENTIALS_ONLY)
+                .overrideConfiguration(configuration -> configuration.defaultProfileFile(NO_PROFILE_FILE));
+    }
+
+    /**
+     * Build an HTTP client from the builder of its class, applying the settings as SDK HTTP configuration options. The
+     * URLConnection and CRT clients are only on the classpath when the handler jar is built with the
+     * http-url-connection or http-crt profile.
+     */
+    static Object buildHttpClient(final String clientClassName, final HttpSettings httpSettings) {
+        final AttributeMap configuration = AttributeMap.builder()
+                .put(SdkHttpConfigurationOption.MAX_CONNECTIONS, httpSettings.getMaxConnections())
+                .put(SdkHttpConfigurationOption.CONNECTION_TIMEOUT, httpSettings.getConnectionTimeout())
+                .put(SdkHttpConfigurationOption.READ_TIMEOUT, httpSettings.getSocketTimeout())
+                .put(SdkHttpConfigurationOption.WRITE_TIMEOUT, httpSettings.getSocketTimeout())
+                .put(SdkHttpConfigurationOption.CONNECTION_MAX_IDLE_TIMEOUT, httpSettings.getConnectionMaxIdleTime())
+                .build();
+        final Object builder;
+        try {
+            builder = Class.forName(clientClassName).getMethod("builder").invoke(null);
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException(String.format("HTTP client %s is not on the classpath of the handler jar", clientClassName), e);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(String.format("HTTP client %s could not be built", clientClassName), e);
+        }
+        if (builder instanceof SdkAsyncHttpClient.Builder) {
+            return ((SdkAsyncHttpClient.Builder<?>) builder).buildWithDefaults(configuration);
+        }
+        return ((SdkHttpClient.Builder<?>) builder).buildWithDefaults(configuration);
+    }
+
+    /**
+     * Build the HTTP client of an async client, the CRT client for the crt transport and a Netty client otherwise. Netty
+     * is only in the handler jar when it is built with the async-handlers profile.
+     */
+    static SdkAsyncHttpClient buildAsyncHttpClient(final HttpSettings httpSettings) {
+        if (httpSettings.getTransport() == HttpTransport.CRT) {
+            return (SdkAsyncHttpClient) buildHttpClient(CRT_ASYNC_HTTP_CLIENT, httpSettings);
+        }
+        try {
+            Class.forName(NETTY_ASYNC_HTTP_CLIENT);
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException(String.format(
+                    "HTTP client %s is not on the classpath of the handler jar, build it with -Dasync.handlers=true", NETTY_ASYNC_HTTP_CLIENT), e);
+        }
+        return Netty.buildHttpClient(httpSettings);
+    }
+
+    /** Number of clients currently held. */
+    static int size() {
+        return CLIENTS.size();
+    }
+
+    /**
+     * Builder of the Netty clients, apart from ClientBuilder so that it loads without Netty on the classpath. The event
+     * loop group is created when the first Netty client is built.
+     */
+    private static final class Netty {
+        static final SdkEventLoopGroup GROUP = SdkEventLoopGroup.builder()
+                .numberOfThreads(HTTP_SETTINGS.getEventLoopThreads())
+                .build();
+
+        /**
+         * Build a Netty HTTP client on the shared event loop group. Responses are still handed to the SDK's completion
+         * executor, so work chained on a call never runs on an event loop thread.
+         */
+        static SdkAsyncHttpClient buildHttpClient(final HttpSettings httpSettings) {
+            return NettyNioAsyncHttpClient.builder()
+                    .eventLoopGroup(GROUP)
+                    .maxConcurrency(httpSettings.getMaxConcurrency())
+                    .connectionTimeout(httpSettings.getConnectionTimeout())
+                    .readTimeout(httpSettings.getSocketTimeout())
+                    .writeTimeout(httpSettings.getSocketTimeout())
+                    .connectionMaxIdleTime(httpSettings.getConnectionMaxIdleTime())
+                    .build();
+        }
+    }
+
+    /** HTTP client the shared clients make their calls with, from COMPREHEND_HTTP_CLIENT. */
+    enum HttpTransport {
+        // Apache client for the sync clients and Netty for the async clients, both always in the handler jars
+        APACHE,
+        // JDK HttpURLConnection: fewest classes to load, but no connection pool beyond the JDK keep-alive cache
+        URL_CONNECTION,
+        // AWS Common Runtime client for the async clients, native code loaded on first use. The SDK release the handlers
+        // build against has no sync CRT client, so the sync clients keep the Apache client
+        CRT;
+
+        /** Parse a transport such as url-connection, falling back to the default when unset or unknown. */
+        static HttpTransport from(final String value, final HttpTransport defaultValue) {
+            final String name = StringUtils.trimToNull(value);
+            if (name == null) {
+                return defaultValue;
+            }
+            try {
+                return valueOf(name.toUpperCase(Locale.ROOT).replace('-', '_'));
+            } catch (IllegalArgumentException e) {
+                return defaultValue;
+            }
+        }
+    }
+
+    @Getter
+    @ToString
+    @EqualsAndHashCode
+    static final class ClientKey {
+        private final String region;
+        private final String endpointOverride;
+
+        ClientKey(final String region, final String endpointOverride) {
+            this.region = StringUtils.trimToNull(region);
+            this.endpointOverride = StringUtils.trimToNull(endpointOverride);
+        }
+    }
+
+    /** Connection pool sizing for the shared HTTP clients, read from the environment with SDK-like defaults. */
+    @Getter
+    @ToString
+    static final class HttpSettings {
+        static final int DEFAULT_MAX_CONNECTIONS = 50;
+        static final Duration DEFAULT_CONNECTION_TIMEOUT = Duration.ofSeconds(2);
+        static final Duration DEFAULT_SOCKET_TIMEOUT = Duration.ofSeconds(30);
+        static final Duration DEFAULT_CONNECTION_MAX_IDLE_TIME = Duration.ofSeconds(60);
+        static final int DEFAULT_MAX_CONCURRENCY = 200;
+        static final int DEFAULT_EVENT_LOOP_THREADS = 2;
+        static final HttpTransport DEFAULT_TRANSPORT = HttpTransport.APACHE;
+
+        private final int maxConnections;
+        private final Duration connectionTimeout;
+        private final Duration socketTimeout;
+        private final Duration connectionMaxIdleTime;
+        // Calls an async client keeps in flight, and the event loop threads they share
+        private final int maxConcurrency;
+        private final int eventLoopThreads;
+        private final HttpTransport transport;
+
+        private HttpSettings(final int maxConnections,
+                             final Duration connectionTimeout,
+                             final Duration socketTimeout,
+                             final Duration connectionMaxIdleTime,
+                             final int maxConcurrency,
+                             final int eventLoopThreads,
+                             final HttpTransport transport) {
+            this.maxConnections = maxConnections;
+            this.connectionTimeout = connectionTimeout;
+            this.socketTimeout = socketTimeout;
+            this.connectionMaxIdleTime = connectionMaxIdleTime;
+            this.maxConcurrency = maxConcurrency;
+            this.eventLoopThreads = eventLoopThreads;
+            this.transport = transport;
+        }
+
+        static HttpSettings from(final Function<String, String> environment) {
+            return new HttpSettings(
+                    positiveLong(environment, MAX_CONNECTIONS_ENV, DEFAULT_MAX_CONNECTIONS).intValue(),
+                    Duration.ofMillis(positiveLong(environment, CONNECTION_TIMEOUT_MILLIS_ENV, DEFAULT_CONNECTION_TIMEOUT.toMillis())),
+                    Duration.ofMillis(positiveLong(environment, SOCKET_TIMEOUT_MILLIS_ENV, DEFAULT_SOCKET_TIMEOUT.toMillis())),
+                    Duration.ofMillis(positiveLong(environment, CONNECTION_MAX_IDLE_MILLIS_ENV, DEFAULT_CONNECTION_MAX_IDLE_TIME.toMillis())),
+                    positiveLong(environment, MAX_CONCURRENCY_ENV, DEFAULT_MAX_CONCURRENCY).intValue(),
+                    positiveLong(environment, EVENT_LOOP_THREADS_ENV, DEFAULT_EVENT_LOOP_THREADS).intValue(),
+                    HttpTransport.from(environment.apply(HTTP_CLIENT_ENV), DEFAULT_TRANSPORT));
+        }
+
+        /** Parse a positive number from the environment, falling back to the default when unset or invalid. */
+        private static Long positiveLong(final Function<String, String> environment, final String name, final long defaultValue) {
+            final String value = StringUtils.trimToNull(environment.apply(name));
+            if (value == null) {
+                return defaultValue;
+            }
+            try {
+                final long parsed = Long.parseLong(value);
+                return parsed > 0 ? parsed : defaultValue;
+            } catch (NumberFormatException e) {
+                return defaultValue;
+            }
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package software.amazon.comprehend.core;
+
+/**
+ * Parts of a Comprehend ARN, arn:{partition}:comprehend:{region}:{account}:{resourceType}/{name}[/version/{version}],
+ * located with a single forward scan of the string without regular expressions. Only the offsets of the separators
+ * are kept; each part is cut from the ARN when it is asked for.
+ *
+ * Parsing is lenient so that it never fails on a read: the name is whatever follows the first slash, up to
+ * "/version/", and is empty when the ARN has no slash. Parts the ARN does not have are null.
+ */
+public final class ComprehendArn {
+    private static final String VERSION_SEPARATOR = "/version/";
+    private static final int PREFIX_FIELDS = 5;
+
+    private final String arn;
+    // Offsets of the colons ending "arn", partition, service, region and account, -1 past the last one present
+    private final int[] colons;
+    private final int slash;
+    private final int version;
+
+    private ComprehendArn(final String arn, final int[] colons, final int slash, final int version) {
+        this.arn = arn;
+        this.colons = colons;
+        this.slash = slash;
+        this.version = version;
+    }
+
+    /**
+     * @param arn the ARN to parse
+     * @return the parts of the ARN, or null for a null ARN
+     */
+    public static ComprehendArn parse(final String arn) {
+        if (arn == null) {
+            return null;
+        }
+
+        final int slash = arn.indexOf('/');
+        final int resourceEnd = slash < 0 ? arn.length() : slash;
+        final int[] colons = {-1, -1, -1, -1, -1};
+        for (int field = 0, colon = arn.indexOf(':'); field < PREFIX_FIELDS && colon >= 0 && colon < resourceEnd; field++) {
+            colons[field] = colon;
+            colon = arn.indexOf(':', colon + 1);
+        }
+        final int version = slash < 0 ? -1 : arn.indexOf(VERSION_SEPARATOR, slash + 1);
+        return new ComprehendArn(arn, colons, slash, version);
+    }
+
+    /**
+     * The resource name of an ARN, as {@link #getResourceName()} returns it, without scanning for the other parts. This
+     * is what the handlers read on every describe, so it cuts the name with a single substring.
+     *
+     * @param arn the ARN to take the name from
+     * @return the resource name, or null for a null ARN
+     */
+    public static String resourceName(final String arn) {
+        if (arn == null) {
+            return null;
+        }
+
+        final int slash = arn.indexOf('/');
+        if (slash < 0) {
+            return "";
+        }
+        final int version = arn.indexOf(VERSION_SEPARATOR, slash + 1);
+        return arn.substring(slash + 1, version < 0 ? arn.length() : version);
+    }
+
+    public String getPartition() {
+        return field(1);
+    }
+
+    public String getService() {
+        return field(2);
+    }
+
+    public String getRegion() {
+        return field(3);
+    }
+
+    public String getAccountId() {
+        return field(4);
+    }
+
+    public String getResourceType() {
+        return colons[PREFIX_FIELDS - 1] < 0
+                ? null
+                : arn.substring(colons[PREFIX_FIELDS - 1] + 1, slash < 0 ? arn.length() : slash);
+    }
+
+    public String getResourceName() {
+        if (slash < 0) {
+            return "";
+        }
+        return arn.substring(slash + 1, version < 0 ? arn.length() : version);
+    }
+
+    public String getVersionName() {
+        return version < 0 ? null : arn.substring(version + VERSION_SEPARATOR.length());
+    }
+
+    @Override
+    public String toString() {
+        return arn;
+    }
+
+    private String field(final int index) {
+        return colons[index] < 0 ? null : arn.substring(colons[index - 1] + 1, colons[index]);
+    }
+}
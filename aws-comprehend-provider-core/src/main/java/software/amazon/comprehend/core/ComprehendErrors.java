@@ -0,0 +1,89 @@
+package software.amazon.comprehend.core;
+
+import software.amazon.awssdk.core.exception.ApiCallAttemptTimeoutException;
+import software.amazon.awssdk.core.exception.ApiCallTimeoutException;
+import software.amazon.awssdk.core.exception.RetryableException;
+import software.amazon.awssdk.services.comprehend.model.ComprehendException;
+import software.amazon.awssdk.services.comprehend.model.InternalServerException;
+import software.amazon.awssdk.services.comprehend.model.InvalidRequestException;
+import software.amazon.awssdk.services.comprehend.model.KmsKeyValidationException;
+import software.amazon.awssdk.services.comprehend.model.ResourceInUseException;
+import software.amazon.awssdk.services.comprehend.model.ResourceLimitExceededException;
+import software.amazon.awssdk.services.comprehend.model.ResourceNotFoundException;
+import software.amazon.awssdk.services.comprehend.model.TooManyTagsException;
+import software.amazon.awssdk.services.comprehend.model.UnsupportedLanguageException;
+import software.amazon.cloudformation.exceptions.BaseHandlerException;
+import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+import software.amazon.cloudformation.exceptions.CfnNetworkFailureException;
+import software.amazon.cloudformation.exceptions.CfnNotFoundException;
+import software.amazon.cloudformation.exceptions.CfnResourceConflictException;
+import software.amazon.cloudformation.exceptions.CfnServiceInternalErrorException;
+import software.amazon.cloudformation.exceptions.CfnThrottlingException;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+
+/**
+ * Mapping of the exceptions of Comprehend calls to the failures CloudFormation reports.
+ */
+public final class ComprehendErrors {
+
+    private ComprehendErrors() {
+    }
+
+    /**
+     * Map the exception of a call to a failed progress event. Timeouts and throttling are rethrown as a
+     * RetryableException instead, so the call is retried after the next backoff delay.
+     */
+    public static <ModelT, CallbackT> ProgressEvent<ModelT, CallbackT> handleError(final Exception exception) {
+        if (isTimeout(exception) || isThrottling(exception)) {
+            throw RetryableException.builder().cause(exception).build();
+        }
+        return failure(exception);
+    }
+
+    /**
+     * Map the exception of a call made outside the proxy's retry loop, as the non-blocking handlers make them, to a
+     * failed progress event. Nothing would retry a RetryableException there, so throttling fails with the Throttling
+     * error code and timeouts with NetworkFailure instead, which CloudFormation retries.
+     */
+    public static <ModelT, CallbackT> ProgressEvent<ModelT, CallbackT> handleErrorWithoutRetry(final Exception exception) {
+        final BaseHandlerException handlerException;
+        if (isThrottling(exception)) {
+            handlerException = new CfnThrottlingException(exception);
+        } else if (isTimeout(exception)) {
+            handlerException = new CfnNetworkFailureException(exception);
+        } else {
+            return failure(exception);
+        }
+        return ProgressEvent.defaultFailureHandler(handlerException, handlerException.getErrorCode());
+    }
+
+    private static boolean isTimeout(final Exception exception) {
+        return exception instanceof ApiCallAttemptTimeoutException || exception instanceof ApiCallTimeoutException;
+    }
+
+    private static boolean isThrottling(final Exception exception) {
+        return exception instanceof ComprehendException && ((ComprehendException) exception).isThrottlingException();
+    }
+
+    private static <ModelT, CallbackT> ProgressEvent<ModelT, CallbackT> failure(final Exception exception) {
+        final BaseHandlerException handlerException;
+        if (exception instanceof InvalidRequestException ||
+                exception instanceof KmsKeyValidationException ||
+                exception instanceof ResourceLimitExceededException ||
+                exception instanceof TooManyTagsException ||
+                exception instanceof UnsupportedLanguageException) {
+            handlerException = new CfnInvalidRequestException(exception);
+        } else if (exception instanceof ResourceNotFoundException) {
+            handlerException = new CfnNotFoundException(exception);
+        } else if (exception instanceof ResourceInUseException) {
+            handlerException = new CfnResourceConflictException(exception);
+        } else if (exception instanceof InternalServerException) {
+            handlerException = new CfnServiceInternalErrorException(exception);
+        } else {
+            handlerException = new CfnGeneralServiceException(exception);
+        }
+
+        return ProgressEvent.defaultFailureHandler(handlerException, handlerException.getErrorCode());
+    }
+}
@@ -0,0 +1,22 @@
+package software.amazon.comprehend.core;
+
+import java.util.Map;
+
+/**
+ * State the shared handler code keeps in the callback context of a resource type. The callback contexts of the
+ * providers implement it with their Lombok accessors, so the poll counts and stage traces are serialized along with the
+ * rest of the context.
+ */
+public interface HandlerContext {
+
+    /** Status polls made during stabilization, across callbacks. */
+    int getStatusPollCount();
+
+    /** Tag polls made during stabilization, across callbacks. */
+    int getTagPollCount();
+
+    /** Traces of the stages of the progress chain, by call graph name, in the order they first ran. */
+    Map<String, StageTrace> getStageTraces();
+
+    void setStageTraces(Map<String, StageTrace> stageTraces);
+}
@@ -0,0 +1,164 @@
+package software.amazon.comprehend.core;
+
+import org.apache.commons.lang3.StringUtils;
+import software.amazon.cloudformation.proxy.Logger;
+
+import java.util.Locale;
+import java.util.function.Function;
+
+/**
+ * Logger of the handlers over the RPDK Logger, with parameterized messages that are only built when their level is
+ * enabled, and a sampled mode for messages repeated on every stabilization poll. Messages use {} as placeholder for
+ * their arguments, which are formatted with String.valueOf. The level and sample rate are read from the environment.
+ *
+ * Messages with up to three arguments are written without allocating when their level is disabled, apart from boxing
+ * primitives outside of the cached range.
+ */
+public class HandlerLogger implements Logger {
+
+    static final String LEVEL_ENV = "COMPREHEND_HANDLER_LOG_LEVEL";
+    static final String SAMPLE_RATE_ENV = "COMPREHEND_HANDLER_LOG_SAMPLE_RATE";
+    static final Level DEFAULT_LEVEL = Level.INFO;
+    static final int DEFAULT_SAMPLE_RATE = 10;
+
+    private static final String PLACEHOLDER = "{}";
+    private static final Level LEVEL = level(System::getenv);
+    private static final int SAMPLE_RATE = sampleRate(System::getenv);
+
+    /** Levels of messages, from the most to the least verbose. */
+    public enum Level {
+        DEBUG,
+        INFO,
+        WARN
+    }
+
+    private final Logger delegate;
+    private final Level level;
+    private final int sampleRate;
+
+    public HandlerLogger(final Logger delegate) {
+        this(delegate, LEVEL, SAMPLE_RATE);
+    }
+
+    /**
+     * @param delegate   logger messages are written to
+     * @param level      least severe level written
+     * @param sampleRate a sampled message is written on its first occurrence and every sampleRate occurrences after
+     */
+    HandlerLogger(final Logger delegate, final Level level, final int sampleRate) {
+        this.delegate = delegate;
+        this.level = level;
+        this.sampleRate = sampleRate;
+    }
+
+    /**
+     * @return the logger itself if it is a HandlerLogger, or a HandlerLogger over it
+     */
+    public static HandlerLogger of(final Logger logger) {
+        return logger instanceof HandlerLogger ? (HandlerLogger) logger : new HandlerLogger(logger);
+    }
+
+    public boolean isEnabled(final Level messageLevel) {
+        return messageLevel.compareTo(level) >= 0;
+    }
+
+    /** Write a complete message, which is always written. */
+    @Override
+    public void log(final String message) {
+        delegate.log(message);
+    }
+
+    public void debug(final String pattern, final Object arg) {
+        log(Level.DEBUG, pattern, 1, arg, null, null);
+    }
+
+    public void debug(final String pattern, final Object arg1, final Object arg2) {
+        log(Level.DEBUG, pattern, 2, arg1, arg2, null);
+    }
+
+    public void info(final String pattern, final Object arg) {
+        log(Level.INFO, pattern, 1, arg, null, null);
+    }
+
+    public void info(final String pattern, final Object arg1, final Object arg2) {
+        log(Level.INFO, pattern, 2, arg1, arg2, null);
+    }
+
+    public void info(final String pattern, final Object arg1, final Object arg2, final Object arg3) {
+        log(Level.INFO, pattern, 3, arg1, arg2, arg3);
+    }
+
+    public void warn(final String pattern, final Object arg1, final Object arg2) {
+        log(Level.WARN, pattern, 2, arg1, arg2, null);
+    }
+
+    /**
+     * Write an info message repeated on every poll only on its first occurrence and every sampleRate occurrences
+     * after. The occurrence is counted by the caller, typically as a poll count kept in the callback context, so the
+     * sampling carries on across callbacks.
+     *
+     * @param occurrence number of times the message has occurred, starting from 0 or 1
+     */
+    public void sampled(final int occurrence, final String pattern, final Object arg1, final Object arg2) {
+        if (isSampled(occurrence)) {
+            log(Level.INFO, pattern, 2, arg1, arg2, null);
+        }
+    }
+
+    public void sampled(final int occurrence, final String pattern, final Object arg1, final Object arg2, final Object arg3) {
+        if (isSampled(occurrence)) {
+            log(Level.INFO, pattern, 3, arg1, arg2, arg3);
+        }
+    }
+
+    private boolean isSampled(final int occurrence) {
+        return occurrence <= 1 || occurrence % sampleRate == 0;
+    }
+
+    private void log(final Level messageLevel, final String pattern, final int argCount,
+                     final Object arg1, final Object arg2, final Object arg3) {
+        if (!isEnabled(messageLevel)) return;
+        delegate.log(format(pattern, argCount, arg1, arg2, arg3));
+    }
+
+    /**
+     * Substitute the arguments for the placeholders of the pattern, leaving placeholders without an argument as they
+     * are.
+     */
+    static String format(final String pattern, final int argCount, final Object arg1, final Object arg2, final Object arg3) {
+        final StringBuilder message = new StringBuilder(pattern.length() + 64);
+        int from = 0;
+        for (int arg = 0; arg < argCount; arg++) {
+            final int placeholder = pattern.indexOf(PLACEHOLDER, from);
+            if (placeholder < 0) break;
+            message.append(pattern, from, placeholder).append(arg == 0 ? arg1 : arg == 1 ? arg2 : arg3);
+            from = placeholder + PLACEHOLDER.length();
+        }
+        return message.append(pattern, from, pattern.length()).toString();
+    }
+
+    static Level level(final Function<String, String> environment) {
+        final String value = StringUtils.trimToNull(environment.apply(LEVEL_ENV));
+        if (value == null) {
+            return DEFAULT_LEVEL;
+        }
+        try {
+            return Level.valueOf(value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return DEFAULT_LEVEL;
+        }
+    }
+
+    static int sampleRate(final Function<String, String> environment) {
+        final String value = StringUtils.trimToNull(environment.apply(SAMPLE_RATE_ENV));
+        if (value == null) {
+            return DEFAULT_SAMPLE_RATE;
+        }
+        try {
+            final int parsed = Integer.parseInt(value);
+            return parsed > 0 ? parsed : DEFAULT_SAMPLE_RATE;
+        } catch (NumberFormatException e) {
+            return DEFAULT_SAMPLE_RATE;
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package software.amazon.comprehend.core;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.resource.Serializer;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Request-scoped metrics of the Comprehend calls made by a handler, written once per request as CloudWatch embedded
+ * metric format records through the handler's Logger, so they reach CloudWatch from the handler log without any calls
+ * of their own. There is one record for each operation called, with call, error, throttle and retry counts and a
+ * latency histogram, and one for the handler with the stabilization polls made during the request.
+ *
+ * A retry is a call made after a failed call of the same operation in the same request. Calls may be recorded from
+ * several threads, as reads and asynchronous handlers keep calls of one request in flight together.
+ */
+public class HandlerMetrics {
+
+    static final String NAMESPACE = "Comprehend/ResourceHandlers";
+    static final String RESOURCE_TYPE = "ResourceType";
+    static final String ACTION = "Action";
+    static final String OPERATION = "Operation";
+
+    private static final Serializer SERIALIZER = new Serializer();
+
+    private final String resourceType;
+    private final String action;
+    private final Clock clock;
+    private final int initialStatusPollCount;
+    private final int initialTagPollCount;
+    private final Map<String, OperationMetrics> operations = new LinkedHashMap<>();
+
+    /**
+     * @param resourceType    type of the resource handled
+     * @param action          handler action, such as Create
+     * @param callbackContext context the request started with, from which the polls made during it are counted
+     */
+    public HandlerMetrics(final String resourceType, final String action, final HandlerContext callbackContext) {
+        this(resourceType, action, callbackContext, Clock.systemUTC());
+    }
+
+    HandlerMetrics(final String resourceType, final String action, final HandlerContext callbackContext, final Clock clock) {
+        this.resourceType = resourceType;
+        this.action = action;
+        this.clock = clock;
+        this.initialStatusPollCount = callbackContext.getStatusPollCount();
+        this.initialTagPollCount = callbackContext.getTagPollCount();
+    }
+
+    /**
+     * Record a call of an operation.
+     *
+     * @param operation  name of the operation, such as DescribeDocumentClassifier
+     * @param latency    time the call took
+     * @param throttled  whether the call was throttled
+     * @param failed     whether the call failed, throttled or not
+     */
+    public synchronized void recordCall(final String operation, final Duration latency, final boolean throttled, final boolean failed) {
+        operations.computeIfAbsent(operation, name -> new OperationMetrics()).record(latency.toMillis(), throttled, failed);
+    }
+
+    /**
+     * Write the metrics of the request through the logger.
+     *
+     * @param logger          logger of the handler
+     * @param callbackContext context the request ends with
+     */
+    public synchronized void flush(final Logger logger, final HandlerContext callbackContext) {
+        final long timestamp = clock.millis();
+        int calls = 0;
+        for (final Map.Entry<String, OperationMetrics> operation : operations.entrySet()) {
+            final OperationMetrics metrics = operation.getValue();
+            calls += metrics.calls;
+
+            final Map<String, Object> record = record(timestamp, Arrays.asList(RESOURCE_TYPE, ACTION, OPERATION),
+                    Arrays.asList(metric("Calls", "Count"), metric("Errors", "Count"), metric("Throttles", "Count"),
+                            metric("Retries", "Count"), metric("Latency", "Milliseconds")));
+            record.put(OPERATION, operation.getKey());
+            record.put("Calls", metrics.calls);
+            record.put("Errors", metrics.errors);
+            record.put("Throttles", metrics.throttles);
+            record.put("Retries", metrics.retries);
+            record.put("Latency", metrics.latencyHistogram());
+            log(logger, record);
+        }
+
+        final Map<String, Object> record = record(timestamp, Arrays.asList(RESOURCE_TYPE, ACTION),
+                Arrays.asList(metric("Calls", "Count"), metric("StatusPolls", "Count"), metric("TagPolls", "Count")));
+        record.put("Calls", calls);
+        record.put("StatusPolls", callbackContext.getStatusPollCount() - initialStatusPollCount);
+        record.put("TagPolls", callbackContext.getTagPollCount() - initialTagPollCount);
+        log(logger, record);
+    }
+
+    private Map<String, Object> record(final long timestamp, final List<String> dimensions, final List<Map<String, String>> metrics) {
+        final Map<String, Object> directive = new LinkedHashMap<>();
+        directive.put("Namespace", NAMESPACE);
+        directive.put("Dimensions", Collections.singletonList(dimensions));
+        directive.put("Metrics", metrics);
+
+        final Map<String, Object> metadata = new LinkedHashMap<>();
+        metadata.put("Timestamp", timestamp);
+        metadata.put("CloudWatchMetrics", Collections.singletonList(directive));
+
+        final Map<String, Object> record = new LinkedHashMap<>();
+        record.put("_aws", metadata);
+        record.put(RESOURCE_TYPE, resourceType);
+        record.put(ACTION, action);
+        return record;
+    }
+
+    private static Map<String, String> metric(final String name, final String unit) {
+        final Map<String, String> metric = new LinkedHashMap<>();
+        metric.put("Name", name);
+        metric.put("Unit", unit);
+        return metric;
+    }
+
+    private static void log(final Logger logger, final Map<String, Object> record) {
+        try {
+            logger.log(SERIALIZER.serialize(record));
+        } catch (final JsonProcessingException e) {
+            // Metrics are best effort and never fail the request
+            logger.log(String.format("Failed to write %s metrics: %s", record.get(OPERATION), e.getMessage()));
+        }
+    }
+
+    private static final class OperationMetrics {
+        private int calls;
+        private int errors;
+        private int throttles;
+        private int retries;
+        private boolean lastCallFailed;
+        // Number of calls for each latency in milliseconds
+        private final TreeMap<Long, Integer> latencies = new TreeMap<>();
+
+        private void record(final long latencyMillis, final boolean throttled, final boolean failed) {
+            calls++;
+            if (lastCallFailed) retries++;
+            if (failed) errors++;
+            if (throttled) throttles++;
+            lastCallFailed = failed;
+            latencies.merge(latencyMillis, 1, Integer::sum);
+        }
+
+        /**
+         * Latencies as an embedded metric format histogram of distinct values and their counts.
+         */
+        private Map<String, Object> latencyHistogram() {
+            long sum = 0;
+            final List<Long> values = new ArrayList<>(latencies.size());
+            final List<Integer> counts = new ArrayList<>(latencies.size());
+            for (final Map.Entry<Long, Integer> latency : latencies.entrySet()) {
+                values.add(latency.getKey());
+                counts.add(latency.getValue());
+                sum += latency.getKey() * latency.getValue();
+            }
+
+            final Map<String, Object> histogram = new LinkedHashMap<>();
+            histogram.put("Values", values);
+            histogram.put("Counts", counts);
+            histogram.put("Min", latencies.firstKey());
+            histogram.put("Max", latencies.lastKey());
+            histogram.put("Sum", sum);
+            histogram.put("Count", calls);
+            return histogram;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package software.amazon.comprehend.core;
+
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.awscore.AwsResponse;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * ProxyClient that records the latency and outcome of every call in the handler metrics.
+ */
+public class MetricsProxyClient<ClientT> implements ProxyClient<ClientT> {
+
+    private static final String REQUEST_SUFFIX = "Request";
+
+    private final ProxyClient<ClientT> delegate;
+    private final HandlerMetrics metrics;
+    private final LongSupplier ticker;
+
+    public MetricsProxyClient(final ProxyClient<ClientT> delegate, final HandlerMetrics metrics) {
+        this(delegate, metrics, System::nanoTime);
+    }
+
+    /**
+     * @param ticker source of nanosecond timestamps
+     */
+    MetricsProxyClient(final ProxyClient<ClientT> delegate, final HandlerMetrics metrics, final LongSupplier ticker) {
+        this.delegate = delegate;
+        this.metrics = metrics;
+        this.ticker = ticker;
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseT injectCredentialsAndInvokeV2(
+            final RequestT request,
+            final Function<RequestT, ResponseT> requestFunction) {
+        final String operation = operation(request);
+        final long start = ticker.getAsLong();
+        try {
+            final ResponseT response = delegate.injectCredentialsAndInvokeV2(request, requestFunction);
+            record(operation, start, null);
+            return response;
+        } catch (final RuntimeException e) {
+            record(operation, start, e);
+            throw e;
+        }
+    }
+
+    /**
+     * Records an asynchronous call when its future completes, so the latency covers the whole call rather than its
+     * dispatch.
+     */
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse> CompletableFuture<ResponseT> injectCredentialsAndInvokeV2Async(
+            final RequestT request,
+            final Function<RequestT, CompletableFuture<ResponseT>> requestFunction) {
+        final String operation = operation(request);
+        final long start = ticker.getAsLong();
+        final CompletableFuture<ResponseT> future;
+        try {
+            future = delegate.injectCredentialsAndInvokeV2Async(request, requestFunction);
+        } catch (final RuntimeException e) {
+            record(operation, start, e);
+            throw e;
+        }
+        return future.whenComplete((response, exception) ->
+                record(operation, start, exception == null ? null : CompletableFutures.unwrap(exception)));
+    }
+
+    @Override
+    public ClientT client() {
+        return delegate.client();
+    }
+
+    private void record(final String operation, final long start, final Throwable failure) {
+        final boolean throttled = failure instanceof AwsServiceException && ((AwsServiceException) failure).isThrottlingException();
+        metrics.recordCall(operation, Duration.ofNanos(ticker.getAsLong() - start), throttled, failure != null);
+    }
+
+    /** Operation name of a request, such as DescribeDocumentClassifier for a DescribeDocumentClassifierRequest. */
+    static String operation(final AwsRequest request) {
+        final String name = request.getClass().getSimpleName();
+        return name.endsWith(REQUEST_SUFFIX) ? name.substring(0, name.length() - REQUEST_SUFFIX.length()) : name;
+    }
+}
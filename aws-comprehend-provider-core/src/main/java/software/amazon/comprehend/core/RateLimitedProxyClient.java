@@ -0,0 +1,68 @@
+package software.amazon.comprehend.core;
+
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.awscore.AwsResponse;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * ProxyClient that takes a token from the rate limiter before every call and reports throttled and successful calls
+ * back to it.
+ */
+public class RateLimitedProxyClient<ClientT> implements ProxyClient<ClientT> {
+
+    private final ProxyClient<ClientT> delegate;
+    private final RateLimiter rateLimiter;
+
+    public RateLimitedProxyClient(final ProxyClient<ClientT> delegate, final RateLimiter rateLimiter) {
+        this.delegate = delegate;
+        this.rateLimiter = rateLimiter;
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseT injectCredentialsAndInvokeV2(
+            final RequestT request,
+            final Function<RequestT, ResponseT> requestFunction) {
+        final RateLimiter.Api api = RateLimiter.Api.of(request);
+        rateLimiter.acquire(api);
+        try {
+            final ResponseT response = delegate.injectCredentialsAndInvokeV2(request, requestFunction);
+            rateLimiter.onSuccess(api);
+            return response;
+        } catch (final AwsServiceException e) {
+            if (e.isThrottlingException()) {
+                rateLimiter.onThrottle(api);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Dispatches the call once its token is available without blocking the calling thread, on the rate limiter's
+     * timer thread when the call has to wait, and reports the outcome when its future completes.
+     */
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse> CompletableFuture<ResponseT> injectCredentialsAndInvokeV2Async(
+            final RequestT request,
+            final Function<RequestT, CompletableFuture<ResponseT>> requestFunction) {
+        final RateLimiter.Api api = RateLimiter.Api.of(request);
+        return rateLimiter.acquireAsync(api)
+                .thenCompose(token -> delegate.injectCredentialsAndInvokeV2Async(request, requestFunction))
+                .whenComplete((response, exception) -> {
+                    final Throwable failure = exception == null ? null : CompletableFutures.unwrap(exception);
+                    if (failure == null) {
+                        rateLimiter.onSuccess(api);
+                    } else if (failure instanceof AwsServiceException && ((AwsServiceException) failure).isThrottlingException()) {
+                        rateLimiter.onThrottle(api);
+                    }
+                });
+    }
+
+    @Override
+    public ClientT client() {
+        return delegate.client();
+    }
+}
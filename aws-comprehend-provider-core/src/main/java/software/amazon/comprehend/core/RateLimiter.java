@@ -0,0 +1,212 @@
+package software.amazon.comprehend.core;
+
+import com.google.common.util.concurrent.Uninterruptibles;
+import org.apache.commons.lang3.StringUtils;
+import software.amazon.awssdk.awscore.AwsRequest;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * Process-wide client-side rate limiter for Comprehend control plane calls, with one token bucket per kind of API.
+ * Each bucket halves its rate when the service throttles a call and adds back a tenth of the configured rate after a
+ * run of successful calls, so concurrent handlers in the same process settle below the service limits instead of
+ * retrying into them. Throttles within a second of a decrease belong to calls made at the old rate and are ignored.
+ */
+public class RateLimiter {
+
+    static final String RATE_ENV_PREFIX = "COMPREHEND_RATE_LIMIT_";
+    static final int SUCCESSES_BEFORE_INCREASE = 20;
+    static final double DECREASE_FACTOR = 0.5;
+    static final double INCREASE_FRACTION = 0.1;
+    static final double MIN_RATE_FRACTION = 0.1;
+    static final Duration DECREASE_COOLDOWN = Duration.ofSeconds(1);
+
+    private static final RateLimiter SHARED = new RateLimiter(rates(System::getenv), System::nanoTime,
+            duration -> Uninterruptibles.sleepUninterruptibly(duration.toNanos(), TimeUnit.NANOSECONDS));
+
+    /** Kinds of control plane API, each limited by its own bucket. */
+    public enum Api {
+        DESCRIBE(10),
+        LIST(10),
+        TAG(10),
+        // Create and every other call that changes a resource
+        WRITE(5);
+
+        private final double defaultRate;
+
+        Api(final double defaultRate) {
+            this.defaultRate = defaultRate;
+        }
+
+        /** Classify a request by its operation name. */
+        public static Api of(final AwsRequest request) {
+            final String operation = request.getClass().getSimpleName();
+            if (operation.startsWith("Describe")) {
+                return DESCRIBE;
+            } else if (operation.startsWith("List")) {
+                return LIST;
+            } else if (operation.equals("TagResourceRequest") || operation.equals("UntagResourceRequest")) {
+                return TAG;
+            }
+            return WRITE;
+        }
+    }
+
+    private final Map<Api, TokenBucket> buckets = new EnumMap<>(Api.class);
+    private final CallbackStabilizer.Sleeper sleeper;
+
+    /**
+     * @param rates    calls per second allowed for each kind of API
+     * @param ticker   source of nanosecond timestamps
+     * @param sleeper  how waits for a token are performed
+     */
+    RateLimiter(final Map<Api, Double> rates, final LongSupplier ticker, final CallbackStabilizer.Sleeper sleeper) {
+        for (final Api api : Api.values()) {
+            buckets.put(api, new TokenBucket(rates.get(api), ticker));
+        }
+        this.sleeper = sleeper;
+    }
+
+    /** The limiter shared by all handlers in this process, with rates read from the environment. */
+    public static RateLimiter shared() {
+        return SHARED;
+    }
+
+    /** Take a token for the API, waiting until one is available. */
+    public void acquire(final Api api) {
+        final Duration wait = buckets.get(api).reserve();
+        if (!wait.isZero()) {
+            sleeper.sleep(wait);
+        }
+    }
+
+    /**
+     * Take a token for the API without blocking the caller. The future is already complete when a token is available,
+     * and otherwise completes on the limiter's timer thread once the reserved token is due.
+     */
+    public CompletableFuture<Void> acquireAsync(final Api api) {
+        final Duration wait = buckets.get(api).reserve();
+        if (wait.isZero()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        final CompletableFuture<Void> token = new CompletableFuture<>();
+        Timer.EXECUTOR.schedule(() -> token.complete(null), wait.toNanos(), TimeUnit.NANOSECONDS);
+        return token;
+    }
+
+    /** Record that a call to the API was throttled. */
+    public void onThrottle(final Api api) {
+        buckets.get(api).decrease();
+    }
+
+    /** Record that a call to the API succeeded. */
+    public void onSuccess(final Api api) {
+        buckets.get(api).recordSuccess();
+    }
+
+    /** Current rate of the API in calls per second. */
+    double getRate(final Api api) {
+        return buckets.get(api).getRate();
+    }
+
+    /** Read the rate of each API from COMPREHEND_RATE_LIMIT_{API}_TPS, falling back to the default when unset or invalid. */
+    static Map<Api, Double> rates(final Function<String, String> environment) {
+        final Map<Api, Double> rates = new EnumMap<>(Api.class);
+        for (final Api api : Api.values()) {
+            final String value = StringUtils.trimToNull(environment.apply(RATE_ENV_PREFIX + api.name() + "_TPS"));
+            double rate = api.defaultRate;
+            if (value != null) {
+                try {
+                    final double parsed = Double.parseDouble(value);
+                    rate = parsed > 0 && !Double.isInfinite(parsed) ? parsed : api.defaultRate;
+                } catch (NumberFormatException e) {
+                    rate = api.defaultRate;
+                }
+            }
+            rates.put(api, rate);
+        }
+        return rates;
+    }
+
+    /** Holder so the timer thread is only started by the first call that has to wait for a token asynchronously. */
+    private static final class Timer {
+        static final ScheduledExecutorService EXECUTOR = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "comprehend-rate-limiter");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Token bucket holding up to one second of calls. Tokens may go negative, which reserves future tokens for waiting
+     * callers in the order they arrived.
+     */
+    static final class TokenBucket {
+        private final double maxRate;
+        private final double minRate;
+        private final LongSupplier ticker;
+
+        private double rate;
+        private double tokens;
+        private long lastRefill;
+        private int successes;
+        private Long lastDecrease;
+
+        TokenBucket(final double rate, final LongSupplier ticker) {
+            this.maxRate = rate;
+            this.minRate = rate * MIN_RATE_FRACTION;
+            this.ticker = ticker;
+            this.rate = rate;
+            this.tokens = capacity();
+            this.lastRefill = ticker.getAsLong();
+        }
+
+        synchronized Duration reserve() {
+            refill();
+            tokens -= 1;
+            return tokens >= 0 ? Duration.ZERO : Duration.ofNanos((long) Math.ceil(-tokens / rate * TimeUnit.SECONDS.toNanos(1)));
+        }
+
+        synchronized void decrease() {
+            refill();
+            if (lastDecrease != null && lastRefill - lastDecrease < DECREASE_COOLDOWN.toNanos()) {
+                return;
+            }
+            lastDecrease = lastRefill;
+            rate = Math.max(minRate, rate * DECREASE_FACTOR);
+            // Drop any burst so the next calls are spread out at the lowered rate
+            tokens = Math.min(tokens, 0);
+            successes = 0;
+        }
+
+        synchronized void recordSuccess() {
+            if (++successes >= SUCCESSES_BEFORE_INCREASE) {
+                refill();
+                rate = Math.min(maxRate, rate + maxRate * INCREASE_FRACTION);
+                successes = 0;
+            }
+        }
+
+        synchronized double getRate() {
+            return rate;
+        }
+
+        private double capacity() {
+            return Math.max(1, rate);
+        }
+
+        private void refill() {
+            final long now = ticker.getAsLong();
+            tokens = Math.min(capacity(), tokens + (now - lastRefill) * rate / TimeUnit.SECONDS.toNanos(1));
+            lastRefill = now;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package software.amazon.comprehend.core;
+
+import software.amazon.awssdk.awscore.AwsResponse;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Request-scoped cache of service responses keyed by resource arn and response type, so that the trailing read of a
+ * handler can reuse what stabilization has just fetched instead of calling the service again.
+ */
+public class ResponseCache {
+
+    static final Duration MAX_AGE = Duration.ofSeconds(60);
+
+    private final Clock clock;
+    private final Duration maxAge;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    public ResponseCache() {
+        this(Clock.systemUTC(), MAX_AGE);
+    }
+
+    ResponseCache(final Clock clock, final Duration maxAge) {
+        this.clock = clock;
+        this.maxAge = maxAge;
+    }
+
+    /**
+     * Store the latest response of its type for a resource.
+     */
+    public <T extends AwsResponse> T put(final String arn, final T response) {
+        if (arn != null && response != null) {
+            entries.put(key(arn, response.getClass()), new Entry(response, clock.instant()));
+        }
+        return response;
+    }
+
+    /**
+     * Get the stored response of a type for a resource if it was stored no longer than the max age ago.
+     */
+    public <T extends AwsResponse> Optional<T> getIfFresh(final String arn, final Class<T> responseType) {
+        if (arn == null) {
+            return Optional.empty();
+        }
+        final Entry entry = entries.get(key(arn, responseType));
+        if (entry == null || entry.storedAt.plus(maxAge).isBefore(clock.instant())) {
+            return Optional.empty();
+        }
+        return Optional.of(responseType.cast(entry.response));
+    }
+
+    /**
+     * Drop the stored response of a type for a resource, once a change has made it outdated.
+     */
+    public void invalidate(final String arn, final Class<? extends AwsResponse> responseType) {
+        if (arn != null) {
+            entries.remove(key(arn, responseType));
+        }
+    }
+
+    private static String key(final String arn, final Class<?> responseType) {
+        return responseType.getName() + "|" + arn;
+    }
+
+    private static final class Entry {
+        private final AwsResponse response;
+        private final Instant storedAt;
+
+        private Entry(final AwsResponse response, final Instant storedAt) {
+            this.response = response;
+            this.storedAt = storedAt;
+        }
+    }
+}
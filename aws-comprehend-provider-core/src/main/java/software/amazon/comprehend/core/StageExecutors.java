@@ -0,0 +1,79 @@
+package software.amazon.comprehend.core;
+
+import software.amazon.awssdk.utils.StringUtils;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Executors for the independent stages a handler runs concurrently, such as the calls of a read fan-out.
+ *
+ * The handler jars are multi-release: on a Java 21+ runtime every stage runs on its own virtual thread, so blocking
+ * calls cost no platform thread and there is no pool to size. On older runtimes stages fall back to a bounded pool of
+ * daemon threads, sized by COMPREHEND_STAGE_THREADS.
+ */
+public final class StageExecutors {
+
+    static final String STAGE_THREADS_ENV = "COMPREHEND_STAGE_THREADS";
+    static final int DEFAULT_STAGE_THREADS = 16;
+
+    private StageExecutors() {
+    }
+
+    /** The executor shared by all handlers of the JVM. */
+    public static ExecutorService shared() {
+        return Shared.EXECUTOR;
+    }
+
+    /** Whether the executors of this runtime run every stage on its own virtual thread. */
+    public static boolean isVirtual() {
+        return StageThreads.isVirtual();
+    }
+
+    /**
+     * New executor of the runtime: a virtual thread per stage on Java 21+, a bounded pool of {@code maxThreads}
+     * otherwise.
+     */
+    public static ExecutorService newExecutor(final int maxThreads) {
+        return StageThreads.newExecutor(maxThreads);
+    }
+
+    /** New pool of {@code threads} platform daemon threads, whatever the runtime. */
+    public static ExecutorService newBoundedExecutor(final int threads) {
+        return Executors.newFixedThreadPool(threads, new DaemonThreadFactory());
+    }
+
+    /** Parse the stage thread count from the environment, falling back to the default when unset or invalid. */
+    static int stageThreads(final Function<String, String> environment) {
+        final String value = StringUtils.trimToNull(environment.apply(STAGE_THREADS_ENV));
+        if (value == null) {
+            return DEFAULT_STAGE_THREADS;
+        }
+        try {
+            final int parsed = Integer.parseInt(value);
+            return parsed > 0 ? parsed : DEFAULT_STAGE_THREADS;
+        } catch (NumberFormatException e) {
+            return DEFAULT_STAGE_THREADS;
+        }
+    }
+
+    /** Names the threads of a bounded pool; daemons so they never keep the JVM alive. */
+    private static final class DaemonThreadFactory implements ThreadFactory {
+        private final AtomicInteger threadCount = new AtomicInteger();
+
+        @Override
+        public Thread newThread(final Runnable runnable) {
+            final Thread thread = new Thread(runnable, "comprehend-stage-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+
+    /** Holder so the shared executor is only created by the first handler running stages concurrently. */
+    private static final class Shared {
+        static final ExecutorService EXECUTOR = newExecutor(stageThreads(System::getenv));
+    }
+}
@@ -0,0 +1,22 @@
+package software.amazon.comprehend.core;
+
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Executor of the runtime for Java 8 to 20, which have no virtual threads. Java 21+ runtimes load the version of this
+ * class under META-INF/versions/21 instead.
+ */
+final class StageThreads {
+
+    private StageThreads() {
+    }
+
+    // A method rather than a constant, which javac would inline into the callers compiled against the Java 8 version
+    static boolean isVirtual() {
+        return false;
+    }
+
+    static ExecutorService newExecutor(final int maxThreads) {
+        return StageExecutors.newBoundedExecutor(maxThreads);
+    }
+}
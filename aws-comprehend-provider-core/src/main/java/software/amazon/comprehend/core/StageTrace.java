@@ -0,0 +1,39 @@
+package software.amazon.comprehend.core;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * Trace of a stage of a progress chain across the invocations of a handler, kept in the callback context under the
+ * call graph name of the stage.
+ */
+@Getter
+@Setter
+@ToString
+@EqualsAndHashCode
+@AllArgsConstructor
+@NoArgsConstructor
+public class StageTrace {
+
+    /** Outcome of the last attempt of a stage. */
+    public enum Outcome {
+        // The stage completed and the chain carried on
+        DONE,
+        // The stage handed a wait back to CloudFormation and is attempted again when the handler is called back
+        WAITING,
+        // The stage failed or threw
+        FAILED
+    }
+
+    // Epoch milliseconds at which the first attempt started and the last attempt ended
+    private long start;
+    private long end;
+    // Runs of the stage and the time spent in them, excluding the waits handed back to CloudFormation
+    private int attempts;
+    private long activeMillis;
+    private Outcome outcome;
+}
@@ -0,0 +1,136 @@
+package software.amazon.comprehend.core;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.resource.Serializer;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * Traces the stages of a handler's progress chain, keyed by their call graph names. The first start, last end, number
+ * of attempts, active time and outcome of each stage are kept in the callback context, so a stage that waits for
+ * stabilization across several callbacks is traced as a whole. Once the operation completes, the stages are written
+ * through the handler's Logger as a single timeline record. The context holds a single entry per call graph name, so
+ * the traces stay as small as the fixed set of stages of the handler, however often the handler is called back.
+ *
+ * A stage that runs again within an invocation is merged into its entry. A stage that completed in an earlier
+ * invocation is not traced again when the chain is replayed on a callback. A tracer is meant for a single invocation.
+ */
+public class StageTracer {
+
+    private static final Serializer SERIALIZER = new Serializer();
+
+    private final Clock clock;
+    // Stages run during this invocation, which are merged rather than taken for a replay when they run again
+    private final Set<String> stagesRun = new HashSet<>();
+
+    public StageTracer() {
+        this(Clock.systemUTC());
+    }
+
+    StageTracer(final Clock clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * Run a stage of the progress chain and record it in the callback context. Exceptions thrown by the stage are
+     * recorded as a failure and rethrown.
+     *
+     * @param stage           call graph name of the stage
+     * @param callbackContext context the trace is kept in
+     * @param body            the stage
+     */
+    public <ModelT, CallbackT extends HandlerContext> ProgressEvent<ModelT, CallbackT> trace(
+            final String stage,
+            final CallbackT callbackContext,
+            final Supplier<ProgressEvent<ModelT, CallbackT>> body) {
+        if (callbackContext.getStageTraces() == null) {
+            callbackContext.setStageTraces(new LinkedHashMap<>());
+        }
+        StageTrace trace = callbackContext.getStageTraces().get(stage);
+        if (trace != null && trace.getOutcome() == StageTrace.Outcome.DONE && !stagesRun.contains(stage)) return body.get();
+        stagesRun.add(stage);
+
+        final long start = clock.millis();
+        if (trace == null) {
+            trace = new StageTrace();
+            trace.setStart(start);
+            callbackContext.getStageTraces().put(stage, trace);
+        }
+
+        final ProgressEvent<ModelT, CallbackT> event;
+        try {
+            event = body.get();
+        } catch (final RuntimeException e) {
+            finish(trace, start, StageTrace.Outcome.FAILED);
+            throw e;
+        }
+        finish(trace, start, outcome(event));
+        return event;
+    }
+
+    /**
+     * Write the timeline of the traced stages through the logger, with the offset of each stage from the start of
+     * the first one. Nothing is written when no stage was traced.
+     *
+     * @param logger          logger of the handler
+     * @param resourceType    type of the resource handled
+     * @param action          handler action, such as Create
+     * @param callbackContext context the operation ends with
+     */
+    public void logTimeline(final Logger logger, final String resourceType, final String action, final HandlerContext callbackContext) {
+        final Map<String, StageTrace> traces = callbackContext.getStageTraces();
+        if (traces == null || traces.isEmpty()) return;
+
+        long origin = Long.MAX_VALUE;
+        for (final StageTrace trace : traces.values()) {
+            origin = Math.min(origin, trace.getStart());
+        }
+
+        final List<Map<String, Object>> stages = new ArrayList<>(traces.size());
+        for (final Map.Entry<String, StageTrace> entry : traces.entrySet()) {
+            final StageTrace trace = entry.getValue();
+            final Map<String, Object> stage = new LinkedHashMap<>();
+            stage.put("Stage", entry.getKey());
+            stage.put("StartOffsetMillis", trace.getStart() - origin);
+            stage.put("DurationMillis", trace.getEnd() - trace.getStart());
+            stage.put("ActiveMillis", trace.getActiveMillis());
+            stage.put("Attempts", trace.getAttempts());
+            stage.put("Outcome", trace.getOutcome());
+            stages.add(stage);
+        }
+
+        final Map<String, Object> record = new LinkedHashMap<>();
+        record.put("ResourceType", resourceType);
+        record.put("Action", action);
+        record.put("Timeline", stages);
+        try {
+            logger.log(SERIALIZER.serialize(record));
+        } catch (final JsonProcessingException e) {
+            // Tracing is best effort and never fails the request
+            logger.log(String.format("Failed to write %s timeline: %s", action, e.getMessage()));
+        }
+    }
+
+    private void finish(final StageTrace trace, final long start, final StageTrace.Outcome outcome) {
+        final long end = clock.millis();
+        trace.setEnd(end);
+        trace.setAttempts(trace.getAttempts() + 1);
+        trace.setActiveMillis(trace.getActiveMillis() + end - start);
+        trace.setOutcome(outcome);
+    }
+
+    private static StageTrace.Outcome outcome(final ProgressEvent<?, ?> event) {
+        if (event.isFailed()) return StageTrace.Outcome.FAILED;
+        if (event.isInProgressCallbackDelay()) return StageTrace.Outcome.WAITING;
+        return StageTrace.Outcome.DONE;
+    }
+}
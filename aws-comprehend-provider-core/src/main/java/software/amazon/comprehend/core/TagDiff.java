@@ -0,0 +1,132 @@
+package software.amazon.comprehend.core;
+
+import software.amazon.awssdk.services.comprehend.model.Tag;
+import software.amazon.awssdk.services.comprehend.model.TagResourceRequest;
+import software.amazon.awssdk.services.comprehend.model.UntagResourceRequest;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Difference between the tags attached to a resource and the tags it should have: the tags to add, which include the
+ * tags whose value changes, and the keys of the tags to remove. Tags whose value changes are overwritten by tagging,
+ * so their keys are not removed.
+ *
+ * The current tags are indexed by key once, and a single pass over the desired tags takes each matched key out of the
+ * index, so the keys left in it are the ones to remove. The diff then gives both the TagResource and UntagResource
+ * requests and the sets kept in the callback context, without diffing again.
+ */
+public final class TagDiff {
+
+    private static final TagDiff EMPTY = new TagDiff(Collections.emptySet(), Collections.emptySet(), 0);
+
+    private final Set<Tag> tagsToAdd;
+    private final Set<String> tagKeysToRemove;
+    private final int valueChanges;
+
+    private TagDiff(final Set<Tag> tagsToAdd, final Set<String> tagKeysToRemove, final int valueChanges) {
+        this.tagsToAdd = tagsToAdd;
+        this.tagKeysToRemove = tagKeysToRemove;
+        this.valueChanges = valueChanges;
+    }
+
+    /**
+     * Computes the difference between the current and the desired tags of a resource. A null collection is taken as
+     * no tags.
+     *
+     * @param currentTags tags attached to the resource
+     * @param desiredTags tags the resource should have, with unique keys
+     * @return diff that makes the current tags the desired tags
+     */
+    public static TagDiff between(final Collection<Tag> currentTags, final Collection<Tag> desiredTags) {
+        final boolean noCurrentTags = currentTags == null || currentTags.isEmpty();
+        final boolean noDesiredTags = desiredTags == null || desiredTags.isEmpty();
+        if (noCurrentTags && noDesiredTags) {
+            return EMPTY;
+        }
+        if (noCurrentTags) {
+            return new TagDiff(new HashSet<>(desiredTags), Collections.emptySet(), 0);
+        }
+
+        final Map<String, String> unmatchedTags = new HashMap<>(capacity(currentTags.size()));
+        for (final Tag tag : currentTags) {
+            unmatchedTags.put(tag.key(), tag.value());
+        }
+        if (noDesiredTags) {
+            return new TagDiff(Collections.emptySet(), unmatchedTags.keySet(), 0);
+        }
+
+        final Set<Tag> tagsToAdd = new HashSet<>();
+        int valueChanges = 0;
+        for (final Tag tag : desiredTags) {
+            final boolean current = unmatchedTags.containsKey(tag.key());
+            final String currentValue = unmatchedTags.remove(tag.key());
+            if (!current) {
+                tagsToAdd.add(tag);
+            } else if (!Objects.equals(currentValue, tag.value())) {
+                tagsToAdd.add(tag);
+                valueChanges++;
+            }
+        }
+        return new TagDiff(tagsToAdd, unmatchedTags.keySet(), valueChanges);
+    }
+
+    private static int capacity(final int size) {
+        return (int) (size / 0.75f) + 1;
+    }
+
+    /**
+     * @return tags to add, including the tags whose value changes
+     */
+    public Set<Tag> getTagsToAdd() {
+        return tagsToAdd;
+    }
+
+    /**
+     * @return keys of the tags to remove
+     */
+    public Set<String> getTagKeysToRemove() {
+        return tagKeysToRemove;
+    }
+
+    /**
+     * @return number of the tags to add that replace the value of a current tag
+     */
+    public int getValueChanges() {
+        return valueChanges;
+    }
+
+    /**
+     * @return whether the current tags already are the desired tags
+     */
+    public boolean isEmpty() {
+        return tagsToAdd.isEmpty() && tagKeysToRemove.isEmpty();
+    }
+
+    /**
+     * @param arn ARN of the resource
+     * @return request adding the tags to add to the resource
+     */
+    public TagResourceRequest toTagResourceRequest(final String arn) {
+        return TagResourceRequest.builder()
+                .resourceArn(arn)
+                .tags(tagsToAdd)
+                .build();
+    }
+
+    /**
+     * @param arn ARN of the resource
+     * @return request removing the tag keys to remove from the resource
+     */
+    public UntagResourceRequest toUntagResourceRequest(final String arn) {
+        return UntagResourceRequest.builder()
+                .resourceArn(arn)
+                .tagKeys(tagKeysToRemove)
+                .build();
+    }
+}
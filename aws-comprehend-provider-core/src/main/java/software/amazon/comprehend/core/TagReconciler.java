@@ -0,0 +1,201 @@
+package software.amazon.comprehend.core;
+
+import org.apache.commons.collections.CollectionUtils;
+import org.apache.commons.collections.MapUtils;
+import software.amazon.awssdk.services.comprehend.ComprehendAsyncClient;
+import software.amazon.awssdk.services.comprehend.ComprehendClient;
+import software.amazon.awssdk.services.comprehend.model.ListTagsForResourceRequest;
+import software.amazon.awssdk.services.comprehend.model.Tag;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Tag reconciliation shared by the resource types: merging the tags CloudFormation asks for, reading the tags attached
+ * to a resource and fingerprinting tag sets for the callback context; the tags an update adds and removes are computed
+ * by TagDiff. The tags of a resource model are read through a function, as each resource type generates its own Tag
+ * class.
+ */
+public class TagReconciler {
+
+    private static final long FNV_OFFSET_BASIS = 0xCBF29CE484222325L;
+    private static final long FNV_PRIME = 0x100000001B3L;
+    
+    /**
+     * Converts a collection of Tag objects to a tag-name -> tag-value map.
+     *
+     * Note: Tag objects with null tag values will not be included in the output
+     * map.
+     *
+     * @param tags Collection of tags to convert
+     * @return Converted Map of tags
+     */
+    public static Map<String, String> convertSdkTagsToKeyValueMap(final Collection<Tag> tags) {
+        if (CollectionUtils.isEmpty(tags)) {
+            return Collections.emptyMap();
+        }
+        return tags.stream()
+                .filter(tag -> tag.value() != null)
+                .collect(Collectors.toMap(
+                        Tag::key,
+                        Tag::value,
+                        (oldValue, newValue) -> newValue));
+    }
+
+    /**
+     * Converts a tag map to a set of Tag objects.
+     *
+     * Note: Like convertSdkTagsToKeyValueMap, convertKeyValueMapToSdkTagSet filters out value-less tag entries.
+     *
+     * @param tagMap Map of tags to convert
+     * @return Set of Tag objects
+     */
+    public static Set<Tag> convertKeyValueMapToSdkTagSet(final Map<String, String> tagMap) {
+        if (MapUtils.isEmpty(tagMap)) {
+            return Collections.emptySet();
+        }
+        return tagMap.entrySet().stream()
+                .filter(tag -> tag.getValue() != null)
+                .map(tag -> Tag.builder()
+                        .key(tag.getKey())
+                        .value(tag.getValue())
+                        .build())
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * Computes a 64-bit fingerprint of a set of tags that does not depend on iteration order, so that a tag set can be
+     * recorded in the callback context and compared on a later invocation without carrying the tags themselves.
+     *
+     * Each tag is hashed with 64-bit FNV-1a over its key and value and then mixed, and the tag hashes are summed. The
+     * fingerprint of an empty or null collection is 0.
+     *
+     * @param tags Collection of tags to fingerprint
+     * @return Fingerprint of the tags
+     */
+    public static long fingerprint(final Collection<Tag> tags) {
+        long fingerprint = 0L;
+        if (tags == null) {
+            return fingerprint;
+        }
+        for (final Tag tag : tags) {
+            long hash = fnv1a(FNV_OFFSET_BASIS, tag.key());
+            // Separates the key from the value, so that ("ab", "c") and ("a", "bc") differ
+            hash = (hash ^ 0xFFFF) * FNV_PRIME;
+            fingerprint += mix(fnv1a(hash, tag.value()));
+        }
+        return fingerprint;
+    }
+
+    private static long fnv1a(long hash, final String string) {
+        if (string == null) {
+            return hash;
+        }
+        for (int i = 0; i < string.length(); i++) {
+            hash = (hash ^ string.charAt(i)) * FNV_PRIME;
+        }
+        return hash;
+    }
+
+    /**
+     * Finalizer of SplitMix64, spreading the tag hash over all bits before the hashes are summed.
+     */
+    private static long mix(long hash) {
+        hash = (hash ^ (hash >>> 30)) * 0xBF58476D1CE4E5B9L;
+        hash = (hash ^ (hash >>> 27)) * 0x94D049BB133111EBL;
+        return hash ^ (hash >>> 31);
+    }
+
+    /**
+     * Get all tags currently attached to some resource, keeping the ListTagsForResource response for later reuse.
+     */
+    public static Set<Tag> getCurrentTags(final ProxyClient<ComprehendClient> proxyClient,
+                                          final String arn,
+                                          final ResponseCache responseCache) {
+        final ListTagsForResourceRequest listTagsForResourceRequest = ListTagsForResourceRequest.builder()
+                .resourceArn(arn)
+                .build();
+        return new HashSet<>(responseCache.put(arn, proxyClient.injectCredentialsAndInvokeV2(
+                listTagsForResourceRequest, proxyClient.client()::listTagsForResource)).tags());
+    }
+
+    /**
+     * Get all tags currently attached to some resource through the async client, keeping the ListTagsForResource
+     * response for later reuse.
+     */
+    public static CompletableFuture<Set<Tag>> getCurrentTagsAsync(final ProxyClient<ComprehendAsyncClient> proxyClient,
+                                                                  final String arn,
+                                                                  final ResponseCache responseCache) {
+        final ListTagsForResourceRequest listTagsForResourceRequest = ListTagsForResourceRequest.builder()
+                .resourceArn(arn)
+                .build();
+        return proxyClient.injectCredentialsAndInvokeV2Async(listTagsForResourceRequest, proxyClient.client()::listTagsForResource)
+                .thenApply(response -> new HashSet<>(responseCache.put(arn, response).tags()));
+    }
+
+    /**
+     * Get desired tags by combining desired system tags, stack level tags, and resource tags.
+     *
+     * If stack tags and resource tags are not merged together in Configuration class,
+     * we will get new desired system (with `aws:cloudformation` prefix) and user defined tags from
+     * handlerRequest.getSystemTags() (system tags),
+     * handlerRequest.getDesiredResourceTags() (stack tags),
+     * handlerRequest.getDesiredResourceState().getTags() (resource tags).
+     *
+     * System tags are an optional feature. Merge them to your tags if you have enabled them for your resource.
+     * System tags can change on resource update if the resource is imported to the stack.
+     *
+     * @param resourceTags tags of a resource model, as SDK tags
+     */
+    public static <ModelT> Set<Tag> getDesiredTags(final ResourceHandlerRequest<ModelT> handlerRequest,
+                                                   final Function<ModelT, Collection<Tag>> resourceTags) {
+        return mergeTags(handlerRequest.getSystemTags(), handlerRequest.getDesiredResourceTags(),
+                resourceTags.apply(handlerRequest.getDesiredResourceState()));
+    }
+
+    /**
+     * Get the tags CloudFormation last applied, by combining previous system tags, stack level tags, and resource tags
+     * the same way as getDesiredTags.
+     *
+     * @param resourceTags tags of a resource model, as SDK tags
+     */
+    public static <ModelT> Set<Tag> getPreviousTags(final ResourceHandlerRequest<ModelT> handlerRequest,
+                                                    final Function<ModelT, Collection<Tag>> resourceTags) {
+        return mergeTags(handlerRequest.getPreviousSystemTags(), handlerRequest.getPreviousResourceTags(),
+                handlerRequest.getPreviousResourceState() == null
+                        ? null : resourceTags.apply(handlerRequest.getPreviousResourceState()));
+    }
+
+    /**
+     * Merges system, stack and resource tags into one map by key, later sources overriding earlier ones, and builds
+     * the tag set from it. Value-less tags are left out, without overriding a tag of an earlier source.
+     */
+    private static Set<Tag> mergeTags(final Map<String, String> systemTags,
+                                      final Map<String, String> stackTags,
+                                      final Collection<Tag> resourceTags) {
+        final Map<String, String> tags = new HashMap<>();
+        if (systemTags != null) {
+            tags.putAll(systemTags);
+        }
+        if (stackTags != null) {
+            tags.putAll(stackTags);
+        }
+        if (resourceTags != null) {
+            for (final Tag tag : resourceTags) {
+                if (tag.value() != null) {
+                    tags.put(tag.key(), tag.value());
+                }
+            }
+        }
+        return convertKeyValueMapToSdkTagSet(tags);
+    }
+}
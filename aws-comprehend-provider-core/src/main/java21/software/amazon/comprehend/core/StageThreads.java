@@ -0,0 +1,23 @@
+package software.amazon.comprehend.core;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Executor of the runtime for Java 21+, running every stage on its own virtual thread. Compiled into
+ * META-INF/versions/21 of the multi-release jar by the java21 profile.
+ */
+final class StageThreads {
+
+    private StageThreads() {
+    }
+
+    static boolean isVirtual() {
+        return true;
+    }
+
+    /** The bound is not needed: a virtual thread blocked on a call releases its carrier thread. */
+    static ExecutorService newExecutor(final int maxThreads) {
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("comprehend-stage-", 1).factory());
+    }
+}
@@ -0,0 +1,30 @@
+package software.amazon.comprehend.core;
+
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.services.comprehend.model.DocumentClassifierProperties;
+import software.amazon.awssdk.services.comprehend.model.ModelStatus;
+import software.amazon.awssdk.services.comprehend.model.TooManyRequestsException;
+import software.amazon.cloudformation.proxy.Credentials;
+import software.amazon.cloudformation.proxy.LoggerProxy;
+
+public class AbstractTestBase {
+    protected static final String TEST_PARTITION = "aws";
+    protected static final String TEST_REGION = "us-west-2";
+    protected static final String TEST_ACCOUNT_ID = "123456789012";
+    protected static final String TEST_MODEL_NAME = "testModelName";
+    protected static final String TEST_DOCUMENT_CLASSIFIER_ARN = String.format("arn:%s:comprehend:%s:%s:document-classifier/%s", TEST_PARTITION, TEST_REGION, TEST_ACCOUNT_ID, TEST_MODEL_NAME);
+    protected static final String TEST_DOCUMENT_CLASSIFIER_ARN_WITH_VERSION = String.format("arn:%s:comprehend:%s:%s:document-classifier/%s/version/best-version", TEST_PARTITION, TEST_REGION, TEST_ACCOUNT_ID, TEST_MODEL_NAME);
+
+    protected static final DocumentClassifierProperties TEST_DOCUMENT_CLASSIFIER_PROPERTIES_TRAINED = DocumentClassifierProperties.builder()
+            .documentClassifierArn(TEST_DOCUMENT_CLASSIFIER_ARN)
+            .status(ModelStatus.TRAINED)
+            .build();
+
+    protected static final TooManyRequestsException TOO_MANY_REQUESTS_EXCEPTION = TooManyRequestsException.builder()
+            .message("too many requests")
+            .awsErrorDetails(AwsErrorDetails.builder().errorCode("Throttling").build())
+            .build();
+
+    protected static final Credentials MOCK_CREDENTIALS = new Credentials("accessKey", "secretKey", "token");
+    protected static final LoggerProxy LOGGER = new LoggerProxy();
+}
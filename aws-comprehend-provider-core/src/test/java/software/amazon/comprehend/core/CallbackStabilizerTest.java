@@ -0,0 +1,106 @@
+package software.amazon.comprehend.core;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.exception.RetryableException;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.delay.Constant;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CallbackStabilizerTest extends AbstractTestBase {
+    private static final String CALL_GRAPH = "test::Stabilize";
+    private static final Duration THRESHOLD = Duration.ofSeconds(10);
+    private static final Duration BUDGET = Duration.ofSeconds(30);
+
+    private final List<Duration> sleeps = new ArrayList<>();
+    private final CallbackStabilizer stabilizer = new CallbackStabilizer(THRESHOLD, BUDGET, sleeps::add);
+    private final String model = TEST_DOCUMENT_CLASSIFIER_ARN;
+    private final TestCallbackContext callbackContext = new TestCallbackContext();
+
+    @Test
+    public void testStabilize_WaitsLocallyForShortDelays() {
+        final AtomicInteger polls = new AtomicInteger();
+
+        final ProgressEvent<String, TestCallbackContext> progress = stabilizer.stabilize(
+                CALL_GRAPH, model, callbackContext, constantDelay(Duration.ofSeconds(5)),
+                () -> polls.incrementAndGet() == 3, this::failOnError, LOGGER);
+
+        assertThat(progress.canContinueProgress()).isTrue();
+        assertThat(polls.get()).isEqualTo(3);
+        assertThat(sleeps).containsExactly(Duration.ofSeconds(5), Duration.ofSeconds(5));
+    }
+
+    @Test
+    public void testStabilize_CallsBackForLongDelaysAndResumesAttempts() {
+        final ProgressEvent<String, TestCallbackContext> progress = stabilizer.stabilize(
+                CALL_GRAPH, model, callbackContext, constantDelay(Duration.ofSeconds(15)),
+                () -> false, this::failOnError, LOGGER);
+
+        assertThat(progress.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(progress.getCallbackDelaySeconds()).isEqualTo(15);
+        assertThat(sleeps).isEmpty();
+        assertThat(callbackContext.attempts(CALL_GRAPH)).isEqualTo(2);
+
+        stabilizer.stabilize(CALL_GRAPH, model, callbackContext, constantDelay(Duration.ofSeconds(15)),
+                () -> false, this::failOnError, LOGGER);
+
+        assertThat(callbackContext.attempts(CALL_GRAPH)).isEqualTo(3);
+    }
+
+    @Test
+    public void testStabilize_CallsBackOnceLocalBudgetIsSpent() {
+        final ProgressEvent<String, TestCallbackContext> progress = stabilizer.stabilize(
+                CALL_GRAPH, model, callbackContext, constantDelay(Duration.ofSeconds(8)),
+                () -> false, this::failOnError, LOGGER);
+
+        assertThat(progress.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(progress.getCallbackDelaySeconds()).isEqualTo(8);
+        assertThat(sleeps).hasSize(3);
+    }
+
+    @Test
+    public void testStabilize_FailsWhenDelayIsExhausted() {
+        final ProgressEvent<String, TestCallbackContext> progress = stabilizer.stabilize(
+                CALL_GRAPH, model, callbackContext, attempt -> Duration.ZERO,
+                () -> false, this::failOnError, LOGGER);
+
+        assertThat(progress.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(progress.getErrorCode()).isEqualTo(HandlerErrorCode.NotStabilized);
+    }
+
+    @Test
+    public void testStabilize_RetriesWhenErrorHandlerSaysRetryable() {
+        final AtomicInteger polls = new AtomicInteger();
+
+        final ProgressEvent<String, TestCallbackContext> progress = stabilizer.stabilize(
+                CALL_GRAPH, model, callbackContext, constantDelay(Duration.ofSeconds(1)),
+                () -> {
+                    if (polls.incrementAndGet() == 1) {
+                        throw TOO_MANY_REQUESTS_EXCEPTION;
+                    }
+                    return true;
+                },
+                e -> {
+                    throw RetryableException.builder().cause(e).build();
+                },
+                LOGGER);
+
+        assertThat(progress.canContinueProgress()).isTrue();
+        assertThat(polls.get()).isEqualTo(2);
+    }
+
+    private ProgressEvent<String, TestCallbackContext> failOnError(final Exception e) {
+        return ProgressEvent.defaultFailureHandler(e, HandlerErrorCode.InternalFailure);
+    }
+
+    private static Constant constantDelay(final Duration delay) {
+        return Constant.of().delay(delay).timeout(Duration.ofHours(1)).build();
+    }
+}
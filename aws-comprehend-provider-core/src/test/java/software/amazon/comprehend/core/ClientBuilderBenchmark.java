@@ -0,0 +1,113 @@
+package software.amazon.comprehend.core;
+
+import com.sun.net.httpserver.HttpServer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.services.comprehend.ComprehendClient;
+import software.amazon.awssdk.services.comprehend.model.DescribeDocumentClassifierRequest;
+import software.amazon.awssdk.services.comprehend.model.ModelStatus;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Credentials;
+import software.amazon.cloudformation.proxy.LoggerProxy;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency of a DescribeDocumentClassifier call of a warm handler, on a client built for the invocation and closed after
+ * it, and on the client the ClientBuilder shares across invocations of the same region and endpoint. Run with
+ * {@code mvn -Pbenchmark test -Dbenchmark.includes=ClientBuilderBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ClientBuilderBenchmark {
+
+    private static final String REGION = "us-west-2";
+    private static final String DOCUMENT_CLASSIFIER_ARN =
+            "arn:aws:comprehend:us-west-2:123456789012:document-classifier/benchmarkClassifier";
+    private static final String DESCRIBE_RESPONSE = String.format(
+            "{\"DocumentClassifierProperties\":{\"DocumentClassifierArn\":\"%s\",\"Status\":\"TRAINED\"}}", DOCUMENT_CLASSIFIER_ARN);
+
+    /** Client each invocation makes its call on. */
+    public enum Client {
+        // Built for the invocation and closed after it
+        NEW,
+        // Shared by the ClientBuilder across invocations
+        SHARED
+    }
+
+    @Param
+    public Client client;
+
+    private HttpServer server;
+    private String endpoint;
+    private AmazonWebServicesClientProxy proxy;
+    private ClientBuilder.ClientKey key;
+    private ClientBuilder.HttpSettings settings;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        // Avoid Nagle/delayed-ACK stalls on kept-alive connections, which would penalise the shared client
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", exchange -> {
+            final byte[] body = DESCRIBE_RESPONSE.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/x-amz-json-1.1");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream os = exchange.getResponseBody()) {
+                os.write(body);
+            }
+        });
+        server.start();
+        endpoint = String.format("http://localhost:%d", server.getAddress().getPort());
+        proxy = new AmazonWebServicesClientProxy(new LoggerProxy(), new Credentials("accessKey", "secretKey", "token"),
+                () -> Duration.ofSeconds(600).toMillis());
+        key = new ClientBuilder.ClientKey(REGION, endpoint);
+        settings = ClientBuilder.HttpSettings.from(name -> null);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        server.stop(0);
+    }
+
+    @Benchmark
+    public ModelStatus invocation() {
+        if (client == Client.SHARED) {
+            return describe(ClientBuilder.getClient(REGION, endpoint));
+        }
+        try (ComprehendClient comprehendClient = ClientBuilder.buildClient(key, settings)) {
+            return describe(comprehendClient);
+        }
+    }
+
+    private ModelStatus describe(final ComprehendClient comprehendClient) {
+        final ProxyClient<ComprehendClient> proxyClient = proxy.newProxy(() -> comprehendClient);
+        final DescribeDocumentClassifierRequest describeDocumentClassifierRequest = DescribeDocumentClassifierRequest.builder()
+                .documentClassifierArn(DOCUMENT_CLASSIFIER_ARN)
+                .build();
+        return proxyClient
+                .injectCredentialsAndInvokeV2(describeDocumentClassifierRequest, proxyClient.client()::describeDocumentClassifier)
+                .documentClassifierProperties()
+                .status();
+    }
+}
@@ -0,0 +1,164 @@
+package software.amazon.comprehend.core;
+
+import com.google.common.collect.ImmutableMap;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.http.apache.ApacheHttpClient;
+import software.amazon.awssdk.services.comprehend.ComprehendClient;
+import software.amazon.awssdk.services.comprehend.model.DescribeDocumentClassifierRequest;
+import software.amazon.awssdk.services.comprehend.model.ModelStatus;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ClientBuilderTest extends AbstractTestBase {
+    private static final String DESCRIBE_RESPONSE = String.format(
+            "{\"DocumentClassifierProperties\":{\"DocumentClassifierArn\":\"%s\",\"Status\":\"TRAINED\"}}", TEST_DOCUMENT_CLASSIFIER_ARN);
+
+    private HttpServer server;
+    private String endpoint;
+    private AmazonWebServicesClientProxy proxy;
+
+    @BeforeEach
+    public void setup() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", exchange -> {
+            final byte[] body = DESCRIBE_RESPONSE.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/x-amz-json-1.1");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream os = exchange.getResponseBody()) {
+                os.write(body);
+            }
+        });
+        server.start();
+        endpoint = String.format("http://localhost:%d", server.getAddress().getPort());
+        proxy = new AmazonWebServicesClientProxy(LOGGER, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
+    }
+
+    @AfterEach
+    public void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    public void testGetClient_SameRegionAndEndpoint_ReturnsSameInstance() {
+        final ComprehendClient first = ClientBuilder.getClient(TEST_REGION, endpoint);
+        final ComprehendClient second = ClientBuilder.getClient(" " + TEST_REGION + " ", endpoint);
+
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    public void testGetClient_DifferentRegionOrEndpoint_ReturnsDifferentInstances() {
+        final ComprehendClient client = ClientBuilder.getClient(TEST_REGION, endpoint);
+
+        assertThat(ClientBuilder.getClient("us-east-1", endpoint)).isNotSameAs(client);
+        assertThat(ClientBuilder.getClient(TEST_REGION, endpoint + "/other")).isNotSameAs(client);
+        assertThat(ClientBuilder.getClient(TEST_REGION)).isNotSameAs(client);
+        assertThat(ClientBuilder.size()).isGreaterThanOrEqualTo(4);
+    }
+
+    @Test
+    public void testHttpSettings_Defaults() {
+        final ClientBuilder.HttpSettings settings = ClientBuilder.HttpSettings.from(name -> null);
+
+        assertThat(settings.getMaxConnections()).isEqualTo(ClientBuilder.HttpSettings.DEFAULT_MAX_CONNECTIONS);
+        assertThat(settings.getConnectionTimeout()).isEqualTo(ClientBuilder.HttpSettings.DEFAULT_CONNECTION_TIMEOUT);
+        assertThat(settings.getSocketTimeout()).isEqualTo(ClientBuilder.HttpSettings.DEFAULT_SOCKET_TIMEOUT);
+        assertThat(settings.getConnectionMaxIdleTime()).isEqualTo(ClientBuilder.HttpSettings.DEFAULT_CONNECTION_MAX_IDLE_TIME);
+    }
+
+    @Test
+    public void testHttpSettings_FromEnvironment() {
+        final Map<String, String> environment = ImmutableMap.of(
+                ClientBuilder.MAX_CONNECTIONS_ENV, "8",
+                ClientBuilder.CONNECTION_TIMEOUT_MILLIS_ENV, "500",
+                ClientBuilder.SOCKET_TIMEOUT_MILLIS_ENV, "not-a-number",
+                ClientBuilder.CONNECTION_MAX_IDLE_MILLIS_ENV, "-1");
+
+        final ClientBuilder.HttpSettings settings = ClientBuilder.HttpSettings.from(environment::get);
+
+        assertThat(settings.getMaxConnections()).isEqualTo(8);
+        assertThat(settings.getConnectionTimeout()).isEqualTo(Duration.ofMillis(500));
+        assertThat(settings.getSocketTimeout()).isEqualTo(ClientBuilder.HttpSettings.DEFAULT_SOCKET_TIMEOUT);
+        assertThat(settings.getConnectionMaxIdleTime()).isEqualTo(ClientBuilder.HttpSettings.DEFAULT_CONNECTION_MAX_IDLE_TIME);
+    }
+
+    @Test
+    public void testHttpSettings_Transport() {
+        assertThat(ClientBuilder.HttpSettings.from(name -> null).getTransport()).isEqualTo(ClientBuilder.HttpTransport.APACHE);
+        assertThat(ClientBuilder.HttpSettings.from(ImmutableMap.of(ClientBuilder.HTTP_CLIENT_ENV, "url-connection")::get).getTransport())
+                .isEqualTo(ClientBuilder.HttpTransport.URL_CONNECTION);
+        assertThat(ClientBuilder.HttpSettings.from(ImmutableMap.of(ClientBuilder.HTTP_CLIENT_ENV, " crt ")::get).getTransport())
+                .isEqualTo(ClientBuilder.HttpTransport.CRT);
+        assertThat(ClientBuilder.HttpSettings.from(ImmutableMap.of(ClientBuilder.HTTP_CLIENT_ENV, "okhttp")::get).getTransport())
+                .isEqualTo(ClientBuilder.HttpTransport.APACHE);
+    }
+
+    @Test
+    public void testAsyncHandlers_OffUnlessSetToTrue() {
+        assertThat(ClientBuilder.asyncHandlers(name -> null)).isFalse();
+        assertThat(ClientBuilder.asyncHandlers(ImmutableMap.of(ClientBuilder.ASYNC_HANDLERS_ENV, "yes")::get)).isFalse();
+        assertThat(ClientBuilder.asyncHandlers(ImmutableMap.of(ClientBuilder.ASYNC_HANDLERS_ENV, " TRUE ")::get)).isTrue();
+    }
+
+    @Test
+    public void testBuildHttpClient_Crt_KeepsApacheForSyncClients() {
+        final ClientBuilder.HttpSettings settings = ClientBuilder.HttpSettings.from(
+                ImmutableMap.of(ClientBuilder.HTTP_CLIENT_ENV, "crt")::get);
+
+        try (SdkHttpClient httpClient = ClientBuilder.buildHttpClient(settings)) {
+            assertThat(httpClient).isInstanceOf(ApacheHttpClient.class);
+        }
+    }
+
+    @Test
+    public void testBuildHttpClient_TransportNotInHandlerJar_Fails() {
+        final ClientBuilder.HttpSettings settings = ClientBuilder.HttpSettings.from(
+                ImmutableMap.of(ClientBuilder.HTTP_CLIENT_ENV, "url-connection")::get);
+
+        assertThatThrownBy(() -> ClientBuilder.buildHttpClient(settings))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining(ClientBuilder.URL_CONNECTION_HTTP_CLIENT);
+    }
+
+    @Test
+    public void testBuildClient_OnlySignsWithInjectedCredentials() {
+        final ClientBuilder.ClientKey key = new ClientBuilder.ClientKey(TEST_REGION, endpoint);
+
+        try (ComprehendClient client = ClientBuilder.buildClient(key, ClientBuilder.HttpSettings.from(name -> null))) {
+            // Through the proxy the call is signed with the credentials of the request, without it there are none
+            invoke(() -> client);
+            assertThatThrownBy(() -> client.describeDocumentClassifier(DescribeDocumentClassifierRequest.builder()
+                    .documentClassifierArn(TEST_DOCUMENT_CLASSIFIER_ARN)
+                    .build()))
+                    .hasStackTraceContaining("CloudFormation proxy");
+        }
+    }
+
+    private void invoke(final Supplier<ComprehendClient> clientSupplier) {
+        final ProxyClient<ComprehendClient> proxyClient = proxy.newProxy(clientSupplier);
+        final DescribeDocumentClassifierRequest describeDocumentClassifierRequest = DescribeDocumentClassifierRequest.builder()
+                .documentClassifierArn(TEST_DOCUMENT_CLASSIFIER_ARN)
+                .build();
+
+        final ModelStatus status = proxyClient
+                .injectCredentialsAndInvokeV2(describeDocumentClassifierRequest, proxyClient.client()::describeDocumentClassifier)
+                .documentClassifierProperties()
+                .status();
+
+        assertThat(status).isEqualTo(ModelStatus.TRAINED);
+    }
+}
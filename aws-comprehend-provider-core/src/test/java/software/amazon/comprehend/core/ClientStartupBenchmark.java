@@ -0,0 +1,113 @@
+package software.amazon.comprehend.core;
+
+import com.sun.net.httpserver.HttpServer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.comprehend.ComprehendClient;
+import software.amazon.awssdk.services.comprehend.model.DescribeDocumentClassifierRequest;
+import software.amazon.awssdk.services.comprehend.model.ModelStatus;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Credentials;
+import software.amazon.cloudformation.proxy.LoggerProxy;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time to the first DescribeDocumentClassifier call of a handler, building the client and making the call in a fresh
+ * JVM, as a cold Lambda container does. Every fork measures a single shot without warmup. SDK_DEFAULTS builds the
+ * client the way the SDK does without configuration, discovering the HTTP client and resolving region and credentials
+ * from the environment, and the other options build it with the ClientBuilder and the given transport. The
+ * URL_CONNECTION transport needs its HTTP client on the classpath. Run with
+ * {@code mvn -Pbenchmark test -Dbenchmark.includes=ClientStartupBenchmark -Dhttp.client=url-connection}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(10)
+public class ClientStartupBenchmark {
+
+    private static final String REGION = "us-west-2";
+    private static final String DOCUMENT_CLASSIFIER_ARN =
+            "arn:aws:comprehend:us-west-2:123456789012:document-classifier/benchmarkClassifier";
+    private static final String DESCRIBE_RESPONSE = String.format(
+            "{\"DocumentClassifierProperties\":{\"DocumentClassifierArn\":\"%s\",\"Status\":\"TRAINED\"}}", DOCUMENT_CLASSIFIER_ARN);
+
+    @Param({"SDK_DEFAULTS", "APACHE", "URL_CONNECTION"})
+    public String transport;
+
+    private HttpServer server;
+    private String endpoint;
+    private AmazonWebServicesClientProxy proxy;
+    private ComprehendClient client;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", exchange -> {
+            final byte[] body = DESCRIBE_RESPONSE.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/x-amz-json-1.1");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream os = exchange.getResponseBody()) {
+                os.write(body);
+            }
+        });
+        server.start();
+        endpoint = String.format("http://localhost:%d", server.getAddress().getPort());
+        proxy = new AmazonWebServicesClientProxy(new LoggerProxy(), new Credentials("accessKey", "secretKey", "token"),
+                () -> Duration.ofSeconds(600).toMillis());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (client != null) {
+            client.close();
+        }
+        server.stop(0);
+    }
+
+    @Benchmark
+    public ModelStatus firstCall() {
+        client = buildClient();
+        final ProxyClient<ComprehendClient> proxyClient = proxy.newProxy(() -> client);
+        final DescribeDocumentClassifierRequest describeDocumentClassifierRequest = DescribeDocumentClassifierRequest.builder()
+                .documentClassifierArn(DOCUMENT_CLASSIFIER_ARN)
+                .build();
+        return proxyClient
+                .injectCredentialsAndInvokeV2(describeDocumentClassifierRequest, proxyClient.client()::describeDocumentClassifier)
+                .documentClassifierProperties()
+                .status();
+    }
+
+    private ComprehendClient buildClient() {
+        if ("SDK_DEFAULTS".equals(transport)) {
+            return ComprehendClient.builder()
+                    .region(Region.of(REGION))
+                    .endpointOverride(URI.create(endpoint))
+                    .build();
+        }
+        final ClientBuilder.HttpSettings settings = ClientBuilder.HttpSettings.from(
+                Collections.singletonMap(ClientBuilder.HTTP_CLIENT_ENV, transport)::get);
+        return ClientBuilder.buildClient(new ClientBuilder.ClientKey(REGION, endpoint), settings);
+    }
+}
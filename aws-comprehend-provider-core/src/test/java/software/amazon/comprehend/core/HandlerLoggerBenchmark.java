@@ -0,0 +1,75 @@
+package software.amazon.comprehend.core;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.services.comprehend.model.ModelStatus;
+import software.amazon.cloudformation.proxy.Logger;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Logging done by one training status poll of a create, with the messages built eagerly with String.format as before,
+ * and through the HandlerLogger at the default level and with debug messages enabled. Compare the gc.alloc.rate.norm of
+ * each. Run with {@code mvn -Pbenchmark test -Dbenchmark.includes=HandlerLoggerBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HandlerLoggerBenchmark {
+
+    /** How the poll messages are written. */
+    public enum Mode {
+        EAGER,
+        HANDLER_LOGGER_INFO,
+        HANDLER_LOGGER_DEBUG
+    }
+
+    @Param
+    public Mode mode;
+
+    public String arn = "arn:aws:comprehend:us-west-2:123456789012:document-classifier/benchmarkClassifier/version/v1";
+    public ModelStatus modelStatus = ModelStatus.TRAINING;
+
+    private int written;
+    private int pollCount;
+    private Logger logger;
+    private HandlerLogger handlerLogger;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        // Stands in for the Lambda log writer, keeping the messages from being optimized away
+        logger = message -> written += message.length();
+        handlerLogger = new HandlerLogger(logger,
+                mode == Mode.HANDLER_LOGGER_DEBUG ? HandlerLogger.Level.DEBUG : HandlerLogger.Level.INFO,
+                HandlerLogger.DEFAULT_SAMPLE_RATE);
+    }
+
+    @Benchmark
+    public int statusPoll() {
+        // Poll counts cycle, staying in the range a long stabilization reaches
+        pollCount = pollCount % 1000 + 1;
+        if (mode == Mode.EAGER) {
+            logger.log(String.format("Getting model status for document classifier [%s] via DescribeDocumentClassifier.", arn));
+            logger.log(String.format("DocumentClassifier [%s] has status %s.", arn, modelStatus));
+            logger.log(String.format("DocumentClassifier [%s] has not reached TRAINED state.", arn));
+        } else {
+            handlerLogger.debug("Getting model status for document classifier [{}] via DescribeDocumentClassifier.", arn);
+            handlerLogger.debug("DocumentClassifier [{}] has status {}.", arn, modelStatus);
+            handlerLogger.sampled(pollCount, "DocumentClassifier [{}] has not reached TRAINED state, status {}.", arn, modelStatus);
+        }
+        return written;
+    }
+}
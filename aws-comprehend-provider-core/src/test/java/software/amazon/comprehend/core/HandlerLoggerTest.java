@@ -0,0 +1,94 @@
+package software.amazon.comprehend.core;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class HandlerLoggerTest {
+
+    private final List<String> logLines = new ArrayList<>();
+
+    @Test
+    public void testLevels_InfoFiltersDebug() {
+        final HandlerLogger logger = new HandlerLogger(logLines::add, HandlerLogger.Level.INFO, 10);
+
+        logger.debug("debug [{}]", "a");
+        logger.debug("debug [{}] {}", "a", 1);
+        logger.info("info [{}]", "a");
+        logger.info("info [{}] {}", "a", 2);
+        logger.info("info [{}] {} {}", "a", 3, true);
+        logger.warn("warn [{}] {}", "a", new IllegalStateException("failed"));
+        logger.log("complete message");
+
+        assertThat(logLines).containsExactly("info [a]", "info [a] 2", "info [a] 3 true",
+                "warn [a] java.lang.IllegalStateException: failed", "complete message");
+        assertThat(logger.isEnabled(HandlerLogger.Level.DEBUG)).isFalse();
+        assertThat(logger.isEnabled(HandlerLogger.Level.WARN)).isTrue();
+    }
+
+    @Test
+    public void testLevels_DebugWritesAll() {
+        final HandlerLogger logger = new HandlerLogger(logLines::add, HandlerLogger.Level.DEBUG, 10);
+
+        logger.debug("debug [{}]", "a");
+        logger.debug("debug [{}] {}", "a", null);
+
+        assertThat(logLines).containsExactly("debug [a]", "debug [a] null");
+    }
+
+    @Test
+    public void testSampled_FirstAndEveryNthOccurrence() {
+        final HandlerLogger logger = new HandlerLogger(logLines::add, HandlerLogger.Level.INFO, 3);
+
+        for (int poll = 0; poll <= 7; poll++) {
+            logger.sampled(poll, "poll {} of [{}]", poll, "a");
+        }
+        logger.sampled(9, "poll {} of [{}] {}", 9, "a", false);
+
+        assertThat(logLines).containsExactly("poll 0 of [a]", "poll 1 of [a]", "poll 3 of [a]", "poll 6 of [a]",
+                "poll 9 of [a] false");
+    }
+
+    @Test
+    public void testSampled_DisabledAtWarn() {
+        final HandlerLogger logger = new HandlerLogger(logLines::add, HandlerLogger.Level.WARN, 3);
+
+        logger.sampled(1, "poll {} of [{}]", 1, "a");
+        logger.info("info [{}]", "a");
+
+        assertThat(logLines).isEmpty();
+    }
+
+    @Test
+    public void testFormat_PlaceholdersAndArgumentsMismatch() {
+        assertThat(HandlerLogger.format("no placeholder", 1, "a", null, null)).isEqualTo("no placeholder");
+        assertThat(HandlerLogger.format("[{}] and [{}]", 1, "a", null, null)).isEqualTo("[a] and [{}]");
+        assertThat(HandlerLogger.format("{}{}{}", 3, 1, 2, 3)).isEqualTo("123");
+    }
+
+    @Test
+    public void testOf_ReusesHandlerLogger() {
+        final HandlerLogger logger = HandlerLogger.of(logLines::add);
+
+        assertThat(HandlerLogger.of(logger)).isSameAs(logger);
+    }
+
+    @Test
+    public void testEnvironment() {
+        assertThat(HandlerLogger.level(name -> null)).isEqualTo(HandlerLogger.DEFAULT_LEVEL);
+        assertThat(HandlerLogger.level(Collections.singletonMap(HandlerLogger.LEVEL_ENV, " debug ")::get))
+                .isEqualTo(HandlerLogger.Level.DEBUG);
+        assertThat(HandlerLogger.level(Collections.singletonMap(HandlerLogger.LEVEL_ENV, "verbose")::get))
+                .isEqualTo(HandlerLogger.DEFAULT_LEVEL);
+        assertThat(HandlerLogger.sampleRate(name -> null)).isEqualTo(HandlerLogger.DEFAULT_SAMPLE_RATE);
+        assertThat(HandlerLogger.sampleRate(Collections.singletonMap(HandlerLogger.SAMPLE_RATE_ENV, "5")::get)).isEqualTo(5);
+        assertThat(HandlerLogger.sampleRate(Collections.singletonMap(HandlerLogger.SAMPLE_RATE_ENV, "0")::get))
+                .isEqualTo(HandlerLogger.DEFAULT_SAMPLE_RATE);
+        assertThat(HandlerLogger.sampleRate(Collections.singletonMap(HandlerLogger.SAMPLE_RATE_ENV, "many")::get))
+                .isEqualTo(HandlerLogger.DEFAULT_SAMPLE_RATE);
+    }
+}
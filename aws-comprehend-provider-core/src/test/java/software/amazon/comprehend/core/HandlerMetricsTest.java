@@ -0,0 +1,174 @@
+package software.amazon.comprehend.core;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.awscore.AwsResponse;
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.services.comprehend.ComprehendClient;
+import software.amazon.awssdk.services.comprehend.model.ComprehendException;
+import software.amazon.awssdk.services.comprehend.model.ListTagsForResourceRequest;
+import software.amazon.awssdk.services.comprehend.model.ListTagsForResourceResponse;
+import software.amazon.awssdk.services.comprehend.model.ResourceNotFoundException;
+import software.amazon.awssdk.services.comprehend.model.TagResourceRequest;
+import software.amazon.awssdk.services.comprehend.model.TagResourceResponse;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.resource.Serializer;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class HandlerMetricsTest {
+
+    private static final String RESOURCE_TYPE = "AWS::Comprehend::Test";
+    private static final Instant NOW = Instant.parse("2023-01-01T00:00:00Z");
+
+    private final List<String> logLines = new ArrayList<>();
+    private final AtomicLong nanos = new AtomicLong();
+
+    private TestCallbackContext callbackContext;
+    private HandlerMetrics metrics;
+    private ProxyClient<ComprehendClient> proxyClient;
+
+    @BeforeEach
+    public void setup() {
+        callbackContext = TestCallbackContext.builder().statusPollCount(3).tagPollCount(1).build();
+        metrics = new HandlerMetrics(RESOURCE_TYPE, "Create", callbackContext, new MutableClock(NOW));
+        proxyClient = new MetricsProxyClient<>(new ProxyClient<ComprehendClient>() {
+            @Override
+            public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseT injectCredentialsAndInvokeV2(
+                    final RequestT request, final Function<RequestT, ResponseT> requestFunction) {
+                return requestFunction.apply(request);
+            }
+
+            @Override
+            public ComprehendClient client() {
+                return null;
+            }
+        }, metrics, nanos::get);
+    }
+
+    @Test
+    public void testFlush_RecordPerOperationAndHandler() throws Exception {
+        listTags(20, null);
+        listTags(5, throttle());
+        listTags(20, null);
+        tagResource(7);
+        callbackContext.setStatusPollCount(5);
+        callbackContext.setTagPollCount(2);
+
+        metrics.flush(logLines::add, callbackContext);
+
+        assertThat(logLines).hasSize(3);
+        final Map<String, Object> listTags = parse(logLines.get(0));
+        assertThat(listTags).containsEntry("ResourceType", RESOURCE_TYPE)
+                .containsEntry("Action", "Create")
+                .containsEntry("Operation", "ListTagsForResource")
+                .containsEntry("Calls", 3)
+                .containsEntry("Errors", 1)
+                .containsEntry("Throttles", 1)
+                .containsEntry("Retries", 1);
+        assertThat(listTags.get("Latency")).isEqualTo(histogram(Arrays.asList(5, 20), Arrays.asList(1, 2), 5, 20, 45, 3));
+
+        final Map<String, Object> tag = parse(logLines.get(1));
+        assertThat(tag).containsEntry("Operation", "TagResource")
+                .containsEntry("Calls", 1)
+                .containsEntry("Errors", 0)
+                .containsEntry("Retries", 0);
+
+        final Map<String, Object> handler = parse(logLines.get(2));
+        assertThat(handler).doesNotContainKey("Operation")
+                .containsEntry("Calls", 4)
+                .containsEntry("StatusPolls", 2)
+                .containsEntry("TagPolls", 1);
+    }
+
+    @Test
+    public void testFlush_EmbeddedMetricFormatMetadata() throws Exception {
+        tagResource(1);
+
+        metrics.flush(logLines::add, callbackContext);
+
+        final Map<?, ?> metadata = (Map<?, ?>) parse(logLines.get(0)).get("_aws");
+        assertThat(metadata.get("Timestamp")).isEqualTo(NOW.toEpochMilli());
+        final Map<?, ?> directive = (Map<?, ?>) ((List<?>) metadata.get("CloudWatchMetrics")).get(0);
+        assertThat(directive.get("Namespace")).isEqualTo(HandlerMetrics.NAMESPACE);
+        assertThat(directive.get("Dimensions")).isEqualTo(Collections.singletonList(Arrays.asList("ResourceType", "Action", "Operation")));
+        assertThat((List<?>) directive.get("Metrics")).hasSize(5);
+    }
+
+    @Test
+    public void testFlush_NoCalls_OnlyHandlerRecord() throws Exception {
+        metrics.flush(logLines::add, callbackContext);
+
+        assertThat(logLines).hasSize(1);
+        assertThat(parse(logLines.get(0))).containsEntry("Calls", 0).containsEntry("StatusPolls", 0);
+    }
+
+    @Test
+    public void testFailedCall_RecordedAndRethrown() throws Exception {
+        final ResourceNotFoundException notFound = ResourceNotFoundException.builder().message("not found").build();
+        assertThatThrownBy(() -> listTags(3, notFound)).isSameAs(notFound);
+
+        metrics.flush(logLines::add, callbackContext);
+
+        assertThat(parse(logLines.get(0))).containsEntry("Calls", 1).containsEntry("Errors", 1).containsEntry("Throttles", 0);
+    }
+
+    @Test
+    public void testOperation() {
+        assertThat(MetricsProxyClient.operation(ListTagsForResourceRequest.builder().build())).isEqualTo("ListTagsForResource");
+    }
+
+    private void listTags(final long latencyMillis, final RuntimeException exception) {
+        try {
+            proxyClient.injectCredentialsAndInvokeV2(ListTagsForResourceRequest.builder().build(), request -> {
+                nanos.addAndGet(latencyMillis * 1_000_000);
+                if (exception != null) throw exception;
+                return ListTagsForResourceResponse.builder().build();
+            });
+        } catch (final ComprehendException e) {
+            if (!e.isThrottlingException()) throw e;
+        }
+    }
+
+    private void tagResource(final long latencyMillis) {
+        proxyClient.injectCredentialsAndInvokeV2(TagResourceRequest.builder().build(), request -> {
+            nanos.addAndGet(latencyMillis * 1_000_000);
+            return TagResourceResponse.builder().build();
+        });
+    }
+
+    private static ComprehendException throttle() {
+        return (ComprehendException) ComprehendException.builder()
+                .awsErrorDetails(AwsErrorDetails.builder().errorCode("ThrottlingException").build())
+                .build();
+    }
+
+    private static Map<String, Object> histogram(final List<Integer> values, final List<Integer> counts,
+                                                 final int min, final int max, final int sum, final int count) {
+        final Map<String, Object> histogram = new LinkedHashMap<>();
+        histogram.put("Values", values);
+        histogram.put("Counts", counts);
+        histogram.put("Min", min);
+        histogram.put("Max", max);
+        histogram.put("Sum", sum);
+        histogram.put("Count", count);
+        return histogram;
+    }
+
+    private static Map<String, Object> parse(final String line) throws Exception {
+        return new Serializer().deserialize(line, new TypeReference<Map<String, Object>>() {});
+    }
+}
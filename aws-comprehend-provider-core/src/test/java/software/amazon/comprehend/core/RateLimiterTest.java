@@ -0,0 +1,168 @@
+package software.amazon.comprehend.core;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.util.concurrent.Uninterruptibles;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.comprehend.ComprehendClient;
+import software.amazon.awssdk.services.comprehend.model.CreateDocumentClassifierRequest;
+import software.amazon.awssdk.services.comprehend.model.DescribeDocumentClassifierRequest;
+import software.amazon.awssdk.services.comprehend.model.DescribeDocumentClassifierResponse;
+import software.amazon.awssdk.services.comprehend.model.DescribeResourcePolicyRequest;
+import software.amazon.awssdk.services.comprehend.model.ListTagsForResourceRequest;
+import software.amazon.awssdk.services.comprehend.model.PutResourcePolicyRequest;
+import software.amazon.awssdk.services.comprehend.model.TagResourceRequest;
+import software.amazon.awssdk.services.comprehend.model.UntagResourceRequest;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class RateLimiterTest extends AbstractTestBase {
+
+    private final AtomicLong now = new AtomicLong();
+    private final List<Duration> sleeps = new ArrayList<>();
+
+    @Test
+    public void testApiOf_ClassifiesByOperation() {
+        assertThat(RateLimiter.Api.of(DescribeDocumentClassifierRequest.builder().build())).isEqualTo(RateLimiter.Api.DESCRIBE);
+        assertThat(RateLimiter.Api.of(DescribeResourcePolicyRequest.builder().build())).isEqualTo(RateLimiter.Api.DESCRIBE);
+        assertThat(RateLimiter.Api.of(ListTagsForResourceRequest.builder().build())).isEqualTo(RateLimiter.Api.LIST);
+        assertThat(RateLimiter.Api.of(TagResourceRequest.builder().build())).isEqualTo(RateLimiter.Api.TAG);
+        assertThat(RateLimiter.Api.of(UntagResourceRequest.builder().build())).isEqualTo(RateLimiter.Api.TAG);
+        assertThat(RateLimiter.Api.of(CreateDocumentClassifierRequest.builder().build())).isEqualTo(RateLimiter.Api.WRITE);
+        assertThat(RateLimiter.Api.of(PutResourcePolicyRequest.builder().build())).isEqualTo(RateLimiter.Api.WRITE);
+    }
+
+    @Test
+    public void testRates_ReadFromEnvironmentWithDefaults() {
+        final Map<RateLimiter.Api, Double> rates = RateLimiter.rates(ImmutableMap.of(
+                "COMPREHEND_RATE_LIMIT_DESCRIBE_TPS", "2.5",
+                "COMPREHEND_RATE_LIMIT_LIST_TPS", "-1",
+                "COMPREHEND_RATE_LIMIT_TAG_TPS", "fast")::get);
+
+        assertThat(rates.get(RateLimiter.Api.DESCRIBE)).isEqualTo(2.5);
+        assertThat(rates.get(RateLimiter.Api.LIST)).isEqualTo(10);
+        assertThat(rates.get(RateLimiter.Api.TAG)).isEqualTo(10);
+        assertThat(rates.get(RateLimiter.Api.WRITE)).isEqualTo(5);
+    }
+
+    @Test
+    public void testAcquire_WaitsOnceBurstIsSpent() {
+        final RateLimiter rateLimiter = fakeTimeRateLimiter(4);
+
+        for (int i = 0; i < 4; i++) {
+            rateLimiter.acquire(RateLimiter.Api.DESCRIBE);
+        }
+        assertThat(sleeps).isEmpty();
+
+        // The fake sleeper moves time on, so every further call waits for one token to be refilled
+        rateLimiter.acquire(RateLimiter.Api.DESCRIBE);
+        rateLimiter.acquire(RateLimiter.Api.DESCRIBE);
+        assertThat(sleeps).containsExactly(Duration.ofMillis(250), Duration.ofMillis(250));
+
+        // Other APIs have buckets of their own
+        rateLimiter.acquire(RateLimiter.Api.LIST);
+        assertThat(sleeps).hasSize(2);
+    }
+
+    @Test
+    public void testAcquireAsync_CompletesOnceTokenIsDue() {
+        final RateLimiter rateLimiter = realTimeRateLimiter(5);
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(rateLimiter.acquireAsync(RateLimiter.Api.DESCRIBE)).isDone();
+        }
+
+        // The caller gets the future back at once and the token is handed out about 200 ms later
+        final long start = System.nanoTime();
+        final CompletableFuture<Void> token = rateLimiter.acquireAsync(RateLimiter.Api.DESCRIBE);
+        assertThat(token).isNotDone();
+        token.join();
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isGreaterThanOrEqualTo(Duration.ofMillis(150));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testInvokeAsync_WaitsForTokenWithoutBlockingCaller() {
+        final ProxyClient<ComprehendClient> delegate = mock(ProxyClient.class);
+        final DescribeDocumentClassifierResponse response = DescribeDocumentClassifierResponse.builder().build();
+        when(delegate.<DescribeDocumentClassifierRequest, DescribeDocumentClassifierResponse>injectCredentialsAndInvokeV2Async(any(), any()))
+                .thenReturn(CompletableFuture.completedFuture(response));
+        final ProxyClient<ComprehendClient> proxyClient = new RateLimitedProxyClient<>(delegate, fakeTimeRateLimiter(4));
+        final DescribeDocumentClassifierRequest request = DescribeDocumentClassifierRequest.builder()
+                .documentClassifierArn(TEST_DOCUMENT_CLASSIFIER_ARN)
+                .build();
+
+        final List<CompletableFuture<DescribeDocumentClassifierResponse>> futures = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            futures.add(proxyClient.injectCredentialsAndInvokeV2Async(request, r -> CompletableFuture.completedFuture(response)));
+        }
+
+        // The burst is dispatched at once, and the fifth call waits for its token on the timer rather than the caller
+        verify(delegate, times(4)).injectCredentialsAndInvokeV2Async(any(), any());
+        assertThat(futures.get(4)).isNotDone();
+        assertThat(sleeps).isEmpty();
+        assertThat(futures.get(4).join()).isSameAs(response);
+        verify(delegate, times(5)).injectCredentialsAndInvokeV2Async(any(), any());
+    }
+
+    @Test
+    public void testRate_DecreasesOnThrottleAndRecoversAfterSuccesses() {
+        final RateLimiter rateLimiter = fakeTimeRateLimiter(8);
+
+        rateLimiter.onThrottle(RateLimiter.Api.DESCRIBE);
+        assertThat(rateLimiter.getRate(RateLimiter.Api.DESCRIBE)).isEqualTo(4);
+
+        // Further throttles of calls made before the decrease took effect are ignored
+        rateLimiter.onThrottle(RateLimiter.Api.DESCRIBE);
+        assertThat(rateLimiter.getRate(RateLimiter.Api.DESCRIBE)).isEqualTo(4);
+
+        for (int i = 0; i < 10; i++) {
+            now.addAndGet(RateLimiter.DECREASE_COOLDOWN.toNanos());
+            rateLimiter.onThrottle(RateLimiter.Api.DESCRIBE);
+        }
+        assertThat(rateLimiter.getRate(RateLimiter.Api.DESCRIBE)).isEqualTo(8 * RateLimiter.MIN_RATE_FRACTION);
+
+        for (int i = 0; i < RateLimiter.SUCCESSES_BEFORE_INCREASE - 1; i++) {
+            rateLimiter.onSuccess(RateLimiter.Api.DESCRIBE);
+        }
+        assertThat(rateLimiter.getRate(RateLimiter.Api.DESCRIBE)).isEqualTo(8 * RateLimiter.MIN_RATE_FRACTION);
+        rateLimiter.onSuccess(RateLimiter.Api.DESCRIBE);
+        assertThat(rateLimiter.getRate(RateLimiter.Api.DESCRIBE)).isEqualTo(8 * RateLimiter.MIN_RATE_FRACTION * 2);
+
+        for (int i = 0; i < RateLimiter.SUCCESSES_BEFORE_INCREASE * 20; i++) {
+            rateLimiter.onSuccess(RateLimiter.Api.DESCRIBE);
+        }
+        assertThat(rateLimiter.getRate(RateLimiter.Api.DESCRIBE)).isEqualTo(8);
+    }
+
+    private RateLimiter fakeTimeRateLimiter(final double describeRate) {
+        return new RateLimiter(rates(describeRate), now::get, duration -> {
+            sleeps.add(duration);
+            now.addAndGet(duration.toNanos());
+        });
+    }
+
+    private static RateLimiter realTimeRateLimiter(final double describeRate) {
+        return new RateLimiter(rates(describeRate), System::nanoTime,
+                duration -> Uninterruptibles.sleepUninterruptibly(duration.toNanos(), TimeUnit.NANOSECONDS));
+    }
+
+    private static Map<RateLimiter.Api, Double> rates(final double describeRate) {
+        final Map<RateLimiter.Api, Double> rates = RateLimiter.rates(name -> null);
+        rates.put(RateLimiter.Api.DESCRIBE, describeRate);
+        return rates;
+    }
+}
@@ -0,0 +1,67 @@
+package software.amazon.comprehend.core;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.comprehend.model.DescribeDocumentClassifierResponse;
+import software.amazon.awssdk.services.comprehend.model.ListTagsForResourceResponse;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ResponseCacheTest extends AbstractTestBase {
+    private static final Duration MAX_AGE = Duration.ofSeconds(60);
+
+    private final MutableClock clock = new MutableClock(Instant.EPOCH);
+
+    private final DescribeDocumentClassifierResponse describeDocumentClassifierResponse = DescribeDocumentClassifierResponse.builder()
+            .documentClassifierProperties(TEST_DOCUMENT_CLASSIFIER_PROPERTIES_TRAINED)
+            .build();
+
+    @Test
+    public void testGetIfFresh_ReturnsStoredResponse() {
+        final ResponseCache responseCache = new ResponseCache(clock, MAX_AGE);
+        responseCache.put(TEST_DOCUMENT_CLASSIFIER_ARN, describeDocumentClassifierResponse);
+
+        clock.set(Instant.EPOCH.plus(MAX_AGE));
+
+        assertThat(responseCache.getIfFresh(TEST_DOCUMENT_CLASSIFIER_ARN, DescribeDocumentClassifierResponse.class))
+                .containsSame(describeDocumentClassifierResponse);
+    }
+
+    @Test
+    public void testGetIfFresh_EmptyWhenStale() {
+        final ResponseCache responseCache = new ResponseCache(clock, MAX_AGE);
+        responseCache.put(TEST_DOCUMENT_CLASSIFIER_ARN, describeDocumentClassifierResponse);
+
+        clock.set(Instant.EPOCH.plus(MAX_AGE).plusMillis(1));
+
+        assertThat(responseCache.getIfFresh(TEST_DOCUMENT_CLASSIFIER_ARN, DescribeDocumentClassifierResponse.class)).isEmpty();
+    }
+
+    @Test
+    public void testGetIfFresh_KeyedByArnAndResponseType() {
+        final ResponseCache responseCache = new ResponseCache(clock, MAX_AGE);
+        responseCache.put(TEST_DOCUMENT_CLASSIFIER_ARN, describeDocumentClassifierResponse);
+        responseCache.put(null, describeDocumentClassifierResponse);
+
+        assertThat(responseCache.getIfFresh(TEST_DOCUMENT_CLASSIFIER_ARN_WITH_VERSION, DescribeDocumentClassifierResponse.class)).isEmpty();
+        assertThat(responseCache.getIfFresh(TEST_DOCUMENT_CLASSIFIER_ARN, ListTagsForResourceResponse.class)).isEmpty();
+        assertThat(responseCache.getIfFresh(null, DescribeDocumentClassifierResponse.class)).isEmpty();
+    }
+
+    @Test
+    public void testInvalidate_DropsOnlyThatResponseType() {
+        final ResponseCache responseCache = new ResponseCache(clock, MAX_AGE);
+        final ListTagsForResourceResponse listTagsForResourceResponse = ListTagsForResourceResponse.builder().build();
+        responseCache.put(TEST_DOCUMENT_CLASSIFIER_ARN, describeDocumentClassifierResponse);
+        responseCache.put(TEST_DOCUMENT_CLASSIFIER_ARN, listTagsForResourceResponse);
+
+        responseCache.invalidate(TEST_DOCUMENT_CLASSIFIER_ARN, DescribeDocumentClassifierResponse.class);
+        responseCache.invalidate(null, ListTagsForResourceResponse.class);
+
+        assertThat(responseCache.getIfFresh(TEST_DOCUMENT_CLASSIFIER_ARN, DescribeDocumentClassifierResponse.class)).isEmpty();
+        assertThat(responseCache.getIfFresh(TEST_DOCUMENT_CLASSIFIER_ARN, ListTagsForResourceResponse.class))
+                .containsSame(listTagsForResourceResponse);
+    }
+}
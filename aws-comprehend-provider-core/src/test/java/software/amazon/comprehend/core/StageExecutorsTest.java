@@ -0,0 +1,70 @@
+package software.amazon.comprehend.core;
+
+import com.google.common.collect.ImmutableMap;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class StageExecutorsTest {
+
+    @Test
+    public void testStageThreads_Defaults() {
+        assertThat(StageExecutors.stageThreads(name -> null)).isEqualTo(StageExecutors.DEFAULT_STAGE_THREADS);
+    }
+
+    @Test
+    public void testStageThreads_FromEnvironment() {
+        assertThat(StageExecutors.stageThreads(ImmutableMap.of(StageExecutors.STAGE_THREADS_ENV, " 4 ")::get)).isEqualTo(4);
+        assertThat(StageExecutors.stageThreads(ImmutableMap.of(StageExecutors.STAGE_THREADS_ENV, "0")::get))
+                .isEqualTo(StageExecutors.DEFAULT_STAGE_THREADS);
+        assertThat(StageExecutors.stageThreads(ImmutableMap.of(StageExecutors.STAGE_THREADS_ENV, "many")::get))
+                .isEqualTo(StageExecutors.DEFAULT_STAGE_THREADS);
+    }
+
+    @Test
+    public void testNewBoundedExecutor_RunsStagesOnDaemonThreads() throws Exception {
+        final ExecutorService executor = StageExecutors.newBoundedExecutor(2);
+        try {
+            final Future<Thread> thread = executor.submit(Thread::currentThread);
+
+            assertThat(thread.get().isDaemon()).isTrue();
+            assertThat(thread.get().getName()).startsWith("comprehend-stage-");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testNewExecutor_RunsStagesConcurrently() throws Exception {
+        final int stages = 4;
+        final ExecutorService executor = StageExecutors.newExecutor(stages);
+        try {
+            // Every stage waits for all the others, so they only finish if they all run at the same time
+            final CountDownLatch started = new CountDownLatch(stages);
+            for (int i = 0; i < stages; i++) {
+                executor.submit(() -> {
+                    started.countDown();
+                    return started.await(10, TimeUnit.SECONDS);
+                });
+            }
+
+            assertThat(started.await(10, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testShared_IsTheExecutorOfTheRuntime() throws Exception {
+        final Thread thread = StageExecutors.shared().submit(Thread::currentThread).get();
+
+        assertThat(StageExecutors.shared()).isSameAs(StageExecutors.shared());
+        assertThat(thread.getName()).startsWith("comprehend-stage-");
+        assertThat(thread.isDaemon()).isTrue();
+    }
+}
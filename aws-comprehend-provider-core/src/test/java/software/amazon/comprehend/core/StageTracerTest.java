@@ -0,0 +1,146 @@
+package software.amazon.comprehend.core;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.cloudformation.exceptions.CfnNotStabilizedException;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.resource.Serializer;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class StageTracerTest {
+
+    private static final String RESOURCE_TYPE = "AWS::Comprehend::Test";
+    private static final String CREATE = "AWS-Comprehend-Test::Create";
+    private static final String STABILIZE = "AWS-Comprehend-Test::Create::Stabilize";
+    private static final Instant NOW = Instant.parse("2023-01-01T00:00:00Z");
+    private static final Serializer SERIALIZER = new Serializer();
+
+    private final List<String> logLines = new ArrayList<>();
+
+    private MutableClock clock;
+    private StageTracer stageTracer;
+    private TestCallbackContext callbackContext;
+    private String model;
+
+    @BeforeEach
+    public void setup() {
+        clock = new MutableClock(NOW);
+        stageTracer = new StageTracer(clock);
+        callbackContext = new TestCallbackContext();
+        model = "model";
+    }
+
+    @Test
+    public void testTrace_StageWaitingAcrossCallbacks() throws Exception {
+        // First invocation creates, then hands a wait back to CloudFormation
+        stageTracer.trace(CREATE, callbackContext, () -> step(Duration.ofMillis(200), ProgressEvent.progress(model, callbackContext)));
+        stageTracer.trace(STABILIZE, callbackContext, () -> step(Duration.ofMillis(50), ProgressEvent.defaultInProgressHandler(callbackContext, 60, model)));
+
+        // Called back after the wait, through the serialized context, the stabilization completes
+        clock.advance(Duration.ofSeconds(60));
+        callbackContext = roundTrip(callbackContext);
+        stageTracer = new StageTracer(clock);
+        stageTracer.trace(CREATE, callbackContext, () -> step(Duration.ofMillis(5), ProgressEvent.progress(model, callbackContext)));
+        stageTracer.trace(STABILIZE, callbackContext, () -> step(Duration.ofMillis(30), ProgressEvent.progress(model, callbackContext)));
+
+        assertThat(callbackContext.getStageTraces()).containsOnlyKeys(CREATE, STABILIZE);
+        assertThat(callbackContext.getStageTraces().get(CREATE))
+                .isEqualTo(new StageTrace(NOW.toEpochMilli(), NOW.toEpochMilli() + 200, 1, 200, StageTrace.Outcome.DONE));
+        assertThat(callbackContext.getStageTraces().get(STABILIZE))
+                .isEqualTo(new StageTrace(NOW.toEpochMilli() + 200, NOW.toEpochMilli() + 60_285, 2, 80, StageTrace.Outcome.DONE));
+    }
+
+    @Test
+    public void testTrace_StageRunTwiceInInvocation_Merged() {
+        stageTracer.trace(CREATE, callbackContext, () -> step(Duration.ofMillis(200), ProgressEvent.progress(model, callbackContext)));
+        clock.advance(Duration.ofMillis(100));
+        stageTracer.trace(CREATE, callbackContext, () -> step(Duration.ofMillis(20), ProgressEvent.progress(model, callbackContext)));
+
+        assertThat(callbackContext.getStageTraces()).containsOnlyKeys(CREATE);
+        assertThat(callbackContext.getStageTraces().get(CREATE))
+                .isEqualTo(new StageTrace(NOW.toEpochMilli(), NOW.toEpochMilli() + 320, 2, 220, StageTrace.Outcome.DONE));
+    }
+
+    @Test
+    public void testTrace_FailedEvent() {
+        stageTracer.trace(CREATE, callbackContext,
+                () -> step(Duration.ofMillis(10), ProgressEvent.failed(model, callbackContext, HandlerErrorCode.InvalidRequest, "invalid")));
+
+        assertThat(callbackContext.getStageTraces().get(CREATE).getOutcome()).isEqualTo(StageTrace.Outcome.FAILED);
+        assertThat(callbackContext.getStageTraces().get(CREATE).getAttempts()).isEqualTo(1);
+    }
+
+    @Test
+    public void testTrace_ExceptionRecordedAndRethrown() {
+        final CfnNotStabilizedException exception = new CfnNotStabilizedException(RESOURCE_TYPE, "test");
+
+        assertThatThrownBy(() -> stageTracer.trace(STABILIZE, callbackContext, () -> {
+            clock.advance(Duration.ofMillis(15));
+            throw exception;
+        })).isSameAs(exception);
+
+        assertThat(callbackContext.getStageTraces().get(STABILIZE))
+                .isEqualTo(new StageTrace(NOW.toEpochMilli(), NOW.toEpochMilli() + 15, 1, 15, StageTrace.Outcome.FAILED));
+    }
+
+    @Test
+    public void testLogTimeline() throws Exception {
+        stageTracer.trace(CREATE, callbackContext, () -> step(Duration.ofMillis(200), ProgressEvent.progress(model, callbackContext)));
+        clock.advance(Duration.ofMillis(100));
+        stageTracer.trace(STABILIZE, callbackContext, () -> step(Duration.ofMillis(50), ProgressEvent.defaultSuccessHandler(model)));
+
+        stageTracer.logTimeline(logLines::add, RESOURCE_TYPE, "Create", callbackContext);
+
+        assertThat(logLines).hasSize(1);
+        final Map<String, Object> record = SERIALIZER.deserialize(logLines.get(0), new TypeReference<Map<String, Object>>() {});
+        assertThat(record).containsEntry("ResourceType", RESOURCE_TYPE).containsEntry("Action", "Create");
+        final List<?> timeline = (List<?>) record.get("Timeline");
+        assertThat(timeline).hasSize(2);
+        assertThat(timeline.get(0)).isEqualTo(stage(CREATE, 0, 200, 200, 1, "DONE"));
+        assertThat(timeline.get(1)).isEqualTo(stage(STABILIZE, 300, 50, 50, 1, "DONE"));
+    }
+
+    @Test
+    public void testLogTimeline_NoStages() {
+        stageTracer.logTimeline(logLines::add, RESOURCE_TYPE, "Read", callbackContext);
+
+        assertThat(logLines).isEmpty();
+    }
+
+    private ProgressEvent<String, TestCallbackContext> step(final Duration duration,
+                                                              final ProgressEvent<String, TestCallbackContext> event) {
+        clock.advance(duration);
+        return event;
+    }
+
+    private static Map<String, Object> stage(final String name, final int offset, final int duration, final int active,
+                                             final int attempts, final String outcome) {
+        final Map<String, Object> stage = new LinkedHashMap<>();
+        stage.put("Stage", name);
+        stage.put("StartOffsetMillis", offset);
+        stage.put("DurationMillis", duration);
+        stage.put("ActiveMillis", active);
+        stage.put("Attempts", attempts);
+        stage.put("Outcome", outcome);
+        return stage;
+    }
+
+    private static TestCallbackContext roundTrip(final TestCallbackContext callbackContext) throws Exception {
+        final TestCallbackContext deserialized = SERIALIZER.deserialize(SERIALIZER.serialize(callbackContext),
+                new TypeReference<TestCallbackContext>() {});
+        assertThat(deserialized.getStageTraces()).isEqualTo(callbackContext.getStageTraces());
+        assertThat(deserialized.getStageTraces().keySet()).containsExactly(CREATE, STABILIZE);
+        return deserialized;
+    }
+}
@@ -0,0 +1,118 @@
+package software.amazon.comprehend.core;
+
+import com.google.common.collect.Sets;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import software.amazon.awssdk.services.comprehend.model.Tag;
+import software.amazon.awssdk.services.comprehend.model.TagResourceRequest;
+import software.amazon.awssdk.services.comprehend.model.UntagResourceRequest;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Planning the tags of an update: merging the desired system, stack and resource tags, and diffing them against the
+ * current tags into the TagResource and UntagResource requests. Each is measured as done before, with set copies and
+ * Sets.difference for the diff and a map of the resource tags for the merge, and as done now, with TagDiff and a
+ * single merge map. Run with {@code mvn -Pbenchmark test -Dbenchmark.includes=TagDiffBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TagDiffBenchmark {
+
+    private static final String ARN = "arn:aws:comprehend:us-west-2:123456789012:document-classifier/benchmarkClassifier";
+    private static final Function<Set<Tag>, Collection<Tag>> MODEL_TAGS = tags -> tags;
+
+    /** Number of desired tags, and of current tags. */
+    @Param({"10", "50", "200"})
+    public int tagCount;
+
+    private Set<Tag> currentTags;
+    private Set<Tag> desiredTags;
+    private ResourceHandlerRequest<Set<Tag>> request;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        // A quarter of the current tags keep their value, a quarter change it and half are replaced by other keys
+        currentTags = new HashSet<>();
+        desiredTags = new HashSet<>();
+        for (int i = 0; i < tagCount; i++) {
+            currentTags.add(tag("key" + i, "value" + i));
+            desiredTags.add(i < tagCount / 2 ? tag("key" + i, i < tagCount / 4 ? "value" + i : "newValue" + i)
+                    : tag("otherKey" + i, "value" + i));
+        }
+
+        final Map<String, String> stackTags = new HashMap<>();
+        for (int i = 0; i < tagCount / 2; i++) {
+            stackTags.put("stackKey" + i, "stackValue" + i);
+        }
+        request = ResourceHandlerRequest.<Set<Tag>>builder()
+                .systemTags(TagReconciler.convertSdkTagsToKeyValueMap(
+                        Sets.newHashSet(tag("aws:cloudformation:stack-name", "benchmarkStack"))))
+                .desiredResourceTags(stackTags)
+                .desiredResourceState(desiredTags)
+                .build();
+    }
+
+    @Benchmark
+    public void diffWithSetsDifference(final Blackhole blackhole) {
+        blackhole.consume(TagResourceRequest.builder()
+                .resourceArn(ARN)
+                .tags(new ArrayList<>(Sets.difference(Sets.newHashSet(desiredTags), Sets.newHashSet(currentTags))))
+                .build());
+        blackhole.consume(UntagResourceRequest.builder()
+                .resourceArn(ARN)
+                .tagKeys(new ArrayList<>(Sets.difference(
+                        currentTags.stream().map(Tag::key).collect(Collectors.toSet()),
+                        desiredTags.stream().map(Tag::key).collect(Collectors.toSet()))))
+                .build());
+    }
+
+    @Benchmark
+    public void diffWithTagDiff(final Blackhole blackhole) {
+        final TagDiff tagDiff = TagDiff.between(currentTags, desiredTags);
+        blackhole.consume(tagDiff.toTagResourceRequest(ARN));
+        blackhole.consume(tagDiff.toUntagResourceRequest(ARN));
+    }
+
+    @Benchmark
+    public Set<Tag> mergeThroughResourceTagMap() {
+        final Map<String, String> tags = new HashMap<>();
+        tags.putAll(request.getSystemTags());
+        tags.putAll(request.getDesiredResourceTags());
+        tags.putAll(TagReconciler.convertSdkTagsToKeyValueMap(MODEL_TAGS.apply(request.getDesiredResourceState())));
+        return TagReconciler.convertKeyValueMapToSdkTagSet(tags);
+    }
+
+    @Benchmark
+    public Set<Tag> mergeWithGetDesiredTags() {
+        return TagReconciler.getDesiredTags(request, MODEL_TAGS);
+    }
+
+    private static Tag tag(final String key, final String value) {
+        return Tag.builder().key(key).value(value).build();
+    }
+}
@@ -0,0 +1,72 @@
+package software.amazon.comprehend.core;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.comprehend.model.Tag;
+import software.amazon.awssdk.services.comprehend.model.TagResourceRequest;
+import software.amazon.awssdk.services.comprehend.model.UntagResourceRequest;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TagDiffTest extends AbstractTestBase {
+
+    private static final Tag KEY1 = tag("key1", "value1");
+    private static final Tag KEY1_UPDATED = tag("key1", "newValue1");
+    private static final Tag KEY2 = tag("key2", "value2");
+    private static final Tag KEY3 = tag("key3", "value3");
+
+    @Test
+    public void testBetween_AddsRemovesAndChangesValues() {
+        final Set<Tag> currentTags = new HashSet<>(Arrays.asList(KEY1, KEY2));
+        final Set<Tag> desiredTags = new HashSet<>(Arrays.asList(KEY1_UPDATED, KEY3));
+
+        final TagDiff tagDiff = TagDiff.between(currentTags, desiredTags);
+
+        assertThat(tagDiff.getTagsToAdd()).containsExactlyInAnyOrder(KEY1_UPDATED, KEY3);
+        assertThat(tagDiff.getTagKeysToRemove()).containsExactly("key2");
+        assertThat(tagDiff.getValueChanges()).isEqualTo(1);
+        assertThat(tagDiff.isEmpty()).isFalse();
+    }
+
+    @Test
+    public void testBetween_NoChange() {
+        final Set<Tag> tags = new HashSet<>(Arrays.asList(KEY1, KEY2));
+
+        final TagDiff tagDiff = TagDiff.between(tags, new HashSet<>(tags));
+
+        assertThat(tagDiff.isEmpty()).isTrue();
+        assertThat(tagDiff.getValueChanges()).isZero();
+    }
+
+    @Test
+    public void testBetween_EmptyOrNullTags() {
+        final Set<Tag> tags = new HashSet<>(Arrays.asList(KEY1, KEY2));
+
+        assertThat(TagDiff.between(null, null).isEmpty()).isTrue();
+        assertThat(TagDiff.between(Collections.emptySet(), tags).getTagsToAdd()).isEqualTo(tags);
+        assertThat(TagDiff.between(null, tags).getTagKeysToRemove()).isEmpty();
+        assertThat(TagDiff.between(tags, Collections.emptySet()).getTagKeysToRemove()).containsExactlyInAnyOrder("key1", "key2");
+        assertThat(TagDiff.between(tags, null).getTagsToAdd()).isEmpty();
+    }
+
+    @Test
+    public void testRequests() {
+        final TagDiff tagDiff = TagDiff.between(Arrays.asList(KEY1, KEY2), Arrays.asList(KEY1_UPDATED, KEY3));
+
+        final TagResourceRequest tagResourceRequest = tagDiff.toTagResourceRequest(TEST_DOCUMENT_CLASSIFIER_ARN);
+        assertThat(tagResourceRequest.resourceArn()).isEqualTo(TEST_DOCUMENT_CLASSIFIER_ARN);
+        assertThat(tagResourceRequest.tags()).containsExactlyInAnyOrder(KEY1_UPDATED, KEY3);
+
+        final UntagResourceRequest untagResourceRequest = tagDiff.toUntagResourceRequest(TEST_DOCUMENT_CLASSIFIER_ARN);
+        assertThat(untagResourceRequest.resourceArn()).isEqualTo(TEST_DOCUMENT_CLASSIFIER_ARN);
+        assertThat(untagResourceRequest.tagKeys()).containsExactly("key2");
+    }
+
+    private static Tag tag(final String key, final String value) {
+        return Tag.builder().key(key).value(value).build();
+    }
+}
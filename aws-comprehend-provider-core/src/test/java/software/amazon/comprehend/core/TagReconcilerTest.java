@@ -0,0 +1,83 @@
+package software.amazon.comprehend.core;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Sets;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.comprehend.model.Tag;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TagReconcilerTest extends AbstractTestBase {
+
+    private static final Function<Set<Tag>, Collection<Tag>> MODEL_TAGS = tags -> tags;
+
+    private static final Tag KEY1 = tag("key1", "value1");
+    private static final Tag KEY2 = tag("key2", "value2");
+    private static final Tag KEY3 = tag("key3", "value3");
+
+    @Test
+    public void testGetDesiredTags_MergesSystemStackAndResourceTags() {
+        final ResourceHandlerRequest<Set<Tag>> request = ResourceHandlerRequest.<Set<Tag>>builder()
+                .systemTags(ImmutableMap.of("aws:cloudformation:stack-name", "testStackName"))
+                .desiredResourceTags(ImmutableMap.of("key1", "stackValue1", "stackKey", "stackValue"))
+                .desiredResourceState(new HashSet<>(Arrays.asList(KEY1, KEY2)))
+                .build();
+
+        assertThat(TagReconciler.getDesiredTags(request, MODEL_TAGS)).containsExactlyInAnyOrder(
+                tag("aws:cloudformation:stack-name", "testStackName"), tag("stackKey", "stackValue"), KEY1, KEY2);
+    }
+
+    @Test
+    public void testGetPreviousTags_NoPreviousState() {
+        final ResourceHandlerRequest<Set<Tag>> request = ResourceHandlerRequest.<Set<Tag>>builder()
+                .previousResourceTags(ImmutableMap.of("stackKey", "stackValue"))
+                .desiredResourceState(Collections.singleton(KEY1))
+                .build();
+
+        assertThat(TagReconciler.getPreviousTags(request, MODEL_TAGS)).containsExactly(tag("stackKey", "stackValue"));
+    }
+
+    @Test
+    public void testGetDesiredTags_ResourceTagsOverrideStackTags() {
+        final ResourceHandlerRequest<Set<Tag>> request = ResourceHandlerRequest.<Set<Tag>>builder()
+                .desiredResourceTags(ImmutableMap.of("key1", "stackValue1", "key2", "stackValue2"))
+                .desiredResourceState(new HashSet<>(Arrays.asList(KEY1, tag("key2", null))))
+                .build();
+
+        assertThat(TagReconciler.getDesiredTags(request, MODEL_TAGS)).containsExactlyInAnyOrder(KEY1, tag("key2", "stackValue2"));
+    }
+
+    @Test
+    public void testFingerprint_IndependentOfOrder() {
+        List<Tag> tags = Arrays.asList(KEY1, KEY2, KEY3);
+        List<Tag> reversedTags = Arrays.asList(tags.get(2), tags.get(1), tags.get(0));
+
+        assertThat(TagReconciler.fingerprint(reversedTags)).isEqualTo(TagReconciler.fingerprint(new HashSet<>(tags)));
+        assertThat(TagReconciler.fingerprint(tags)).isNotEqualTo(TagReconciler.fingerprint(tags.subList(0, 2)));
+        assertThat(TagReconciler.fingerprint(null)).isZero();
+        assertThat(TagReconciler.fingerprint(Sets.newHashSet())).isZero();
+    }
+
+    @Test
+    public void testFingerprint_DistinguishesKeysFromValues() {
+        Tag tag = tag("ab", "c");
+
+        assertThat(TagReconciler.fingerprint(Arrays.asList(tag)))
+                .isNotEqualTo(TagReconciler.fingerprint(Arrays.asList(tag("a", "bc"))))
+                .isNotEqualTo(TagReconciler.fingerprint(Arrays.asList(tag("c", "ab"))))
+                .isNotEqualTo(TagReconciler.fingerprint(Arrays.asList(tag("ab", "C"))));
+    }
+
+    private static Tag tag(final String key, final String value) {
+        return Tag.builder().key(key).value(value).build();
+    }
+}
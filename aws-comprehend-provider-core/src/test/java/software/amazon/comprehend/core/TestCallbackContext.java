@@ -0,0 +1,28 @@
+package software.amazon.comprehend.core;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import software.amazon.cloudformation.proxy.StdCallbackContext;
+
+import java.util.Map;
+
+/**
+ * Callback context of a provider, as the handlers of a resource type declare it, for the tests of the shared code.
+ */
+@Getter
+@Setter
+@Builder
+@ToString
+@AllArgsConstructor
+@NoArgsConstructor
+@EqualsAndHashCode(callSuper = true)
+public class TestCallbackContext extends StdCallbackContext implements HandlerContext {
+    private int statusPollCount;
+    private int tagPollCount;
+    private Map<String, StageTrace> stageTraces;
+}